@@ -0,0 +1,101 @@
+package benchmark.gameloop;
+
+import tech.fastj.gameloop.GameLoop;
+import tech.fastj.gameloop.event.Event;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how many events per second {@link GameLoop#fireEvent(Event)} can fire, for each of the ways an event can be dispatched.
+ * <p>
+ * Events are created once during setup, so that only the cost of dispatching them is measured.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventDispatchBenchmark {
+
+    @Param({"1", "8", "32"})
+    private int observerCount;
+
+    private GameLoop gameLoop;
+    private long eventsReceived;
+
+    private ObservedEvent observedEvent;
+    private AliasedEvent aliasedEvent;
+    private HandledEvent handledEvent;
+    private UnobservedEvent unobservedEvent;
+
+    @Setup
+    public void setup() {
+        gameLoop = new GameLoop(loop -> false, loop -> false);
+
+        for (int i = 0; i < observerCount; i++) {
+            gameLoop.addEventObserver(ObservedEvent.class, event -> eventsReceived++);
+            gameLoop.addEventObserver(HandledEvent.class, event -> eventsReceived++);
+        }
+
+        gameLoop.addEventHandler(HandledEvent.class, (eventObservers, event) -> {
+            for (var eventObserver : eventObservers) {
+                eventObserver.eventReceived(event);
+            }
+        });
+        gameLoop.addClassAlias(AliasedEvent.class, ObservedEvent.class);
+
+        observedEvent = new ObservedEvent();
+        aliasedEvent = new AliasedEvent();
+        handledEvent = new HandledEvent();
+        unobservedEvent = new UnobservedEvent();
+    }
+
+    @Benchmark
+    public long fireObservedEvent() {
+        gameLoop.fireEvent(observedEvent);
+        return eventsReceived;
+    }
+
+    @Benchmark
+    public long fireAliasedEvent() {
+        gameLoop.fireEvent(aliasedEvent);
+        return eventsReceived;
+    }
+
+    @Benchmark
+    public long fireHandledEvent() {
+        gameLoop.fireEvent(handledEvent);
+        return eventsReceived;
+    }
+
+    @Benchmark
+    public long fireUnobservedEvent() {
+        gameLoop.fireEvent(unobservedEvent);
+        return eventsReceived;
+    }
+
+    public static class ObservedEvent extends Event {
+    }
+
+    public static class AliasedEvent extends ObservedEvent {
+    }
+
+    public static class HandledEvent extends Event {
+    }
+
+    public static class UnobservedEvent extends Event {
+    }
+}
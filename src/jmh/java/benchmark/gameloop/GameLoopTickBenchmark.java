@@ -0,0 +1,58 @@
+package benchmark.gameloop;
+
+import tech.fastj.gameloop.CoreLoopState;
+import tech.fastj.gameloop.GameLoop;
+import tech.fastj.gameloop.GameLoopState;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the overhead of a single {@link GameLoop game loop} iteration, for a varying amount of game loop states.
+ * <p>
+ * Each state does no work of its own, and the game loop never time-syncs, so only the cost of iterating through the states is measured.
+ * The states are spread evenly across each {@link CoreLoopState core loop state}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameLoopTickBenchmark {
+
+    @Param({"4", "64", "512"})
+    private int stateCount;
+
+    private GameLoop gameLoop;
+    private int remainingIterations;
+    private long statesRun;
+
+    @Setup
+    public void setup() {
+        gameLoop = new GameLoop(loop -> remainingIterations-- > 0, loop -> false);
+
+        CoreLoopState[] coreLoopStates = CoreLoopState.values();
+        for (int i = 0; i < stateCount; i++) {
+            gameLoop.addGameLoopState(new GameLoopState(coreLoopStates[i % coreLoopStates.length], i, (state, deltaTime) -> statesRun++));
+        }
+    }
+
+    @Benchmark
+    public long tick() {
+        remainingIterations = 1;
+        gameLoop.run();
+        return statesRun;
+    }
+}
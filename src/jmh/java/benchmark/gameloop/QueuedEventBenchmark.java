@@ -0,0 +1,101 @@
+package benchmark.gameloop;
+
+import tech.fastj.gameloop.CoreLoopState;
+import tech.fastj.gameloop.EventOverflowPolicy;
+import tech.fastj.gameloop.GameLoop;
+import tech.fastj.gameloop.GameLoopState;
+import tech.fastj.gameloop.event.Event;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how many events per second can be fired into a {@link GameLoop game loop}'s deferred event queues, and then fired once the
+ * game loop runs its states.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QueuedEventBenchmark {
+
+    private static final int EventsPerTick = 256;
+
+    private GameLoop gameLoop;
+    private GameLoopState updateState;
+    private QueuedEvent queuedEvent;
+    private int remainingIterations;
+    private long eventsReceived;
+
+    @Setup
+    public void setup() {
+        gameLoop = new GameLoop(loop -> remainingIterations-- > 0, loop -> false);
+        updateState = new GameLoopState(CoreLoopState.Update, 1, (state, deltaTime) -> {});
+        gameLoop.addGameLoopState(updateState);
+        gameLoop.addEventObserver(QueuedEvent.class, event -> eventsReceived++);
+
+        queuedEvent = new QueuedEvent();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(EventsPerTick)
+    public long fireAfterGameLoopState() {
+        for (int i = 0; i < EventsPerTick; i++) {
+            gameLoop.fireEvent(queuedEvent, updateState);
+        }
+
+        remainingIterations = 1;
+        gameLoop.run();
+        return eventsReceived;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(EventsPerTick)
+    public long fireAfterCoreLoopState() {
+        for (int i = 0; i < EventsPerTick; i++) {
+            gameLoop.fireEvent(queuedEvent, CoreLoopState.Update);
+        }
+
+        remainingIterations = 1;
+        gameLoop.run();
+        return eventsReceived;
+    }
+
+    /** Event queue shared by several threads at once. Nothing drains it, so the oldest events are dropped once it is full. */
+    @State(Scope.Benchmark)
+    public static class Contended {
+
+        private GameLoop gameLoop;
+        private QueuedEvent queuedEvent;
+
+        @Setup
+        public void setup() {
+            gameLoop = new GameLoop(loop -> false, loop -> false);
+            gameLoop.setEventOverflowPolicy(EventOverflowPolicy.DropOldest);
+            queuedEvent = new QueuedEvent();
+        }
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void fireFromSeveralThreads(Contended contended) {
+        contended.gameLoop.fireEvent(contended.queuedEvent, CoreLoopState.Update);
+    }
+
+    public static class QueuedEvent extends Event {
+    }
+}
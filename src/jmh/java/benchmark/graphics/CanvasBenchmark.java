@@ -0,0 +1,94 @@
+package benchmark.graphics;
+
+import tech.fastj.graphics.display.Camera;
+import tech.fastj.graphics.display.FastJCanvas;
+import tech.fastj.graphics.display.HeadlessDisplay;
+import tech.fastj.graphics.game.Polygon2D;
+import tech.fastj.input.keyboard.Keyboard;
+import tech.fastj.input.mouse.Mouse;
+import tech.fastj.math.Point;
+import tech.fastj.math.Pointf;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link FastJCanvas#isOnScreen(tech.fastj.graphics.Drawable, Camera) checking whether a drawable is on screen}, for drawables
+ * fully inside, partly inside, and fully outside of the canvas, with a plain and a transformed camera.
+ * <p>
+ * To run without a window, the canvas is initialized on a {@link HeadlessDisplay headless display} of the same size, so it renders onto an
+ * offscreen render target.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CanvasBenchmark {
+
+    private static final Point CanvasResolution = new Point(1280, 720);
+
+    private FastJCanvas canvas;
+    private Camera camera;
+    private Camera transformedCamera;
+
+    private Polygon2D insidePolygon;
+    private Polygon2D edgePolygon;
+    private Polygon2D outsidePolygon;
+
+    @Setup
+    public void setup() {
+        HeadlessDisplay display = new HeadlessDisplay(CanvasResolution);
+        canvas = new FastJCanvas(display, CanvasResolution);
+        canvas.init();
+        display.open();
+
+        camera = new Camera();
+        transformedCamera = new Camera(new Pointf(-200f, 100f), 15f, new Pointf(1.5f));
+
+        insidePolygon = Polygon2D.fromPoints(DrawableTransformBenchmark.createCircle(16, 50f));
+        insidePolygon.translate(new Pointf(300f, 300f));
+        edgePolygon = Polygon2D.fromPoints(DrawableTransformBenchmark.createCircle(16, 50f));
+        edgePolygon.translate(new Pointf(1250f, 300f));
+        outsidePolygon = Polygon2D.fromPoints(DrawableTransformBenchmark.createCircle(16, 50f));
+        outsidePolygon.translate(new Pointf(5000f, 5000f));
+    }
+
+    @TearDown
+    public void tearDown() {
+        Keyboard.stop();
+        Mouse.stop();
+    }
+
+    @Benchmark
+    public boolean isOnScreenInside() {
+        return canvas.isOnScreen(insidePolygon, camera);
+    }
+
+    @Benchmark
+    public boolean isOnScreenEdge() {
+        return canvas.isOnScreen(edgePolygon, camera);
+    }
+
+    @Benchmark
+    public boolean isOnScreenOutside() {
+        return canvas.isOnScreen(outsidePolygon, camera);
+    }
+
+    @Benchmark
+    public boolean isOnScreenTransformedCamera() {
+        return canvas.isOnScreen(edgePolygon, transformedCamera);
+    }
+}
@@ -0,0 +1,97 @@
+package benchmark.graphics;
+
+import tech.fastj.graphics.Drawable;
+import tech.fastj.graphics.game.Polygon2D;
+import tech.fastj.math.Pointf;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures transforming a {@link Drawable drawable}, which includes updating its transformed collision path, and checking it for
+ * collisions with another drawable.
+ * <p>
+ * Each transformation is undone on the next call, so the drawable stays in place no matter how many times it is transformed.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DrawableTransformBenchmark {
+
+    @Param({"4", "64"})
+    private int pointCount;
+
+    private Polygon2D polygon;
+    private Polygon2D overlappingPolygon;
+    private Polygon2D separatePolygon;
+
+    private Pointf translation;
+    private Pointf scale;
+    private boolean shouldUndo;
+
+    @Setup
+    public void setup() {
+        polygon = Polygon2D.fromPoints(createCircle(pointCount, 50f));
+        overlappingPolygon = Polygon2D.fromPoints(createCircle(pointCount, 50f));
+        overlappingPolygon.translate(new Pointf(40f, 0f));
+        separatePolygon = Polygon2D.fromPoints(createCircle(pointCount, 50f));
+        separatePolygon.translate(new Pointf(500f, 500f));
+
+        translation = new Pointf(1f, 1f);
+        scale = new Pointf(0.01f, 0.01f);
+    }
+
+    @Benchmark
+    public Drawable translate() {
+        polygon.translate(shouldUndo ? Pointf.multiply(translation, -1f) : translation);
+        shouldUndo = !shouldUndo;
+        return polygon;
+    }
+
+    @Benchmark
+    public Drawable rotate() {
+        polygon.rotate(shouldUndo ? -1f : 1f);
+        shouldUndo = !shouldUndo;
+        return polygon;
+    }
+
+    @Benchmark
+    public Drawable scale() {
+        polygon.scale(shouldUndo ? Pointf.multiply(scale, -1f) : scale);
+        shouldUndo = !shouldUndo;
+        return polygon;
+    }
+
+    @Benchmark
+    public boolean collidesWithOverlapping() {
+        return polygon.collidesWith(overlappingPolygon);
+    }
+
+    @Benchmark
+    public boolean collidesWithSeparate() {
+        return polygon.collidesWith(separatePolygon);
+    }
+
+    static Pointf[] createCircle(int pointCount, float radius) {
+        Pointf[] points = new Pointf[pointCount];
+        for (int i = 0; i < pointCount; i++) {
+            double angle = Math.PI * 2.0 * i / pointCount;
+            points[i] = new Pointf(radius + (float) Math.cos(angle) * radius, radius + (float) Math.sin(angle) * radius);
+        }
+        return points;
+    }
+}
@@ -0,0 +1,101 @@
+package benchmark.graphics;
+
+import tech.fastj.graphics.game.EntityStore;
+import tech.fastj.graphics.game.Polygon2D;
+import tech.fastj.graphics.util.DrawUtil;
+import tech.fastj.math.Pointf;
+import tech.fastj.resources.images.ImageUtil;
+import tech.fastj.resources.images.TextureRegion;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures moving many objects and finding the ones in view, with the objects held in an {@link EntityStore entity store} compared to
+ * the objects being separate {@link Polygon2D game objects}.
+ * <p>
+ * Each object moves by a velocity of its own, which flips direction on every call so the objects stay in place.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EntityStoreBenchmark {
+
+    private static final float WorldSize = 4096f;
+    private static final float ViewSize = 1024f;
+
+    @Param({"10000", "100000"})
+    private int objectCount;
+
+    private EntityStore entityStore;
+    private int[] visibleIds;
+
+    private Polygon2D[] polygons;
+    private Pointf[] velocities;
+    private Pointf[] reversedVelocities;
+
+    private boolean shouldUndo;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(0L);
+        TextureRegion region = TextureRegion.of(ImageUtil.createBufferedImage(8, 8));
+
+        entityStore = new EntityStore(objectCount);
+        visibleIds = new int[objectCount];
+        polygons = new Polygon2D[objectCount];
+        velocities = new Pointf[objectCount];
+        reversedVelocities = new Pointf[objectCount];
+
+        for (int i = 0; i < objectCount; i++) {
+            float x = random.nextFloat() * WorldSize;
+            float y = random.nextFloat() * WorldSize;
+            float velocityX = random.nextFloat() * 2f - 1f;
+            float velocityY = random.nextFloat() * 2f - 1f;
+
+            entityStore.add(region, x, y).setVelocity(velocityX, velocityY);
+
+            polygons[i] = Polygon2D.fromPoints(DrawUtil.createBox(x - 4f, y - 4f, 8f));
+            velocities[i] = new Pointf(velocityX, velocityY);
+            reversedVelocities[i] = new Pointf(-velocityX, -velocityY);
+        }
+    }
+
+    @Benchmark
+    public int updateAndCullEntityStore() {
+        entityStore.update(shouldUndo ? -1f : 1f);
+        shouldUndo = !shouldUndo;
+        return entityStore.cull(0f, 0f, ViewSize, ViewSize, visibleIds);
+    }
+
+    @Benchmark
+    public int updateAndCullGameObjects() {
+        Pointf[] currentVelocities = shouldUndo ? reversedVelocities : velocities;
+        shouldUndo = !shouldUndo;
+
+        int visibleCount = 0;
+        for (int i = 0; i < polygons.length; i++) {
+            Polygon2D polygon = polygons[i];
+            polygon.translate(currentVelocities[i]);
+            if (polygon.getMaxX() >= 0f && polygon.getMinX() <= ViewSize && polygon.getMaxY() >= 0f && polygon.getMinY() <= ViewSize) {
+                visibleCount++;
+            }
+        }
+        return visibleCount;
+    }
+}
@@ -0,0 +1,80 @@
+package benchmark.graphics;
+
+import tech.fastj.graphics.game.Mesh2D;
+import tech.fastj.graphics.game.Polygon2D;
+import tech.fastj.math.Pointf;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures spawning and moving a {@link Polygon2D polygon} made from points, compared to a polygon sharing a {@link Mesh2D mesh}.
+ * <p>
+ * Each move is undone on the next call, so the polygons stay in place no matter how many times they are moved.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MeshInstanceBenchmark {
+
+    @Param({"4", "64"})
+    private int pointCount;
+
+    private Pointf[] points;
+    private Mesh2D mesh;
+
+    private Polygon2D polygon;
+    private Polygon2D meshPolygon;
+    private Pointf translation;
+    private Pointf reversedTranslation;
+    private boolean shouldUndo;
+
+    @Setup
+    public void setup() {
+        points = DrawableTransformBenchmark.createCircle(pointCount, 8f);
+        mesh = Mesh2D.fromPoints(points);
+
+        polygon = Polygon2D.fromPoints(points);
+        meshPolygon = Polygon2D.fromMesh(mesh);
+        translation = new Pointf(1f, 1f);
+        reversedTranslation = new Pointf(-1f, -1f);
+    }
+
+    @Benchmark
+    public Polygon2D spawnFromPoints() {
+        return Polygon2D.fromPoints(points);
+    }
+
+    @Benchmark
+    public Polygon2D spawnFromMesh() {
+        return Polygon2D.fromMesh(mesh);
+    }
+
+    @Benchmark
+    public float moveFromPoints() {
+        polygon.translate(shouldUndo ? reversedTranslation : translation);
+        shouldUndo = !shouldUndo;
+        return polygon.getMinX();
+    }
+
+    @Benchmark
+    public float moveFromMesh() {
+        meshPolygon.translate(shouldUndo ? reversedTranslation : translation);
+        shouldUndo = !shouldUndo;
+        return meshPolygon.getMinX();
+    }
+}
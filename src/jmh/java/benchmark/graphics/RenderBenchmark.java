@@ -0,0 +1,106 @@
+package benchmark.graphics;
+
+import tech.fastj.graphics.game.Model2D;
+import tech.fastj.graphics.game.Polygon2D;
+import tech.fastj.graphics.game.RenderStyle;
+import tech.fastj.graphics.game.Text2D;
+import tech.fastj.math.Pointf;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures rendering game objects to a {@link BufferedImage}-backed {@link Graphics2D}, so that rendering can be measured without a display
+ * or graphics card.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RenderBenchmark {
+
+    @Param({"16", "256"})
+    private int drawableCount;
+
+    private BufferedImage image;
+    private Graphics2D graphics;
+
+    private Polygon2D[] polygons;
+    private Model2D model;
+    private Text2D[] texts;
+
+    @Setup
+    public void setup() {
+        image = new BufferedImage(1280, 720, BufferedImage.TYPE_INT_ARGB);
+        graphics = image.createGraphics();
+
+        polygons = new Polygon2D[drawableCount];
+        for (int i = 0; i < drawableCount; i++) {
+            polygons[i] = Polygon2D.create(DrawableTransformBenchmark.createCircle(16, 20f))
+                .withFill(new Color(i * 31 % 256, i * 67 % 256, i * 113 % 256))
+                .withOutline(Polygon2D.DefaultOutlineStroke, Color.black)
+                .withRenderStyle(RenderStyle.FillAndOutline)
+                .withTransform(new Pointf(i * 37 % 1240, i * 53 % 680), 0f, Pointf.unit())
+                .build();
+        }
+
+        Polygon2D[] modelPolygons = new Polygon2D[drawableCount];
+        for (int i = 0; i < drawableCount; i++) {
+            modelPolygons[i] = Polygon2D.create(DrawableTransformBenchmark.createCircle(8, 10f))
+                .withTransform(new Pointf(i * 7 % 400, i * 11 % 400), 0f, Pointf.unit())
+                .build();
+        }
+        model = Model2D.fromPolygons(modelPolygons);
+
+        texts = new Text2D[drawableCount];
+        for (int i = 0; i < drawableCount; i++) {
+            texts[i] = Text2D.create("Benchmark text " + i)
+                .withTransform(new Pointf(i * 37 % 1200, i * 53 % 700), 0f, Pointf.unit())
+                .build();
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        graphics.dispose();
+    }
+
+    @Benchmark
+    public BufferedImage renderPolygons() {
+        for (Polygon2D polygon : polygons) {
+            polygon.render(graphics);
+        }
+        return image;
+    }
+
+    @Benchmark
+    public BufferedImage renderModel() {
+        model.render(graphics);
+        return image;
+    }
+
+    @Benchmark
+    public BufferedImage renderTexts() {
+        for (Text2D text : texts) {
+            text.render(graphics);
+        }
+        return image;
+    }
+}
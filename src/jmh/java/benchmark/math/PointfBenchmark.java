@@ -0,0 +1,88 @@
+package benchmark.math;
+
+import tech.fastj.math.Pointf;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link Pointf} arithmetic, both through the static methods which create a new point and the instance methods which modify
+ * the point in place.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PointfBenchmark {
+
+    private Pointf first;
+    private Pointf second;
+    private Pointf mutable;
+
+    @Setup
+    public void setup() {
+        first = new Pointf(12.5f, -3.25f);
+        second = new Pointf(-7f, 42f);
+        mutable = new Pointf(1f, 1f);
+    }
+
+    @Benchmark
+    public Pointf addStatic() {
+        return Pointf.add(first, second);
+    }
+
+    @Benchmark
+    public Pointf multiplyStatic() {
+        return Pointf.multiply(first, 1.5f);
+    }
+
+    @Benchmark
+    public Pointf rotateStatic() {
+        return Pointf.rotate(first, 30f);
+    }
+
+    @Benchmark
+    public Pointf lerpStatic() {
+        return Pointf.lerp(first, second, 0.25f);
+    }
+
+    @Benchmark
+    public float distance() {
+        return Pointf.distance(first, second);
+    }
+
+    @Benchmark
+    public Pointf addInPlace() {
+        mutable.set(1f, 1f);
+        return mutable.add(second);
+    }
+
+    @Benchmark
+    public Pointf multiplyInPlace() {
+        mutable.set(1f, 1f);
+        return mutable.multiply(1.5f);
+    }
+
+    @Benchmark
+    public Pointf rotateInPlace() {
+        mutable.set(1f, 1f);
+        return mutable.rotate(30f);
+    }
+
+    @Benchmark
+    public Pointf normalized() {
+        return first.normalized();
+    }
+}
@@ -0,0 +1,92 @@
+package benchmark.resources.models;
+
+import tech.fastj.graphics.game.Model2D;
+import tech.fastj.graphics.game.Polygon2D;
+import tech.fastj.graphics.util.DrawUtil;
+import tech.fastj.resources.models.ModelUtil;
+import tech.fastj.resources.models.ObjUtil;
+import tech.fastj.resources.models.PsdfUtil;
+
+import java.awt.Color;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures parsing the lines of {@code .psdf} and {@code .obj} model files.
+ * <p>
+ * The model files are written to a temporary directory and read into memory before the benchmark runs, so only parsing is measured.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ModelParseBenchmark {
+
+    @Param({"16", "256"})
+    private int polygonCount;
+
+    private Path modelDirectory;
+    private Path psdfPath;
+    private Path objPath;
+    private List<String> psdfLines;
+    private List<String> objLines;
+
+    @Setup
+    public void setup() throws IOException {
+        Polygon2D[] polygons = new Polygon2D[polygonCount];
+        for (int i = 0; i < polygonCount; i++) {
+            polygons[i] = Polygon2D.create(DrawUtil.createBox(i % 16 * 20f, i / 16 * 20f, 15f))
+                .withFill(new Color(i * 7 % 256, i * 13 % 256, i * 29 % 256))
+                .build();
+        }
+        Model2D model = Model2D.fromPolygons(polygons);
+
+        modelDirectory = Files.createTempDirectory("fastj-model-benchmark");
+        psdfPath = modelDirectory.resolve("model.psdf");
+        objPath = modelDirectory.resolve("model.obj");
+        ModelUtil.writeModel(psdfPath, model);
+        ModelUtil.writeModel(objPath, model);
+
+        psdfLines = Files.readAllLines(psdfPath);
+        objLines = Files.readAllLines(objPath);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        try (Stream<Path> modelFiles = Files.walk(modelDirectory)) {
+            for (Path modelFile : modelFiles.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(modelFile);
+            }
+        }
+    }
+
+    @Benchmark
+    public Polygon2D[] parsePsdf() {
+        return PsdfUtil.parse(psdfPath, psdfLines);
+    }
+
+    @Benchmark
+    public Polygon2D[] parseObj() {
+        return ObjUtil.parse(objPath, objLines);
+    }
+}
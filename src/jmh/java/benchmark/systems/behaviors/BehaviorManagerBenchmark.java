@@ -0,0 +1,88 @@
+package benchmark.systems.behaviors;
+
+import tech.fastj.graphics.game.GameObject;
+import tech.fastj.graphics.game.Polygon2D;
+import tech.fastj.graphics.util.DrawUtil;
+import tech.fastj.math.Pointf;
+import tech.fastj.systems.behaviors.Behavior;
+import tech.fastj.systems.behaviors.BehaviorHandler;
+import tech.fastj.systems.behaviors.BehaviorManager;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures a single fixed update of every behavior listener of a {@link BehaviorHandler behavior handler}, with and without
+ * {@link BehaviorManager#setParallelExecution(boolean) parallel execution}.
+ * <p>
+ * Each behavior moves its game object back and forth, so every update also updates the game object's transformed collision path.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BehaviorManagerBenchmark {
+
+    @Param({"1000", "20000"})
+    private int listenerCount;
+
+    @Param({"false", "true"})
+    private boolean parallelExecution;
+
+    private BehaviorHandler behaviorHandler;
+
+    @Setup
+    public void setup() {
+        behaviorHandler = new BehaviorHandler() {};
+        BehaviorManager.addListenerList(behaviorHandler);
+        BehaviorManager.setParallelExecution(parallelExecution);
+
+        Behavior oscillation = new Oscillation();
+        for (int i = 0; i < listenerCount; i++) {
+            Polygon2D polygon = Polygon2D.fromPoints(DrawUtil.createBox(i % 100 * 10f, i / 100 * 10f, 8f));
+            polygon.addBehavior(oscillation, behaviorHandler);
+        }
+        BehaviorManager.initBehaviorListeners(behaviorHandler);
+    }
+
+    @TearDown
+    public void tearDown() {
+        BehaviorManager.reset();
+    }
+
+    @Benchmark
+    public BehaviorHandler fixedUpdate() {
+        BehaviorManager.fixedUpdateBehaviorListeners(behaviorHandler);
+        return behaviorHandler;
+    }
+
+    private static class Oscillation implements Behavior {
+
+        private static final Pointf Forward = new Pointf(1f, 0f);
+        private static final Pointf Backward = new Pointf(-1f, 0f);
+
+        @Override
+        public void fixedUpdate(GameObject gameObject) {
+            gameObject.translate(gameObject.getTranslation().x > 0f ? Backward : Forward);
+        }
+
+        @Override
+        public boolean isThreadSafe() {
+            return true;
+        }
+    }
+}
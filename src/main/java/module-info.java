@@ -104,6 +104,7 @@ module fastj.library {
     exports tech.fastj.systems.audio;
     exports tech.fastj.systems.audio.state;
     exports tech.fastj.systems.behaviors;
+    exports tech.fastj.systems.collision;
     exports tech.fastj.systems.control;
     exports tech.fastj.systems.collections;
     exports tech.fastj.systems.execution;
@@ -2,14 +2,22 @@ package tech.fastj.animation.event;
 
 import tech.fastj.animation.Animated;
 import tech.fastj.animation.AnimationData;
+import tech.fastj.gameloop.event.EventPool;
+import tech.fastj.gameloop.event.EventPools;
 
 public class AnimChangeEvent<T extends Animated<T, TD>, TD extends AnimationData<T, TD>> extends AnimEvent<T, TD> {
 
-    private final T eventSource;
-    private final TD oldAnimationData;
-    private final int oldFrame;
-    private final TD newAnimationData;
-    private final int newFrame;
+    @SuppressWarnings("rawtypes")
+    private static final EventPool<AnimChangeEvent> Pool = EventPools.register(AnimChangeEvent.class, AnimChangeEvent::new);
+
+    private T eventSource;
+    private TD oldAnimationData;
+    private int oldFrame;
+    private TD newAnimationData;
+    private int newFrame;
+
+    private AnimChangeEvent() {
+    }
 
     public AnimChangeEvent(T eventSource, TD oldAnimationData, int oldFrame, TD newAnimationData, int newFrame) {
         this.eventSource = eventSource;
@@ -19,6 +27,18 @@ public class AnimChangeEvent<T extends Animated<T, TD>, TD extends AnimationData
         this.newFrame = newFrame;
     }
 
+    /** {@return an animation change event, taken from its {@link EventPool event pool} if event pooling is enabled} */
+    @SuppressWarnings("unchecked")
+    public static <T extends Animated<T, TD>, TD extends AnimationData<T, TD>> AnimChangeEvent<T, TD> obtain(T eventSource, TD oldAnimationData, int oldFrame, TD newAnimationData, int newFrame) {
+        AnimChangeEvent<T, TD> event = Pool.obtain();
+        event.eventSource = eventSource;
+        event.oldAnimationData = oldAnimationData;
+        event.oldFrame = oldFrame;
+        event.newAnimationData = newAnimationData;
+        event.newFrame = newFrame;
+        return event;
+    }
+
     @Override
     public T getEventSource() {
         return eventSource;
@@ -39,4 +59,11 @@ public class AnimChangeEvent<T extends Animated<T, TD>, TD extends AnimationData
     public int getNewFrame() {
         return newFrame;
     }
+
+    @Override
+    protected void reset() {
+        eventSource = null;
+        oldAnimationData = null;
+        newAnimationData = null;
+    }
 }
@@ -2,17 +2,34 @@ package tech.fastj.animation.event;
 
 import tech.fastj.animation.Animated;
 import tech.fastj.animation.AnimationData;
+import tech.fastj.gameloop.event.EventPool;
+import tech.fastj.gameloop.event.EventPools;
 
 public class AnimLoopEvent<T extends Animated<T, TD>, TD extends AnimationData<T, TD>> extends AnimEvent<T, TD> {
 
-    private final T eventSource;
-    private final TD animationData;
+    @SuppressWarnings("rawtypes")
+    private static final EventPool<AnimLoopEvent> Pool = EventPools.register(AnimLoopEvent.class, AnimLoopEvent::new);
+
+    private T eventSource;
+    private TD animationData;
+
+    private AnimLoopEvent() {
+    }
 
     public AnimLoopEvent(T eventSource, TD animationData) {
         this.eventSource = eventSource;
         this.animationData = animationData;
     }
 
+    /** {@return an animation loop event, taken from its {@link EventPool event pool} if event pooling is enabled} */
+    @SuppressWarnings("unchecked")
+    public static <T extends Animated<T, TD>, TD extends AnimationData<T, TD>> AnimLoopEvent<T, TD> obtain(T eventSource, TD animationData) {
+        AnimLoopEvent<T, TD> event = Pool.obtain();
+        event.eventSource = eventSource;
+        event.animationData = animationData;
+        return event;
+    }
+
     @Override
     public T getEventSource() {
         return eventSource;
@@ -21,4 +38,10 @@ public class AnimLoopEvent<T extends Animated<T, TD>, TD extends AnimationData<T
     public TD getAnimationData() {
         return animationData;
     }
+
+    @Override
+    protected void reset() {
+        eventSource = null;
+        animationData = null;
+    }
 }
@@ -3,13 +3,21 @@ package tech.fastj.animation.sprite.event;
 import tech.fastj.animation.Animated;
 import tech.fastj.animation.AnimationData;
 import tech.fastj.animation.event.AnimEvent;
+import tech.fastj.gameloop.event.EventPool;
+import tech.fastj.gameloop.event.EventPools;
 
 public class SpriteFrameStepEvent<T extends Animated<T, TD>, TD extends AnimationData<T, TD>> extends AnimEvent<T, TD> {
 
-    private final T eventSource;
-    private final TD animationData;
-    private final int oldFrame;
-    private final int newFrame;
+    @SuppressWarnings("rawtypes")
+    private static final EventPool<SpriteFrameStepEvent> Pool = EventPools.register(SpriteFrameStepEvent.class, SpriteFrameStepEvent::new);
+
+    private T eventSource;
+    private TD animationData;
+    private int oldFrame;
+    private int newFrame;
+
+    private SpriteFrameStepEvent() {
+    }
 
     public SpriteFrameStepEvent(T eventSource, TD animationData, int oldFrame, int newFrame) {
         this.eventSource = eventSource;
@@ -18,6 +26,17 @@ public class SpriteFrameStepEvent<T extends Animated<T, TD>, TD extends Animatio
         this.newFrame = newFrame;
     }
 
+    /** {@return a sprite frame step event, taken from its {@link EventPool event pool} if event pooling is enabled} */
+    @SuppressWarnings("unchecked")
+    public static <T extends Animated<T, TD>, TD extends AnimationData<T, TD>> SpriteFrameStepEvent<T, TD> obtain(T eventSource, TD animationData, int oldFrame, int newFrame) {
+        SpriteFrameStepEvent<T, TD> event = Pool.obtain();
+        event.eventSource = eventSource;
+        event.animationData = animationData;
+        event.oldFrame = oldFrame;
+        event.newFrame = newFrame;
+        return event;
+    }
+
     @Override
     public T getEventSource() {
         return eventSource;
@@ -34,4 +53,10 @@ public class SpriteFrameStepEvent<T extends Animated<T, TD>, TD extends Animatio
     public int getNewFrame() {
         return newFrame;
     }
+
+    @Override
+    protected void reset() {
+        eventSource = null;
+        animationData = null;
+    }
 }
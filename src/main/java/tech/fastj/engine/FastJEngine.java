@@ -11,8 +11,8 @@ import tech.fastj.gameloop.CoreLoopState;
 import tech.fastj.gameloop.GameLoop;
 import tech.fastj.gameloop.GameLoopState;
 import tech.fastj.graphics.display.Display;
-import tech.fastj.graphics.display.DisplayState;
 import tech.fastj.graphics.display.FastJCanvas;
+import tech.fastj.graphics.display.HeadlessDisplay;
 import tech.fastj.graphics.display.SimpleDisplay;
 import tech.fastj.graphics.game.Sprite2D;
 import tech.fastj.graphics.util.DisplayUtil;
@@ -34,6 +34,7 @@ import tech.fastj.systems.execution.FastJScheduledThreadPool;
 import tech.fastj.systems.execution.RunLaterEvent;
 import tech.fastj.systems.execution.RunLaterObserver;
 
+import java.awt.GraphicsEnvironment;
 import java.awt.HeadlessException;
 import java.awt.Toolkit;
 import java.util.Arrays;
@@ -112,6 +113,16 @@ public class FastJEngine {
     private static final Map<Class<Animated<?, ?>>, AnimationEngine<?, ?>> AnimationEngines = new ConcurrentHashMap<>();
 
     // Game Loop
+    /**
+     * Fixed Update loop state definition for {@link FastJCanvas#beginFixedUpdate() recording transforms before fixed updates}, used by
+     * {@link FastJCanvas#isThreadedRendering() threaded rendering}.
+     */
+    public static final GameLoopState BeginFixedUpdateRecording = new GameLoopState(
+        CoreLoopState.FixedUpdate,
+        Integer.MIN_VALUE,
+        (gameLoopState, fixedDeltaTime) -> canvas.beginFixedUpdate()
+    );
+
     /** Fixed Update loop state definition. */
     public static final GameLoopState GeneralFixedUpdate = new GameLoopState(
         CoreLoopState.FixedUpdate,
@@ -126,6 +137,16 @@ public class FastJEngine {
         (gameLoopState, fixedDeltaTime) -> gameManager.fixedUpdateBehaviors()
     );
 
+    /**
+     * Fixed Update loop state definition for {@link FastJCanvas#endFixedUpdate() recording transforms after fixed updates}, used by
+     * {@link FastJCanvas#isThreadedRendering() threaded rendering}.
+     */
+    public static final GameLoopState EndFixedUpdateRecording = new GameLoopState(
+        CoreLoopState.FixedUpdate,
+        Integer.MAX_VALUE,
+        (gameLoopState, fixedDeltaTime) -> canvas.endFixedUpdate()
+    );
+
     /** Update loop state for processing general input. Currently unused. */
     public static final GameLoopState ProcessInputEvents = new GameLoopState(
         CoreLoopState.Update,
@@ -176,8 +197,8 @@ public class FastJEngine {
     );
 
     private static final GameLoop GameLoop = new GameLoop(
-        loop -> display != null && display.getWindow().isVisible(),
-        loop -> display != null && display.getDisplayState() != DisplayState.FullScreen
+        loop -> display != null && display.isOpen(),
+        loop -> display != null && display.isFramePaced()
     );
 
     private static final RunLaterObserver RunLaterObserver = new RunLaterObserver();
@@ -212,7 +233,7 @@ public class FastJEngine {
     }
 
     private static void initGameLoop() {
-        GameLoop.addGameLoopStates(GeneralFixedUpdate, BehaviorFixedUpdate);
+        GameLoop.addGameLoopStates(BeginFixedUpdateRecording, GeneralFixedUpdate, BehaviorFixedUpdate, EndFixedUpdateRecording);
         GameLoop.addGameLoopStates(ProcessInputEvents, ProcessKeysDown, GeneralUpdate, BehaviorUpdate, AnimationStep);
         GameLoop.addGameLoopStates(GeneralRender);
     }
@@ -825,7 +846,9 @@ public class FastJEngine {
         isRunning = true;
 
         System.setProperty("sun.awt.noerasebackground", "true");
-        Toolkit.getDefaultToolkit().setDynamicLayout(false);
+        if (!GraphicsEnvironment.isHeadless()) {
+            Toolkit.getDefaultToolkit().setDynamicLayout(false);
+        }
         ThreadFixer.start();
 
         GameLoop.setTargetFPS(targetFPS);
@@ -836,7 +859,7 @@ public class FastJEngine {
         AudioManager.init();
 
         if (display == null) {
-            display = new SimpleDisplay(title, windowResolution);
+            display = GraphicsEnvironment.isHeadless() ? new HeadlessDisplay(windowResolution) : new SimpleDisplay(title, windowResolution);
         }
         canvas = new FastJCanvas(display, canvasResolution);
         canvas.init();
@@ -880,6 +903,9 @@ public class FastJEngine {
 
             fpsLogger.shutdownNow();
         }
+        if (canvas != null) {
+            canvas.setThreadedRendering(false);
+        }
         if (gameManager != null) {
             gameManager.reset();
         }
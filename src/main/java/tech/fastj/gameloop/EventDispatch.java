@@ -0,0 +1,114 @@
+package tech.fastj.gameloop;
+
+import tech.fastj.gameloop.event.Event;
+import tech.fastj.gameloop.event.EventBinding;
+import tech.fastj.gameloop.event.EventHandler;
+import tech.fastj.gameloop.event.EventObserver;
+import tech.fastj.gameloop.event.EventObserverCombo;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Precomputed dispatch table entry for a single {@link Event event} class, used by the {@link GameLoop game loop} to fire events.
+ * <p>
+ * An event dispatch resolves the event class's {@link EventHandler handler}, {@link EventObserver observers}, and
+ * {@link GameLoop#addClassAlias(Class, Class) class alias} once, when it is created. Firing an event through it is a single walk over an
+ * array of targets, and does not allocate.
+ * <p>
+ * Event dispatches are never modified after creation. When the game loop's event system changes, its
+ * {@link #getVersion() version} changes as well, and outdated dispatches are rebuilt the next time they are needed.
+ *
+ * @author Andrew Dey
+ * @since 1.7.0
+ */
+final class EventDispatch {
+
+    private static final DispatchTarget[] NoTargets = new DispatchTarget[0];
+
+    private final int version;
+    private final DispatchTarget[] targets;
+
+    private EventDispatch(int version, DispatchTarget[] targets) {
+        this.version = version;
+        this.targets = targets;
+    }
+
+    /**
+     * Creates an event dispatch for the given event class, based on the given event system contents.
+     *
+     * @param version        The version of the event system the dispatch is created from.
+     * @param eventClass     The event class to create the dispatch for.
+     * @param classAlias     The class alias of the event class, or {@code null} if it has none.
+     * @param eventObservers The game loop's event observers.
+     * @param eventHandlers  The game loop's event handlers.
+     * @return The created event dispatch.
+     */
+    static EventDispatch create(int version, Class<? extends Event> eventClass, Class<? extends Event> classAlias,
+                                Map<Class<? extends Event>, List<EventObserverCombo<? extends Event>>> eventObservers,
+                                Map<Class<? extends Event>, EventHandler<? extends Event, ? extends EventObserver<? extends Event>>> eventHandlers) {
+        List<DispatchTarget> targets = new ArrayList<>();
+        addTargets(targets, eventClass, eventObservers, eventHandlers);
+        if (classAlias != null) {
+            addTargets(targets, classAlias, eventObservers, eventHandlers);
+        }
+
+        return new EventDispatch(version, targets.isEmpty() ? NoTargets : targets.toArray(NoTargets));
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static void addTargets(List<DispatchTarget> targets, Class<? extends Event> eventClass,
+                                   Map<Class<? extends Event>, List<EventObserverCombo<? extends Event>>> eventObservers,
+                                   Map<Class<? extends Event>, EventHandler<? extends Event, ? extends EventObserver<? extends Event>>> eventHandlers) {
+        List<EventObserverCombo<? extends Event>> observerCombos = eventObservers.getOrDefault(eventClass, List.of());
+
+        EventHandler eventHandler = eventHandlers.get(eventClass);
+        if (eventHandler != null) {
+            List<EventObserver<? extends Event>> handledObservers = new ArrayList<>(observerCombos.size());
+            for (EventObserverCombo<? extends Event> observerCombo : observerCombos) {
+                handledObservers.add(observerCombo.eventObserver());
+            }
+
+            List<EventObserver<? extends Event>> observerSnapshot = List.copyOf(handledObservers);
+            targets.add(event -> eventHandler.handleEvent(observerSnapshot, event));
+            return;
+        }
+
+        for (EventObserverCombo<? extends Event> observerCombo : observerCombos) {
+            EventBinding<Event> eventBinding = (EventBinding<Event>) observerCombo.eventBinding();
+            EventObserver<Event> eventObserver = (EventObserver<Event>) observerCombo.eventObserver();
+            targets.add(event -> {
+                if (eventBinding.isRelevant(event)) {
+                    eventObserver.eventReceived(event);
+                }
+            });
+        }
+    }
+
+    /** {@return the version of the event system the dispatch was created from} */
+    int getVersion() {
+        return version;
+    }
+
+    /** {@return whether the dispatch has no targets to fire events to} */
+    boolean isEmpty() {
+        return targets.length == 0;
+    }
+
+    /**
+     * Fires the given event to all of the dispatch's targets, in order.
+     *
+     * @param event The event to fire.
+     */
+    void dispatch(Event event) {
+        for (DispatchTarget target : targets) {
+            target.dispatch(event);
+        }
+    }
+
+    @FunctionalInterface
+    private interface DispatchTarget {
+        void dispatch(Event event);
+    }
+}
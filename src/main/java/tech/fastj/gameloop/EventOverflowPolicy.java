@@ -0,0 +1,33 @@
+package tech.fastj.gameloop;
+
+import tech.fastj.gameloop.event.Event;
+
+/**
+ * Policies for what an {@link EventQueue event queue} does when an {@link Event event} is fired into it while it is full.
+ * <p>
+ * The policy used by a {@link GameLoop game loop} can be set with {@link GameLoop#setEventOverflowPolicy(EventOverflowPolicy)}.
+ *
+ * @author Andrew Dey
+ * @since 1.7.0
+ */
+public enum EventOverflowPolicy {
+    /** The oldest queued event is dropped to make room for the new event. This is the default policy. */
+    DropOldest,
+    /**
+     * The thread firing the event waits until there is room for it, for up to half a second.
+     * <p>
+     * If there is still no room after that -- such as when the {@link GameLoop game loop} is paused, stopped, or has not started draining
+     * its queues yet -- the oldest queued event is dropped instead, so that threads like the AWT event dispatch thread never hang on a
+     * stalled game loop. If the event is fired from the game loop's own thread, waiting would never end, so the oldest queued event is
+     * dropped right away.
+     * <p>
+     * Since even a bounded wait can stall the thread firing the event, this policy is opt-in.
+     */
+    Block,
+    /**
+     * The new event is set aside, replacing any event of the same class which was already set aside.
+     * <p>
+     * Set-aside events are fired after the rest of the queue, so only the latest overflowing event of each class is kept.
+     */
+    Coalesce
+}
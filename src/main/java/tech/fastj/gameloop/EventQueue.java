@@ -0,0 +1,353 @@
+package tech.fastj.gameloop;
+
+import tech.fastj.gameloop.event.CoalescableEvent;
+import tech.fastj.gameloop.event.Event;
+import tech.fastj.gameloop.event.RecyclableEvent;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * Bounded, lock-free queue of {@link Event events} waiting to be fired by the {@link GameLoop game loop}.
+ * <p>
+ * Any amount of threads may fire events into an event queue at once, while the game loop is the only thread to
+ * {@link #drain(Consumer) drain} it. The queue is a ring buffer whose size is always a power of two, and at least 2. When it is full, the
+ * {@link EventOverflowPolicy overflow policy} given by the game loop decides what happens to new events.
+ * <p>
+ * {@link CoalescableEvent Coalescable events} take up a single place in the queue per {@link CoalescableEvent#getCoalescingKey() coalescing
+ * key}. Newer events with the same key are merged into the waiting event rather than being queued on their own.
+ * <p>
+ * The queue keeps track of its {@link #size() current depth}, its {@link #getPeakSize() peak depth}, and how many events were
+ * {@link #getDroppedCount() dropped}, {@link #getCoalescedCount() coalesced}, or had to {@link #getBlockedCount() wait} for room.
+ *
+ * @author Andrew Dey
+ * @since 1.7.0
+ */
+public final class EventQueue {
+
+    private static final long BlockParkNanos = 50_000L;
+    private static final long MaxBlockNanos = 500_000_000L;
+
+    private final int capacity;
+    private final int mask;
+    private final AtomicReferenceArray<Object> events;
+    private final AtomicLongArray sequences;
+    private final AtomicLong enqueuePosition;
+    private final AtomicLong dequeuePosition;
+    private final Map<Object, Object> overflowEvents;
+    private final Map<Object, Event> coalescingEvents;
+    private final Map<Object, CoalescingSlot> coalescingSlots;
+
+    private final AtomicInteger peakSize;
+    private final AtomicLong droppedCount;
+    private final AtomicLong coalescedCount;
+    private final AtomicLong blockedCount;
+
+    /**
+     * Constructs an event queue which can hold at least the given amount of events.
+     *
+     * @param minimumCapacity The minimum amount of events the queue can hold. The actual capacity is the next power of two, and at least 2.
+     */
+    EventQueue(int minimumCapacity) {
+        if (minimumCapacity < 1) {
+            throw new IllegalArgumentException("Event queue capacity must be at least 1.");
+        }
+
+        capacity = Math.max(2, Integer.highestOneBit(minimumCapacity) == minimumCapacity
+                               ? minimumCapacity
+                               : Integer.highestOneBit(minimumCapacity) << 1);
+        mask = capacity - 1;
+        events = new AtomicReferenceArray<>(capacity);
+        sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+
+        enqueuePosition = new AtomicLong();
+        dequeuePosition = new AtomicLong();
+        overflowEvents = new ConcurrentHashMap<>();
+        coalescingEvents = new ConcurrentHashMap<>();
+        coalescingSlots = new ConcurrentHashMap<>();
+
+        peakSize = new AtomicInteger();
+        droppedCount = new AtomicLong();
+        coalescedCount = new AtomicLong();
+        blockedCount = new AtomicLong();
+    }
+
+    /** {@return the maximum amount of events the queue can hold} */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /** {@return the amount of events currently waiting in the queue} */
+    public int size() {
+        long queuedSize = Math.max(0L, Math.min(enqueuePosition.get() - dequeuePosition.get(), capacity));
+        return (int) queuedSize + overflowEvents.size();
+    }
+
+    /** {@return whether the queue has no events waiting in it} */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /** {@return the highest amount of events that have been waiting in the queue at once} */
+    public int getPeakSize() {
+        return peakSize.get();
+    }
+
+    /** {@return the amount of events dropped because the queue was full} */
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    /** {@return the amount of events merged into a newer event, either by coalescing key or because the queue was full} */
+    public long getCoalescedCount() {
+        return coalescedCount.get();
+    }
+
+    /** {@return the amount of times a thread had to wait for room in the queue} */
+    public long getBlockedCount() {
+        return blockedCount.get();
+    }
+
+    /**
+     * Adds the given event to the queue, applying the given overflow policy if the queue is full.
+     *
+     * @param event          The event to add.
+     * @param overflowPolicy The policy to apply if the queue is full.
+     * @param mayBlock       Whether the calling thread may wait for room in the queue.
+     * @param coalesce       Whether {@link CoalescableEvent coalescable events} should be merged with waiting events of the same key.
+     */
+    void offer(Event event, EventOverflowPolicy overflowPolicy, boolean mayBlock, boolean coalesce) {
+        if (coalesce && event instanceof CoalescableEvent<?> coalescableEvent) {
+            Object coalescingKey = coalescableEvent.getCoalescingKey();
+            if (coalescingKey != null) {
+                offerCoalescing(event, coalescingKey, overflowPolicy, mayBlock);
+                return;
+            }
+        }
+
+        offer(event, event.getClass(), overflowPolicy, mayBlock);
+    }
+
+    private void offerCoalescing(Event event, Object coalescingKey, EventOverflowPolicy overflowPolicy, boolean mayBlock) {
+        while (true) {
+            if (coalescingEvents.putIfAbsent(coalescingKey, event) == null) {
+                CoalescingSlot coalescingSlot = coalescingSlots.computeIfAbsent(coalescingKey, CoalescingSlot::new);
+                offer(coalescingSlot, coalescingSlot, overflowPolicy, mayBlock);
+                return;
+            }
+
+            if (coalescingEvents.computeIfPresent(coalescingKey, (key, olderEvent) -> coalesce(event, olderEvent)) != null) {
+                return;
+            }
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Event coalesce(Event event, Event olderEvent) {
+        if (event.getClass() == olderEvent.getClass()) {
+            ((CoalescableEvent) event).coalesce(olderEvent);
+        }
+
+        coalescedCount.incrementAndGet();
+        release(olderEvent);
+        return event;
+    }
+
+    private void offer(Object element, Object overflowKey, EventOverflowPolicy overflowPolicy, boolean mayBlock) {
+        if (tryOffer(element)) {
+            return;
+        }
+
+        switch (overflowPolicy) {
+            case Coalesce -> {
+                Object replacedElement = overflowEvents.put(overflowKey, element);
+                if (replacedElement != null && replacedElement != element) {
+                    coalescedCount.incrementAndGet();
+                    discard(replacedElement);
+                }
+            }
+            case Block -> {
+                if (!mayBlock) {
+                    offerDroppingOldest(element);
+                    return;
+                }
+
+                blockedCount.incrementAndGet();
+                long blockEnd = System.nanoTime() + MaxBlockNanos;
+                while (!tryOffer(element)) {
+                    LockSupport.parkNanos(this, BlockParkNanos);
+                    if (Thread.currentThread().isInterrupted()) {
+                        droppedCount.incrementAndGet();
+                        discard(element);
+                        return;
+                    }
+                    if (System.nanoTime() - blockEnd >= 0L) {
+                        offerDroppingOldest(element);
+                        return;
+                    }
+                }
+            }
+            case DropOldest -> offerDroppingOldest(element);
+        }
+    }
+
+    /**
+     * Fires all events which were waiting in the queue when draining started, oldest first.
+     * <p>
+     * Events added while the queue is being drained are left for the next time it is drained.
+     *
+     * @param eventAction The action to perform on each drained event.
+     * @return The amount of events drained.
+     */
+    int drain(Consumer<Event> eventAction) {
+        long drainEnd = enqueuePosition.get();
+        int drainedCount = 0;
+
+        while (dequeuePosition.get() < drainEnd) {
+            Object element = tryPoll();
+            if (element == null) {
+                break;
+            }
+
+            drainedCount += fire(element, eventAction);
+        }
+
+        if (!overflowEvents.isEmpty()) {
+            Iterator<Object> overflowEventIterator = overflowEvents.values().iterator();
+            while (overflowEventIterator.hasNext()) {
+                Object element = overflowEventIterator.next();
+                overflowEventIterator.remove();
+                drainedCount += fire(element, eventAction);
+            }
+        }
+
+        return drainedCount;
+    }
+
+    private int fire(Object element, Consumer<Event> eventAction) {
+        Event event = element instanceof CoalescingSlot coalescingSlot
+                      ? coalescingEvents.remove(coalescingSlot.coalescingKey())
+                      : (Event) element;
+
+        if (event == null) {
+            return 0;
+        }
+
+        eventAction.accept(event);
+        return 1;
+    }
+
+    /** Removes all events from the queue without firing them. */
+    void clear() {
+        while (tryPoll() != null) {
+            // events are simply discarded
+        }
+        overflowEvents.clear();
+        coalescingEvents.clear();
+    }
+
+    private void offerDroppingOldest(Object element) {
+        while (!tryOffer(element)) {
+            Object droppedElement = tryPoll();
+            if (droppedElement != null) {
+                droppedCount.incrementAndGet();
+                discard(droppedElement);
+            }
+        }
+    }
+
+    private boolean tryOffer(Object element) {
+        long position = enqueuePosition.get();
+
+        while (true) {
+            int index = (int) (position & mask);
+            long difference = sequences.get(index) - position;
+
+            if (difference == 0L) {
+                if (enqueuePosition.compareAndSet(position, position + 1L)) {
+                    events.set(index, element);
+                    sequences.set(index, position + 1L);
+                    updatePeakSize(position + 1L);
+                    return true;
+                }
+                position = enqueuePosition.get();
+            } else if (difference < 0L) {
+                return false;
+            } else {
+                position = enqueuePosition.get();
+            }
+        }
+    }
+
+    private Object tryPoll() {
+        long position = dequeuePosition.get();
+
+        while (true) {
+            int index = (int) (position & mask);
+            long difference = sequences.get(index) - (position + 1L);
+
+            if (difference == 0L) {
+                if (dequeuePosition.compareAndSet(position, position + 1L)) {
+                    Object element = events.getAndSet(index, null);
+                    sequences.set(index, position + capacity);
+                    return element;
+                }
+                position = dequeuePosition.get();
+            } else if (difference < 0L) {
+                return null;
+            } else {
+                position = dequeuePosition.get();
+            }
+        }
+    }
+
+    private void updatePeakSize(long enqueueEnd) {
+        int currentSize = (int) Math.min(enqueueEnd - dequeuePosition.get(), capacity);
+        int currentPeak = peakSize.get();
+        while (currentSize > currentPeak && !peakSize.compareAndSet(currentPeak, currentSize)) {
+            currentPeak = peakSize.get();
+        }
+    }
+
+    private void discard(Object element) {
+        Event event = element instanceof CoalescingSlot coalescingSlot
+                      ? coalescingEvents.remove(coalescingSlot.coalescingKey())
+                      : (Event) element;
+
+        if (event != null) {
+            release(event);
+        }
+    }
+
+    private static void release(Event event) {
+        if (event instanceof RecyclableEvent recyclableEvent) {
+            recyclableEvent.release();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "EventQueue{" +
+            "capacity=" + capacity +
+            ", size=" + size() +
+            ", peakSize=" + peakSize +
+            ", droppedCount=" + droppedCount +
+            ", coalescedCount=" + coalescedCount +
+            ", blockedCount=" + blockedCount +
+            '}';
+    }
+
+    /** Place held in the queue for the waiting event of a coalescing key. */
+    private record CoalescingSlot(Object coalescingKey) {
+    }
+}
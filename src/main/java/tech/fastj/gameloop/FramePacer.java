@@ -0,0 +1,87 @@
+package tech.fastj.gameloop;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Strategy for how a {@link GameLoop game loop} waits out the rest of a frame when it performs manual time-syncing.
+ * <p>
+ * A frame pacer is given the deadline of the current frame, along with the {@link LoopClock clock} the deadline is measured by, and should
+ * return as close to that deadline as it can. The game loop measures how far off each frame ends up -- see {@link GameLoop#getFrameTimeError()}.
+ * <p>
+ * FastJ provides three strategies:
+ * <ul>
+ *     <li>{@link #Sleep} -- sleeps for the remaining time. Uses the least CPU time, but often overshoots by a millisecond or more.</li>
+ *     <li>
+ *         {@link #ParkSpin} -- parks the thread until a short window before the deadline, then spins for the rest. This is the default,
+ *         and keeps frame times stable without keeping a core busy for the whole frame.
+ *     </li>
+ *     <li>{@link #YieldSpin} -- yields the thread until the deadline. The most precise, at the cost of a busy core.</li>
+ * </ul>
+ *
+ * @author Andrew Dey
+ * @since 1.7.0
+ */
+@FunctionalInterface
+public interface FramePacer {
+
+    /** The default amount of time, in nanoseconds, a {@link #parkSpin(long) park-spin frame pacer} spins before its deadline. */
+    long DefaultSpinWindowNanos = 250_000L;
+
+    /** Frame pacer which sleeps until the deadline. */
+    FramePacer Sleep = (deadlineNanos, clock) -> {
+        long remainingNanos = deadlineNanos - clock.nanoTime();
+        if (remainingNanos <= 0L) {
+            return;
+        }
+
+        try {
+            TimeUnit.NANOSECONDS.sleep(remainingNanos);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    };
+
+    /** Frame pacer which parks until {@link #DefaultSpinWindowNanos shortly before} the deadline, then spins until it. */
+    FramePacer ParkSpin = parkSpin(DefaultSpinWindowNanos);
+
+    /** Frame pacer which yields until the deadline. */
+    FramePacer YieldSpin = (deadlineNanos, clock) -> {
+        while (deadlineNanos - clock.nanoTime() > 0L) {
+            Thread.yield();
+        }
+    };
+
+    /**
+     * Waits until the given deadline.
+     *
+     * @param deadlineNanos The time to wait until, in nanoseconds.
+     * @param clock         The clock the deadline is measured by.
+     */
+    void awaitDeadline(long deadlineNanos, LoopClock clock);
+
+    /**
+     * {@return a frame pacer which parks until the given spin window before the deadline, then spins until it}
+     * <p>
+     * The spin window should be a little longer than the amount of time parking a thread tends to overshoot by on the target platform.
+     *
+     * @param spinWindowNanos The amount of time before the deadline to spin for, in nanoseconds.
+     */
+    static FramePacer parkSpin(long spinWindowNanos) {
+        if (spinWindowNanos < 0L) {
+            throw new IllegalArgumentException("Spin window must be at least 0 nanoseconds.");
+        }
+
+        return (deadlineNanos, clock) -> {
+            long remainingNanos = deadlineNanos - clock.nanoTime();
+            while (remainingNanos > spinWindowNanos && !Thread.currentThread().isInterrupted()) {
+                LockSupport.parkNanos(remainingNanos - spinWindowNanos);
+                remainingNanos = deadlineNanos - clock.nanoTime();
+            }
+
+            while (deadlineNanos - clock.nanoTime() > 0L) {
+                Thread.onSpinWait();
+            }
+        };
+    }
+}
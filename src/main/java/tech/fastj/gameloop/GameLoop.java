@@ -1,18 +1,23 @@
 package tech.fastj.gameloop;
 
+import tech.fastj.gameloop.event.CoalescableEvent;
 import tech.fastj.gameloop.event.Event;
 import tech.fastj.gameloop.event.EventBinding;
 import tech.fastj.gameloop.event.EventHandler;
 import tech.fastj.gameloop.event.EventObserver;
 import tech.fastj.gameloop.event.EventObserverCombo;
+import tech.fastj.gameloop.event.RecyclableEvent;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
-import java.util.stream.Collectors;
 
 /**
  * Game loop made up of <i>game states</i>, such that you can create and configure your own custom game loop.
@@ -26,9 +31,14 @@ import java.util.stream.Collectors;
  * backed by {@link GameLoopState#getCoreLoopState() core loop states}, but also contain a {@link GameLoopState#getPriority() priority}
  * which determines their specific order when running. You may refer to the documentation for {@link CoreLoopState} and
  * {@link GameLoopState} for more information on how they work.
+ * <p>
+ * Game loop states of the same priority whose {@link GameLoopState#getAccess() declared accesses} do not conflict are run at the same time
+ * on the game loop's {@link #getStatePool() state pool}. The game loop waits for all of them to finish before moving on to the next
+ * priority.
  * <h2>Game Loop Iteration Order</h2>
  * The game loop, when run, will attempt to iterate and spend {@code 1000/{@link #getTargetFPS() target fps}} milliseconds per iteration.
- * This way, a relatively consistent frame rate can be achieved.
+ * This way, a relatively consistent frame rate can be achieved. How the game loop waits out the rest of each iteration is decided by its
+ * {@link #getFramePacer() frame pacer}.
  * <p>
  * Below is a diagram of what happens during iteration.
  * <ol>
@@ -36,7 +46,9 @@ import java.util.stream.Collectors;
  *     <li>{@link CoreLoopState#EarlyUpdate Early Update} -- runs once at the beginning of every game loop iteration.</li>
  *     <li>
  *         {@link CoreLoopState#FixedUpdate Fixed Update} -- runs
- *         {@code {@link #getTargetUPS() target ups}/{@link #getTargetFPS() target fps}} times per game loop iteration.
+ *         {@code {@link #getTargetUPS() target ups}/{@link #getTargetFPS() target fps}} times per game loop iteration, on average. Each
+ *         fixed update consumes exactly {@code 1/{@link #getTargetUPS() target ups}} seconds of the time passed, and whatever time is left
+ *         over is carried to the next iteration -- see {@link #getInterpolationAlpha()}.
  *     </li>
  *     <li>
  *         {@link CoreLoopState#Update Update} -- runs once per game loop iteration after fixed update to achieve
@@ -53,6 +65,9 @@ import java.util.stream.Collectors;
  * These events can then be processed by {@link EventListener event listeners}.
  * <p>
  * Refer to the documentation of {@link Event} and {@link EventListener} to learn how to set them up.
+ * <p>
+ * Observers, handlers, and class aliases are resolved into a dispatch table for each event class the first time an event of that class is
+ * fired, and again only after the event system changes. As a result, firing an event does not allocate.
  * <h2>Using the Events System</h2>
  * The game loop can be utilized to send events that can be fired immediately, or after the given
  * {@link CoreLoopState}/{@link GameLoopState} -- essentially, after the given state next finishes running.
@@ -61,6 +76,13 @@ import java.util.stream.Collectors;
  *     <li>{@link #fireEvent(Event, CoreLoopState) Firing an event after a core loop state finishes}</li>
  *     <li>{@link #fireEvent(Event, GameLoopState) Firing an event after a game loop state finishes}</li>
  * </ul>
+ * <p>
+ * Events fired after a state finishes wait in a bounded, lock-free {@link EventQueue event queue}, one of which exists for every core
+ * loop state and every added game loop state. Each queue is drained in a single batch once its state finishes. When a queue is full,
+ * the game loop's {@link #getEventOverflowPolicy() overflow policy} decides what happens to new events.
+ * <p>
+ * High-rate events such as mouse motion can implement {@link CoalescableEvent}, so that each stream of them collapses to a single event
+ * per queue drain -- see {@link #setEventCoalescingEnabled(boolean)}.
  *
  * @author Andrew Dey
  * @since 1.7.0
@@ -73,6 +95,15 @@ public class GameLoop implements Runnable {
     /** The default {@link #getTargetUPS() target updates per second}. */
     public static final int DefaultUPS = 30;
 
+    /** The default {@link #getEventQueueCapacity() capacity of each event queue}. */
+    public static final int DefaultEventQueueCapacity = 4096;
+
+    /** The default {@link #getEventOverflowPolicy() event overflow policy}. */
+    public static final EventOverflowPolicy DefaultEventOverflowPolicy = EventOverflowPolicy.DropOldest;
+
+    /** The default {@link #getFramePacer() frame pacer}. */
+    public static final FramePacer DefaultFramePacer = FramePacer.ParkSpin;
+
     /** Empty {@link GameLoopState game loop state}, for resetting the game loop. */
     public static final GameLoopState NoState = new GameLoopState(
         CoreLoopState.EarlyUpdate,
@@ -80,6 +111,9 @@ public class GameLoop implements Runnable {
         (gameLoopState, deltaTime) -> {}
     );
 
+    private static final long NanosPerSecond = TimeUnit.SECONDS.toNanos(1L);
+
+    private final LoopClock clock;
     private final Timer deltaTimer;
     private final Timer fixedDeltaTimer;
 
@@ -94,25 +128,40 @@ public class GameLoop implements Runnable {
     );
     private final Queue<GameLoopState> nextLoopStates;
 
-    private final Map<CoreLoopState, Queue<Event>> nextCoreEvents = Map.of(
-        CoreLoopState.EarlyUpdate, new ArrayDeque<>(),
-        CoreLoopState.FixedUpdate, new ArrayDeque<>(),
-        CoreLoopState.Update, new ArrayDeque<>(),
-        CoreLoopState.LateUpdate, new ArrayDeque<>()
-    );
-    private final Map<GameLoopState, Queue<Event>> nextEvents;
+    private final Map<CoreLoopState, EventQueue> nextCoreEvents;
+    private final Map<GameLoopState, EventQueue> nextEvents;
+    private final Consumer<Event> queuedEventAction;
+    private volatile int eventQueueCapacity;
+    private volatile EventOverflowPolicy eventOverflowPolicy;
+    private volatile boolean isEventCoalescingEnabled;
 
     private final Map<Class<? extends Event>, List<EventObserverCombo<? extends Event>>> eventObservers;
     private final Map<Class<? extends Event>, EventHandler<? extends Event, ? extends EventObserver<? extends Event>>> eventHandlers;
     private final Map<Class<? extends Event>, Class<? extends Event>> classAliases;
+    private final Map<Class<? extends Event>, EventDispatch> eventDispatches;
+    private final AtomicInteger eventSystemVersion;
 
     private GameLoopState currentGameLoopState;
     private volatile boolean isRunning;
+    private volatile Thread loopThread;
 
-    private final AtomicReference<Float> fixedUpdateInterval;
+    private volatile ForkJoinPool statePool;
+    private final List<GameLoopState> concurrentStates;
+    private final Set<Thread> concurrentStateThreads;
+
+    private volatile float fixedUpdateInterval;
+    private volatile float interpolationAlpha;
     private int targetFPS;
     private int targetUPS;
 
+    private volatile FramePacer framePacer;
+    private long frameDeadline;
+    private volatile long frameTimeError;
+    private volatile long maxFrameTimeError;
+    private volatile long averageFrameTimeError;
+    private long totalFrameTimeError;
+    private long pacedFrameCount;
+
     /**
      * Constructs a game loop with the given predicates for controlling game state.
      *
@@ -120,21 +169,47 @@ public class GameLoop implements Runnable {
      * @param shouldSync Check during iteration for whether the game loop should perform manual sync.
      */
     public GameLoop(Predicate<GameLoop> shouldRun, Predicate<GameLoop> shouldSync) {
-        deltaTimer = new Timer();
-        fixedDeltaTimer = new Timer();
+        this(shouldRun, shouldSync, LoopClock.SystemClock);
+    }
+
+    /**
+     * Constructs a game loop with the given predicates for controlling game state, measuring time with the given clock.
+     *
+     * @param shouldRun  Check during iteration for whether the game loop should stop running.
+     * @param shouldSync Check during iteration for whether the game loop should perform manual sync.
+     * @param clock      The {@link LoopClock clock} the game loop measures time with.
+     */
+    public GameLoop(Predicate<GameLoop> shouldRun, Predicate<GameLoop> shouldSync, LoopClock clock) {
+        this.clock = Objects.requireNonNull(clock);
+        deltaTimer = new Timer(clock);
+        fixedDeltaTimer = new Timer(clock);
 
         this.runCondition = Objects.requireNonNull(shouldRun);
         this.syncCondition = Objects.requireNonNull(shouldSync);
 
         isRunning = false;
         nextLoopStates = new ConcurrentLinkedDeque<>();
+        eventQueueCapacity = DefaultEventQueueCapacity;
+        eventOverflowPolicy = DefaultEventOverflowPolicy;
+        isEventCoalescingEnabled = true;
+        nextCoreEvents = new EnumMap<>(CoreLoopState.class);
+        for (CoreLoopState coreLoopState : CoreLoopState.values()) {
+            nextCoreEvents.put(coreLoopState, new EventQueue(eventQueueCapacity));
+        }
         nextEvents = new ConcurrentHashMap<>();
+        queuedEventAction = this::fireEvent;
         eventObservers = new ConcurrentHashMap<>();
         eventHandlers = new ConcurrentHashMap<>();
         classAliases = new ConcurrentHashMap<>();
+        eventDispatches = new ConcurrentHashMap<>();
+        eventSystemVersion = new AtomicInteger();
         currentGameLoopState = NoState;
 
-        fixedUpdateInterval = new AtomicReference<>();
+        statePool = ForkJoinPool.commonPool();
+        concurrentStates = new ArrayList<>();
+        concurrentStateThreads = ConcurrentHashMap.newKeySet();
+
+        framePacer = DefaultFramePacer;
         setTargetFPS(DefaultFPS);
         setTargetUPS(DefaultUPS);
     }
@@ -150,6 +225,7 @@ public class GameLoop implements Runnable {
         } else {
             for (GameLoopState gameLoopState : gameLoopStates) {
                 this.gameLoopStates.get(gameLoopState.getCoreLoopState()).add(gameLoopState);
+                getEventQueue(gameLoopState);
             }
         }
     }
@@ -164,6 +240,7 @@ public class GameLoop implements Runnable {
             nextLoopStates.add(gameLoopState);
         } else {
             this.gameLoopStates.get(gameLoopState.getCoreLoopState()).add(gameLoopState);
+            getEventQueue(gameLoopState);
         }
     }
 
@@ -186,11 +263,9 @@ public class GameLoop implements Runnable {
      * @param eventObserver The {@link EventObserver event observer}
      */
     public <T extends Event> void addEventObserver(Class<T> eventClass, EventBinding<T> eventBinding, EventObserver<T> eventObserver) {
-        if (!eventObservers.containsKey(eventClass)) {
-            eventObservers.put(eventClass, new ArrayList<>());
-        }
-
-        eventObservers.get(eventClass).add(new EventObserverCombo<>(eventObserver, eventBinding));
+        eventObservers.computeIfAbsent(eventClass, observedClass -> new CopyOnWriteArrayList<>())
+            .add(new EventObserverCombo<>(eventObserver, eventBinding));
+        eventSystemChanged();
     }
 
     /**
@@ -206,6 +281,7 @@ public class GameLoop implements Runnable {
         }
 
         eventObservers.get(eventClass).removeIf(combo -> combo.eventObserver().equals(eventObserver));
+        eventSystemChanged();
     }
 
     /**
@@ -218,6 +294,7 @@ public class GameLoop implements Runnable {
      */
     public <T extends Event, V extends EventHandler<T, EventObserver<T>>> void addEventHandler(Class<T> eventClass, V gameEventHandler) {
         eventHandlers.put(eventClass, gameEventHandler);
+        eventSystemChanged();
     }
 
     /**
@@ -228,6 +305,7 @@ public class GameLoop implements Runnable {
      */
     public <T extends Event> void removeEventHandler(Class<T> eventClass) {
         eventHandlers.remove(eventClass);
+        eventSystemChanged();
     }
 
     /**
@@ -243,6 +321,7 @@ public class GameLoop implements Runnable {
      */
     public <S extends Event, T extends S> void addClassAlias(Class<T> originalClass, Class<S> aliasedClass) {
         classAliases.put(originalClass, aliasedClass);
+        eventSystemChanged();
     }
 
     /**
@@ -257,6 +336,7 @@ public class GameLoop implements Runnable {
      */
     public <S extends Event, T extends S> void removeClassAlias(Class<T> originalClass) {
         classAliases.remove(originalClass);
+        eventSystemChanged();
     }
 
     /**
@@ -303,6 +383,23 @@ public class GameLoop implements Runnable {
         return fixedDeltaTimer.getDeltaTime();
     }
 
+    /**
+     * {@return how far the game loop is between the last and the next {@link CoreLoopState#FixedUpdate fixed update}, from {@code 0}
+     * to {@code 1}}
+     * <p>
+     * This is the amount of time carried over to the next fixed update, as a fraction of the {@link #getTargetUPS() fixed update
+     * interval}. Rendering can use it to interpolate between the last two fixed update states, so movement looks smooth even when
+     * the frame rate and the update rate differ.
+     */
+    public float getInterpolationAlpha() {
+        return interpolationAlpha;
+    }
+
+    /** {@return the clock the game loop measures time with} */
+    public LoopClock getClock() {
+        return clock;
+    }
+
     /**
      * Set the game loop's target frames per second.
      * <p>
@@ -332,12 +429,156 @@ public class GameLoop implements Runnable {
                 throw new IllegalArgumentException("UPS amount must be at least 1.");
             }
             this.targetUPS = ups;
-            synchronized (fixedUpdateInterval) {
-                fixedUpdateInterval.set(1f / targetUPS);
+            this.fixedUpdateInterval = 1f / targetUPS;
+        }
+    }
+
+    /** {@return the maximum amount of events each of the game loop's event queues can hold} */
+    public int getEventQueueCapacity() {
+        return eventQueueCapacity;
+    }
+
+    /**
+     * Sets the maximum amount of events each of the game loop's {@link EventQueue event queues} can hold.
+     * <p>
+     * The capacity is rounded up to the next power of two, and is at least 2. Events already waiting in the queues are kept, as long as they fit in the
+     * new capacity.
+     * <p>
+     * If the game loop {@link #isRunning() is running}, this method will not do anything.
+     *
+     * @param capacity The new event queue capacity.
+     */
+    public void setEventQueueCapacity(int capacity) {
+        if (!isRunning) {
+            if (capacity < 1) {
+                throw new IllegalArgumentException("Event queue capacity must be at least 1.");
             }
+            this.eventQueueCapacity = capacity;
+
+            for (CoreLoopState coreLoopState : CoreLoopState.values()) {
+                nextCoreEvents.put(coreLoopState, resizeEventQueue(nextCoreEvents.get(coreLoopState)));
+            }
+            nextEvents.replaceAll((gameLoopState, eventQueue) -> resizeEventQueue(eventQueue));
         }
     }
 
+    private EventQueue resizeEventQueue(EventQueue eventQueue) {
+        EventQueue resizedEventQueue = new EventQueue(eventQueueCapacity);
+        eventQueue.drain(event -> resizedEventQueue.offer(event, EventOverflowPolicy.DropOldest, false, isEventCoalescingEnabled));
+        return resizedEventQueue;
+    }
+
+    /** {@return what the game loop's event queues do when an event is fired into them while they are full} */
+    public EventOverflowPolicy getEventOverflowPolicy() {
+        return eventOverflowPolicy;
+    }
+
+    /**
+     * Sets what the game loop's {@link EventQueue event queues} do when an event is fired into them while they are full.
+     *
+     * @param eventOverflowPolicy The new event overflow policy.
+     */
+    public void setEventOverflowPolicy(EventOverflowPolicy eventOverflowPolicy) {
+        this.eventOverflowPolicy = Objects.requireNonNull(eventOverflowPolicy);
+    }
+
+    /** {@return whether queued {@link CoalescableEvent coalescable events} are merged with waiting events of the same key} */
+    public boolean isEventCoalescingEnabled() {
+        return isEventCoalescingEnabled;
+    }
+
+    /**
+     * Sets whether {@link CoalescableEvent coalescable events} fired into the game loop's {@link EventQueue event queues} are merged
+     * with waiting events of the same {@link CoalescableEvent#getCoalescingKey() coalescing key}.
+     * <p>
+     * Event coalescing is enabled by default. It only applies to events fired after a {@link GameLoopState game loop state} or
+     * {@link CoreLoopState core loop state} -- events {@link #fireEvent(Event) fired immediately} are never coalesced.
+     *
+     * @param isEventCoalescingEnabled Whether event coalescing should be enabled.
+     */
+    public void setEventCoalescingEnabled(boolean isEventCoalescingEnabled) {
+        this.isEventCoalescingEnabled = isEventCoalescingEnabled;
+    }
+
+    /**
+     * {@return the event queue holding events to fire after the given game loop state finishes}
+     * <p>
+     * The event queue is created if it does not exist yet.
+     *
+     * @param gameLoopState The game loop state to get the event queue for.
+     */
+    public EventQueue getEventQueue(GameLoopState gameLoopState) {
+        return nextEvents.computeIfAbsent(gameLoopState, state -> new EventQueue(eventQueueCapacity));
+    }
+
+    /**
+     * {@return the event queue holding events to fire after the given core loop state finishes}
+     *
+     * @param coreLoopState The core loop state to get the event queue for.
+     */
+    public EventQueue getEventQueue(CoreLoopState coreLoopState) {
+        return nextCoreEvents.get(coreLoopState);
+    }
+
+    /**
+     * {@return the pool that game loop states which {@link GameLoopState#canRunConcurrentlyWith(GameLoopState) can run at the same time}
+     * are run on}
+     * <p>
+     * By default, this is the {@link ForkJoinPool#commonPool() common pool}.
+     */
+    public ForkJoinPool getStatePool() {
+        return statePool;
+    }
+
+    /**
+     * Sets the pool that game loop states which {@link GameLoopState#canRunConcurrentlyWith(GameLoopState) can run at the same time} are
+     * run on.
+     *
+     * @param statePool The new state pool.
+     */
+    public void setStatePool(ForkJoinPool statePool) {
+        this.statePool = Objects.requireNonNull(statePool);
+    }
+
+    /** {@return the strategy the game loop uses to wait out the rest of each iteration when time-syncing} */
+    public FramePacer getFramePacer() {
+        return framePacer;
+    }
+
+    /**
+     * Sets the strategy the game loop uses to wait out the rest of each iteration when time-syncing.
+     *
+     * @param framePacer The new frame pacer.
+     */
+    public void setFramePacer(FramePacer framePacer) {
+        this.framePacer = Objects.requireNonNull(framePacer);
+    }
+
+    /**
+     * {@return how far off the end of the last time-synced iteration was from its target, in {@link TimeUnit#NANOSECONDS nanoseconds}}
+     * <p>
+     * A positive value means the iteration ended late, and a negative value means it ended early.
+     */
+    public long getFrameTimeError() {
+        return frameTimeError;
+    }
+
+    /**
+     * {@return the largest {@link #getFrameTimeError() frame time error} since the game loop started running, in
+     * {@link TimeUnit#NANOSECONDS nanoseconds}}
+     */
+    public long getMaxFrameTimeError() {
+        return maxFrameTimeError;
+    }
+
+    /**
+     * {@return the average size of the {@link #getFrameTimeError() frame time error} since the game loop started running, in
+     * {@link TimeUnit#NANOSECONDS nanoseconds}}
+     */
+    public long getAverageFrameTimeError() {
+        return averageFrameTimeError;
+    }
+
     /**
      * {@return the {@link EventObserver event observers} for the given event class}
      *
@@ -387,51 +628,35 @@ public class GameLoop implements Runnable {
 
     /**
      * Fires the given event immediately.
+     * <p>
+     * If the event is a {@link RecyclableEvent recyclable event}, it is {@link RecyclableEvent#release() released} once it has been
+     * fired.
      *
      * @param event The event to fire.
      * @param <T>   The class of the {@link Event event}.
      */
-    @SuppressWarnings("unchecked")
     public <T extends Event> void fireEvent(T event) {
-        Class<T> eventClass = (Class<T>) event.getClass();
-        tryFireEvent(event, eventClass);
+        getEventDispatch(event.getClass()).dispatch(event);
 
-        Class<Event> classAlias = (Class<Event>) classAliases.get(eventClass);
-        if (classAlias != null) {
-            tryFireEvent(event, classAlias);
+        if (event instanceof RecyclableEvent recyclableEvent) {
+            recyclableEvent.release();
         }
     }
 
-    @SuppressWarnings("unchecked")
-    private <T extends Event> void tryFireEvent(T event, Class<T> eventClass) {
-        var gameEventHandler = (EventHandler<T, EventObserver<T>>) eventHandlers.get(eventClass);
-        if (gameEventHandler != null) {
-            ((EventHandler) gameEventHandler).handleEvent(
-                eventObservers.getOrDefault(eventClass, List.of())
-                    .stream()
-                    .map(EventObserverCombo::eventObserver)
-                    .collect(Collectors.toList()),
-                event
-            );
-
-            return;
-        }
+    private EventDispatch getEventDispatch(Class<? extends Event> eventClass) {
+        EventDispatch eventDispatch = eventDispatches.get(eventClass);
+        int version = eventSystemVersion.get();
 
-        List<EventObserverCombo<? extends Event>> eventObservers = this.eventObservers.get(eventClass);
-        if (eventObservers == null) {
-            this.eventObservers.put(eventClass, new ArrayList<>());
-            eventObservers = this.eventObservers.get(eventClass);
+        if (eventDispatch == null || eventDispatch.getVersion() != version) {
+            eventDispatch = EventDispatch.create(version, eventClass, classAliases.get(eventClass), eventObservers, eventHandlers);
+            eventDispatches.put(eventClass, eventDispatch);
         }
 
-        if (this.eventObservers.get(eventClass).isEmpty()) {
-            return;
-        }
+        return eventDispatch;
+    }
 
-        for (var gameEventObserver : eventObservers) {
-            if (((EventBinding<T>) gameEventObserver.eventBinding()).isRelevant(event)) {
-                ((EventObserver<T>) gameEventObserver.eventObserver()).eventReceived(event);
-            }
-        }
+    private void eventSystemChanged() {
+        eventSystemVersion.incrementAndGet();
     }
 
     /**
@@ -442,11 +667,7 @@ public class GameLoop implements Runnable {
      * @param <T>        The class of the {@link Event event}.
      */
     public <T extends Event> void fireEvent(T event, GameLoopState whenToFire) {
-        if (nextEvents.get(whenToFire) == null) {
-            nextEvents.put(whenToFire, new ArrayDeque<>());
-        }
-
-        nextEvents.get(whenToFire).add(event);
+        queueEvent(getEventQueue(whenToFire), event);
     }
 
     /**
@@ -457,30 +678,41 @@ public class GameLoop implements Runnable {
      * @param <T>        The class of the {@link Event event}.
      */
     public <T extends Event> void fireEvent(T event, CoreLoopState whenToFire) {
-        nextCoreEvents.get(whenToFire).add(event);
+        queueEvent(nextCoreEvents.get(whenToFire), event);
+    }
+
+    private void queueEvent(EventQueue eventQueue, Event event) {
+        Thread currentThread = Thread.currentThread();
+        boolean mayBlock = currentThread != loopThread && !concurrentStateThreads.contains(currentThread);
+        eventQueue.offer(event, eventOverflowPolicy, mayBlock, isEventCoalescingEnabled);
     }
 
     /** Runs the game loop, setting {@link #isRunning()} to {@code true}. */
     @Override
     public synchronized void run() {
         isRunning = true;
+        loopThread = Thread.currentThread();
 
         float elapsedTime;
-        float elapsedFixedTime;
-        float accumulator = 0f;
+        // time not yet consumed by fixed updates, in nanoseconds multiplied by the target ups -- one fixed update is one second's
+        // worth, so no rounding of the fixed update interval ever builds up
+        long accumulator = 0L;
+        interpolationAlpha = 0f;
 
         // start timers fresh
         deltaTimer.init();
         fixedDeltaTimer.init();
+        resetFramePacing();
 
         while (runCondition.test(this)) {
-            elapsedTime = deltaTimer.evalDeltaTime();
-            accumulator += elapsedTime;
+            long elapsedNanos = deltaTimer.evalDeltaTimeNanos();
+            elapsedTime = (float) elapsedNanos / NanosPerSecond;
+            accumulator += elapsedNanos * targetUPS;
 
             if (!nextLoopStates.isEmpty()) {
                 for (GameLoopState nextLoopState : nextLoopStates) {
                     gameLoopStates.get(nextLoopState.getCoreLoopState()).add(nextLoopState);
-                    nextEvents.computeIfAbsent(nextLoopState, gameLoopState -> new ArrayDeque<>());
+                    getEventQueue(nextLoopState);
                 }
 
                 nextLoopStates.clear();
@@ -490,16 +722,22 @@ public class GameLoop implements Runnable {
             fireNextCoreEvents(CoreLoopState.EarlyUpdate);
 
             int fixedUpdateRunCount = 0;
-            while (accumulator >= fixedUpdateInterval.get() && fixedUpdateRunCount < targetUPS) {
-                elapsedFixedTime = fixedDeltaTimer.evalDeltaTime();
+            while (accumulator >= NanosPerSecond && fixedUpdateRunCount < targetUPS) {
+                fixedDeltaTimer.evalDeltaTimeNanos();
 
-                runGameLoopStates(CoreLoopState.FixedUpdate, elapsedFixedTime);
+                runGameLoopStates(CoreLoopState.FixedUpdate, fixedUpdateInterval);
                 fireNextCoreEvents(CoreLoopState.FixedUpdate);
 
-                accumulator -= elapsedFixedTime;
+                accumulator -= NanosPerSecond;
                 fixedUpdateRunCount++;
             }
 
+            // fixed updates which could not keep up are skipped, rather than piling up for later iterations
+            if (accumulator >= NanosPerSecond) {
+                accumulator %= NanosPerSecond;
+            }
+            interpolationAlpha = (float) accumulator / NanosPerSecond;
+
             runGameLoopStates(CoreLoopState.Update, elapsedTime);
             fireNextCoreEvents(CoreLoopState.Update);
 
@@ -513,14 +751,98 @@ public class GameLoop implements Runnable {
             }
         }
 
+        loopThread = null;
         isRunning = false;
     }
 
     private void runGameLoopStates(CoreLoopState coreLoopState, float elapsedFixedTime) {
         for (GameLoopState gameLoopState : gameLoopStates.get(coreLoopState)) {
-            currentGameLoopState = gameLoopState;
+            if (!concurrentStates.isEmpty() && !canJoinConcurrentStates(gameLoopState)) {
+                runConcurrentStates(elapsedFixedTime);
+            }
+            concurrentStates.add(gameLoopState);
+        }
+
+        if (!concurrentStates.isEmpty()) {
+            runConcurrentStates(elapsedFixedTime);
+        }
+    }
+
+    private boolean canJoinConcurrentStates(GameLoopState gameLoopState) {
+        for (GameLoopState concurrentState : concurrentStates) {
+            if (!concurrentState.canRunConcurrentlyWith(gameLoopState)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Runs the states gathered in {@link #concurrentStates}, waiting for all of them to finish.
+     * <p>
+     * While more than one state runs at once, the {@link #getCurrentGameLoopState() current game loop state} is the first of them. Events
+     * waiting for each state are fired once all of the states have finished, in their usual order.
+     */
+    private void runConcurrentStates(float elapsedFixedTime) {
+        try {
+            currentGameLoopState = concurrentStates.get(0);
+
+            if (concurrentStates.size() == 1) {
+                currentGameLoopState.accept(elapsedFixedTime);
+                fireNextEvents(currentGameLoopState);
+                return;
+            }
+
+            ForkJoinPool currentStatePool = statePool;
+            ForkJoinTask<?>[] stateTasks = new ForkJoinTask<?>[concurrentStates.size() - 1];
+            for (int i = 0; i < stateTasks.length; i++) {
+                GameLoopState gameLoopState = concurrentStates.get(i + 1);
+                stateTasks[i] = currentStatePool.submit(() -> runConcurrentState(gameLoopState, elapsedFixedTime));
+            }
+
+            RuntimeException stateException = null;
+            try {
+                currentGameLoopState.accept(elapsedFixedTime);
+            } catch (RuntimeException exception) {
+                stateException = exception;
+            }
+
+            for (ForkJoinTask<?> stateTask : stateTasks) {
+                RuntimeException exception = (RuntimeException) stateTask.join();
+                if (exception == null) {
+                    continue;
+                }
+
+                if (stateException == null) {
+                    stateException = exception;
+                } else {
+                    stateException.addSuppressed(exception);
+                }
+            }
+
+            if (stateException != null) {
+                throw stateException;
+            }
+
+            for (GameLoopState gameLoopState : concurrentStates) {
+                fireNextEvents(gameLoopState);
+            }
+        } finally {
+            concurrentStates.clear();
+        }
+    }
+
+    /** Runs the given state on a pool thread, returning the exception it threw so the loop thread can rethrow it as-is. */
+    private RuntimeException runConcurrentState(GameLoopState gameLoopState, float elapsedFixedTime) {
+        Thread currentThread = Thread.currentThread();
+        concurrentStateThreads.add(currentThread);
+        try {
             gameLoopState.accept(elapsedFixedTime);
-            fireNextEvents(gameLoopState);
+            return null;
+        } catch (RuntimeException exception) {
+            return exception;
+        } finally {
+            concurrentStateThreads.remove(currentThread);
         }
     }
 
@@ -532,51 +854,83 @@ public class GameLoop implements Runnable {
         fireNextEvents(nextEvents.get(gameLoopState));
     }
 
-    private void fireNextEvents(Queue<? extends Event> gameEvents) {
+    private void fireNextEvents(EventQueue gameEvents) {
         if (gameEvents == null || gameEvents.isEmpty()) {
             return;
         }
 
-        while (!gameEvents.isEmpty()) {
-            Event nextEvent = gameEvents.poll();
-            fireEvent(nextEvent);
-        }
+        gameEvents.drain(queuedEventAction);
     }
 
     private void sync() {
-        final float updateInterval = 1f / targetFPS;
-        final double endTime = deltaTimer.getLastTimestamp() + updateInterval;
-        final double currentTime = deltaTimer.getCurrentTime();
-        if (currentTime < endTime) {
-            try {
-                TimeUnit.MILLISECONDS.sleep((long) ((endTime - currentTime) * 1000L));
-            } catch (InterruptedException exception) {
-                Thread.currentThread().interrupt();
-            }
+        final long frameInterval = NanosPerSecond / targetFPS;
+        frameDeadline += frameInterval;
+
+        if (frameDeadline - clock.nanoTime() > 0L) {
+            framePacer.awaitDeadline(frameDeadline, clock);
+        }
+
+        final long frameEnd = clock.nanoTime();
+        recordFrameTimeError(frameEnd - frameDeadline);
+
+        // an iteration which ran over by more than a whole frame is not caught up on
+        if (frameEnd - frameDeadline > frameInterval) {
+            frameDeadline = frameEnd;
         }
     }
 
+    private void recordFrameTimeError(long error) {
+        long errorSize = Math.abs(error);
+        totalFrameTimeError += errorSize;
+        pacedFrameCount++;
+
+        frameTimeError = error;
+        averageFrameTimeError = totalFrameTimeError / pacedFrameCount;
+        if (errorSize > maxFrameTimeError) {
+            maxFrameTimeError = errorSize;
+        }
+    }
+
+    private void resetFramePacing() {
+        frameDeadline = clock.nanoTime();
+        frameTimeError = 0L;
+        maxFrameTimeError = 0L;
+        averageFrameTimeError = 0L;
+        totalFrameTimeError = 0L;
+        pacedFrameCount = 0L;
+    }
+
     /** Resets the entire game loop, resetting and removing all of its state and clearing the event system. */
     public void reset() {
         for (Set<GameLoopState> loopStates : gameLoopStates.values()) {
             loopStates.clear();
         }
         nextLoopStates.clear();
-        for (Queue<Event> events : nextCoreEvents.values()) {
+        for (EventQueue events : nextCoreEvents.values()) {
             events.clear();
         }
 
         currentGameLoopState = NoState;
 
         clearEventSystem();
+        nextEvents.clear();
+        setEventOverflowPolicy(DefaultEventOverflowPolicy);
+        setEventCoalescingEnabled(true);
+        setFramePacer(DefaultFramePacer);
+        setStatePool(ForkJoinPool.commonPool());
+        setEventQueueCapacity(DefaultEventQueueCapacity);
         setTargetFPS(DefaultFPS);
         setTargetUPS(DefaultUPS);
     }
 
     /** Clears the game loop's events, observers, and handlers. */
     public void clearEventSystem() {
-        nextEvents.clear();
+        for (EventQueue events : nextEvents.values()) {
+            events.clear();
+        }
         eventObservers.clear();
         eventHandlers.clear();
+        eventDispatches.clear();
+        eventSystemChanged();
     }
 }
@@ -1,6 +1,7 @@
 package tech.fastj.gameloop;
 
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
@@ -13,7 +14,12 @@ import java.util.function.Consumer;
  *     <li>The {@link #getCoreLoopState() core loop state}</li>
  *     <li>Whether the state has {@link #hasEnginePriority() engine priority}</li>
  *     <li>The {@link #getPriority() general priority}</li>
+ *     <li>The order in which the game loop states were created</li>
  * </ol>
+ * <p>
+ * Game loop states with the same priority may run at the same time, as long as their {@link #getAccess() declared accesses} do not
+ * {@link LoopStateAccess#conflictsWith(LoopStateAccess) conflict}. By default, a game loop state has
+ * {@link LoopStateAccess#Exclusive exclusive access}, and always runs on its own.
  *
  * @author Andrew Dey
  * @since 1.7.0
@@ -23,10 +29,17 @@ public class GameLoopState implements Comparable<GameLoopState>, Consumer<Float>
     /** The default engine priority for game loop states. */
     public static final boolean DefaultEnginePriority = false;
 
+    /** The default access for game loop states. */
+    public static final LoopStateAccess DefaultAccess = LoopStateAccess.Exclusive;
+
+    private static final AtomicLong NextCreationOrder = new AtomicLong();
+
     private final CoreLoopState coreLoopState;
     private final boolean hasEnginePriority;
     private final int subStatePriority;
+    private final LoopStateAccess access;
     private final BiConsumer<GameLoopState, Float> loopStateAction;
+    private final long creationOrder;
 
     private boolean isActive;
 
@@ -50,10 +63,38 @@ public class GameLoopState implements Comparable<GameLoopState>, Consumer<Float>
      * @param loopStateAction The action to run for the loop state.
      */
     public GameLoopState(CoreLoopState coreLoopState, boolean enginePriority, int priority, BiConsumer<GameLoopState, Float> loopStateAction) {
+        this(coreLoopState, enginePriority, priority, DefaultAccess, loopStateAction);
+    }
+
+    /**
+     * Constructs a game loop state with the given access, and a {@link #DefaultEnginePriority default engine priority}.
+     *
+     * @param coreLoopState   The core loop state defining when the game loop state should be run.
+     * @param priority        The general priority defining when the game loop state should be run, within its core loop state.
+     * @param access          The shared resources the game loop state reads from and writes to.
+     * @param loopStateAction The action to run for the loop state.
+     */
+    public GameLoopState(CoreLoopState coreLoopState, int priority, LoopStateAccess access, BiConsumer<GameLoopState, Float> loopStateAction) {
+        this(coreLoopState, DefaultEnginePriority, priority, access, loopStateAction);
+    }
+
+    /**
+     * Constructs a game loop state with the given access.
+     *
+     * @param coreLoopState   The core loop state defining when the game loop state should be run.
+     * @param enginePriority  Whether the game loop state has engine priority.
+     * @param priority        The general priority defining when the game loop state should be run, within its core loop state.
+     * @param access          The shared resources the game loop state reads from and writes to.
+     * @param loopStateAction The action to run for the loop state.
+     */
+    public GameLoopState(CoreLoopState coreLoopState, boolean enginePriority, int priority, LoopStateAccess access,
+                         BiConsumer<GameLoopState, Float> loopStateAction) {
         this.coreLoopState = Objects.requireNonNull(coreLoopState);
         this.hasEnginePriority = enginePriority;
         this.subStatePriority = priority;
+        this.access = Objects.requireNonNull(access);
         this.loopStateAction = Objects.requireNonNull(loopStateAction);
+        this.creationOrder = NextCreationOrder.getAndIncrement();
     }
 
     /** {@return the core loop state defining when in the {@link GameLoop game loop} the game loop state should be run} */
@@ -71,6 +112,25 @@ public class GameLoopState implements Comparable<GameLoopState>, Consumer<Float>
         return hasEnginePriority;
     }
 
+    /** {@return the shared resources the game loop state reads from and writes to} */
+    public LoopStateAccess getAccess() {
+        return access;
+    }
+
+    /**
+     * {@return whether the game loop state may run at the same time as the given game loop state}
+     * <p>
+     * This is the case when both states run at the same point in the {@link GameLoop game loop}, and their accesses do not conflict.
+     *
+     * @param other The game loop state to check against.
+     */
+    public boolean canRunConcurrentlyWith(GameLoopState other) {
+        return coreLoopState == other.coreLoopState
+            && hasEnginePriority == other.hasEnginePriority
+            && subStatePriority == other.subStatePriority
+            && !access.conflictsWith(other.access);
+    }
+
     /**
      * {@return whether the game loop state is actively being used}.
      * <p>
@@ -111,7 +171,12 @@ public class GameLoopState implements Comparable<GameLoopState>, Consumer<Float>
             return 1;
         }
 
-        return Integer.compare(subStatePriority, other.subStatePriority);
+        comparison = Integer.compare(subStatePriority, other.subStatePriority);
+        if (comparison != 0) {
+            return comparison;
+        }
+
+        return Long.compare(creationOrder, other.creationOrder);
     }
 
     @Override
@@ -123,14 +188,12 @@ public class GameLoopState implements Comparable<GameLoopState>, Consumer<Float>
             return false;
         }
         GameLoopState gameLoopState = (GameLoopState) other;
-        return subStatePriority == gameLoopState.subStatePriority
-            && hasEnginePriority == gameLoopState.hasEnginePriority
-            && coreLoopState == gameLoopState.coreLoopState;
+        return creationOrder == gameLoopState.creationOrder;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(coreLoopState, subStatePriority);
+        return Long.hashCode(creationOrder);
     }
 
     @Override
@@ -139,6 +202,7 @@ public class GameLoopState implements Comparable<GameLoopState>, Consumer<Float>
             "baseLoopState=" + coreLoopState +
             ", hasEnginePriority=" + hasEnginePriority +
             ", subStatePriority=" + subStatePriority +
+            ", access=" + access +
             '}';
     }
 }
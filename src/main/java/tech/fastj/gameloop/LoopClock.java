@@ -0,0 +1,26 @@
+package tech.fastj.gameloop;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Source of time for a {@link GameLoop game loop}, its {@link Timer timers}, and its {@link FramePacer frame pacer}.
+ * <p>
+ * Game loops use the {@link #SystemClock system clock} unless given another clock. Other clocks are mostly useful for simulating time --
+ * for example, to measure how a game loop behaves over days of running without waiting days.
+ *
+ * @author Andrew Dey
+ * @since 1.7.0
+ */
+@FunctionalInterface
+public interface LoopClock {
+
+    /** Loop clock based on {@link System#nanoTime()}. */
+    LoopClock SystemClock = System::nanoTime;
+
+    /**
+     * {@return the current time of the clock, in {@link TimeUnit#NANOSECONDS nanoseconds}}
+     * <p>
+     * Like {@link System#nanoTime()}, the returned value is only meaningful when compared to other values from the same clock.
+     */
+    long nanoTime();
+}
@@ -0,0 +1,149 @@
+package tech.fastj.gameloop;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Declaration of which shared resources a {@link GameLoopState game loop state} reads from and writes to.
+ * <p>
+ * The {@link GameLoop game loop} runs game loop states of the same priority at the same time when none of their accesses
+ * {@link #conflictsWith(LoopStateAccess) conflict}. Two accesses conflict when either one writes to a resource the other reads from or
+ * writes to. Resources can be any object which is compared by {@link Object#equals(Object)} -- the data the state modifies, a class, or a
+ * simple string name.
+ * <p>
+ * There are two special accesses:
+ * <ul>
+ *     <li>{@link #Exclusive} -- conflicts with every other access, so the state always runs on its own. This is the default.</li>
+ *     <li>{@link #Independent} -- conflicts with no other access, other than {@link #Exclusive}.</li>
+ * </ul>
+ *
+ * @author Andrew Dey
+ * @since 1.7.0
+ */
+public final class LoopStateAccess {
+
+    /** Access which conflicts with every other access. Game loop states with this access never run at the same time as another state. */
+    public static final LoopStateAccess Exclusive = new LoopStateAccess(Set.of(), Set.of(), true);
+
+    /** Access which reads and writes no shared resources, and only conflicts with {@link #Exclusive exclusive access}. */
+    public static final LoopStateAccess Independent = new LoopStateAccess(Set.of(), Set.of(), false);
+
+    private final Set<Object> reads;
+    private final Set<Object> writes;
+    private final boolean isExclusive;
+
+    private LoopStateAccess(Set<Object> reads, Set<Object> writes, boolean isExclusive) {
+        this.reads = reads;
+        this.writes = writes;
+        this.isExclusive = isExclusive;
+    }
+
+    /**
+     * {@return an access which reads from and writes to the given resources}
+     *
+     * @param reads  The resources read from.
+     * @param writes The resources written to.
+     */
+    public static LoopStateAccess of(Collection<?> reads, Collection<?> writes) {
+        return new LoopStateAccess(Set.copyOf(reads), Set.copyOf(writes), false);
+    }
+
+    /**
+     * {@return an access which only reads from the given resources}
+     *
+     * @param resources The resources read from.
+     */
+    public static LoopStateAccess reading(Object... resources) {
+        return of(Arrays.asList(resources), Set.of());
+    }
+
+    /**
+     * {@return an access which only writes to the given resources}
+     *
+     * @param resources The resources written to.
+     */
+    public static LoopStateAccess writing(Object... resources) {
+        return of(Set.of(), Arrays.asList(resources));
+    }
+
+    /**
+     * {@return a copy of this access, which also reads from the given resources}
+     *
+     * @param resources The additional resources read from.
+     */
+    public LoopStateAccess andReading(Object... resources) {
+        checkNotExclusive();
+        Set<Object> combinedReads = new HashSet<>(reads);
+        combinedReads.addAll(Arrays.asList(resources));
+        return of(combinedReads, writes);
+    }
+
+    /**
+     * {@return a copy of this access, which also writes to the given resources}
+     *
+     * @param resources The additional resources written to.
+     */
+    public LoopStateAccess andWriting(Object... resources) {
+        checkNotExclusive();
+        Set<Object> combinedWrites = new HashSet<>(writes);
+        combinedWrites.addAll(Arrays.asList(resources));
+        return of(reads, combinedWrites);
+    }
+
+    /** {@return the resources read from} */
+    public Set<Object> getReads() {
+        return reads;
+    }
+
+    /** {@return the resources written to} */
+    public Set<Object> getWrites() {
+        return writes;
+    }
+
+    /** {@return whether the access conflicts with every other access} */
+    public boolean isExclusive() {
+        return isExclusive;
+    }
+
+    /**
+     * {@return whether this access and the given access may not be used at the same time}
+     *
+     * @param other The access to check against.
+     */
+    public boolean conflictsWith(LoopStateAccess other) {
+        if (isExclusive || other.isExclusive) {
+            return true;
+        }
+
+        return containsAny(writes, other.reads) || containsAny(writes, other.writes) || containsAny(other.writes, reads);
+    }
+
+    private void checkNotExclusive() {
+        if (isExclusive) {
+            throw new IllegalStateException("Exclusive access cannot be combined with other resources.");
+        }
+    }
+
+    private static boolean containsAny(Set<Object> resources, Set<Object> otherResources) {
+        for (Object resource : resources) {
+            if (otherResources.contains(resource)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        if (isExclusive) {
+            return "LoopStateAccess{exclusive}";
+        }
+
+        return "LoopStateAccess{" +
+            "reads=" + reads +
+            ", writes=" + writes +
+            '}';
+    }
+}
@@ -1,61 +1,113 @@
 package tech.fastj.gameloop;
 
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
 /**
  * Timekeeping class, primarily used to track the time between the previous and current game frames.
  * <p>
  * This class is based on Antonio Hernández Bejarano's Timer class:
  * <a href="https://ahbejarano.gitbook.io/lwjglgamedev/">https://ahbejarano.gitbook.io/lwjglgamedev/</a>
  * <p>
- * Didn't make too many changes.
+ * Timestamps are kept as {@code long} {@link TimeUnit#NANOSECONDS nanoseconds} from a {@link LoopClock loop clock}, so they do not lose
+ * precision no matter how long the timer runs. The {@code float} and {@code double} methods measuring seconds are conversions of those
+ * values.
  *
  * @author Andrew Dey
  * @since 1.0.0
  */
 public class Timer {
 
-    private double lastTimestamp;
-    private float deltaTime;
+    private static final double NanosPerSecond = TimeUnit.SECONDS.toNanos(1L);
+
+    private final LoopClock clock;
+
+    private boolean hasTimestamp;
+    private long lastTimestamp;
+    private long deltaTime;
+
+    /** Constructs a timer based on the {@link LoopClock#SystemClock system clock}. */
+    public Timer() {
+        this(LoopClock.SystemClock);
+    }
+
+    /**
+     * Constructs a timer based on the given clock.
+     *
+     * @param clock The {@link LoopClock loop clock} to measure time with.
+     */
+    public Timer(LoopClock clock) {
+        this.clock = Objects.requireNonNull(clock);
+    }
 
     /** Initializes the Timer. */
     public void init() {
-        lastTimestamp = 0.0;
-        deltaTime = 0f;
+        hasTimestamp = false;
+        lastTimestamp = 0L;
+        deltaTime = 0L;
     }
 
     /**
-     * Gets the current time, in nanoseconds.
+     * Gets the current time, in seconds.
      *
-     * @return The current time (nanoseconds) as a double.
+     * @return The current time (seconds) as a double.
      */
     public double getCurrentTime() {
-        return System.nanoTime() / 1_000_000_000d;
+        return clock.nanoTime() / NanosPerSecond;
+    }
+
+    /** {@return the current time, in {@link TimeUnit#NANOSECONDS nanoseconds}} */
+    public long getCurrentTimeNanos() {
+        return clock.nanoTime();
     }
 
     /**
      * Re-evaluates the last frame time, then returns the time passed since the last time evaluation.
      *
-     * @return The time elapsed since the last time evaluation.
+     * @return The time elapsed since the last time evaluation, in seconds.
      */
     public float evalDeltaTime() {
-        double time = getCurrentTime();
-        deltaTime = (float) (lastTimestamp == 0 ? 0 : time - lastTimestamp);
+        return (float) (evalDeltaTimeNanos() / NanosPerSecond);
+    }
+
+    /**
+     * Re-evaluates the last frame time, then returns the time passed since the last time evaluation.
+     * <p>
+     * The first evaluation after {@link #init() initialization} returns {@code 0}.
+     *
+     * @return The time elapsed since the last time evaluation, in {@link TimeUnit#NANOSECONDS nanoseconds}.
+     */
+    public long evalDeltaTimeNanos() {
+        long time = clock.nanoTime();
+        deltaTime = hasTimestamp ? time - lastTimestamp : 0L;
         lastTimestamp = time;
+        hasTimestamp = true;
         return deltaTime;
     }
 
     /**
-     * @return The time elapsed from the second-to-last to the last time evaluation.
+     * @return The time elapsed from the second-to-last to the last time evaluation, in seconds.
      */
     public float getDeltaTime() {
+        return (float) (deltaTime / NanosPerSecond);
+    }
+
+    /** {@return the time elapsed from the second-to-last to the last time evaluation, in {@link TimeUnit#NANOSECONDS nanoseconds}} */
+    public long getDeltaTimeNanos() {
         return deltaTime;
     }
 
     /**
      * Gets the time of when a frame was last rendered.
      *
-     * @return The time when a frame was last rendered.
+     * @return The time when a frame was last rendered, in seconds.
      */
     public double getLastTimestamp() {
+        return lastTimestamp / NanosPerSecond;
+    }
+
+    /** {@return the time of when a frame was last rendered, in {@link TimeUnit#NANOSECONDS nanoseconds}} */
+    public long getLastTimestampNanos() {
         return lastTimestamp;
     }
 }
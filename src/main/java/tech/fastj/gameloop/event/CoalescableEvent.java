@@ -0,0 +1,36 @@
+package tech.fastj.gameloop.event;
+
+import tech.fastj.gameloop.CoreLoopState;
+import tech.fastj.gameloop.GameLoop;
+import tech.fastj.gameloop.GameLoopState;
+
+/**
+ * Interface for {@link Event events} that may be collapsed into a single event while waiting to be fired.
+ * <p>
+ * When a coalescable event is fired into a {@link GameLoop game loop}'s {@link GameLoop#fireEvent(Event, GameLoopState) game loop
+ * state} or {@link GameLoop#fireEvent(Event, CoreLoopState) core loop state} queue which already holds a waiting event with the same
+ * {@link #getCoalescingKey() coalescing key}, the two events are {@link #coalesce(Event) merged} into the newer event. That single event
+ * is fired in place of the first one, so observers only ever receive one event per key each time the queue is drained.
+ * <p>
+ * Coalescing keys are compared with {@link Object#equals(Object)}, and should be unique to the event class that uses them. Enum constants
+ * or static final objects make good keys, as they do not need to be allocated for each event.
+ *
+ * @param <T> The type of the coalescable event.
+ * @author Andrew Dey
+ * @since 1.7.0
+ */
+public interface CoalescableEvent<T extends Event> {
+
+    /** {@return the key of the event stream this event belongs to, or {@code null} if the event should not be coalesced} */
+    Object getCoalescingKey();
+
+    /**
+     * Merges the given older event into this event.
+     * <p>
+     * The older event is discarded after this method returns. By default, nothing is merged and only the latest event is kept.
+     *
+     * @param olderEvent The older waiting event with the same {@link #getCoalescingKey() coalescing key}.
+     */
+    default void coalesce(T olderEvent) {
+    }
+}
@@ -12,7 +12,7 @@ import java.util.concurrent.TimeUnit;
 public class Event {
 
     private boolean isConsumed;
-    private final long timestamp;
+    private long timestamp;
 
     /** Initializes event's {@link #isConsumed() consumption state} and {@link #getTimestamp() timestamp}. */
     public Event() {
@@ -40,4 +40,10 @@ public class Event {
     public long getTimestamp() {
         return timestamp;
     }
+
+    /** Resets the event's {@link #isConsumed() consumption state} and {@link #getTimestamp() timestamp}, for when it is reused. */
+    void renew() {
+        isConsumed = false;
+        timestamp = System.nanoTime();
+    }
 }
@@ -0,0 +1,159 @@
+package tech.fastj.gameloop.event;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Bounded pool of {@link RecyclableEvent recyclable events} of a single class.
+ * <p>
+ * While {@link EventPools#isPoolingEnabled() event pooling is enabled}, {@link #obtain() obtaining} an event takes one from the pool if
+ * possible, and only creates a new event if the pool is empty. Released events are kept for reuse as long as the pool is below its
+ * {@link #getCapacity() capacity}.
+ * <p>
+ * The pool keeps track of its {@link #getHitCount() hits}, {@link #getMissCount() misses}, and {@link #getDiscardCount() discards}, which
+ * can be used to tune its capacity.
+ *
+ * @param <T> The type of {@link RecyclableEvent recyclable event} in the pool.
+ * @author Andrew Dey
+ * @since 1.7.0
+ */
+public class EventPool<T extends RecyclableEvent> {
+
+    /** The default {@link #getCapacity() capacity} for event pools. */
+    public static final int DefaultCapacity = 64;
+
+    private final Supplier<T> eventFactory;
+    private RecyclableEvent[] pooledEvents;
+    private int pooledEventCount;
+
+    private long hitCount;
+    private long missCount;
+    private long discardCount;
+
+    /**
+     * Constructs an event pool with the given event factory and capacity.
+     *
+     * @param eventFactory The factory used to create new events when the pool is empty.
+     * @param capacity     The maximum amount of released events the pool will keep.
+     */
+    public EventPool(Supplier<T> eventFactory, int capacity) {
+        this.eventFactory = Objects.requireNonNull(eventFactory);
+        setCapacity(capacity);
+    }
+
+    /**
+     * Obtains an event from the pool, creating a new one if the pool is empty.
+     * <p>
+     * If {@link EventPools#isPoolingEnabled() event pooling is disabled}, this always creates a new event which is not
+     * {@link RecyclableEvent#isPooled() pooled}.
+     *
+     * @return The obtained event.
+     */
+    @SuppressWarnings("unchecked")
+    public T obtain() {
+        if (!EventPools.isPoolingEnabled()) {
+            T event = eventFactory.get();
+            event.obtained(null);
+            return event;
+        }
+
+        T event = null;
+        synchronized (this) {
+            if (pooledEventCount > 0) {
+                event = (T) pooledEvents[--pooledEventCount];
+                pooledEvents[pooledEventCount] = null;
+                hitCount++;
+            } else {
+                missCount++;
+            }
+        }
+
+        if (event == null) {
+            event = eventFactory.get();
+        }
+
+        event.obtained(this);
+        return event;
+    }
+
+    /**
+     * Returns the given event to the pool, if the pool has room for it.
+     *
+     * @param event The released event.
+     */
+    synchronized void release(RecyclableEvent event) {
+        if (pooledEventCount < pooledEvents.length) {
+            pooledEvents[pooledEventCount++] = event;
+        } else {
+            discardCount++;
+        }
+    }
+
+    /** {@return the maximum amount of released events the pool will keep} */
+    public synchronized int getCapacity() {
+        return pooledEvents.length;
+    }
+
+    /**
+     * Sets the maximum amount of released events the pool will keep.
+     * <p>
+     * If the pool currently holds more events than the new capacity, the excess events are dropped.
+     *
+     * @param capacity The new capacity.
+     */
+    public synchronized void setCapacity(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Event pool capacity must be at least 0.");
+        }
+
+        RecyclableEvent[] newPooledEvents = new RecyclableEvent[capacity];
+        pooledEventCount = Math.min(pooledEventCount, capacity);
+        if (pooledEvents != null) {
+            System.arraycopy(pooledEvents, 0, newPooledEvents, 0, pooledEventCount);
+        }
+        pooledEvents = newPooledEvents;
+    }
+
+    /** {@return the amount of released events currently available in the pool} */
+    public synchronized int getSize() {
+        return pooledEventCount;
+    }
+
+    /** {@return the amount of times an event was obtained from the pool, rather than created} */
+    public synchronized long getHitCount() {
+        return hitCount;
+    }
+
+    /** {@return the amount of times a new event had to be created, because the pool was empty} */
+    public synchronized long getMissCount() {
+        return missCount;
+    }
+
+    /** {@return the amount of released events dropped, because the pool was already full} */
+    public synchronized long getDiscardCount() {
+        return discardCount;
+    }
+
+    /** Removes all events from the pool, and resets its hit, miss, and discard counts. */
+    public synchronized void clear() {
+        for (int i = 0; i < pooledEventCount; i++) {
+            pooledEvents[i] = null;
+        }
+        pooledEventCount = 0;
+
+        hitCount = 0L;
+        missCount = 0L;
+        discardCount = 0L;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "EventPool{" +
+            "capacity=" + pooledEvents.length +
+            ", size=" + pooledEventCount +
+            ", hitCount=" + hitCount +
+            ", missCount=" + missCount +
+            ", discardCount=" + discardCount +
+            '}';
+    }
+}
@@ -0,0 +1,95 @@
+package tech.fastj.gameloop.event;
+
+import tech.fastj.gameloop.GameLoop;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Registry of {@link EventPool event pools}, and the switch for FastJ's opt-in event pooling mode.
+ * <p>
+ * Event pooling is disabled by default. When {@link #setPoolingEnabled(boolean) enabled}, FastJ's high-frequency events (such as sprite
+ * animation steps, and keyboard and mouse state changes) are taken from their pools instead of being created anew, and are returned to
+ * their pools once the {@link GameLoop game loop} has finished firing them.
+ * <p>
+ * Refer to {@link RecyclableEvent} for the restrictions this places on event observers.
+ *
+ * @author Andrew Dey
+ * @since 1.7.0
+ */
+public class EventPools {
+
+    private static final Map<Class<? extends RecyclableEvent>, EventPool<?>> Pools = new ConcurrentHashMap<>();
+    private static volatile boolean isPoolingEnabled;
+
+    private EventPools() {
+        throw new java.lang.IllegalStateException();
+    }
+
+    /** {@return whether event pooling is enabled} */
+    public static boolean isPoolingEnabled() {
+        return isPoolingEnabled;
+    }
+
+    /**
+     * Sets whether event pooling is enabled.
+     * <p>
+     * Disabling event pooling {@link EventPool#clear() clears} all registered event pools.
+     *
+     * @param poolingEnabled Whether event pooling should be enabled.
+     */
+    public static void setPoolingEnabled(boolean poolingEnabled) {
+        isPoolingEnabled = poolingEnabled;
+
+        if (!poolingEnabled) {
+            for (EventPool<?> eventPool : Pools.values()) {
+                eventPool.clear();
+            }
+        }
+    }
+
+    /**
+     * Creates and registers an event pool with the {@link EventPool#DefaultCapacity default capacity} for the given event class.
+     *
+     * @param eventClass   The class of event the pool holds.
+     * @param eventFactory The factory used to create new events when the pool is empty.
+     * @param <T>          The type of {@link RecyclableEvent recyclable event} in the pool.
+     * @return The registered event pool.
+     */
+    public static <T extends RecyclableEvent> EventPool<T> register(Class<? extends RecyclableEvent> eventClass, Supplier<T> eventFactory) {
+        return register(eventClass, eventFactory, EventPool.DefaultCapacity);
+    }
+
+    /**
+     * Creates and registers an event pool for the given event class.
+     *
+     * @param eventClass   The class of event the pool holds.
+     * @param eventFactory The factory used to create new events when the pool is empty.
+     * @param capacity     The maximum amount of released events the pool will keep.
+     * @param <T>          The type of {@link RecyclableEvent recyclable event} in the pool.
+     * @return The registered event pool.
+     */
+    public static <T extends RecyclableEvent> EventPool<T> register(Class<? extends RecyclableEvent> eventClass, Supplier<T> eventFactory, int capacity) {
+        EventPool<T> eventPool = new EventPool<>(eventFactory, capacity);
+        Pools.put(eventClass, eventPool);
+        return eventPool;
+    }
+
+    /**
+     * {@return the event pool registered for the given event class, or {@code null} if there is none}
+     *
+     * @param eventClass The class of event to get the pool for.
+     * @param <T>        The type of {@link RecyclableEvent recyclable event} in the pool.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends RecyclableEvent> EventPool<T> get(Class<? extends RecyclableEvent> eventClass) {
+        return (EventPool<T>) Pools.get(eventClass);
+    }
+
+    /** {@return all registered event pools, mapped by the class of event they hold} */
+    public static Map<Class<? extends RecyclableEvent>, EventPool<?>> getPools() {
+        return Collections.unmodifiableMap(Pools);
+    }
+}
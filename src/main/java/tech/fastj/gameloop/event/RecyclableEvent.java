@@ -0,0 +1,71 @@
+package tech.fastj.gameloop.event;
+
+import tech.fastj.gameloop.GameLoop;
+
+/**
+ * {@link Event} which can be reused through an {@link EventPool event pool}, rather than created anew every time it is fired.
+ * <p>
+ * Recyclable events are only pooled when {@link EventPools#setPoolingEnabled(boolean) event pooling is enabled}. Once the
+ * {@link GameLoop game loop} has finished firing a pooled event, the event is {@link #release() released} back to its pool, and may be
+ * handed out again with different contents.
+ * <p>
+ * <b>When event pooling is enabled, event observers and handlers must not keep references to pooled events after they have received
+ * them.</b> If you need an event's data later on, copy it out instead.
+ *
+ * @author Andrew Dey
+ * @since 1.7.0
+ */
+public abstract class RecyclableEvent extends Event {
+
+    private EventPool<?> eventPool;
+    private boolean isReleased;
+
+    /** Empty default constructor. */
+    protected RecyclableEvent() {
+    }
+
+    /** {@return whether the event was obtained from an {@link EventPool event pool}, and will be returned to it once released} */
+    public boolean isPooled() {
+        return eventPool != null;
+    }
+
+    /** {@return whether the event has been released back to its {@link EventPool event pool}} */
+    public boolean isReleased() {
+        return isReleased;
+    }
+
+    /**
+     * Releases the event back to the {@link EventPool event pool} it was obtained from.
+     * <p>
+     * The {@link GameLoop game loop} calls this for you once it has finished firing the event, so you do not usually need to call this
+     * yourself. If the event is not {@link #isPooled() pooled}, or it has already been released, this method does nothing.
+     */
+    public void release() {
+        if (eventPool == null || isReleased) {
+            return;
+        }
+
+        isReleased = true;
+        reset();
+        eventPool.release(this);
+    }
+
+    /**
+     * Clears the event's contents once it has been {@link #release() released}.
+     * <p>
+     * Implementations should drop any references the event holds, so that pooled events do not keep other objects alive.
+     */
+    protected void reset() {
+    }
+
+    /**
+     * Prepares the event for use after being obtained from the given event pool.
+     *
+     * @param eventPool The event pool the event was obtained from, or {@code null} if the event was not pooled.
+     */
+    void obtained(EventPool<?> eventPool) {
+        this.eventPool = eventPool;
+        isReleased = false;
+        renew();
+    }
+}
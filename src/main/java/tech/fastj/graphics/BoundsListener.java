@@ -0,0 +1,23 @@
+package tech.fastj.graphics;
+
+/**
+ * Listener which is notified whenever the bounds of a {@link Drawable drawable} may have changed.
+ * <p>
+ * A drawable notifies its bounds listeners when its bounds first go out of date -- after being translated, rotated, or scaled, or after
+ * its collision path is replaced. Since drawables only recompute their bounds when they are next read, further changes before then do not
+ * notify the listeners again, and listeners should wait until they need the new bounds to read them. Bounds listeners are called on the
+ * thread which changed the drawable.
+ *
+ * @author Andrew Dey
+ * @since 1.7.0
+ */
+@FunctionalInterface
+public interface BoundsListener {
+
+    /**
+     * Called after the bounds of the given drawable go out of date.
+     *
+     * @param drawable The drawable whose bounds may have changed.
+     */
+    void boundsChanged(Drawable drawable);
+}
@@ -0,0 +1,21 @@
+package tech.fastj.graphics;
+
+/**
+ * Listener which is notified whenever the {@link Drawable#getDrawLayer() draw layer} or {@link Drawable#getZIndex() z-index} of a
+ * {@link Drawable drawable} changes.
+ * <p>
+ * Draw order listeners are called on the thread which changed the drawable, after the new draw layer and z-index are set.
+ *
+ * @author Andrew Dey
+ * @since 1.7.0
+ */
+@FunctionalInterface
+public interface DrawOrderListener {
+
+    /**
+     * Called after the draw layer or z-index of the given drawable changes.
+     *
+     * @param drawable The drawable whose draw order changed.
+     */
+    void drawOrderChanged(Drawable drawable);
+}
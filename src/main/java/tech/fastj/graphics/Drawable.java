@@ -3,14 +3,16 @@ package tech.fastj.graphics;
 import tech.fastj.graphics.util.DrawUtil;
 import tech.fastj.math.Pointf;
 import tech.fastj.math.Transform2D;
+import tech.fastj.systems.collision.CollisionSystem;
 import tech.fastj.systems.control.GameHandler;
 import tech.fastj.systems.tags.TaggableEntity;
 
 import java.awt.geom.AffineTransform;
-import java.awt.geom.Area;
 import java.awt.geom.Path2D;
 import java.awt.geom.Rectangle2D;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -26,18 +28,52 @@ public abstract class Drawable extends TaggableEntity {
     /** {@code boolean} representing the default value for if a {@code Drawable} should be rendered as {@code true}. */
     public static final boolean DefaultShouldRender = true;
 
+    /**
+     * The default draw layer of a {@code Drawable}, of {@code 0}.
+     *
+     * @since 1.7.0
+     */
+    public static final int DefaultDrawLayer = 0;
+
+    /**
+     * The default z-index of a {@code Drawable}, of {@code 0}.
+     *
+     * @since 1.7.0
+     */
+    public static final int DefaultZIndex = 0;
+
+    private static final TransformedBounds NoBounds = new TransformedBounds(null, 0f, 0f, 0f, 0f, 0f, 0f);
+
     private final UUID rawID;
     private final String id;
 
     /** The non-transformed path defining where the Drawable collides. */
     protected Path2D.Float collisionPath;
-    /** The path defining where the Drawable collides, with its transformation applied. */
+    /**
+     * The path defining where the Drawable collides, with its transformation applied.
+     * <p>
+     * This is only brought up to date when it is next needed after the Drawable is transformed, so read it through
+     * {@link #getCollisionPath()}.
+     */
     protected Path2D.Float transformedCollisionPath;
     /** The transformation of the Drawable. */
     protected final Transform2D transform;
     private boolean shouldRender;
+    private int drawLayer;
+    private int zIndex;
     private Pointf initialCenter;
     private boolean isDestroyed;
+    private AffineTransform renderTransformation;
+    private Path2D.Float renderPath;
+    private Object renderState;
+    private volatile int contentVersion;
+
+    private volatile boolean isTransformChanged;
+    private volatile TransformedBounds transformedBounds;
+    private Rectangle2D sharedPathBounds;
+
+    private final List<BoundsListener> boundsListeners;
+    private final List<DrawOrderListener> drawOrderListeners;
 
     /** Constructs a {@code Drawable}, initializing its internal variables. */
     protected Drawable() {
@@ -46,6 +82,11 @@ public abstract class Drawable extends TaggableEntity {
 
         transform = new Transform2D();
         shouldRender = DefaultShouldRender;
+        drawLayer = DefaultDrawLayer;
+        zIndex = DefaultZIndex;
+        transformedBounds = NoBounds;
+        boundsListeners = new ArrayList<>(1);
+        drawOrderListeners = new ArrayList<>(1);
     }
 
     /**
@@ -63,7 +104,18 @@ public abstract class Drawable extends TaggableEntity {
      * @return The collision path of the {@code Drawable}, as a {@code Path2D.Float}.
      */
     public Path2D.Float getCollisionPath() {
-        return transformedCollisionPath;
+        updateTransformedCollisionPath();
+        Path2D.Float currentTransformedCollisionPath = transformedCollisionPath;
+        if (currentTransformedCollisionPath != null || sharedPathBounds == null) {
+            return currentTransformedCollisionPath;
+        }
+
+        synchronized (this) {
+            if (transformedCollisionPath == null && collisionPath != null) {
+                transformedCollisionPath = (Path2D.Float) collisionPath.createTransformedShape(transformedBounds.transformation());
+            }
+            return transformedCollisionPath;
+        }
     }
 
     /**
@@ -73,7 +125,28 @@ public abstract class Drawable extends TaggableEntity {
      */
     protected void setCollisionPath(Path2D.Float path) {
         collisionPath = path;
-        updateTransformedCollisionPath();
+        sharedPathBounds = null;
+        transformChanged();
+
+        initialCenter = getCenter();
+    }
+
+    /**
+     * Sets the collision path to the specified path, which is shared with other {@code Drawable}s and must not be modified.
+     * <p>
+     * Rather than transforming the path each time the {@code Drawable} is transformed, the axis-aligned bounds of the {@code Drawable}
+     * are found by transforming the given bounds of the path. The transformed collision path is only created once it is
+     * {@link #getCollisionPath() needed}, such as when checking for collisions. Bounds found this way can be larger than the bounds of
+     * the transformed path itself, when the {@code Drawable} is rotated.
+     *
+     * @param path       The shared path that the collision path will be set to.
+     * @param pathBounds The bounds of the shared path, before it is transformed.
+     * @since 1.7.0
+     */
+    protected void setSharedCollisionPath(Path2D.Float path, Rectangle2D pathBounds) {
+        collisionPath = path;
+        sharedPathBounds = pathBounds;
+        transformChanged();
 
         initialCenter = getCenter();
     }
@@ -106,13 +179,85 @@ public abstract class Drawable extends TaggableEntity {
      * @return The {@code Pointf} array that contains the bounds of the {@code Drawable}.
      */
     public Pointf[] getBounds() {
-        Rectangle2D transformedCollisionBounds = transformedCollisionPath.getBounds2D();
-        return DrawUtil.createBox(new Rectangle2D.Float(
-            (float) transformedCollisionBounds.getX(),
-            (float) transformedCollisionBounds.getY(),
-            (float) transformedCollisionBounds.getWidth(),
-            (float) transformedCollisionBounds.getHeight()
-        ));
+        TransformedBounds bounds = currentBounds();
+        return DrawUtil.createBox(bounds.minX(), bounds.minY(), bounds.maxX() - bounds.minX(), bounds.maxY() - bounds.minY());
+    }
+
+    /**
+     * {@return the smallest x value of the {@code Drawable}'s axis-aligned bounds}
+     * <p>
+     * Unlike {@link #getBounds()}, the axis-aligned bounds are cached until the {@code Drawable} is next transformed, so reading them does
+     * not allocate.
+     *
+     * @since 1.7.0
+     */
+    public float getMinX() {
+        return currentBounds().minX();
+    }
+
+    /**
+     * {@return the smallest y value of the {@code Drawable}'s axis-aligned bounds}
+     *
+     * @since 1.7.0
+     */
+    public float getMinY() {
+        return currentBounds().minY();
+    }
+
+    /**
+     * {@return the largest x value of the {@code Drawable}'s axis-aligned bounds}
+     *
+     * @since 1.7.0
+     */
+    public float getMaxX() {
+        return currentBounds().maxX();
+    }
+
+    /**
+     * {@return the largest y value of the {@code Drawable}'s axis-aligned bounds}
+     *
+     * @since 1.7.0
+     */
+    public float getMaxY() {
+        return currentBounds().maxY();
+    }
+
+    /**
+     * {@return the x value of the center of the {@code Drawable}'s axis-aligned bounds}
+     *
+     * @since 1.7.0
+     */
+    public float getCenterX() {
+        return currentBounds().centerX();
+    }
+
+    /**
+     * {@return the y value of the center of the {@code Drawable}'s axis-aligned bounds}
+     *
+     * @since 1.7.0
+     */
+    public float getCenterY() {
+        return currentBounds().centerY();
+    }
+
+    /**
+     * Adds a listener which is notified whenever the bounds of the {@code Drawable} may have changed.
+     *
+     * @param boundsListener The listener to add.
+     * @since 1.7.0
+     */
+    public void addBoundsListener(BoundsListener boundsListener) {
+        boundsListeners.add(boundsListener);
+    }
+
+    /**
+     * Removes a listener added with {@link #addBoundsListener(BoundsListener)}.
+     *
+     * @param boundsListener The listener to remove.
+     * @since 1.7.0
+     */
+    public void removeBoundsListener(BoundsListener boundsListener) {
+        boundsListeners.remove(boundsListener);
     }
 
     /**
@@ -132,8 +277,8 @@ public abstract class Drawable extends TaggableEntity {
      * @since 1.6.0
      */
     public float width() {
-        Pointf[] bounds = getBounds();
-        return Pointf.subtract(bounds[Boundary.TopRight.location], bounds[Boundary.TopLeft.location]).x;
+        TransformedBounds bounds = currentBounds();
+        return bounds.maxX() - bounds.minX();
     }
 
     /**
@@ -143,8 +288,8 @@ public abstract class Drawable extends TaggableEntity {
      * @since 1.6.0
      */
     public float height() {
-        Pointf[] bounds = getBounds();
-        return Pointf.subtract(bounds[Boundary.BottomRight.location], bounds[Boundary.TopRight.location]).y;
+        TransformedBounds bounds = currentBounds();
+        return bounds.maxY() - bounds.minY();
     }
 
     /**
@@ -153,7 +298,8 @@ public abstract class Drawable extends TaggableEntity {
      * @return The center point, as a {@code Pointf}.
      */
     public Pointf getCenter() {
-        return DrawUtil.centerOf(getBounds());
+        TransformedBounds bounds = currentBounds();
+        return new Pointf(bounds.centerX(), bounds.centerY());
     }
 
     /**
@@ -176,6 +322,110 @@ public abstract class Drawable extends TaggableEntity {
         return this;
     }
 
+    /**
+     * {@return whether the {@code Drawable} can be rendered by several threads at once}
+     * <p>
+     * An {@link tech.fastj.graphics.display.OffscreenRenderTarget offscreen render target} split into tiles renders each tile on its own
+     * thread, so a drawable overlapping several tiles is rendered by several threads at the same time. That is only safe for drawables
+     * whose rendering reads their state without changing it. A frame with any other drawable on screen is rendered without tiles.
+     * <p>
+     * This is {@code false} unless overridden. Drawables which cache anything while rendering -- text metrics, rasterized images, and so
+     * on -- must not return {@code true}.
+     *
+     * @since 1.7.0
+     */
+    public boolean isConcurrentlyRenderable() {
+        return false;
+    }
+
+    /**
+     * {@return the draw layer of the {@code Drawable}}
+     * <p>
+     * Drawables are drawn in order of their draw layer, then their {@link #getZIndex() z-index}, and then the order they were added in --
+     * drawables in higher layers are drawn in front of those in lower layers.
+     *
+     * @since 1.7.0
+     */
+    public int getDrawLayer() {
+        return drawLayer;
+    }
+
+    /**
+     * Sets the draw layer of the {@code Drawable}, notifying its draw order listeners if it changed.
+     *
+     * @param drawLayer The new draw layer.
+     * @return The {@code Drawable}, for method chaining.
+     * @since 1.7.0
+     */
+    public Drawable setDrawLayer(int drawLayer) {
+        return setDrawOrder(drawLayer, zIndex);
+    }
+
+    /**
+     * {@return the z-index of the {@code Drawable}, which orders it among the drawables of its {@link #getDrawLayer() draw layer}}
+     * <p>
+     * Within a draw layer, drawables with a higher z-index are drawn in front of those with a lower z-index.
+     *
+     * @since 1.7.0
+     */
+    public int getZIndex() {
+        return zIndex;
+    }
+
+    /**
+     * Sets the z-index of the {@code Drawable}, notifying its draw order listeners if it changed.
+     * <p>
+     * For depth sorting -- like in isometric games -- the z-index can be set from the position of the {@code Drawable} each time it moves.
+     *
+     * @param zIndex The new z-index.
+     * @return The {@code Drawable}, for method chaining.
+     * @since 1.7.0
+     */
+    public Drawable setZIndex(int zIndex) {
+        return setDrawOrder(drawLayer, zIndex);
+    }
+
+    /**
+     * Sets both the draw layer and z-index of the {@code Drawable}, notifying its draw order listeners once if either changed.
+     *
+     * @param drawLayer The new draw layer.
+     * @param zIndex    The new z-index.
+     * @return The {@code Drawable}, for method chaining.
+     * @since 1.7.0
+     */
+    public Drawable setDrawOrder(int drawLayer, int zIndex) {
+        if (this.drawLayer == drawLayer && this.zIndex == zIndex) {
+            return this;
+        }
+
+        this.drawLayer = drawLayer;
+        this.zIndex = zIndex;
+        for (int i = 0; i < drawOrderListeners.size(); i++) {
+            drawOrderListeners.get(i).drawOrderChanged(this);
+        }
+        return this;
+    }
+
+    /**
+     * Adds a listener which is notified whenever the draw layer or z-index of the {@code Drawable} changes.
+     *
+     * @param drawOrderListener The listener to add.
+     * @since 1.7.0
+     */
+    public void addDrawOrderListener(DrawOrderListener drawOrderListener) {
+        drawOrderListeners.add(drawOrderListener);
+    }
+
+    /**
+     * Removes a listener added with {@link #addDrawOrderListener(DrawOrderListener)}.
+     *
+     * @param drawOrderListener The listener to remove.
+     * @since 1.7.0
+     */
+    public void removeDrawOrderListener(DrawOrderListener drawOrderListener) {
+        drawOrderListeners.remove(drawOrderListener);
+    }
+
     /**
      * Gets whether the drawable is destroyed.
      *
@@ -192,11 +442,7 @@ public abstract class Drawable extends TaggableEntity {
      * @return Boolean value that states whether the two {@code Drawable}s intersect.
      */
     public boolean collidesWith(Drawable drawable) {
-        Area thisObject = new Area(transformedCollisionPath);
-        Area otherObject = new Area(drawable.transformedCollisionPath);
-
-        otherObject.intersect(thisObject);
-        return !otherObject.isEmpty();
+        return CollisionSystem.collides(this, drawable);
     }
 
     /**
@@ -220,7 +466,7 @@ public abstract class Drawable extends TaggableEntity {
         }
 
         transform.setTranslation(setTranslation);
-        updateTransformedCollisionPath();
+        transformChanged();
         return this;
     }
 
@@ -245,7 +491,7 @@ public abstract class Drawable extends TaggableEntity {
         }
 
         transform.setRotation(setRotation);
-        updateTransformedCollisionPath();
+        transformChanged();
         return this;
     }
 
@@ -270,7 +516,7 @@ public abstract class Drawable extends TaggableEntity {
         }
 
         transform.setScale(setScale);
-        updateTransformedCollisionPath();
+        transformChanged();
         return this;
     }
 
@@ -300,7 +546,7 @@ public abstract class Drawable extends TaggableEntity {
         }
 
         transform.translate(translationMod);
-        updateTransformedCollisionPath();
+        transformChanged();
     }
 
     /**
@@ -315,7 +561,7 @@ public abstract class Drawable extends TaggableEntity {
         }
 
         transform.rotate(rotationMod, centerpoint);
-        updateTransformedCollisionPath();
+        transformChanged();
     }
 
     /**
@@ -330,7 +576,7 @@ public abstract class Drawable extends TaggableEntity {
         }
 
         transform.scale(scaleMod, centerpoint);
-        updateTransformedCollisionPath();
+        transformChanged();
     }
 
     /**
@@ -344,11 +590,130 @@ public abstract class Drawable extends TaggableEntity {
 
     /**
      * Gets the entire transformation of the {@code Drawable}.
+     * <p>
+     * If the {@code Drawable} has no collision path -- before its path is set, or after it is {@link #destroy(GameHandler) destroyed}
+     * -- this is its transform's {@link Transform2D#getAffineTransform() affine transform}.
      *
      * @return The transformation, as an {@link AffineTransform}.
      */
     public AffineTransform getTransformation() {
-        return transform.getAffineTransform();
+        AffineTransform currentTransformation = currentTransformation();
+        return currentTransformation == null ? transform.getAffineTransform() : new AffineTransform(currentTransformation);
+    }
+
+    /**
+     * Gets the transformation to render the {@code Drawable} with.
+     * <p>
+     * This is the {@link #getTransformation() transformation} of the {@code Drawable}, unless it is being rendered from a
+     * {@link RenderSnapshot render snapshot} -- in that case, it is the transformation captured by the snapshot, interpolated between
+     * fixed updates. Implementations of {@code render} should transform by this, rather than by {@link #getTransformation()}.
+     * <p>
+     * The returned transformation is not a copy, and must not be modified.
+     *
+     * @return The transformation to render with, as an {@link AffineTransform}.
+     */
+    protected AffineTransform getRenderTransformation() {
+        AffineTransform snapshotTransformation = renderTransformation;
+        if (snapshotTransformation != null) {
+            return snapshotTransformation;
+        }
+
+        AffineTransform currentTransformation = currentTransformation();
+        return currentTransformation == null ? transform.getAffineTransform() : currentTransformation;
+    }
+
+    /** {@return the cached transformation of the {@code Drawable}, or {@code null} if it has no collision path to cache it with} */
+    private AffineTransform currentTransformation() {
+        TransformedBounds bounds = currentBounds();
+        return collisionPath == null ? null : bounds.transformation();
+    }
+
+    /** {@return the cached bounds and transformation of the {@code Drawable}, brought up to date if they are out of date} */
+    private TransformedBounds currentBounds() {
+        updateTransformedCollisionPath();
+        return transformedBounds;
+    }
+
+    /**
+     * Gets the untransformed path to render the {@code Drawable} with.
+     * <p>
+     * This is the {@link #collisionPath collision path} of the {@code Drawable}, unless it is being rendered from a
+     * {@link RenderSnapshot render snapshot} -- in that case, it is the path captured by the snapshot, which stays the same even if the
+     * {@code Drawable} is changed or {@link #destroy(GameHandler) destroyed} on another thread while it is rendered. Implementations of
+     * {@code render} should draw this, rather than the collision path, and draw nothing if it is {@code null}.
+     *
+     * @return The path to render with, or {@code null} if the {@code Drawable} has none.
+     * @since 1.7.0
+     */
+    protected Path2D.Float getRenderPath() {
+        return renderTransformation != null ? renderPath : collisionPath;
+    }
+
+    /**
+     * Captures whatever else the {@code Drawable} reads while rendering, besides its transformation and path, for a
+     * {@link RenderSnapshot render snapshot}.
+     * <p>
+     * A snapshot is captured on the thread which runs the game's logic, and rendered on another. Anything a {@code Drawable} reads while
+     * rendering which the logic thread may change in the meantime -- its paint, its text, its current frame, and so on -- should be
+     * captured here, and read back through {@link #getCapturedRenderState()} while rendering. The returned object must not be changed
+     * afterwards.
+     * <p>
+     * By default, nothing is captured.
+     *
+     * @return The captured render state, or {@code null} if there is none.
+     * @since 1.7.0
+     */
+    protected Object captureRenderState() {
+        return null;
+    }
+
+    /**
+     * Gets the render state {@link #captureRenderState() captured} by the {@link RenderSnapshot render snapshot} the {@code Drawable} is
+     * being rendered from.
+     *
+     * @return The captured render state, or {@code null} if the {@code Drawable} is not being rendered from a snapshot, or captured
+     *         nothing.
+     * @since 1.7.0
+     */
+    protected Object getCapturedRenderState() {
+        return renderTransformation != null ? renderState : null;
+    }
+
+    /**
+     * Gets a value which changes each time the {@code Drawable}'s appearance changes in a way its bounds do not show -- a new paint, a
+     * new text, the next frame of an animation, and so on.
+     * <p>
+     * Dirty region rendering redraws a {@code Drawable} whose content version changed since the last frame, even if its bounds did not.
+     *
+     * @return The {@code Drawable}'s content version.
+     * @since 1.7.0
+     */
+    public int getContentVersion() {
+        return contentVersion;
+    }
+
+    /**
+     * Changes the {@link #getContentVersion() content version} of the {@code Drawable}. Implementations should call this whenever they
+     * change how they are rendered, other than through their transformation or collision path.
+     *
+     * @since 1.7.0
+     */
+    protected void contentChanged() {
+        contentVersion++;
+    }
+
+    /**
+     * Sets the transformation, path, and render state a {@link RenderSnapshot render snapshot} renders the {@code Drawable} with.
+     *
+     * @param renderTransformation The transformation to render with, or {@code null} to render with the drawable's own transformation,
+     *                             path, and state.
+     * @param renderPath           The untransformed path to render with.
+     * @param renderState          The {@link #captureRenderState() captured render state} to render with.
+     */
+    void setRenderState(AffineTransform renderTransformation, Path2D.Float renderPath, Object renderState) {
+        this.renderPath = renderPath;
+        this.renderState = renderState;
+        this.renderTransformation = renderTransformation;
     }
 
     /**
@@ -441,8 +806,78 @@ public abstract class Drawable extends TaggableEntity {
         isDestroyed = true;
     }
 
+    /**
+     * Marks the transformed collision path, bounds, and transformation of the {@code Drawable} as out of date, notifying its bounds
+     * listeners if they were up to date until now.
+     */
+    private void transformChanged() {
+        if (isTransformChanged) {
+            return;
+        }
+
+        isTransformChanged = true;
+        for (int i = 0; i < boundsListeners.size(); i++) {
+            boundsListeners.get(i).boundsChanged(this);
+        }
+    }
+
+    /**
+     * Brings the transformed collision path, bounds, and transformation of the {@code Drawable} up to date, if they are out of date.
+     * <p>
+     * The flag is cleared first, so a transform made while updating is not lost. The bounds and transformation are then published
+     * together as one object, so readers which skip the lock see either the old ones or the new ones, never a mix of both.
+     */
     private void updateTransformedCollisionPath() {
-        transformedCollisionPath = (Path2D.Float) collisionPath.createTransformedShape(transform.getAffineTransform());
+        if (!isTransformChanged) {
+            return;
+        }
+
+        synchronized (this) {
+            if (!isTransformChanged || collisionPath == null) {
+                return;
+            }
+            isTransformChanged = false;
+
+            AffineTransform updatedTransformation = transform.getAffineTransform();
+
+            if (sharedPathBounds != null) {
+                transformedCollisionPath = null;
+                transformedBounds = findSharedPathBounds(updatedTransformation);
+            } else {
+                transformedCollisionPath = (Path2D.Float) collisionPath.createTransformedShape(updatedTransformation);
+                Rectangle2D transformedCollisionBounds = transformedCollisionPath.getBounds2D();
+                float minX = (float) transformedCollisionBounds.getX();
+                float minY = (float) transformedCollisionBounds.getY();
+                float maxX = minX + (float) transformedCollisionBounds.getWidth();
+                float maxY = minY + (float) transformedCollisionBounds.getHeight();
+                transformedBounds = TransformedBounds.of(updatedTransformation, minX, minY, maxX, maxY);
+            }
+        }
+    }
+
+    /** Finds the axis-aligned bounds of the shared path's bounds under the given transformation, without transforming the path. */
+    private TransformedBounds findSharedPathBounds(AffineTransform updatedTransformation) {
+        double halfWidth = sharedPathBounds.getWidth() / 2d;
+        double halfHeight = sharedPathBounds.getHeight() / 2d;
+        double localCenterX = sharedPathBounds.getX() + halfWidth;
+        double localCenterY = sharedPathBounds.getY() + halfHeight;
+
+        double m00 = updatedTransformation.getScaleX();
+        double m01 = updatedTransformation.getShearX();
+        double m10 = updatedTransformation.getShearY();
+        double m11 = updatedTransformation.getScaleY();
+        double transformedCenterX = m00 * localCenterX + m01 * localCenterY + updatedTransformation.getTranslateX();
+        double transformedCenterY = m10 * localCenterX + m11 * localCenterY + updatedTransformation.getTranslateY();
+        double extentX = Math.abs(m00) * halfWidth + Math.abs(m01) * halfHeight;
+        double extentY = Math.abs(m10) * halfWidth + Math.abs(m11) * halfHeight;
+
+        return TransformedBounds.of(
+            updatedTransformation,
+            (float) (transformedCenterX - extentX),
+            (float) (transformedCenterY - extentY),
+            (float) (transformedCenterX + extentX),
+            (float) (transformedCenterY + extentY)
+        );
     }
 
     @Override
@@ -455,4 +890,14 @@ public abstract class Drawable extends TaggableEntity {
             ", boundaries=" + Arrays.toString(getBounds()) +
             '}';
     }
+
+    /** The cached transformation of a {@code Drawable}, and the axis-aligned bounds of its collision path under it. */
+    private record TransformedBounds(AffineTransform transformation, float minX, float minY, float maxX, float maxY, float centerX,
+                                     float centerY) {
+        private static TransformedBounds of(AffineTransform transformation, float minX, float minY, float maxX, float maxY) {
+            float centerX = (minX + maxX + maxX + minX) / 4f;
+            float centerY = (minY + minY + maxY + maxY) / 4f;
+            return new TransformedBounds(transformation, minX, minY, maxX, maxY, centerX, centerY);
+        }
+    }
 }
@@ -0,0 +1,170 @@
+package tech.fastj.graphics;
+
+import tech.fastj.graphics.game.GameObject;
+
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.Paint;
+import java.awt.Stroke;
+import java.awt.geom.AffineTransform;
+
+/**
+ * Tracks the state of a {@link Graphics2D} object across the rendering of many {@link GameObject game objects}, so that state shared
+ * between them is only set once.
+ * <p>
+ * Outside of a render batch, each game object saves the transform, paint, stroke, and font of the {@code Graphics2D} object before
+ * rendering, and restores them afterwards -- for a scene of many same-colored polygons, this sets the same paint back and forth for each
+ * one, and each change makes Java2D validate its rendering pipeline again. Inside a render batch, game objects
+ * {@link GameObject#render(Graphics2D, RenderBatch) render} through the batch instead:
+ * <ul>
+ *     <li>
+ *         The paint, stroke, and font are only set on the {@code Graphics2D} object when they differ from what the last game object set.
+ *     </li>
+ *     <li>
+ *         The transform of each game object is applied on top of the transform the batch {@link #begin(Graphics2D) began} with, which is
+ *         kept in a single reusable matrix -- there is no need to copy and restore the transform for each game object.
+ *     </li>
+ * </ul>
+ * Game objects are still rendered in the order they are given, so that overlapping game objects are drawn the same way as without the
+ * batch. The original state of the {@code Graphics2D} object is restored when the batch {@link #end() ends}.
+ * <p>
+ * A render batch is not thread-safe, and should only be used by the thread which renders with it.
+ *
+ * @author Andrew Dey
+ * @since 1.7.0
+ */
+public final class RenderBatch {
+
+    private final AffineTransform baseTransform = new AffineTransform();
+
+    private Graphics2D graphics;
+    private Paint basePaint;
+    private Stroke baseStroke;
+    private Font baseFont;
+    private Paint paint;
+    private Stroke stroke;
+    private Font font;
+    private boolean isStateChanged;
+
+    /**
+     * Begins a render batch for the given {@code Graphics2D} object, remembering its current state.
+     *
+     * @param g The {@code Graphics2D} object to render to.
+     */
+    public void begin(Graphics2D g) {
+        graphics = g;
+        baseTransform.setTransform(g.getTransform());
+        basePaint = g.getPaint();
+        baseStroke = g.getStroke();
+        baseFont = g.getFont();
+
+        paint = basePaint;
+        stroke = baseStroke;
+        font = baseFont;
+        isStateChanged = false;
+    }
+
+    /**
+     * Sets the transform of the {@code Graphics2D} object to the transform the batch began with, transformed by the given transform.
+     *
+     * @param transformation The transform to render with.
+     */
+    public void setTransform(AffineTransform transformation) {
+        graphics.setTransform(baseTransform);
+        graphics.transform(transformation);
+        isStateChanged = true;
+    }
+
+    /**
+     * Sets the transform of the {@code Graphics2D} object to the transform the batch began with, transformed by the given parent
+     * transform, and then by the given child transform.
+     *
+     * @param parentTransformation The transform of the parent to render with.
+     * @param childTransformation  The transform of the child to render with, relative to its parent.
+     */
+    public void setTransform(AffineTransform parentTransformation, AffineTransform childTransformation) {
+        graphics.setTransform(baseTransform);
+        graphics.transform(parentTransformation);
+        graphics.transform(childTransformation);
+        isStateChanged = true;
+    }
+
+    /**
+     * Sets the paint of the {@code Graphics2D} object, if it differs from the current paint.
+     *
+     * @param paint The paint to render with.
+     */
+    public void setPaint(Paint paint) {
+        if (paint == this.paint) {
+            return;
+        }
+
+        graphics.setPaint(paint);
+        this.paint = paint;
+        isStateChanged = true;
+    }
+
+    /**
+     * Sets the stroke of the {@code Graphics2D} object, if it differs from the current stroke.
+     *
+     * @param stroke The stroke to render with.
+     */
+    public void setStroke(Stroke stroke) {
+        if (stroke == this.stroke) {
+            return;
+        }
+
+        graphics.setStroke(stroke);
+        this.stroke = stroke;
+        isStateChanged = true;
+    }
+
+    /**
+     * Sets the font of the {@code Graphics2D} object, if it differs from the current font.
+     *
+     * @param font The font to render with.
+     */
+    public void setFont(Font font) {
+        if (font == this.font) {
+            return;
+        }
+
+        graphics.setFont(font);
+        this.font = font;
+        isStateChanged = true;
+    }
+
+    /**
+     * Restores the state of the {@code Graphics2D} object to the state the batch began with.
+     * <p>
+     * This is needed before rendering anything which does not render through the batch, and is called automatically by
+     * {@link GameObject#render(Graphics2D, RenderBatch) game objects} which do not support render batches.
+     */
+    public void restore() {
+        if (!isStateChanged) {
+            return;
+        }
+
+        graphics.setTransform(baseTransform);
+        graphics.setPaint(basePaint);
+        graphics.setStroke(baseStroke);
+        graphics.setFont(baseFont);
+
+        paint = basePaint;
+        stroke = baseStroke;
+        font = baseFont;
+        isStateChanged = false;
+    }
+
+    /** Ends the render batch, {@link #restore() restoring} the state the {@code Graphics2D} object had when the batch began. */
+    public void end() {
+        restore();
+        graphics = null;
+        basePaint = null;
+        baseStroke = null;
+        baseFont = null;
+        paint = null;
+        stroke = null;
+        font = null;
+    }
+}
@@ -0,0 +1,250 @@
+package tech.fastj.graphics;
+
+import tech.fastj.graphics.display.Camera;
+import tech.fastj.graphics.game.GameObject;
+import tech.fastj.graphics.ui.UIElement;
+
+import java.awt.Graphics2D;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.NoninvertibleTransformException;
+import java.awt.geom.Path2D;
+import java.util.Collection;
+
+/**
+ * Immutable capture of what to render for a single frame, and with which transforms.
+ * <p>
+ * A render snapshot is captured by the thread which runs the game's logic, and can then be rendered from any other thread. It holds the
+ * game objects and ui elements which should be rendered, along with their transforms and the transform of the camera, as they were when
+ * the snapshot was captured.
+ * <p>
+ * When captured with a {@link TransformHistory transform history}, each transform is interpolated between the last two fixed update
+ * states using the given {@link tech.fastj.gameloop.GameLoop#getInterpolationAlpha() interpolation alpha}, so motion stays smooth no
+ * matter the ratio of frames to updates.
+ * <p>
+ * The transform, {@link Drawable#getRenderPath() path}, and {@link Drawable#captureRenderState() render state} of each drawable are
+ * captured, so a drawable changed or destroyed by the logic thread while the snapshot is rendered is still drawn as it was when the
+ * snapshot was captured. Paths are replaced rather than changed in place, so capturing a path does not copy it. Drawables which capture
+ * no render state read the rest of their state as it is at the time the snapshot is rendered.
+ *
+ * @author Andrew Dey
+ * @since 1.7.0
+ */
+public final class RenderSnapshot {
+
+    private static final int MatrixSize = TransformHistory.MatrixSize;
+
+    private final GameObject[] gameObjects;
+    private final UIElement<?>[] uiElements;
+    private final Path2D.Float[] paths;
+    private final Object[] states;
+    private final double[] matrices;
+    private final float interpolationAlpha;
+
+    private RenderSnapshot(GameObject[] gameObjects, UIElement<?>[] uiElements, Path2D.Float[] paths, Object[] states, double[] matrices,
+                           float interpolationAlpha) {
+        this.gameObjects = gameObjects;
+        this.uiElements = uiElements;
+        this.paths = paths;
+        this.states = states;
+        this.matrices = matrices;
+        this.interpolationAlpha = interpolationAlpha;
+    }
+
+    /**
+     * Captures a render snapshot of the given game objects, ui elements, and camera, without interpolation.
+     *
+     * @param gameObjects The game objects to capture. Only game objects which {@link Drawable#shouldRender() should render} are kept.
+     * @param uiElements  The ui elements to capture. Only ui elements which {@link Drawable#shouldRender() should render} are kept.
+     * @param camera      The camera to capture.
+     * @return The render snapshot.
+     */
+    public static RenderSnapshot capture(Collection<? extends GameObject> gameObjects, Collection<? extends UIElement<?>> uiElements,
+                                         Camera camera) {
+        return capture(gameObjects, uiElements, camera, new TransformHistory(), 1f);
+    }
+
+    /**
+     * Captures a render snapshot of the given game objects, ui elements, and camera, interpolating their transforms with the given
+     * transform history.
+     *
+     * @param gameObjects        The game objects to capture. Only game objects which {@link Drawable#shouldRender() should render} are
+     *                           kept.
+     * @param uiElements         The ui elements to capture. Only ui elements which {@link Drawable#shouldRender() should render} are
+     *                           kept.
+     * @param camera             The camera to capture.
+     * @param transformHistory   The history of how the transforms changed over the last fixed update.
+     * @param interpolationAlpha How far along the next fixed update the game loop is, from {@code 0} to {@code 1}.
+     * @return The render snapshot.
+     */
+    public static RenderSnapshot capture(Collection<? extends GameObject> gameObjects, Collection<? extends UIElement<?>> uiElements,
+                                         Camera camera, TransformHistory transformHistory, float interpolationAlpha) {
+        if (interpolationAlpha < 0f || interpolationAlpha > 1f) {
+            throw new IllegalArgumentException("Interpolation alpha must be between 0 and 1.");
+        }
+
+        GameObject[] capturedGameObjects = gameObjects.stream()
+            .filter(Drawable::shouldRender)
+            .toArray(GameObject[]::new);
+        UIElement<?>[] capturedUIElements = uiElements.stream()
+            .filter(Drawable::shouldRender)
+            .toArray(UIElement<?>[]::new);
+
+        Path2D.Float[] paths = new Path2D.Float[capturedGameObjects.length + capturedUIElements.length];
+        Object[] states = new Object[paths.length];
+        double[] matrices = new double[(paths.length + 1) * MatrixSize];
+        int index = 0;
+        for (GameObject gameObject : capturedGameObjects) {
+            paths[index] = gameObject.collisionPath;
+            states[index] = captureRenderState(gameObject);
+            transformHistory.interpolate(gameObject, gameObject.getTransformation(), interpolationAlpha, matrices, index * MatrixSize);
+            index++;
+        }
+        for (UIElement<?> uiElement : capturedUIElements) {
+            paths[index] = uiElement.collisionPath;
+            states[index] = captureRenderState(uiElement);
+            transformHistory.interpolate(uiElement, uiElement.getTransformation(), interpolationAlpha, matrices, index * MatrixSize);
+            index++;
+        }
+        transformHistory.interpolate(camera, camera.getTransformation(), interpolationAlpha, matrices, index * MatrixSize);
+
+        return new RenderSnapshot(capturedGameObjects, capturedUIElements, paths, states, matrices, interpolationAlpha);
+    }
+
+    /** {@return the interpolation alpha the snapshot was captured with} */
+    public float getInterpolationAlpha() {
+        return interpolationAlpha;
+    }
+
+    /** {@return the amount of game objects in the snapshot} */
+    public int getGameObjectCount() {
+        return gameObjects.length;
+    }
+
+    /**
+     * {@return the game object at the given index of the snapshot}
+     *
+     * @param index The index of the game object.
+     */
+    public GameObject getGameObject(int index) {
+        return gameObjects[index];
+    }
+
+    /**
+     * {@return the captured transformation of the game object at the given index of the snapshot}
+     *
+     * @param index The index of the game object.
+     */
+    public AffineTransform getGameObjectTransformation(int index) {
+        return createTransformation(index);
+    }
+
+    /** {@return the amount of ui elements in the snapshot} */
+    public int getUIElementCount() {
+        return uiElements.length;
+    }
+
+    /**
+     * {@return the ui element at the given index of the snapshot}
+     *
+     * @param index The index of the ui element.
+     */
+    public UIElement<?> getUIElement(int index) {
+        return uiElements[index];
+    }
+
+    /**
+     * {@return the captured transformation of the ui element at the given index of the snapshot}
+     *
+     * @param index The index of the ui element.
+     */
+    public AffineTransform getUIElementTransformation(int index) {
+        return createTransformation(gameObjects.length + index);
+    }
+
+    /** {@return the captured transformation of the camera} */
+    public AffineTransform getCameraTransformation() {
+        return createTransformation(gameObjects.length + uiElements.length);
+    }
+
+    /**
+     * Renders the game object at the given index of the snapshot, with its captured transformation.
+     *
+     * @param index The index of the game object.
+     * @param g     The {@code Graphics2D} object to render to.
+     */
+    public void renderGameObject(int index, Graphics2D g) {
+        GameObject gameObject = gameObjects[index];
+        setRenderState(gameObject, createTransformation(index), paths[index], states[index]);
+        try {
+            gameObject.render(g);
+        } finally {
+            setRenderState(gameObject, null, null, null);
+        }
+    }
+
+    /**
+     * Renders the game object at the given index of the snapshot, with its captured transformation, as part of the given
+     * {@link RenderBatch render batch}.
+     *
+     * @param index       The index of the game object.
+     * @param g           The {@code Graphics2D} object to render to.
+     * @param renderBatch The render batch tracking the state of the {@code Graphics2D} object.
+     */
+    public void renderGameObject(int index, Graphics2D g, RenderBatch renderBatch) {
+        GameObject gameObject = gameObjects[index];
+        setRenderState(gameObject, createTransformation(index), paths[index], states[index]);
+        try {
+            gameObject.render(g, renderBatch);
+        } finally {
+            setRenderState(gameObject, null, null, null);
+        }
+    }
+
+    /**
+     * Renders the ui element at the given index of the snapshot, with its captured transformation, aligned with the window by rendering
+     * at the inverse of the {@link #getCameraTransformation() captured camera transformation}.
+     *
+     * @param index The index of the ui element.
+     * @param g     The {@code Graphics2D} object to render to.
+     */
+    public void renderUIElement(int index, Graphics2D g) {
+        UIElement<?> uiElement = uiElements[index];
+        AffineTransform oldTransform = g.getTransform();
+        AffineTransform cameraTransformation = getCameraTransformation();
+        try {
+            g.transform(cameraTransformation.createInverse());
+        } catch (NoninvertibleTransformException exception) {
+            throw new IllegalStateException("Couldn't create an inverse transform of " + cameraTransformation, exception);
+        }
+
+        int stateIndex = gameObjects.length + index;
+        setRenderState(uiElement, getUIElementTransformation(index), paths[stateIndex], states[stateIndex]);
+        try {
+            uiElement.render(g);
+        } finally {
+            setRenderState(uiElement, null, null, null);
+            g.setTransform(oldTransform);
+        }
+    }
+
+    private static Object captureRenderState(Drawable drawable) {
+        return drawable.captureRenderState();
+    }
+
+    private static void setRenderState(Drawable drawable, AffineTransform renderTransformation, Path2D.Float renderPath,
+                                       Object renderState) {
+        drawable.setRenderState(renderTransformation, renderPath, renderState);
+    }
+
+    private AffineTransform createTransformation(int index) {
+        int offset = index * MatrixSize;
+        return new AffineTransform(
+            matrices[offset],
+            matrices[offset + 1],
+            matrices[offset + 2],
+            matrices[offset + 3],
+            matrices[offset + 4],
+            matrices[offset + 5]
+        );
+    }
+}
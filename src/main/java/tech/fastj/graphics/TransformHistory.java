@@ -0,0 +1,140 @@
+package tech.fastj.graphics;
+
+import tech.fastj.graphics.display.Camera;
+
+import java.awt.geom.AffineTransform;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Records how much the transforms of a set of {@link Drawable drawables} and a {@link Camera camera} changed over the last fixed update.
+ * <p>
+ * A transform history is used by {@link RenderSnapshot render snapshots} to interpolate between the last two fixed update states. To
+ * record a fixed update, call {@link #beginFixedUpdate(Iterable, Iterable, Camera)} before it runs, and
+ * {@link #endFixedUpdate(Iterable, Iterable, Camera)} after it has run. Only the most recent fixed update is kept.
+ * <p>
+ * A transform history is not thread-safe -- it should only be used by the thread which runs the fixed updates.
+ *
+ * @author Andrew Dey
+ * @since 1.7.0
+ */
+public final class TransformHistory {
+
+    static final int MatrixSize = 6;
+
+    private final Map<Object, double[]> fixedUpdateStarts;
+    private final Map<Object, double[]> fixedUpdateDeltas;
+    private final double[] matrix;
+
+    /** Constructs an empty transform history. */
+    public TransformHistory() {
+        fixedUpdateStarts = new IdentityHashMap<>();
+        fixedUpdateDeltas = new IdentityHashMap<>();
+        matrix = new double[MatrixSize];
+    }
+
+    /** {@return the amount of drawables and cameras whose transforms changed over the last recorded fixed update} */
+    public int size() {
+        return fixedUpdateDeltas.size();
+    }
+
+    /**
+     * Records the transforms of the given game objects, ui elements, and camera before a fixed update.
+     *
+     * @param gameObjects The game objects to record.
+     * @param uiElements  The ui elements to record.
+     * @param camera      The camera to record.
+     */
+    public void beginFixedUpdate(Iterable<? extends Drawable> gameObjects, Iterable<? extends Drawable> uiElements, Camera camera) {
+        fixedUpdateStarts.clear();
+
+        for (Drawable gameObject : gameObjects) {
+            recordStart(gameObject, gameObject.getTransformation());
+        }
+        for (Drawable uiElement : uiElements) {
+            recordStart(uiElement, uiElement.getTransformation());
+        }
+        recordStart(camera, camera.getTransformation());
+    }
+
+    /**
+     * Records how much the transforms of the given game objects, ui elements, and camera changed since
+     * {@link #beginFixedUpdate(Iterable, Iterable, Camera) the fixed update began}.
+     * <p>
+     * Drawables which were not recorded when the fixed update began are treated as unchanged.
+     *
+     * @param gameObjects The game objects to record.
+     * @param uiElements  The ui elements to record.
+     * @param camera      The camera to record.
+     */
+    public void endFixedUpdate(Iterable<? extends Drawable> gameObjects, Iterable<? extends Drawable> uiElements, Camera camera) {
+        fixedUpdateDeltas.clear();
+
+        for (Drawable gameObject : gameObjects) {
+            recordEnd(gameObject, gameObject.getTransformation());
+        }
+        for (Drawable uiElement : uiElements) {
+            recordEnd(uiElement, uiElement.getTransformation());
+        }
+        recordEnd(camera, camera.getTransformation());
+
+        fixedUpdateStarts.clear();
+    }
+
+    /** Removes all recorded transforms. */
+    public void clear() {
+        fixedUpdateStarts.clear();
+        fixedUpdateDeltas.clear();
+    }
+
+    /**
+     * Writes the given transform, interpolated back towards its state before the last fixed update, into the given matrix array.
+     * <p>
+     * The written matrix is in the same order as {@link AffineTransform#getMatrix(double[])}. An interpolation alpha of {@code 1} writes
+     * the current transform as-is, while an alpha of {@code 0} writes the transform from before the last fixed update.
+     *
+     * @param key                The drawable or camera the transform belongs to.
+     * @param transform          The current transform.
+     * @param interpolationAlpha The interpolation alpha, from {@code 0} to {@code 1}.
+     * @param matrices           The array to write the matrix into.
+     * @param offset             The index of the array to start writing at.
+     */
+    void interpolate(Object key, AffineTransform transform, float interpolationAlpha, double[] matrices, int offset) {
+        transform.getMatrix(matrix);
+        System.arraycopy(matrix, 0, matrices, offset, MatrixSize);
+
+        double[] delta = fixedUpdateDeltas.get(key);
+        if (delta == null) {
+            return;
+        }
+
+        double remainder = 1.0 - interpolationAlpha;
+        for (int i = 0; i < MatrixSize; i++) {
+            matrices[offset + i] -= delta[i] * remainder;
+        }
+    }
+
+    private void recordStart(Object key, AffineTransform transform) {
+        double[] start = new double[MatrixSize];
+        transform.getMatrix(start);
+        fixedUpdateStarts.put(key, start);
+    }
+
+    private void recordEnd(Object key, AffineTransform transform) {
+        double[] start = fixedUpdateStarts.get(key);
+        if (start == null) {
+            return;
+        }
+
+        transform.getMatrix(matrix);
+        boolean hasChanged = false;
+        for (int i = 0; i < MatrixSize; i++) {
+            start[i] = matrix[i] - start[i];
+            hasChanged |= start[i] != 0.0;
+        }
+
+        if (hasChanged) {
+            fixedUpdateDeltas.put(key, start);
+        }
+    }
+}
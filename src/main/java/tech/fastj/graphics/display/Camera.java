@@ -44,7 +44,7 @@ public class Camera {
      * @return The centerpoint, as a {@code Pointf}.
      */
     public Pointf getCenter() {
-        return getTranslation().copy();
+        return transform.getTranslation();
     }
 
     /**
@@ -193,6 +193,19 @@ public class Camera {
         return transform.getAffineTransform();
     }
 
+    /**
+     * Sets the given {@link AffineTransform} to the entire transformation of the {@code Camera}.
+     * <p>
+     * Unlike {@link #getTransformation()}, this does not allocate.
+     *
+     * @param destination The {@code AffineTransform} to set to the transformation.
+     * @return The given {@code AffineTransform}, for method chaining.
+     * @since 1.7.0
+     */
+    public AffineTransform getTransformation(AffineTransform destination) {
+        return transform.getAffineTransform(destination);
+    }
+
     /**
      * Rotates the {@code Camera} in the direction of the specified rotation, about its center.
      *
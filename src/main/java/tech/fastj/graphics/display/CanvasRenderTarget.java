@@ -0,0 +1,52 @@
+package tech.fastj.graphics.display;
+
+import java.awt.Canvas;
+import java.awt.Dimension;
+import java.awt.Graphics2D;
+import java.awt.image.BufferStrategy;
+
+/**
+ * {@link RenderTarget Render target} which renders onto an AWT {@link Canvas canvas}, through its {@link BufferStrategy buffer strategy}.
+ *
+ * @author Andrew Dey
+ * @since 1.7.0
+ */
+final class CanvasRenderTarget implements RenderTarget {
+
+    private final Canvas canvas;
+    private BufferStrategy drawBuffer;
+
+    CanvasRenderTarget(Canvas canvas) {
+        this.canvas = canvas;
+    }
+
+    @Override
+    public int getWidth() {
+        return canvas.getWidth();
+    }
+
+    @Override
+    public int getHeight() {
+        return canvas.getHeight();
+    }
+
+    @Override
+    public Graphics2D createGraphics() {
+        do {
+            drawBuffer = canvas.getBufferStrategy();
+        } while (drawBuffer == null);
+
+        return (Graphics2D) drawBuffer.getDrawGraphics();
+    }
+
+    @Override
+    public void show() {
+        drawBuffer.show();
+    }
+
+    @Override
+    public void resize(int width, int height) {
+        canvas.setPreferredSize(new Dimension(width, height));
+        canvas.revalidate();
+    }
+}
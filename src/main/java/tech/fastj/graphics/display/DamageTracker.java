@@ -0,0 +1,222 @@
+package tech.fastj.graphics.display;
+
+import tech.fastj.graphics.Drawable;
+
+import java.awt.Rectangle;
+import java.awt.geom.AffineTransform;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Tracks which area of the screen changed since the last frame, for {@link FastJCanvas#isDirtyRegionRendering() dirty region
+ * rendering}.
+ * <p>
+ * Each frame, every drawable which will be rendered is {@link #track(Drawable, AffineTransform) tracked} with the transform from the
+ * game world to the screen. A drawable damages the screen where it was last frame and where it is now when:
+ * <ul>
+ *     <li>its bounds changed,</li>
+ *     <li>its {@link Drawable#getContentVersion() content version} changed,</li>
+ *     <li>it was not rendered last frame, or is not rendered this frame, or</li>
+ *     <li>it was {@link #markDirty(Drawable) marked dirty}.</li>
+ * </ul>
+ * The damaged area is kept as a single rectangle, in screen pixels. Any change to the transform from the game world to the screen, such
+ * as camera motion, damages the whole screen.
+ *
+ * @author Andrew Dey
+ * @since 1.7.0
+ */
+final class DamageTracker {
+
+    private final Map<Drawable, TrackedBounds> trackedBounds;
+    private final Set<Drawable> dirtyDrawables;
+    private final AffineTransform lastScreenTransformation;
+    private final double[] corners;
+
+    private int frame;
+    private boolean isFullyDamaged;
+    private double damageMinX;
+    private double damageMinY;
+    private double damageMaxX;
+    private double damageMaxY;
+
+    DamageTracker() {
+        trackedBounds = new IdentityHashMap<>();
+        dirtyDrawables = Collections.newSetFromMap(new IdentityHashMap<>());
+        lastScreenTransformation = new AffineTransform();
+        corners = new double[8];
+        isFullyDamaged = true;
+    }
+
+    /**
+     * Marks the given drawable as changed, so the area it covers is redrawn next frame.
+     *
+     * @param drawable The drawable which changed.
+     */
+    synchronized void markDirty(Drawable drawable) {
+        dirtyDrawables.add(drawable);
+    }
+
+    /** Marks the whole screen as damaged, so it is redrawn entirely next frame. */
+    synchronized void markFullyDamaged() {
+        isFullyDamaged = true;
+    }
+
+    /**
+     * Begins tracking a frame.
+     *
+     * @param screenTransformation The transform from the game world to the screen for this frame.
+     */
+    synchronized void beginFrame(AffineTransform screenTransformation) {
+        frame++;
+        damageMinX = Double.POSITIVE_INFINITY;
+        damageMinY = Double.POSITIVE_INFINITY;
+        damageMaxX = Double.NEGATIVE_INFINITY;
+        damageMaxY = Double.NEGATIVE_INFINITY;
+
+        if (!screenTransformation.equals(lastScreenTransformation)) {
+            lastScreenTransformation.setTransform(screenTransformation);
+            isFullyDamaged = true;
+        }
+    }
+
+    /**
+     * Tracks a drawable which will be rendered this frame.
+     *
+     * @param drawable             The drawable to track.
+     * @param screenTransformation The transform from the drawable's coordinates to the screen.
+     */
+    synchronized void track(Drawable drawable, AffineTransform screenTransformation) {
+        float minX = drawable.getMinX();
+        float minY = drawable.getMinY();
+        float maxX = drawable.getMaxX();
+        float maxY = drawable.getMaxY();
+        int contentVersion = drawable.getContentVersion();
+
+        TrackedBounds bounds = trackedBounds.get(drawable);
+        if (bounds == null) {
+            bounds = new TrackedBounds();
+            trackedBounds.put(drawable, bounds);
+            damage(minX, minY, maxX, maxY, screenTransformation);
+        } else if (bounds.minX != minX || bounds.minY != minY || bounds.maxX != maxX || bounds.maxY != maxY
+            || bounds.contentVersion != contentVersion || dirtyDrawables.contains(drawable)) {
+            damage(bounds.screenMinX, bounds.screenMinY, bounds.screenMaxX, bounds.screenMaxY);
+            damage(minX, minY, maxX, maxY, screenTransformation);
+        }
+
+        bounds.frame = frame;
+        bounds.minX = minX;
+        bounds.minY = minY;
+        bounds.maxX = maxX;
+        bounds.maxY = maxY;
+        bounds.contentVersion = contentVersion;
+        transformCorners(minX, minY, maxX, maxY, screenTransformation);
+        bounds.screenMinX = Math.min(Math.min(corners[0], corners[2]), Math.min(corners[4], corners[6]));
+        bounds.screenMinY = Math.min(Math.min(corners[1], corners[3]), Math.min(corners[5], corners[7]));
+        bounds.screenMaxX = Math.max(Math.max(corners[0], corners[2]), Math.max(corners[4], corners[6]));
+        bounds.screenMaxY = Math.max(Math.max(corners[1], corners[3]), Math.max(corners[5], corners[7]));
+    }
+
+    /** Ends tracking a frame, damaging the areas of drawables which were rendered last frame, but will not be rendered this frame. */
+    synchronized void endFrame() {
+        Iterator<TrackedBounds> boundsIterator = trackedBounds.values().iterator();
+        while (boundsIterator.hasNext()) {
+            TrackedBounds bounds = boundsIterator.next();
+            if (bounds.frame != frame) {
+                damage(bounds.screenMinX, bounds.screenMinY, bounds.screenMaxX, bounds.screenMaxY);
+                boundsIterator.remove();
+            }
+        }
+        dirtyDrawables.clear();
+    }
+
+    /**
+     * {@return whether the whole screen should be redrawn this frame}
+     * <p>
+     * Once this returns {@code true}, the whole screen is no longer considered damaged for the next frame.
+     *
+     * @param screenArea         The area of the screen, in pixels.
+     * @param maxDamagedFraction The largest fraction of the screen which can be damaged before redrawing the whole screen instead.
+     */
+    synchronized boolean consumeFullRedraw(double screenArea, float maxDamagedFraction) {
+        boolean isFullRedraw = isFullyDamaged
+            || (hasDamage() && (damageMaxX - damageMinX) * (damageMaxY - damageMinY) > screenArea * maxDamagedFraction);
+        isFullyDamaged = false;
+        return isFullRedraw;
+    }
+
+    /** {@return whether any area of the screen was damaged this frame} */
+    synchronized boolean hasDamage() {
+        return damageMinX <= damageMaxX && damageMinY <= damageMaxY;
+    }
+
+    /** {@return the damaged area of the screen, rounded out to whole pixels} */
+    synchronized Rectangle getDamage() {
+        int x = (int) Math.floor(damageMinX) - 1;
+        int y = (int) Math.floor(damageMinY) - 1;
+        return new Rectangle(x, y, (int) Math.ceil(damageMaxX) + 1 - x, (int) Math.ceil(damageMaxY) + 1 - y);
+    }
+
+    /**
+     * {@return whether the given drawable overlaps the damaged area of the screen}
+     *
+     * @param drawable             The drawable to check.
+     * @param screenTransformation The transform from the drawable's coordinates to the screen.
+     */
+    synchronized boolean intersectsDamage(Drawable drawable, AffineTransform screenTransformation) {
+        transformCorners(drawable.getMinX(), drawable.getMinY(), drawable.getMaxX(), drawable.getMaxY(), screenTransformation);
+        double minX = Math.min(Math.min(corners[0], corners[2]), Math.min(corners[4], corners[6]));
+        double minY = Math.min(Math.min(corners[1], corners[3]), Math.min(corners[5], corners[7]));
+        double maxX = Math.max(Math.max(corners[0], corners[2]), Math.max(corners[4], corners[6]));
+        double maxY = Math.max(Math.max(corners[1], corners[3]), Math.max(corners[5], corners[7]));
+        return maxX >= damageMinX - 1d && minX <= damageMaxX + 1d && maxY >= damageMinY - 1d && minY <= damageMaxY + 1d;
+    }
+
+    /** Forgets every tracked drawable, and damages the whole screen. */
+    synchronized void reset() {
+        trackedBounds.clear();
+        dirtyDrawables.clear();
+        isFullyDamaged = true;
+    }
+
+    private void damage(float minX, float minY, float maxX, float maxY, AffineTransform screenTransformation) {
+        transformCorners(minX, minY, maxX, maxY, screenTransformation);
+        for (int i = 0; i < corners.length; i += 2) {
+            damage(corners[i], corners[i + 1], corners[i], corners[i + 1]);
+        }
+    }
+
+    private void damage(double minX, double minY, double maxX, double maxY) {
+        damageMinX = Math.min(damageMinX, minX);
+        damageMinY = Math.min(damageMinY, minY);
+        damageMaxX = Math.max(damageMaxX, maxX);
+        damageMaxY = Math.max(damageMaxY, maxY);
+    }
+
+    private void transformCorners(float minX, float minY, float maxX, float maxY, AffineTransform screenTransformation) {
+        corners[0] = minX;
+        corners[1] = minY;
+        corners[2] = maxX;
+        corners[3] = minY;
+        corners[4] = maxX;
+        corners[5] = maxY;
+        corners[6] = minX;
+        corners[7] = maxY;
+        screenTransformation.transform(corners, 0, corners, 0, 4);
+    }
+
+    private static class TrackedBounds {
+        private int frame;
+        private float minX;
+        private float minY;
+        private float maxX;
+        private float maxY;
+        private int contentVersion;
+        private double screenMinX;
+        private double screenMinY;
+        private double screenMaxX;
+        private double screenMaxY;
+    }
+}
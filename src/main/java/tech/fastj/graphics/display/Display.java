@@ -36,6 +36,38 @@ public interface Display {
         return new Point(getWindow().getSize()).asPointf().divide(2f);
     }
 
+    /**
+     * {@return whether the {@link Display} is open}
+     * <p>
+     * The game engine runs for as long as its display is open.
+     *
+     * @since 1.7.0
+     */
+    default boolean isOpen() {
+        return getWindow().isVisible();
+    }
+
+    /**
+     * {@return whether the {@link Display} has no {@link #getWindow() window}, and its canvas renders onto an
+     * {@link OffscreenRenderTarget offscreen render target} instead}
+     *
+     * @since 1.7.0
+     */
+    default boolean isHeadless() {
+        return false;
+    }
+
+    /**
+     * {@return whether the game loop should wait out the rest of each frame to keep to its target fps while the {@link Display} is open}
+     * <p>
+     * By default, this is {@code true} unless the display is {@link DisplayState#FullScreen full screen}.
+     *
+     * @since 1.7.0
+     */
+    default boolean isFramePaced() {
+        return getDisplayState() != DisplayState.FullScreen;
+    }
+
     /** Displays the {@link Display} and its underlying {@link #getWindow() window}. */
     default void open() {
         Window window = getWindow();
@@ -3,29 +3,42 @@ package tech.fastj.graphics.display;
 import tech.fastj.engine.CrashMessages;
 import tech.fastj.engine.FastJEngine;
 import tech.fastj.graphics.Drawable;
+import tech.fastj.graphics.RenderBatch;
+import tech.fastj.graphics.RenderSnapshot;
+import tech.fastj.graphics.TransformHistory;
 import tech.fastj.graphics.game.GameObject;
 import tech.fastj.graphics.ui.UIElement;
-import tech.fastj.graphics.util.DrawUtil;
 import tech.fastj.input.InputActionEvent;
 import tech.fastj.input.keyboard.Keyboard;
 import tech.fastj.input.mouse.Mouse;
 import tech.fastj.math.Point;
 import tech.fastj.math.Pointf;
+import tech.fastj.systems.control.DrawOrder;
+import tech.fastj.systems.control.DrawableManager;
 
 import java.awt.Canvas;
 import java.awt.Color;
 import java.awt.Graphics2D;
+import java.awt.Image;
+import java.awt.Rectangle;
 import java.awt.RenderingHints;
-import java.awt.Shape;
-import java.awt.geom.Area;
-import java.awt.geom.NoninvertibleTransformException;
+import java.awt.geom.AffineTransform;
 import java.awt.geom.Rectangle2D;
-import java.awt.image.BufferStrategy;
+import java.awt.image.BufferedImage;
+import java.awt.image.VolatileImage;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.BiConsumer;
+import java.util.function.Predicate;
 
 /**
  * FastJ's main rendering screen. This can be added in whatever way needed to any given {@link java.awt.Window window}.
+ * <p>
+ * Frames are rendered onto a {@link RenderTarget render target}. For a {@link Display#isHeadless() headless display}, this is an
+ * {@link OffscreenRenderTarget offscreen render target} rather than an AWT canvas.
  *
  * @author Andrew Dey
  * @since 1.6.0
@@ -35,6 +48,9 @@ public class FastJCanvas {
     /** Integer representing the default back buffer amount of {@code 3}. */
     public static final int DefaultBackBufferAmount = 3;
 
+    /** The default fraction of the canvas which can be damaged before dirty region rendering redraws the whole canvas, of {@code 0.5}. */
+    public static final float DefaultDirtyAreaThreshold = 0.5f;
+
     // input
     private final Mouse mouse;
     private final Keyboard keyboard;
@@ -49,6 +65,34 @@ public class FastJCanvas {
     // graphics drawing
     private final Map<RenderingHints.Key, Object> renderHints;
     private Canvas canvas;
+    private RenderTarget renderTarget;
+    private Color backgroundColor;
+    private final ViewBounds viewBounds;
+    private final ViewBounds snapshotViewBounds;
+    private final ViewBounds onScreenViewBounds;
+    private final AffineTransform onScreenCameraTransformation;
+    private final RenderBatch renderBatch;
+    private final RenderBatch snapshotRenderBatch;
+
+    // dirty region rendering
+    private final DamageTracker damageTracker;
+    private final AffineTransform screenTransformation;
+    private final AffineTransform guiScreenTransformation;
+    private boolean isDirtyRegionRendering;
+    private float dirtyAreaThreshold;
+    private VolatileImage retainedFrame;
+    private BufferedImage retainedOffscreenFrame;
+
+    // tiled rendering
+    private RenderBatch[] tileRenderBatches;
+    private ViewBounds[] tileViewBounds;
+
+    // threaded rendering
+    private final TransformHistory transformHistory;
+    private volatile RenderThread renderThread;
+    private Map<String, GameObject> renderedGameObjects;
+    private Map<String, UIElement<? extends InputActionEvent>> renderedUIElements;
+    private Camera renderedCamera;
 
     /**
      * Creates a display with the specified title, window resolution, and canvas resolution.
@@ -61,6 +105,19 @@ public class FastJCanvas {
         resolution = canvasResolution.copy();
 
         renderHints = new LinkedHashMap<>();
+        viewBounds = new ViewBounds();
+        snapshotViewBounds = new ViewBounds();
+        onScreenViewBounds = new ViewBounds();
+        onScreenCameraTransformation = new AffineTransform();
+        renderBatch = new RenderBatch();
+        snapshotRenderBatch = new RenderBatch();
+        damageTracker = new DamageTracker();
+        screenTransformation = new AffineTransform();
+        guiScreenTransformation = new AffineTransform();
+        dirtyAreaThreshold = DefaultDirtyAreaThreshold;
+        tileRenderBatches = new RenderBatch[0];
+        tileViewBounds = new ViewBounds[0];
+        transformHistory = new TransformHistory();
         mouse = new Mouse();
         keyboard = new Keyboard();
     }
@@ -91,7 +148,7 @@ public class FastJCanvas {
      * The values for the x and y of the returned {@link Pointf} are {@code 0 < x <= 1}.
      */
     public Pointf getResolutionScale() {
-        return Pointf.divide(new Point(display.getWindow().getSize()).asPointf(), resolution.asPointf());
+        return Pointf.divide(display.getScreenSize().asPointf(), resolution.asPointf());
     }
 
     /** {@return the center of the canvas' {@link #getResolution() resolution}} */
@@ -106,7 +163,7 @@ public class FastJCanvas {
 
     /** {@return the background color} */
     public Color getBackgroundColor() {
-        return canvas.getBackground();
+        return canvas != null ? canvas.getBackground() : backgroundColor;
     }
 
     /**
@@ -115,78 +172,680 @@ public class FastJCanvas {
      * @param newColor The {@code Color} to be set to.
      */
     public void setBackgroundColor(Color newColor) {
-        canvas.setBackground(newColor);
+        backgroundColor = newColor;
+        if (canvas != null) {
+            canvas.setBackground(newColor);
+        }
+        damageTracker.markFullyDamaged();
     }
 
-    /** {@return the {@link Display display} canvas} */
+    /** {@return the {@link Display display} canvas, or {@code null} if the display is {@link Display#isHeadless() headless}} */
     public Canvas getRawCanvas() {
         return canvas;
     }
 
+    /**
+     * {@return the render target the canvas renders its frames onto}
+     *
+     * @since 1.7.0
+     */
+    public RenderTarget getRenderTarget() {
+        return renderTarget;
+    }
+
     /**
      * Gets the {@code Graphics2D} object associated with this {@code Display}, set to the transformation of the current scene's camera.
      *
      * @return The {@code Graphics2D} object which is associated with the {@code Display}.
      */
     public Graphics2D getGraphics() {
-        return prepareGraphics((Graphics2D) canvas.getBufferStrategy().getDrawGraphics(), Camera.Default);
+        return prepareGraphics(renderTarget.createGraphics(), Camera.Default);
+    }
+
+    /** {@return whether the canvas renders on its own dedicated thread} */
+    public boolean isThreadedRendering() {
+        return renderThread != null;
+    }
+
+    /**
+     * Sets whether the canvas renders on its own dedicated thread.
+     * <p>
+     * With threaded rendering, {@link #render(Map, Map, Camera)} no longer draws to the canvas itself. Instead, it captures a
+     * {@link RenderSnapshot render snapshot} of what to draw, and hands it off to the render thread. The transforms in each snapshot are
+     * interpolated between the last two fixed updates -- see {@link #beginFixedUpdate()} -- so motion stays smooth at any ratio of
+     * frames to updates.
+     * <p>
+     * Each snapshot captures the transform, path, and {@link Drawable#captureRenderState() render state} of each drawable, so the logic
+     * thread can change or destroy drawables while a snapshot of them is being rendered. Drawables which capture no render state of their
+     * own -- like custom game objects which do not override {@link Drawable#captureRenderState()} -- read the rest of their state as it
+     * is at the time, and must be safe to render while the logic thread changes them.
+     *
+     * @param threadedRendering Whether the canvas should render on its own dedicated thread.
+     */
+    public void setThreadedRendering(boolean threadedRendering) {
+        if (threadedRendering == isThreadedRendering()) {
+            return;
+        }
+
+        if (threadedRendering) {
+            renderThread = new RenderThread(this);
+            renderThread.start();
+            FastJEngine.debug("started threaded rendering");
+        } else {
+            renderThread.stop();
+            renderThread = null;
+            transformHistory.clear();
+            renderedGameObjects = null;
+            renderedUIElements = null;
+            renderedCamera = null;
+            damageTracker.reset();
+            FastJEngine.debug("stopped threaded rendering");
+        }
+    }
+
+    /** {@return whether the canvas only redraws the areas which changed since the last frame} */
+    public boolean isDirtyRegionRendering() {
+        return isDirtyRegionRendering;
+    }
+
+    /**
+     * Sets whether the canvas only redraws the areas which changed since the last frame.
+     * <p>
+     * With dirty region rendering, the canvas keeps the last frame it rendered. Each frame, it compares the bounds of everything it
+     * renders with their bounds last frame. Where a drawable moved, changed size, appeared, or disappeared, the area it covered and the
+     * area it covers now are damaged. Only the game objects and ui elements overlapping the damaged area are redrawn, clipped to that
+     * area, and the kept frame is then drawn to the screen. This suits scenes where little changes each frame, like tools and board
+     * games.
+     * <p>
+     * On an {@link OffscreenRenderTarget offscreen render target} which is not {@link OffscreenRenderTarget#isAccelerated() accelerated},
+     * the image of the render target is itself the kept frame, and is redrawn in place.
+     * <p>
+     * The whole canvas is still redrawn when the camera moves, when the canvas is resized, or when more than the
+     * {@link #getDirtyAreaThreshold() dirty area threshold} of it is damaged.
+     * <p>
+     * Besides changes to their bounds, drawables report changes to their content -- like a new color, a new text, or the next frame of
+     * an animation -- through their {@link Drawable#getContentVersion() content version}. Any other change, like one made to a mutable
+     * paint, is not noticed on its own. Call {@link #markDirty(Drawable)} after making it.
+     * <p>
+     * Dirty region rendering has no effect while {@link #isThreadedRendering() rendering on a dedicated thread}.
+     *
+     * @param dirtyRegionRendering Whether the canvas should only redraw the areas which changed since the last frame.
+     * @since 1.7.0
+     */
+    public void setDirtyRegionRendering(boolean dirtyRegionRendering) {
+        isDirtyRegionRendering = dirtyRegionRendering;
+        damageTracker.reset();
+        retainedOffscreenFrame = null;
+        if (!dirtyRegionRendering && retainedFrame != null) {
+            retainedFrame.flush();
+            retainedFrame = null;
+        }
+    }
+
+    /**
+     * {@return the fraction of the canvas which can be damaged before dirty region rendering redraws the whole canvas}
+     *
+     * @since 1.7.0
+     */
+    public float getDirtyAreaThreshold() {
+        return dirtyAreaThreshold;
+    }
+
+    /**
+     * Sets the fraction of the canvas which can be damaged before {@link #isDirtyRegionRendering() dirty region rendering} redraws the
+     * whole canvas.
+     * <p>
+     * Past a certain size, clipping to the damaged area saves less than it costs. By default, this is
+     * {@link #DefaultDirtyAreaThreshold}.
+     *
+     * @param dirtyAreaThreshold The fraction of the canvas, from {@code 0} to {@code 1}.
+     * @since 1.7.0
+     */
+    public void setDirtyAreaThreshold(float dirtyAreaThreshold) {
+        if (!(dirtyAreaThreshold >= 0f && dirtyAreaThreshold <= 1f)) {
+            throw new IllegalArgumentException("Dirty area threshold must be between 0 and 1.");
+        }
+
+        this.dirtyAreaThreshold = dirtyAreaThreshold;
+    }
+
+    /**
+     * Marks the area covered by the given drawable as changed, so {@link #isDirtyRegionRendering() dirty region rendering} redraws it
+     * next frame.
+     * <p>
+     * This is only needed for changes which neither affect the drawable's bounds nor its
+     * {@link Drawable#getContentVersion() content version}, like changes made to a mutable paint it uses.
+     *
+     * @param drawable The drawable which changed.
+     * @since 1.7.0
+     */
+    public void markDirty(Drawable drawable) {
+        damageTracker.markDirty(drawable);
+    }
+
+    /**
+     * Marks the whole canvas as changed, so {@link #isDirtyRegionRendering() dirty region rendering} redraws all of it next frame.
+     *
+     * @since 1.7.0
+     */
+    public void markDirty() {
+        damageTracker.markFullyDamaged();
+    }
+
+    /**
+     * Records the transforms of the last rendered game objects, ui elements, and camera before a fixed update.
+     * <p>
+     * This is only needed for {@link #isThreadedRendering() threaded rendering}, and is called by the game engine before each fixed
+     * update. Together with {@link #endFixedUpdate()}, it lets render snapshots interpolate between fixed updates.
+     */
+    public void beginFixedUpdate() {
+        if (renderThread == null || renderedCamera == null) {
+            return;
+        }
+
+        transformHistory.beginFixedUpdate(renderedGameObjects.values(), renderedUIElements.values(), renderedCamera);
+    }
+
+    /**
+     * Records how much the transforms of the last rendered game objects, ui elements, and camera changed over a fixed update.
+     * <p>
+     * This is only needed for {@link #isThreadedRendering() threaded rendering}, and is called by the game engine after each fixed
+     * update.
+     */
+    public void endFixedUpdate() {
+        if (renderThread == null || renderedCamera == null) {
+            return;
+        }
+
+        transformHistory.endFixedUpdate(renderedGameObjects.values(), renderedUIElements.values(), renderedCamera);
     }
 
     /**
      * Renders the specified game objects and GUI objects, within the viewing area of the Camera.
+     * <p>
+     * If the canvas is {@link #isThreadedRendering() rendering on its own thread}, this captures a {@link RenderSnapshot render snapshot}
+     * of the given objects and hands it off to the render thread instead.
      *
      * @param gameObjects The game objects to be rendered.
      * @param gui         The GUI objects to be rendered.
      * @param camera      The camera that the user will view the game from.
      */
     public void render(Map<String, GameObject> gameObjects, Map<String, UIElement<? extends InputActionEvent>> gui, Camera camera) {
-        if (!display.getWindow().isVisible()) {
+        if (!display.isOpen() || publishSnapshot(gameObjects, gui, camera)) {
             return;
         }
 
+        updateViewBounds(viewBounds, camera.getTransformation());
+        renderFrame(List.of(), gameObjects.values(), gui.values(), camera);
+    }
+
+    /**
+     * Renders the game objects and GUI objects of the specified drawable manager, within the viewing area of the Camera.
+     * <p>
+     * Rather than checking every game object, this only visits the game objects its {@link DrawableManager#getSpatialIndex() spatial
+     * index} finds within the viewing area. Game objects are rendered in the order of the drawable manager's
+     * {@link DrawableManager#getDrawOrder() draw order} -- by their {@link Drawable#getDrawLayer() draw layer}, then
+     * their {@link Drawable#getZIndex() z-index}, and then the order they were added.
+     * <p>
+     * The drawable manager's {@link RenderLayer render layers} are rendered behind or in front of its game objects, depending on their
+     * index. When rendering on a separate thread, the game objects of render layers are captured and rendered like any other game object,
+     * without caching.
+     * <p>
+     * If the canvas is {@link #isThreadedRendering() rendering on its own thread}, this captures a {@link RenderSnapshot render snapshot}
+     * of the drawable manager's objects and hands it off to the render thread instead.
+     *
+     * @param drawableManager The drawable manager whose objects should be rendered.
+     * @param camera          The camera that the user will view the game from.
+     * @since 1.7.0
+     */
+    public void render(DrawableManager drawableManager, Camera camera) {
+        Map<String, UIElement<? extends InputActionEvent>> gui = drawableManager.getUIElements();
+        List<RenderLayer> renderLayers = drawableManager.getRenderLayers();
+        if (!display.isOpen()) {
+            return;
+        }
+        if (renderThread != null && publishSnapshot(withRenderLayers(drawableManager.getDrawOrder(), renderLayers), gui, camera)) {
+            return;
+        }
+
+        updateViewBounds(viewBounds, camera.getTransformation());
+        List<GameObject> visibleGameObjects = drawableManager.getSpatialIndex().queryRange(
+            viewBounds.getMinX(),
+            viewBounds.getMinY(),
+            viewBounds.getMaxX(),
+            viewBounds.getMaxY()
+        );
+        renderFrame(renderLayers, visibleGameObjects, gui.values(), camera);
+    }
+
+    private static Map<String, GameObject> withRenderLayers(DrawOrder<GameObject> drawOrder, List<RenderLayer> renderLayers) {
+        Map<String, GameObject> result = new LinkedHashMap<>();
+        int nextLayer = 0;
+        for (; nextLayer < renderLayers.size() && renderLayers.get(nextLayer).getIndex() < 0; nextLayer++) {
+            for (GameObject gameObject : renderLayers.get(nextLayer).getGameObjects()) {
+                result.put(gameObject.getID(), gameObject);
+            }
+        }
+
+        for (GameObject gameObject : drawOrder) {
+            result.put(gameObject.getID(), gameObject);
+        }
+
+        for (; nextLayer < renderLayers.size(); nextLayer++) {
+            for (GameObject gameObject : renderLayers.get(nextLayer).getGameObjects()) {
+                result.put(gameObject.getID(), gameObject);
+            }
+        }
+
+        return result;
+    }
+
+    private boolean publishSnapshot(Map<String, GameObject> gameObjects, Map<String, UIElement<? extends InputActionEvent>> gui,
+                                    Camera camera) {
+        RenderThread currentRenderThread = renderThread;
+        if (currentRenderThread == null) {
+            return false;
+        }
+
+        renderedGameObjects = gameObjects;
+        renderedUIElements = gui;
+        renderedCamera = camera;
+
+        currentRenderThread.publish(RenderSnapshot.capture(
+            gameObjects.values(),
+            gui.values(),
+            camera,
+            transformHistory,
+            FastJEngine.getGameLoop().getInterpolationAlpha()
+        ));
+        return true;
+    }
+
+    private void renderFrame(List<RenderLayer> renderLayers, Iterable<GameObject> gameObjects,
+                             Iterable<UIElement<? extends InputActionEvent>> gui, Camera camera) {
         try {
-            BufferStrategy drawBuffer;
-            do {
-                drawBuffer = canvas.getBufferStrategy();
-            } while (drawBuffer == null);
-
-            drawBuffer.getDrawGraphics().clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
-
-            Graphics2D drawGraphics = prepareGraphics((Graphics2D) drawBuffer.getDrawGraphics(), camera);
-            drawGraphics.clearRect(
-                (int) (background.x - camera.getTranslation().x),
-                (int) (background.y - camera.getTranslation().y),
-                // add 1 to these values to account for floating point cutoff, since this has to be all integers
-                (int) background.width + 1,
-                (int) background.height + 1
+            Graphics2D drawGraphics = renderTarget.createGraphics();
+            try {
+                if (isDirtyRegionRendering && renderTarget instanceof OffscreenRenderTarget offscreenTarget
+                    && !offscreenTarget.isAccelerated()) {
+                    if (!renderDirtyRegions(validateOffscreenFrame(offscreenTarget), renderLayers, gameObjects, gui, camera)) {
+                        return;
+                    }
+                } else if (isDirtyRegionRendering && validateRetainedFrame()) {
+                    if (!renderDirtyRegions(retainedFrame, renderLayers, gameObjects, gui, camera)) {
+                        return;
+                    }
+                    drawGraphics.drawImage(retainedFrame, 0, 0, null);
+                    if (retainedFrame.contentsLost()) {
+                        damageTracker.markFullyDamaged();
+                    }
+                } else if (renderTarget instanceof OffscreenRenderTarget offscreenTarget && offscreenTarget.getTileCount() > 1
+                    && canRenderTiles(renderLayers, gameObjects)) {
+                    if (!renderTiles(offscreenTarget, renderLayers, gameObjects, gui, camera)) {
+                        return;
+                    }
+                } else {
+                    drawGraphics.setBackground(getBackgroundColor());
+                    drawGraphics.clearRect(0, 0, renderTarget.getWidth(), renderTarget.getHeight());
+                    Graphics2D sceneGraphics = prepareGraphics(drawGraphics, camera);
+                    if (!renderScene(sceneGraphics, renderBatch, renderLayers, gameObjects, gui, camera, null, null, FastJEngine::error)) {
+                        return;
+                    }
+                }
+
+                renderTarget.show();
+            } finally {
+                drawGraphics.dispose();
+            }
+        } catch (IllegalStateException exception) {
+            if (!FastJEngine.isRunning()) {
+                FastJEngine.error(CrashMessages.illegalAction(getClass()), exception);
+            }
+        }
+    }
+
+    /**
+     * An offscreen render target rendering onto a {@link BufferedImage} keeps its last frame, so dirty regions are redrawn onto it
+     * directly. A new image, such as after resizing the render target, is redrawn entirely.
+     */
+    private BufferedImage validateOffscreenFrame(OffscreenRenderTarget offscreenTarget) {
+        BufferedImage offscreenFrame = offscreenTarget.getImage();
+        if (offscreenFrame != retainedOffscreenFrame) {
+            retainedOffscreenFrame = offscreenFrame;
+            damageTracker.reset();
+        }
+        return offscreenFrame;
+    }
+
+    private boolean validateRetainedFrame() {
+        if (canvas == null) {
+            return false;
+        }
+
+        int width = canvas.getWidth();
+        int height = canvas.getHeight();
+        if (retainedFrame != null
+            && (retainedFrame.getWidth() != width || retainedFrame.getHeight() != height
+            || retainedFrame.validate(canvas.getGraphicsConfiguration()) == VolatileImage.IMAGE_INCOMPATIBLE)) {
+            retainedFrame.flush();
+            retainedFrame = null;
+        }
+
+        if (retainedFrame == null) {
+            if (width <= 0 || height <= 0) {
+                return false;
+            }
+
+            retainedFrame = canvas.createVolatileImage(width, height);
+            if (retainedFrame == null) {
+                return false;
+            }
+
+            retainedFrame.validate(canvas.getGraphicsConfiguration());
+            damageTracker.reset();
+        } else if (retainedFrame.contentsLost()) {
+            damageTracker.markFullyDamaged();
+        }
+
+        return true;
+    }
+
+    private boolean renderDirtyRegions(Image frame, List<RenderLayer> renderLayers, Iterable<GameObject> gameObjects,
+                                       Iterable<UIElement<? extends InputActionEvent>> gui, Camera camera) {
+        AffineTransform cameraTransformation = camera.getTransformation();
+        Pointf resolutionScale = getResolutionScale();
+        guiScreenTransformation.setToScale(resolutionScale.x, resolutionScale.y);
+        screenTransformation.setTransform(guiScreenTransformation);
+        screenTransformation.concatenate(cameraTransformation);
+
+        damageTracker.beginFrame(screenTransformation);
+        for (RenderLayer renderLayer : renderLayers) {
+            for (GameObject gameObject : renderLayer.getGameObjects()) {
+                if (gameObject.shouldRender()) {
+                    damageTracker.track(gameObject, screenTransformation);
+                }
+            }
+        }
+        for (GameObject gameObject : gameObjects) {
+            if (gameObject.shouldRender() && viewBounds.intersects(gameObject)) {
+                damageTracker.track(gameObject, screenTransformation);
+            }
+        }
+        for (UIElement<? extends InputActionEvent> guiObj : gui) {
+            if (guiObj.shouldRender() && viewBounds.intersects(guiObj)) {
+                damageTracker.track(guiObj, guiScreenTransformation);
+            }
+        }
+        damageTracker.endFrame();
+
+        int width = frame.getWidth(null);
+        int height = frame.getHeight(null);
+        boolean isFullRedraw = damageTracker.consumeFullRedraw((double) width * height, dirtyAreaThreshold);
+        if (!isFullRedraw && !damageTracker.hasDamage()) {
+            return true;
+        }
+
+        Graphics2D frameGraphics = (Graphics2D) frame.getGraphics();
+        try {
+            frameGraphics.setBackground(getBackgroundColor());
+            if (isFullRedraw) {
+                frameGraphics.clearRect(0, 0, width, height);
+            } else {
+                Rectangle damage = damageTracker.getDamage();
+                frameGraphics.clip(damage);
+                frameGraphics.clearRect(damage.x, damage.y, damage.width, damage.height);
+            }
+
+            Predicate<Drawable> gameObjectCulling = null;
+            Predicate<Drawable> guiCulling = null;
+            if (!isFullRedraw) {
+                gameObjectCulling = drawable -> damageTracker.intersectsDamage(drawable, screenTransformation);
+                guiCulling = drawable -> damageTracker.intersectsDamage(drawable, guiScreenTransformation);
+            }
+
+            Graphics2D sceneGraphics = prepareGraphics(frameGraphics, cameraTransformation);
+            if (!renderScene(
+                sceneGraphics, renderBatch, renderLayers, gameObjects, gui, camera, gameObjectCulling, guiCulling, FastJEngine::error
+            )) {
+                damageTracker.markFullyDamaged();
+                return false;
+            }
+            return true;
+        } finally {
+            frameGraphics.dispose();
+        }
+    }
+
+    /**
+     * Tiles are rendered in parallel, so a frame is only split into tiles when every game object on screen which is not part of a static
+     * render layer is {@link Drawable#isConcurrentlyRenderable() concurrently renderable}. Static render layers only let one tile at a time
+     * render them, and ui elements are rendered after the tiles, on the current thread.
+     */
+    private boolean canRenderTiles(List<RenderLayer> renderLayers, Iterable<GameObject> gameObjects) {
+        for (RenderLayer renderLayer : renderLayers) {
+            if (!renderLayer.isStatic() && !isConcurrentlyRenderable(renderLayer.getGameObjects())) {
+                return false;
+            }
+        }
+        return isConcurrentlyRenderable(gameObjects);
+    }
+
+    private boolean isConcurrentlyRenderable(Iterable<GameObject> gameObjects) {
+        for (GameObject gameObject : gameObjects) {
+            if (gameObject.shouldRender() && viewBounds.intersects(gameObject) && !gameObject.isConcurrentlyRenderable()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean renderTiles(OffscreenRenderTarget offscreenTarget, List<RenderLayer> renderLayers, Iterable<GameObject> gameObjects,
+                                Iterable<UIElement<? extends InputActionEvent>> gui, Camera camera) {
+        int width = offscreenTarget.getWidth();
+        int height = offscreenTarget.getHeight();
+        int tileCount = Math.min(offscreenTarget.getTileCount(), height);
+        if (tileRenderBatches.length < tileCount) {
+            tileRenderBatches = new RenderBatch[tileCount];
+            tileViewBounds = new ViewBounds[tileCount];
+            for (int i = 0; i < tileCount; i++) {
+                tileRenderBatches[i] = new RenderBatch();
+                tileViewBounds[i] = new ViewBounds();
+            }
+        }
+
+        AffineTransform cameraTransformation = camera.getTransformation();
+        Pointf resolutionScale = getResolutionScale();
+        guiScreenTransformation.setToScale(resolutionScale.x, resolutionScale.y);
+        screenTransformation.setTransform(guiScreenTransformation);
+        screenTransformation.concatenate(cameraTransformation);
+
+        RenderError[] tileErrors = new RenderError[tileCount];
+        List<ForkJoinTask<?>> tileTasks = new ArrayList<>(tileCount - 1);
+        for (int i = 1; i < tileCount; i++) {
+            int tile = i;
+            tileTasks.add(offscreenTarget.getTilePool().submit(() -> renderTile(
+                offscreenTarget, tile, tileCount, width, height, cameraTransformation, renderLayers, gameObjects, camera, tileErrors
+            )));
+        }
+
+        // the current thread renders the first tile, rather than waiting idly for the others
+        renderTile(offscreenTarget, 0, tileCount, width, height, cameraTransformation, renderLayers, gameObjects, camera, tileErrors);
+        for (ForkJoinTask<?> tileTask : tileTasks) {
+            tileTask.join();
+        }
+
+        // errors are only reported once every tile is done, so the engine is never closed from a tile thread
+        for (RenderError tileError : tileErrors) {
+            if (tileError != null) {
+                FastJEngine.error(tileError.message(), tileError.exception());
+                return false;
+            }
+        }
+
+        Graphics2D guiGraphics = offscreenTarget.createGraphics();
+        try {
+            return renderScene(
+                prepareGraphics(guiGraphics, cameraTransformation),
+                renderBatch,
+                List.of(),
+                List.of(),
+                gui,
+                camera,
+                null,
+                null,
+                FastJEngine::error
             );
+        } finally {
+            guiGraphics.dispose();
+        }
+    }
 
-            for (GameObject gameObject : gameObjects.values()) {
-                try {
-                    if (!isOnScreen(gameObject, camera) || !gameObject.shouldRender()) {
-                        continue;
-                    }
-                    gameObject.render(drawGraphics);
-                } catch (Exception exception) {
-                    FastJEngine.error(CrashMessages.RenderError.errorMessage + " | Origin: " + gameObject.getID(), exception);
-                    return;
+    private void renderTile(OffscreenRenderTarget offscreenTarget, int tile, int tileCount, int width, int height,
+                            AffineTransform cameraTransformation, List<RenderLayer> renderLayers, Iterable<GameObject> gameObjects,
+                            Camera camera, RenderError[] tileErrors) {
+        int tileY = (int) ((long) height * tile / tileCount);
+        int tileHeight = (int) ((long) height * (tile + 1) / tileCount) - tileY;
+
+        ViewBounds gameObjectBounds = tileViewBounds[tile];
+        gameObjectBounds.update(screenTransformation, 0, tileY, width, tileHeight);
+
+        Graphics2D tileGraphics = offscreenTarget.createGraphics();
+        try {
+            tileGraphics.clipRect(0, tileY, width, tileHeight);
+            tileGraphics.setBackground(getBackgroundColor());
+            tileGraphics.clearRect(0, tileY, width, tileHeight);
+
+            renderScene(
+                prepareGraphics(tileGraphics, cameraTransformation),
+                tileRenderBatches[tile],
+                renderLayers,
+                gameObjects,
+                List.of(),
+                camera,
+                gameObjectBounds::intersects,
+                null,
+                (message, exception) -> tileErrors[tile] = new RenderError(message, exception)
+            );
+        } finally {
+            tileGraphics.dispose();
+        }
+    }
+
+    private boolean renderScene(Graphics2D drawGraphics, RenderBatch renderBatch, List<RenderLayer> renderLayers,
+                                Iterable<GameObject> gameObjects, Iterable<UIElement<? extends InputActionEvent>> gui, Camera camera,
+                                Predicate<Drawable> gameObjectCulling, Predicate<Drawable> guiCulling,
+                                BiConsumer<String, Exception> errorHandler) {
+        renderBatch.begin(drawGraphics);
+        int nextLayer = 0;
+        for (; nextLayer < renderLayers.size() && renderLayers.get(nextLayer).getIndex() < 0; nextLayer++) {
+            if (!renderLayer(renderLayers.get(nextLayer), drawGraphics, renderBatch, errorHandler)) {
+                return false;
+            }
+        }
+
+        for (GameObject gameObject : gameObjects) {
+            try {
+                if (!gameObject.shouldRender() || !viewBounds.intersects(gameObject)) {
+                    continue;
+                }
+                if (gameObjectCulling != null && !gameObjectCulling.test(gameObject)) {
+                    continue;
                 }
+                gameObject.render(drawGraphics, renderBatch);
+            } catch (Exception exception) {
+                errorHandler.accept(CrashMessages.RenderError.errorMessage + " | Origin: " + gameObject.getID(), exception);
+                return false;
             }
+        }
 
-            for (UIElement<? extends InputActionEvent> guiObj : gui.values()) {
-                try {
-                    if (!isOnScreen(guiObj, camera) || !guiObj.shouldRender()) {
-                        continue;
-                    }
-                    guiObj.renderAsGUIObject(drawGraphics, camera);
-                } catch (Exception exception) {
-                    FastJEngine.error(CrashMessages.RenderError.errorMessage + " | Origin: " + guiObj.getID(), exception);
-                    return;
+        for (; nextLayer < renderLayers.size(); nextLayer++) {
+            if (!renderLayer(renderLayers.get(nextLayer), drawGraphics, renderBatch, errorHandler)) {
+                return false;
+            }
+        }
+        renderBatch.end();
+
+        for (UIElement<? extends InputActionEvent> guiObj : gui) {
+            try {
+                if (!guiObj.shouldRender() || !viewBounds.intersects(guiObj)) {
+                    continue;
                 }
+                if (guiCulling != null && !guiCulling.test(guiObj)) {
+                    continue;
+                }
+                guiObj.renderAsGUIObject(drawGraphics, camera);
+            } catch (Exception exception) {
+                errorHandler.accept(CrashMessages.RenderError.errorMessage + " | Origin: " + guiObj.getID(), exception);
+                return false;
             }
+        }
+
+        return true;
+    }
+
+    private boolean renderLayer(RenderLayer renderLayer, Graphics2D drawGraphics, RenderBatch renderBatch,
+                                BiConsumer<String, Exception> errorHandler) {
+        try {
+            renderLayer.render(drawGraphics, renderBatch, viewBounds);
+            return true;
+        } catch (Exception exception) {
+            errorHandler.accept(CrashMessages.RenderError.errorMessage + " | Origin: render layer " + renderLayer.getIndex(), exception);
+            return false;
+        }
+    }
+
+    /**
+     * Renders the game objects and ui elements of the given {@link RenderSnapshot render snapshot}, with the transforms captured by it.
+     *
+     * @param snapshot The snapshot to render.
+     */
+    public void render(RenderSnapshot snapshot) {
+        if (!display.isOpen()) {
+            return;
+        }
+
+        try {
+            AffineTransform cameraTransformation = snapshot.getCameraTransformation();
+            Graphics2D drawGraphics = renderTarget.createGraphics();
+            try {
+                drawGraphics.setBackground(getBackgroundColor());
+                drawGraphics.clearRect(0, 0, renderTarget.getWidth(), renderTarget.getHeight());
+                prepareGraphics(drawGraphics, cameraTransformation);
+
+                updateViewBounds(snapshotViewBounds, cameraTransformation);
+
+                snapshotRenderBatch.begin(drawGraphics);
+                for (int i = 0; i < snapshot.getGameObjectCount(); i++) {
+                    GameObject gameObject = snapshot.getGameObject(i);
+                    try {
+                        if (!snapshotViewBounds.intersects(gameObject)) {
+                            continue;
+                        }
+                        snapshot.renderGameObject(i, drawGraphics, snapshotRenderBatch);
+                    } catch (Exception exception) {
+                        FastJEngine.error(CrashMessages.RenderError.errorMessage + " | Origin: " + gameObject.getID(), exception);
+                        return;
+                    }
+                }
+                snapshotRenderBatch.end();
+
+                for (int i = 0; i < snapshot.getUIElementCount(); i++) {
+                    UIElement<?> guiObj = snapshot.getUIElement(i);
+                    try {
+                        if (!snapshotViewBounds.intersects(guiObj)) {
+                            continue;
+                        }
+                        snapshot.renderUIElement(i, drawGraphics);
+                    } catch (Exception exception) {
+                        FastJEngine.error(CrashMessages.RenderError.errorMessage + " | Origin: " + guiObj.getID(), exception);
+                        return;
+                    }
+                }
 
-            drawBuffer.show();
-            drawGraphics.dispose();
+                renderTarget.show();
+            } finally {
+                drawGraphics.dispose();
+            }
         } catch (IllegalStateException exception) {
             if (!FastJEngine.isRunning()) {
                 FastJEngine.error(CrashMessages.illegalAction(getClass()), exception);
@@ -206,6 +865,7 @@ public class FastJCanvas {
     public void modifyRenderSettings(RenderingHints.Key renderHintKey, Object renderHintValue) {
         renderHints.remove(renderHintKey);
         renderHints.put(renderHintKey, renderHintValue);
+        damageTracker.markFullyDamaged();
     }
 
     /**
@@ -216,30 +876,29 @@ public class FastJCanvas {
     public void modifyRenderSettings(RenderSettings renderSetting) {
         renderHints.remove(renderSetting.key);
         renderHints.put(renderSetting.key, renderSetting.value);
+        damageTracker.markFullyDamaged();
     }
 
     /**
      * {@return whether the given {@link Drawable drawable} is visible on screen with the given {@link Camera camera} transform}
+     * <p>
+     * The view of the camera is kept between calls, and only found again once the camera or the canvas changes -- checking many
+     * drawables with the same camera does not allocate.
      *
      * @param drawable The {@code Drawable} to check.
      * @param camera   The {@link Camera camera} to check from, for proper transformation checking.
      */
     public boolean isOnScreen(Drawable drawable, Camera camera) {
-        try {
-            Rectangle2D.Float drawableBounds = DrawUtil.createRect(drawable.getBounds());
-            Shape canvasShape = camera.getTransformation().createInverse().createTransformedShape(canvas.getBounds());
-
-            Area drawableArea = new Area(drawableBounds);
-            Area canvasArea = new Area(canvasShape);
-
-            drawableArea.intersect(canvasArea);
-
-            return !drawableArea.isEmpty();
-        } catch (NoninvertibleTransformException exception) {
-            throw new IllegalStateException(exception);
+        synchronized (onScreenViewBounds) {
+            updateViewBounds(onScreenViewBounds, camera.getTransformation(onScreenCameraTransformation));
+            return onScreenViewBounds.intersects(drawable);
         }
     }
 
+    private void updateViewBounds(ViewBounds bounds, AffineTransform cameraTransformation) {
+        bounds.update(cameraTransformation, 0, 0, renderTarget.getWidth(), renderTarget.getHeight());
+    }
+
     /**
      * Initializes the {@code Display}.
      * <p>
@@ -257,8 +916,7 @@ public class FastJCanvas {
      * @param newResolution The new canvas size.
      */
     public void resize(Point newResolution) {
-        canvas.setPreferredSize(newResolution.asDimension());
-        canvas.revalidate();
+        renderTarget.resize(newResolution.x, newResolution.y);
         FastJEngine.debug("resized canvas to {}", newResolution);
     }
 
@@ -277,6 +935,16 @@ public class FastJCanvas {
         Keyboard.init();
         Mouse.init();
 
+        // set background rectangle
+        background = new Rectangle2D.Float(0f, 0f, resolution.x, resolution.y);
+
+        if (display.isHeadless()) {
+            Point displaySize = display.getScreenSize();
+            renderTarget = new OffscreenRenderTarget(displaySize.x, displaySize.y);
+            backgroundColor = Color.black;
+            return;
+        }
+
         // Canvas
         canvas = new Canvas();
         canvas.setPreferredSize(display.getWindow().getSize());
@@ -292,9 +960,7 @@ public class FastJCanvas {
         display.getWindow().setLocationRelativeTo(null);
 
         canvas.createBufferStrategy(FastJCanvas.DefaultBackBufferAmount);
-
-        // set background rectangle
-        background = new Rectangle2D.Float(0f, 0f, resolution.x, resolution.y);
+        renderTarget = new CanvasRenderTarget(canvas);
     }
 
     /** Sets the default state of the rendering hints for the {@code Display}. */
@@ -330,10 +996,18 @@ public class FastJCanvas {
      * @param camera The camera used to transform the graphics object.
      */
     private Graphics2D prepareGraphics(Graphics2D g, Camera camera) {
+        return prepareGraphics(g, camera.getTransformation());
+    }
+
+    private Graphics2D prepareGraphics(Graphics2D g, AffineTransform cameraTransformation) {
         g.setRenderingHints(renderHints);
         g.scale(getResolutionScale().x, getResolutionScale().y);
-        g.transform(camera.getTransformation());
+        g.transform(cameraTransformation);
 
         return g;
     }
+
+    /** A render error caught on a tile thread, reported once every tile of the frame is done. */
+    private record RenderError(String message, Exception exception) {
+    }
 }
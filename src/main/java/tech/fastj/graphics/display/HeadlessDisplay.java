@@ -0,0 +1,106 @@
+package tech.fastj.graphics.display;
+
+import tech.fastj.engine.FastJEngine;
+import tech.fastj.math.Point;
+import tech.fastj.math.Pointf;
+
+import java.awt.Window;
+
+/**
+ * A {@link Display display} without any window, whose canvas renders onto an {@link OffscreenRenderTarget offscreen render target}.
+ * <p>
+ * A headless display lets the game engine run -- and render -- where there is no screen, like on servers and in containers. It is used
+ * by default when the environment is {@link java.awt.GraphicsEnvironment#isHeadless() headless}, and can otherwise be used through
+ * {@link FastJEngine#setCustomDisplay(Display)}.
+ * <p>
+ * By default, the game loop does not wait out the rest of each frame while a headless display is open, so simulations and benchmarks
+ * run as fast as they can. See {@link #setFramePaced(boolean)}.
+ *
+ * @author Andrew Dey
+ * @since 1.7.0
+ */
+public class HeadlessDisplay implements Display {
+
+    private final Point displaySize;
+    private volatile boolean isOpen;
+    private volatile boolean isFramePaced;
+
+    /** Constructs a headless display of the {@link SimpleDisplay#DefaultDisplaySize default display size}. */
+    public HeadlessDisplay() {
+        this(SimpleDisplay.DefaultDisplaySize);
+    }
+
+    /**
+     * Constructs a headless display of the given size.
+     *
+     * @param displaySize The size of the display, which its canvas renders at.
+     */
+    public HeadlessDisplay(Point displaySize) {
+        if (displaySize.x < 1 || displaySize.y < 1) {
+            throw new IllegalArgumentException("The display size must be at least 1 by 1.");
+        }
+
+        this.displaySize = displaySize.copy();
+    }
+
+    /**
+     * Sets whether the game loop waits out the rest of each frame to keep to its target fps while the display is open.
+     *
+     * @param framePaced Whether the game loop should keep to its target fps.
+     */
+    public void setFramePaced(boolean framePaced) {
+        isFramePaced = framePaced;
+    }
+
+    @Override
+    public boolean isFramePaced() {
+        return isFramePaced;
+    }
+
+    @Override
+    public DisplayState getDisplayState() {
+        return DisplayState.Windowed;
+    }
+
+    /**
+     * Headless displays have no window.
+     *
+     * @throws IllegalStateException always.
+     */
+    @Override
+    public Window getWindow() {
+        throw new IllegalStateException("A headless display has no window.");
+    }
+
+    @Override
+    public Point getScreenSize() {
+        return displaySize.copy();
+    }
+
+    @Override
+    public Pointf getScreenCenter() {
+        return displaySize.asPointf().divide(2f);
+    }
+
+    @Override
+    public boolean isOpen() {
+        return isOpen;
+    }
+
+    @Override
+    public boolean isHeadless() {
+        return true;
+    }
+
+    @Override
+    public void open() {
+        isOpen = true;
+        FastJEngine.debug("headless display opened");
+    }
+
+    @Override
+    public void close() {
+        isOpen = false;
+        FastJEngine.debug("headless display closed");
+    }
+}
@@ -0,0 +1,185 @@
+package tech.fastj.graphics.display;
+
+import tech.fastj.resources.images.ImageUtil;
+
+import java.awt.Graphics2D;
+import java.awt.GraphicsEnvironment;
+import java.awt.image.BufferedImage;
+import java.awt.image.VolatileImage;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * {@link RenderTarget Render target} which renders onto an offscreen image, without any window.
+ * <p>
+ * This is what the canvas of a {@link HeadlessDisplay headless display} renders onto, for running simulations, generating thumbnails,
+ * or benchmarking rendering where there is no screen to show frames on. The last rendered frame can be read with {@link #getImage()}.
+ * <p>
+ * By default, frames are rendered onto a {@link BufferedImage}. An accelerated render target renders onto a {@link VolatileImage}
+ * instead, where the environment supports it.
+ * <p>
+ * Frames rendered in software are bound by the processor. To spread that work over more cores, the render target can be split into
+ * {@link #setTileCount(int) horizontal tiles}, which the canvas renders in parallel -- each culled to the drawables overlapping it, and
+ * clipped to its own band of the image.
+ *
+ * @author Andrew Dey
+ * @since 1.7.0
+ */
+public class OffscreenRenderTarget implements RenderTarget {
+
+    /** The default amount of tiles an offscreen render target is split into, of {@code 1}. */
+    public static final int DefaultTileCount = 1;
+
+    private final boolean isAccelerated;
+    private volatile int tileCount;
+    private volatile ForkJoinPool tilePool;
+    private BufferedImage image;
+    private VolatileImage volatileImage;
+    private int width;
+    private int height;
+    private volatile long frameCount;
+
+    /**
+     * Constructs an offscreen render target of the given size, which renders onto a {@link BufferedImage}.
+     *
+     * @param width  The width, in pixels.
+     * @param height The height, in pixels.
+     */
+    public OffscreenRenderTarget(int width, int height) {
+        this(width, height, false);
+    }
+
+    /**
+     * Constructs an offscreen render target of the given size.
+     *
+     * @param width       The width, in pixels.
+     * @param height      The height, in pixels.
+     * @param accelerated Whether to render onto a {@link VolatileImage}, rather than a {@link BufferedImage}. This has no effect in a
+     *                    headless environment, which does not support volatile images.
+     */
+    public OffscreenRenderTarget(int width, int height, boolean accelerated) {
+        isAccelerated = accelerated && !GraphicsEnvironment.isHeadless();
+        tileCount = DefaultTileCount;
+        tilePool = ForkJoinPool.commonPool();
+        createImage(width, height);
+    }
+
+    /** {@return the amount of horizontal tiles the render target is split into, which are rendered in parallel} */
+    public int getTileCount() {
+        return tileCount;
+    }
+
+    /**
+     * Sets the amount of horizontal tiles the render target is split into, which are rendered in parallel.
+     * <p>
+     * With a single tile -- the default -- frames are rendered on the thread rendering the canvas, as usual. Otherwise, the height of the
+     * render target is split into the given amount of bands, which are rendered on the {@link #getTilePool() tile pool}. Game objects are
+     * rendered once for each tile they overlap, so the tile count is best kept around the amount of available cores.
+     * <p>
+     * Frames with any game object on screen which is not {@link tech.fastj.graphics.Drawable#isConcurrentlyRenderable() concurrently
+     * renderable} are still rendered without tiles.
+     *
+     * @param tileCount The amount of tiles.
+     */
+    public void setTileCount(int tileCount) {
+        if (tileCount < 1) {
+            throw new IllegalArgumentException("The tile count must be at least 1.");
+        }
+
+        this.tileCount = tileCount;
+    }
+
+    /** {@return the pool tiles of the render target are rendered on} */
+    public ForkJoinPool getTilePool() {
+        return tilePool;
+    }
+
+    /**
+     * Sets the pool tiles of the render target are rendered on. By default, this is the {@link ForkJoinPool#commonPool() common pool}.
+     *
+     * @param tilePool The pool to render tiles on.
+     */
+    public void setTilePool(ForkJoinPool tilePool) {
+        this.tilePool = Objects.requireNonNull(tilePool, "The tile pool must not be null.");
+    }
+
+    /** {@return whether the render target renders onto a {@link VolatileImage}} */
+    public boolean isAccelerated() {
+        return isAccelerated;
+    }
+
+    /** {@return the amount of frames shown on the render target} */
+    public long getFrameCount() {
+        return frameCount;
+    }
+
+    /**
+     * {@return an image of the last frame shown on the render target}
+     * <p>
+     * For a render target which is not {@link #isAccelerated() accelerated}, this is the image frames are rendered onto, and will be
+     * drawn over by the next frame. Otherwise, this is a copy of the frame.
+     */
+    public synchronized BufferedImage getImage() {
+        if (isAccelerated) {
+            return volatileImage.getSnapshot();
+        }
+        return image;
+    }
+
+    @Override
+    public synchronized int getWidth() {
+        return width;
+    }
+
+    @Override
+    public synchronized int getHeight() {
+        return height;
+    }
+
+    @Override
+    public synchronized Graphics2D createGraphics() {
+        if (isAccelerated) {
+            if (volatileImage.validate(GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice().getDefaultConfiguration())
+                == VolatileImage.IMAGE_INCOMPATIBLE) {
+                volatileImage.flush();
+                volatileImage = ImageUtil.createVolatileImage(width, height);
+            }
+            return volatileImage.createGraphics();
+        }
+        return image.createGraphics();
+    }
+
+    @Override
+    public void show() {
+        frameCount++;
+    }
+
+    @Override
+    public synchronized void resize(int width, int height) {
+        createImage(width, height);
+    }
+
+    private void createImage(int width, int height) {
+        if (width < 1) {
+            throw new IllegalArgumentException("The render target width must be at least 1.");
+        }
+        if (height < 1) {
+            throw new IllegalArgumentException("The render target height must be at least 1.");
+        }
+
+        this.width = width;
+        this.height = height;
+
+        if (isAccelerated) {
+            if (volatileImage != null) {
+                volatileImage.flush();
+            }
+            volatileImage = ImageUtil.createVolatileImage(width, height);
+        } else {
+            if (image != null) {
+                image.flush();
+            }
+            image = ImageUtil.createBufferedImage(width, height);
+        }
+    }
+}
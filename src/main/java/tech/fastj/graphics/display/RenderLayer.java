@@ -0,0 +1,321 @@
+package tech.fastj.graphics.display;
+
+import tech.fastj.graphics.BoundsListener;
+import tech.fastj.graphics.RenderBatch;
+import tech.fastj.graphics.game.GameObject;
+import tech.fastj.resources.images.ImageUtil;
+
+import java.awt.AlphaComposite;
+import java.awt.Graphics2D;
+import java.awt.GraphicsEnvironment;
+import java.awt.Image;
+import java.awt.image.BufferedImage;
+import java.awt.image.VolatileImage;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A group of {@link GameObject game objects} which are rendered together, in front of or behind the rest of the game objects of a
+ * {@link tech.fastj.systems.control.DrawableManager drawable manager}.
+ * <p>
+ * Render layers are rendered in order of their {@link #getIndex() index}. Layers with a negative index are rendered behind the drawable
+ * manager's game objects, and layers with an index of {@code 0} or more are rendered in front of them.
+ * <p>
+ * A render layer can be marked as {@link #isStatic() static}, for content which rarely changes -- backgrounds, tile layers, frames, and
+ * so on. A static layer renders its game objects once into a cached image, and afterwards each frame only draws that image. The cache is
+ * rendered again once the layer is {@link #isDirty() dirty}, which happens automatically when:
+ * <ul>
+ *     <li>a game object is added to or removed from the layer,</li>
+ *     <li>a game object of the layer is translated, rotated, or scaled, or</li>
+ *     <li>the contents of the cached image are lost, such as when the display changes.</li>
+ * </ul>
+ * Any other change to a game object of a static layer -- its paint, its text, whether it {@link GameObject#shouldRender() should render},
+ * and so on -- needs to be followed by a call to {@link #markDirty()}.
+ * <p>
+ * The cache is kept in a {@link VolatileImage}, or in a {@link BufferedImage} in headless environments. It holds the game objects at the
+ * scale of the game world, and is drawn through the camera transform like any other game object. Static layers whose content would cover
+ * more than {@link #MaxCacheSize} pixels across are rendered without a cache.
+ *
+ * @author Andrew Dey
+ * @since 1.7.0
+ */
+public class RenderLayer {
+
+    /** The largest width or height, in pixels, of the cached image of a static layer. */
+    public static final int MaxCacheSize = 4096;
+
+    /** The amount of pixels kept around the bounds of a static layer's content, so outlines drawn past those bounds are not cut off. */
+    static final int CachePadding = 16;
+
+    private final int index;
+    private final List<GameObject> gameObjects;
+    private final List<GameObject> gameObjectsView;
+    private final BoundsListener boundsListener;
+    private final RenderBatch cacheRenderBatch;
+
+    private boolean isStatic;
+    private volatile boolean isDirty;
+    private Image cache;
+    private int cacheX;
+    private int cacheY;
+    private int cacheWidth;
+    private int cacheHeight;
+
+    /**
+     * Constructs a render layer which is not static, with the given index.
+     *
+     * @param index The index of the render layer.
+     */
+    public RenderLayer(int index) {
+        this(index, false);
+    }
+
+    /**
+     * Constructs a render layer with the given index.
+     *
+     * @param index    The index of the render layer.
+     * @param isStatic Whether the render layer is static.
+     */
+    public RenderLayer(int index, boolean isStatic) {
+        this.index = index;
+        this.isStatic = isStatic;
+
+        gameObjects = new ArrayList<>();
+        gameObjectsView = Collections.unmodifiableList(gameObjects);
+        boundsListener = drawable -> isDirty = true;
+        cacheRenderBatch = new RenderBatch();
+        isDirty = true;
+    }
+
+    /** {@return the index of the render layer, which decides the order render layers are rendered in} */
+    public int getIndex() {
+        return index;
+    }
+
+    /** {@return whether the render layer is static, rendering its game objects through a cached image} */
+    public boolean isStatic() {
+        return isStatic;
+    }
+
+    /**
+     * Sets whether the render layer is static.
+     * <p>
+     * Making a static layer no longer static releases its cached image.
+     *
+     * @param isStatic Whether the render layer should be static.
+     */
+    public void setStatic(boolean isStatic) {
+        this.isStatic = isStatic;
+        if (!isStatic) {
+            flush();
+        }
+        isDirty = true;
+    }
+
+    /** {@return whether the cached image of the render layer needs to be rendered again} */
+    public boolean isDirty() {
+        return isDirty;
+    }
+
+    /** Marks the cached image of the render layer as out of date, so it is rendered again the next time the layer is rendered. */
+    public void markDirty() {
+        isDirty = true;
+    }
+
+    /** {@return the game objects of the render layer, in the order they are rendered} */
+    public List<GameObject> getGameObjects() {
+        return gameObjectsView;
+    }
+
+    /**
+     * Adds the given game object to the end of the render layer, if it is not part of the layer already.
+     *
+     * @param gameObject The game object to add.
+     */
+    public void addGameObject(GameObject gameObject) {
+        if (gameObjects.contains(gameObject)) {
+            return;
+        }
+
+        gameObjects.add(gameObject);
+        gameObject.addBoundsListener(boundsListener);
+        isDirty = true;
+    }
+
+    /**
+     * Removes the given game object from the render layer.
+     *
+     * @param gameObject The game object to remove.
+     */
+    public void removeGameObject(GameObject gameObject) {
+        if (!gameObjects.remove(gameObject)) {
+            return;
+        }
+
+        gameObject.removeBoundsListener(boundsListener);
+        isDirty = true;
+    }
+
+    /** Removes every game object from the render layer. */
+    public void clearGameObjects() {
+        for (GameObject gameObject : gameObjects) {
+            gameObject.removeBoundsListener(boundsListener);
+        }
+
+        gameObjects.clear();
+        isDirty = true;
+    }
+
+    /**
+     * Renders the game objects of the render layer to the given {@code Graphics2D} object, which should already be transformed by the
+     * camera.
+     * <p>
+     * Game objects of a layer which is not static are rendered directly, skipping the ones outside the given view bounds. A static layer
+     * draws its cached image instead, rendering it again first if it is dirty.
+     *
+     * @param g           The {@code Graphics2D} object to render to.
+     * @param renderBatch The render batch tracking the state of the {@code Graphics2D} object.
+     * @param viewBounds  The area of the game world visible on screen, or {@code null} to render every game object.
+     */
+    public void render(Graphics2D g, RenderBatch renderBatch, ViewBounds viewBounds) {
+        if (!isStatic) {
+            renderGameObjects(g, renderBatch, viewBounds);
+            return;
+        }
+
+        // tiles of the same frame may be rendered in parallel, and must not update the cache at the same time
+        synchronized (this) {
+            renderStatic(g, renderBatch, viewBounds);
+        }
+    }
+
+    /** Releases the cached image of the render layer, if it has one. */
+    public synchronized void flush() {
+        if (cache != null) {
+            cache.flush();
+            cache = null;
+        }
+        isDirty = true;
+    }
+
+    private void renderStatic(Graphics2D g, RenderBatch renderBatch, ViewBounds viewBounds) {
+        if (isDirty) {
+            updateCacheArea();
+        }
+
+        if (cacheWidth == 0) {
+            renderGameObjects(g, renderBatch, viewBounds);
+            return;
+        }
+
+        renderBatch.restore();
+        if (cache == null || isDirty) {
+            renderCache(g);
+        }
+
+        if (cache instanceof VolatileImage volatileCache) {
+            renderVolatileCache(g, volatileCache);
+        } else {
+            g.drawImage(cache, cacheX, cacheY, null);
+        }
+    }
+
+    private void renderGameObjects(Graphics2D g, RenderBatch renderBatch, ViewBounds viewBounds) {
+        for (GameObject gameObject : gameObjects) {
+            if (!gameObject.shouldRender() || (viewBounds != null && !viewBounds.intersects(gameObject))) {
+                continue;
+            }
+            gameObject.render(g, renderBatch);
+        }
+    }
+
+    private void renderVolatileCache(Graphics2D g, VolatileImage volatileCache) {
+        do {
+            int status = volatileCache.validate(g.getDeviceConfiguration());
+            if (status == VolatileImage.IMAGE_INCOMPATIBLE) {
+                flush();
+                renderCache(g);
+                volatileCache = (VolatileImage) cache;
+            } else if (status == VolatileImage.IMAGE_RESTORED) {
+                renderCache(g);
+            }
+
+            g.drawImage(volatileCache, cacheX, cacheY, null);
+        } while (volatileCache.contentsLost());
+    }
+
+    private void updateCacheArea() {
+        float minX = Float.POSITIVE_INFINITY;
+        float minY = Float.POSITIVE_INFINITY;
+        float maxX = Float.NEGATIVE_INFINITY;
+        float maxY = Float.NEGATIVE_INFINITY;
+
+        for (GameObject gameObject : gameObjects) {
+            if (!gameObject.shouldRender()) {
+                continue;
+            }
+
+            minX = Math.min(minX, gameObject.getMinX());
+            minY = Math.min(minY, gameObject.getMinY());
+            maxX = Math.max(maxX, gameObject.getMaxX());
+            maxY = Math.max(maxY, gameObject.getMaxY());
+        }
+
+        if (minX > maxX || minY > maxY) {
+            cacheWidth = 0;
+            cacheHeight = 0;
+            return;
+        }
+
+        cacheX = (int) Math.floor(minX) - CachePadding;
+        cacheY = (int) Math.floor(minY) - CachePadding;
+        long width = (long) Math.ceil(maxX) + CachePadding - cacheX;
+        long height = (long) Math.ceil(maxY) + CachePadding - cacheY;
+
+        if (width > MaxCacheSize || height > MaxCacheSize) {
+            if (cache != null) {
+                cache.flush();
+                cache = null;
+            }
+            cacheWidth = 0;
+            cacheHeight = 0;
+            return;
+        }
+
+        cacheWidth = (int) width;
+        cacheHeight = (int) height;
+    }
+
+    private void renderCache(Graphics2D g) {
+        if (cache == null || cache.getWidth(null) < cacheWidth || cache.getHeight(null) < cacheHeight) {
+            if (cache != null) {
+                cache.flush();
+            }
+            cache = createCache(cacheWidth, cacheHeight);
+        }
+        isDirty = false;
+
+        Graphics2D cacheGraphics = (Graphics2D) cache.getGraphics();
+        try {
+            cacheGraphics.setComposite(AlphaComposite.Clear);
+            cacheGraphics.fillRect(0, 0, cache.getWidth(null), cache.getHeight(null));
+            cacheGraphics.setComposite(AlphaComposite.SrcOver);
+            cacheGraphics.setRenderingHints(g.getRenderingHints());
+            cacheGraphics.translate(-cacheX, -cacheY);
+
+            cacheRenderBatch.begin(cacheGraphics);
+            renderGameObjects(cacheGraphics, cacheRenderBatch, null);
+            cacheRenderBatch.end();
+        } finally {
+            cacheGraphics.dispose();
+        }
+    }
+
+    private static Image createCache(int width, int height) {
+        if (GraphicsEnvironment.isHeadless()) {
+            return new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        }
+        return ImageUtil.createVolatileImage(width, height);
+    }
+}
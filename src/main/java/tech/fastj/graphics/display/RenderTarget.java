@@ -0,0 +1,38 @@
+package tech.fastj.graphics.display;
+
+import java.awt.Graphics2D;
+
+/**
+ * The surface a {@link FastJCanvas canvas} renders its frames onto.
+ * <p>
+ * Each frame, the canvas {@link #createGraphics() creates a graphics object} for the render target, draws the frame with it, and then
+ * {@link #show() shows} the frame before disposing of the graphics object.
+ * <p>
+ * A canvas in a window renders onto its {@link java.awt.Canvas AWT canvas}. A canvas of a {@link Display#isHeadless() headless}
+ * display renders onto an {@link OffscreenRenderTarget offscreen image} instead.
+ *
+ * @author Andrew Dey
+ * @since 1.7.0
+ */
+public interface RenderTarget {
+
+    /** {@return the width of the render target, in pixels} */
+    int getWidth();
+
+    /** {@return the height of the render target, in pixels} */
+    int getHeight();
+
+    /** {@return a new {@code Graphics2D} object to draw the next frame onto the render target with} */
+    Graphics2D createGraphics();
+
+    /** Shows the frame drawn onto the render target since the last call to this method. */
+    void show();
+
+    /**
+     * Resizes the render target.
+     *
+     * @param width  The new width, in pixels.
+     * @param height The new height, in pixels.
+     */
+    void resize(int width, int height);
+}
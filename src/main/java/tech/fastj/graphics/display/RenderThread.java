@@ -0,0 +1,77 @@
+package tech.fastj.graphics.display;
+
+import tech.fastj.graphics.RenderSnapshot;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Dedicated thread which renders the {@link RenderSnapshot render snapshots} published to it onto a {@link FastJCanvas canvas}.
+ * <p>
+ * Only the latest published snapshot is kept -- if the logic thread publishes snapshots faster than they can be rendered, the older
+ * ones are skipped rather than queued up.
+ *
+ * @author Andrew Dey
+ * @since 1.7.0
+ */
+final class RenderThread implements Runnable {
+
+    static final String ThreadName = "FastJ Render Thread";
+
+    private final FastJCanvas canvas;
+    private final AtomicReference<RenderSnapshot> latestSnapshot;
+    private final Thread thread;
+    private volatile boolean isRunning;
+
+    RenderThread(FastJCanvas canvas) {
+        this.canvas = canvas;
+        latestSnapshot = new AtomicReference<>();
+        thread = new Thread(this, ThreadName);
+        thread.setDaemon(true);
+    }
+
+    void start() {
+        isRunning = true;
+        thread.start();
+    }
+
+    /**
+     * Publishes the given snapshot to be rendered next, replacing any snapshot which has not been rendered yet.
+     *
+     * @param snapshot The snapshot to render.
+     */
+    void publish(RenderSnapshot snapshot) {
+        latestSnapshot.set(snapshot);
+        LockSupport.unpark(thread);
+    }
+
+    /** Stops the render thread, waiting for it to finish the frame it is rendering. */
+    void stop() {
+        isRunning = false;
+        latestSnapshot.set(null);
+        LockSupport.unpark(thread);
+
+        if (Thread.currentThread() == thread) {
+            return;
+        }
+
+        try {
+            thread.join();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void run() {
+        while (isRunning) {
+            RenderSnapshot snapshot = latestSnapshot.getAndSet(null);
+            if (snapshot == null) {
+                LockSupport.park(this);
+                continue;
+            }
+
+            canvas.render(snapshot);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package tech.fastj.graphics.display;
+
+import tech.fastj.graphics.Drawable;
+
+import java.awt.Shape;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.NoninvertibleTransformException;
+import java.awt.geom.Rectangle2D;
+
+/**
+ * The area of the game world which is visible through a {@link Camera camera}, used to cull {@link Drawable drawables} which are off
+ * screen.
+ * <p>
+ * The view bounds are meant to be {@link #update(AffineTransform, float, float, float, float) updated} once per frame, and then checked
+ * against every drawable. As long as the camera is not rotated, the view is an axis-aligned rectangle, and checking a drawable is only a
+ * few float comparisons against its {@link Drawable#getMinX() cached axis-aligned bounds}. When the camera is rotated, drawables which
+ * pass that check are also checked against the exact shape of the view.
+ * <p>
+ * Updating the view bounds with the same camera transform and screen area as the last update does nothing, so they can be updated
+ * freely, such as before each {@link FastJCanvas#isOnScreen(Drawable, Camera) on-screen check}.
+ *
+ * @author Andrew Dey
+ * @since 1.7.0
+ */
+public final class ViewBounds {
+
+    private float minX;
+    private float minY;
+    private float maxX;
+    private float maxY;
+    private Shape viewShape;
+
+    private final AffineTransform cameraTransformation = new AffineTransform();
+    private float x;
+    private float y;
+    private float width;
+    private float height;
+    private boolean isUpdated;
+
+    /**
+     * Updates the view bounds to the area of the game world visible through the given camera transform.
+     *
+     * @param cameraTransformation The transform of the camera.
+     * @param x                    The x position of the screen area.
+     * @param y                    The y position of the screen area.
+     * @param width                The width of the screen area.
+     * @param height               The height of the screen area.
+     */
+    public void update(AffineTransform cameraTransformation, float x, float y, float width, float height) {
+        if (isUpdated && this.cameraTransformation.equals(cameraTransformation)
+            && this.x == x && this.y == y && this.width == width && this.height == height) {
+            return;
+        }
+
+        AffineTransform inverseCameraTransformation;
+        try {
+            inverseCameraTransformation = cameraTransformation.createInverse();
+        } catch (NoninvertibleTransformException exception) {
+            throw new IllegalStateException(exception);
+        }
+
+        viewShape = inverseCameraTransformation.createTransformedShape(new Rectangle2D.Float(x, y, width, height));
+        setBounds(viewShape.getBounds2D());
+
+        if (inverseCameraTransformation.getShearX() == 0.0 && inverseCameraTransformation.getShearY() == 0.0) {
+            viewShape = null;
+        }
+
+        this.cameraTransformation.setTransform(cameraTransformation);
+        this.x = x;
+        this.y = y;
+        this.width = width;
+        this.height = height;
+        isUpdated = true;
+    }
+
+    /** {@return whether the view is an axis-aligned rectangle, meaning the camera is not rotated} */
+    public boolean isAxisAligned() {
+        return viewShape == null;
+    }
+
+    /** {@return the smallest x value of the view's axis-aligned bounds} */
+    public float getMinX() {
+        return minX;
+    }
+
+    /** {@return the smallest y value of the view's axis-aligned bounds} */
+    public float getMinY() {
+        return minY;
+    }
+
+    /** {@return the largest x value of the view's axis-aligned bounds} */
+    public float getMaxX() {
+        return maxX;
+    }
+
+    /** {@return the largest y value of the view's axis-aligned bounds} */
+    public float getMaxY() {
+        return maxY;
+    }
+
+    /**
+     * {@return whether the given drawable's bounds are at least partly inside the view}
+     *
+     * @param drawable The drawable to check.
+     */
+    public boolean intersects(Drawable drawable) {
+        float drawableMinX = drawable.getMinX();
+        float drawableMinY = drawable.getMinY();
+        float drawableMaxX = drawable.getMaxX();
+        float drawableMaxY = drawable.getMaxY();
+
+        if (drawableMaxX <= minX || drawableMinX >= maxX || drawableMaxY <= minY || drawableMinY >= maxY) {
+            return false;
+        }
+
+        return viewShape == null
+            || viewShape.intersects(drawableMinX, drawableMinY, drawableMaxX - drawableMinX, drawableMaxY - drawableMinY);
+    }
+
+    private void setBounds(Rectangle2D bounds) {
+        minX = (float) bounds.getMinX();
+        minY = (float) bounds.getMinY();
+        maxX = (float) bounds.getMaxX();
+        maxY = (float) bounds.getMaxY();
+    }
+}
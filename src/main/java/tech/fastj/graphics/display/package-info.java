@@ -4,7 +4,10 @@
  * <ul>
  *     <li>{@link tech.fastj.graphics.display.Display Base display interface} for all FastJ displays.</li>
  *     <li>{@link tech.fastj.graphics.display.SimpleDisplay SimpleDisplay} - The default display implementation. </li>
+ *     <li>{@link tech.fastj.graphics.display.HeadlessDisplay HeadlessDisplay} - A display without a window, for headless
+ *     environments.</li>
  *     <li>{@link tech.fastj.graphics.display.FastJCanvas The core rendering canvas} FastJ uses.</li>
+ *     <li>{@link tech.fastj.graphics.display.RenderTarget Render targets} the canvas renders onto.</li>
  * </ul>
  * <p>
  * If you would like to create and use your own display system, create a class implementing
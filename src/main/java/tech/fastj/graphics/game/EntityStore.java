@@ -0,0 +1,552 @@
+package tech.fastj.graphics.game;
+
+import tech.fastj.graphics.RenderBatch;
+import tech.fastj.graphics.util.DrawUtil;
+import tech.fastj.resources.images.TextureRegion;
+import tech.fastj.systems.control.GameHandler;
+
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.NoninvertibleTransformException;
+import java.awt.geom.Rectangle2D;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * {@link GameObject Game object} which holds many lightweight sprite entities in primitive arrays, for scenes with far more moving
+ * objects than would fit as separate game objects.
+ * <p>
+ * Each game object carries its own transform, collision path, and transformed collision path, which adds up to hundreds of bytes spread
+ * across the heap for every object. An entity store instead keeps the position, rotation, scale, velocity, and axis-aligned bounds of its
+ * entities in one {@code float} column each, indexed by the entity's place in the store. Entities are packed densely, so that the
+ * bulk kernels of the store -- {@link #update(float) moving} and {@link #cull(float, float, float, float, int[]) culling} every
+ * entity -- are plain loops over arrays.
+ * <p>
+ * Each entity draws a {@link TextureRegion texture region}, centered on its position. Entities are reached through
+ * {@link EntityView entity views}, which only hold the entity's ID. Removing an entity moves the last entity of the store into its
+ * place, so entities are drawn in no particular order among themselves.
+ * <p>
+ * The store itself is a single game object: its bounds cover the bounds of all its entities, and its own transformation is applied on
+ * top of theirs. Entity positions and bounds are relative to the store. When the store is rendered from a
+ * {@link tech.fastj.graphics.RenderSnapshot render snapshot}, its entities are drawn as they currently are, rather than interpolated.
+ * <p>
+ * An entity store is thread-safe.
+ *
+ * @author Andrew Dey
+ * @since 1.7.0
+ */
+public class EntityStore extends GameObject {
+
+    /** The default amount of entities an entity store has room for before it grows, of {@code 1024}. */
+    public static final int DefaultCapacity = 1024;
+
+    static final int X = 0;
+    static final int Y = 1;
+    static final int Rotation = 2;
+    static final int ScaleX = 3;
+    static final int ScaleY = 4;
+    static final int VelocityX = 5;
+    static final int VelocityY = 6;
+    static final int AngularVelocity = 7;
+    static final int MinX = 8;
+    static final int MinY = 9;
+    static final int MaxX = 10;
+    static final int MaxY = 11;
+    private static final int HalfWidth = 12;
+    private static final int HalfHeight = 13;
+    private static final int ColumnCount = 14;
+
+    private static final int NoIndex = -1;
+
+    private final Object lock = new Object();
+    private final Object boundsLock = new Object();
+    private final AffineTransform entityTransformation = new AffineTransform();
+
+    private float[][] columns;
+    private TextureRegion[] regions;
+    private int[] idAt;
+    private int[] indexOfId;
+    private int[] generationOfId;
+    private int[] freeIds;
+    private int freeIdCount;
+    private int nextId;
+    private int size;
+
+    private float boundsMinX;
+    private float boundsMinY;
+    private float boundsMaxX;
+    private float boundsMaxY;
+
+    /** Constructs an empty entity store with room for the {@link #DefaultCapacity default amount} of entities. */
+    public EntityStore() {
+        this(DefaultCapacity);
+    }
+
+    /**
+     * Constructs an empty entity store with room for the given amount of entities. The store grows as needed past that amount.
+     *
+     * @param initialCapacity The amount of entities to make room for.
+     */
+    public EntityStore(int initialCapacity) {
+        if (initialCapacity < 1) {
+            throw new IllegalArgumentException("Initial capacity must be at least 1.");
+        }
+
+        columns = new float[ColumnCount][initialCapacity];
+        regions = new TextureRegion[initialCapacity];
+        idAt = new int[initialCapacity];
+        indexOfId = new int[initialCapacity];
+        generationOfId = new int[initialCapacity];
+        freeIds = new int[initialCapacity];
+        setCollisionPath(DrawUtil.createPath(DrawUtil.createBox(0f, 0f, 0f)));
+    }
+
+    /** {@return the amount of entities in the store} */
+    public int size() {
+        synchronized (lock) {
+            return size;
+        }
+    }
+
+    /**
+     * Adds an entity drawing the given texture region, centered on the given position.
+     *
+     * @param region The texture region the entity draws.
+     * @param x      The x position of the entity's center, relative to the store.
+     * @param y      The y position of the entity's center, relative to the store.
+     * @return A view of the new entity.
+     */
+    public EntityView add(TextureRegion region, float x, float y) {
+        Objects.requireNonNull(region, "The texture region must not be null.");
+        EntityView entityView;
+        boolean isOutsideBounds;
+
+        synchronized (lock) {
+            if (size == regions.length) {
+                grow();
+            }
+
+            int id = freeIdCount > 0 ? freeIds[--freeIdCount] : nextId++;
+            int index = size++;
+            idAt[index] = id;
+            indexOfId[id] = index;
+
+            float[][] columns = this.columns;
+            columns[X][index] = x;
+            columns[Y][index] = y;
+            columns[Rotation][index] = 0f;
+            columns[ScaleX][index] = 1f;
+            columns[ScaleY][index] = 1f;
+            columns[VelocityX][index] = 0f;
+            columns[VelocityY][index] = 0f;
+            columns[AngularVelocity][index] = 0f;
+            columns[HalfWidth][index] = region.width() / 2f;
+            columns[HalfHeight][index] = region.height() / 2f;
+            regions[index] = region;
+            updateEntityBounds(index);
+
+            isOutsideBounds = includeInBounds(index);
+            entityView = new EntityView(this, id, generationOfId[id]);
+        }
+
+        if (isOutsideBounds) {
+            applyBounds();
+        }
+        return entityView;
+    }
+
+    /** Removes every entity from the store. Views of the removed entities are no longer {@link EntityView#isAlive() alive}. */
+    public void clear() {
+        synchronized (lock) {
+            for (int index = 0; index < size; index++) {
+                int id = idAt[index];
+                indexOfId[id] = NoIndex;
+                generationOfId[id]++;
+                freeIds[freeIdCount++] = id;
+                regions[index] = null;
+            }
+            size = 0;
+        }
+
+        updateBounds();
+    }
+
+    /**
+     * Moves and rotates every entity of the store by its velocity, over the given amount of time.
+     * <p>
+     * This also brings the bounds of the store up to date, as with {@link #updateBounds()}.
+     *
+     * @param deltaTime The amount of time to move the entities over, usually in seconds.
+     */
+    public void update(float deltaTime) {
+        synchronized (lock) {
+            float[] x = columns[X];
+            float[] y = columns[Y];
+            float[] rotation = columns[Rotation];
+            float[] velocityX = columns[VelocityX];
+            float[] velocityY = columns[VelocityY];
+            float[] angularVelocity = columns[AngularVelocity];
+
+            for (int index = 0; index < size; index++) {
+                x[index] += velocityX[index] * deltaTime;
+                y[index] += velocityY[index] * deltaTime;
+                rotation[index] += angularVelocity[index] * deltaTime;
+            }
+
+            for (int index = 0; index < size; index++) {
+                updateEntityBounds(index);
+            }
+            computeBounds();
+        }
+
+        applyBounds();
+    }
+
+    /**
+     * Brings the bounds of the store up to date with the bounds of its entities.
+     * <p>
+     * Changing an entity through its view only ever grows the bounds of the store, to keep it from being culled while the entity is in
+     * view. This shrinks the bounds back to fit the entities exactly, and is done by {@link #update(float)} as well.
+     */
+    public void updateBounds() {
+        synchronized (lock) {
+            computeBounds();
+        }
+
+        applyBounds();
+    }
+
+    /**
+     * Finds the entities whose axis-aligned bounds overlap the given rectangle, relative to the store.
+     * <p>
+     * The IDs of the entities found are written to the given array, up to its length.
+     *
+     * @param minX       The smallest x value of the rectangle.
+     * @param minY       The smallest y value of the rectangle.
+     * @param maxX       The largest x value of the rectangle.
+     * @param maxY       The largest y value of the rectangle.
+     * @param visibleIds The array to write the IDs of the entities found to.
+     * @return The amount of entity IDs written to the array.
+     */
+    public int cull(float minX, float minY, float maxX, float maxY, int[] visibleIds) {
+        synchronized (lock) {
+            float[] entityMinX = columns[MinX];
+            float[] entityMinY = columns[MinY];
+            float[] entityMaxX = columns[MaxX];
+            float[] entityMaxY = columns[MaxY];
+
+            int found = 0;
+            for (int index = 0; index < size && found < visibleIds.length; index++) {
+                if (entityMaxX[index] >= minX && entityMinX[index] <= maxX && entityMaxY[index] >= minY && entityMinY[index] <= maxY) {
+                    visibleIds[found++] = idAt[index];
+                }
+            }
+            return found;
+        }
+    }
+
+    /**
+     * {@return a view of the entity with the given ID}
+     *
+     * @param id The ID of the entity.
+     * @throws IllegalArgumentException if the store has no entity with the given ID.
+     */
+    public EntityView getEntity(int id) {
+        synchronized (lock) {
+            if (id < 0 || id >= nextId || indexOfId[id] == NoIndex) {
+                throw new IllegalArgumentException("The entity store has no entity with the ID " + id + ".");
+            }
+            return new EntityView(this, id, generationOfId[id]);
+        }
+    }
+
+    @Override
+    public void render(Graphics2D g) {
+        RenderBatch renderBatch = new RenderBatch();
+        renderBatch.begin(g);
+        render(g, renderBatch);
+        renderBatch.end();
+    }
+
+    @Override
+    public void render(Graphics2D g, RenderBatch renderBatch) {
+        AffineTransform storeTransformation = getRenderTransformation();
+        renderBatch.setTransform(storeTransformation);
+        Rectangle2D visibleArea = visibleAreaOf(g);
+
+        synchronized (lock) {
+            float[] x = columns[X];
+            float[] y = columns[Y];
+            float[] rotation = columns[Rotation];
+            float[] scaleX = columns[ScaleX];
+            float[] scaleY = columns[ScaleY];
+            float[] halfWidth = columns[HalfWidth];
+            float[] halfHeight = columns[HalfHeight];
+            float[] entityMinX = columns[MinX];
+            float[] entityMinY = columns[MinY];
+            float[] entityMaxX = columns[MaxX];
+            float[] entityMaxY = columns[MaxY];
+
+            for (int index = 0; index < size; index++) {
+                if (visibleArea != null && (entityMaxX[index] < visibleArea.getMinX() || entityMinX[index] > visibleArea.getMaxX()
+                    || entityMaxY[index] < visibleArea.getMinY() || entityMinY[index] > visibleArea.getMaxY())) {
+                    continue;
+                }
+
+                entityTransformation.setToTranslation(x[index], y[index]);
+                if (rotation[index] != 0f) {
+                    entityTransformation.rotate(Math.toRadians(rotation[index]));
+                }
+                entityTransformation.scale(scaleX[index], scaleY[index]);
+                entityTransformation.translate(-halfWidth[index], -halfHeight[index]);
+
+                renderBatch.setTransform(storeTransformation, entityTransformation);
+                regions[index].draw(g);
+            }
+        }
+    }
+
+    @Override
+    public void destroy(GameHandler origin) {
+        clear();
+        super.destroyTheRest(origin);
+    }
+
+    boolean isAlive(int id, int generation) {
+        synchronized (lock) {
+            return generationOfId[id] == generation && indexOfId[id] != NoIndex;
+        }
+    }
+
+    void remove(int id, int generation) {
+        synchronized (lock) {
+            int index = indexOf(id, generation);
+            int lastIndex = --size;
+
+            if (index != lastIndex) {
+                for (float[] column : columns) {
+                    column[index] = column[lastIndex];
+                }
+                regions[index] = regions[lastIndex];
+                idAt[index] = idAt[lastIndex];
+                indexOfId[idAt[index]] = index;
+            }
+
+            regions[lastIndex] = null;
+            indexOfId[id] = NoIndex;
+            generationOfId[id]++;
+            freeIds[freeIdCount++] = id;
+        }
+    }
+
+    float get(int id, int generation, int column) {
+        synchronized (lock) {
+            return columns[column][indexOf(id, generation)];
+        }
+    }
+
+    void set(int id, int generation, int column, float value) {
+        set(id, generation, column, value, column, value);
+    }
+
+    void set(int id, int generation, int firstColumn, float firstValue, int secondColumn, float secondValue) {
+        boolean isOutsideBounds;
+        synchronized (lock) {
+            int index = indexOf(id, generation);
+            columns[firstColumn][index] = firstValue;
+            columns[secondColumn][index] = secondValue;
+            isOutsideBounds = updateEntityBounds(index) && includeInBounds(index);
+        }
+
+        if (isOutsideBounds) {
+            applyBounds();
+        }
+    }
+
+    void translate(int id, int generation, float translationX, float translationY) {
+        boolean isOutsideBounds;
+        synchronized (lock) {
+            int index = indexOf(id, generation);
+            columns[X][index] += translationX;
+            columns[Y][index] += translationY;
+            isOutsideBounds = updateEntityBounds(index) && includeInBounds(index);
+        }
+
+        if (isOutsideBounds) {
+            applyBounds();
+        }
+    }
+
+    TextureRegion getRegion(int id, int generation) {
+        synchronized (lock) {
+            return regions[indexOf(id, generation)];
+        }
+    }
+
+    void setRegion(int id, int generation, TextureRegion region) {
+        Objects.requireNonNull(region, "The texture region must not be null.");
+        boolean isOutsideBounds;
+        synchronized (lock) {
+            int index = indexOf(id, generation);
+            regions[index] = region;
+            columns[HalfWidth][index] = region.width() / 2f;
+            columns[HalfHeight][index] = region.height() / 2f;
+            isOutsideBounds = updateEntityBounds(index) && includeInBounds(index);
+        }
+
+        if (isOutsideBounds) {
+            applyBounds();
+        }
+    }
+
+    private int indexOf(int id, int generation) {
+        if (generationOfId[id] != generation || indexOfId[id] == NoIndex) {
+            throw new IllegalStateException("The entity has been removed from its entity store.");
+        }
+        return indexOfId[id];
+    }
+
+    private void grow() {
+        int capacity = regions.length * 2;
+        for (int column = 0; column < ColumnCount; column++) {
+            columns[column] = Arrays.copyOf(columns[column], capacity);
+        }
+        regions = Arrays.copyOf(regions, capacity);
+        idAt = Arrays.copyOf(idAt, capacity);
+        indexOfId = Arrays.copyOf(indexOfId, capacity);
+        generationOfId = Arrays.copyOf(generationOfId, capacity);
+        freeIds = Arrays.copyOf(freeIds, capacity);
+    }
+
+    /** Recomputes the axis-aligned bounds of the entity at the given index, returning whether they changed. */
+    private boolean updateEntityBounds(int index) {
+        float[][] columns = this.columns;
+        float halfWidth = columns[HalfWidth][index] * Math.abs(columns[ScaleX][index]);
+        float halfHeight = columns[HalfHeight][index] * Math.abs(columns[ScaleY][index]);
+
+        float extentX = halfWidth;
+        float extentY = halfHeight;
+        float rotation = columns[Rotation][index];
+        if (rotation != 0f) {
+            double radians = Math.toRadians(rotation);
+            float cos = (float) Math.abs(Math.cos(radians));
+            float sin = (float) Math.abs(Math.sin(radians));
+            extentX = cos * halfWidth + sin * halfHeight;
+            extentY = sin * halfWidth + cos * halfHeight;
+        }
+
+        float minX = columns[X][index] - extentX;
+        float minY = columns[Y][index] - extentY;
+        float maxX = columns[X][index] + extentX;
+        float maxY = columns[Y][index] + extentY;
+        boolean isChanged = minX != columns[MinX][index] || minY != columns[MinY][index]
+            || maxX != columns[MaxX][index] || maxY != columns[MaxY][index];
+
+        columns[MinX][index] = minX;
+        columns[MinY][index] = minY;
+        columns[MaxX][index] = maxX;
+        columns[MaxY][index] = maxY;
+        return isChanged;
+    }
+
+    /** Grows the bounds of the store to include the entity at the given index, returning whether they grew. */
+    private boolean includeInBounds(int index) {
+        float[][] columns = this.columns;
+        if (size == 1) {
+            boundsMinX = columns[MinX][index];
+            boundsMinY = columns[MinY][index];
+            boundsMaxX = columns[MaxX][index];
+            boundsMaxY = columns[MaxY][index];
+            return true;
+        }
+
+        boolean isGrown = false;
+        if (columns[MinX][index] < boundsMinX) {
+            boundsMinX = columns[MinX][index];
+            isGrown = true;
+        }
+        if (columns[MinY][index] < boundsMinY) {
+            boundsMinY = columns[MinY][index];
+            isGrown = true;
+        }
+        if (columns[MaxX][index] > boundsMaxX) {
+            boundsMaxX = columns[MaxX][index];
+            isGrown = true;
+        }
+        if (columns[MaxY][index] > boundsMaxY) {
+            boundsMaxY = columns[MaxY][index];
+            isGrown = true;
+        }
+        return isGrown;
+    }
+
+    private void computeBounds() {
+        if (size == 0) {
+            boundsMinX = 0f;
+            boundsMinY = 0f;
+            boundsMaxX = 0f;
+            boundsMaxY = 0f;
+            return;
+        }
+
+        float[] entityMinX = columns[MinX];
+        float[] entityMinY = columns[MinY];
+        float[] entityMaxX = columns[MaxX];
+        float[] entityMaxY = columns[MaxY];
+        float minX = Float.POSITIVE_INFINITY;
+        float minY = Float.POSITIVE_INFINITY;
+        float maxX = Float.NEGATIVE_INFINITY;
+        float maxY = Float.NEGATIVE_INFINITY;
+
+        for (int index = 0; index < size; index++) {
+            minX = Math.min(minX, entityMinX[index]);
+            minY = Math.min(minY, entityMinY[index]);
+            maxX = Math.max(maxX, entityMaxX[index]);
+            maxY = Math.max(maxY, entityMaxY[index]);
+        }
+
+        boundsMinX = minX;
+        boundsMinY = minY;
+        boundsMaxX = maxX;
+        boundsMaxY = maxY;
+    }
+
+    /**
+     * Replaces the collision path of the store with its current bounds. This is done outside the store's lock, since changing the
+     * collision path notifies the store's bounds listeners.
+     */
+    private void applyBounds() {
+        synchronized (boundsLock) {
+            float minX;
+            float minY;
+            float maxX;
+            float maxY;
+            synchronized (lock) {
+                minX = boundsMinX;
+                minY = boundsMinY;
+                maxX = boundsMaxX;
+                maxY = boundsMaxY;
+            }
+
+            setCollisionPath(DrawUtil.createPath(DrawUtil.createBox(minX, minY, maxX - minX, maxY - minY)));
+        }
+    }
+
+    /**
+     * {@return the area visible through the given {@code Graphics2D} object, in its current user space, or {@code null} if it cannot be
+     * found}
+     */
+    private static Rectangle2D visibleAreaOf(Graphics2D g) {
+        Rectangle clipBounds = g.getClipBounds();
+        if (clipBounds != null) {
+            return clipBounds;
+        }
+
+        try {
+            return g.getTransform().createInverse().createTransformedShape(g.getDeviceConfiguration().getBounds()).getBounds2D();
+        } catch (NoninvertibleTransformException exception) {
+            return null;
+        }
+    }
+}
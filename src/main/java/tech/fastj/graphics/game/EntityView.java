@@ -0,0 +1,219 @@
+package tech.fastj.graphics.game;
+
+import tech.fastj.resources.images.TextureRegion;
+
+/**
+ * A lightweight view of a single entity of an {@link EntityStore entity store}.
+ * <p>
+ * An entity view only holds the ID of its entity -- reading or changing the entity reads or changes the columns of its store, so any
+ * number of views can be made of the same entity. Once its entity is removed, a view is no longer {@link #isAlive() alive}, and using it
+ * throws an {@link IllegalStateException}, even if a new entity is given the same ID.
+ * <p>
+ * Positions and bounds are relative to the entity store, and rotations are in degrees.
+ *
+ * @author Andrew Dey
+ * @since 1.7.0
+ */
+public final class EntityView {
+
+    private final EntityStore entityStore;
+    private final int id;
+    private final int generation;
+
+    EntityView(EntityStore entityStore, int id, int generation) {
+        this.entityStore = entityStore;
+        this.id = id;
+        this.generation = generation;
+    }
+
+    /** {@return the entity store the entity belongs to} */
+    public EntityStore getEntityStore() {
+        return entityStore;
+    }
+
+    /** {@return the ID of the entity, which is unique among the entities in its store} */
+    public int getID() {
+        return id;
+    }
+
+    /** {@return whether the entity is still in its entity store} */
+    public boolean isAlive() {
+        return entityStore.isAlive(id, generation);
+    }
+
+    /** Removes the entity from its entity store. */
+    public void remove() {
+        entityStore.remove(id, generation);
+    }
+
+    /** {@return the x position of the entity's center} */
+    public float getX() {
+        return entityStore.get(id, generation, EntityStore.X);
+    }
+
+    /** {@return the y position of the entity's center} */
+    public float getY() {
+        return entityStore.get(id, generation, EntityStore.Y);
+    }
+
+    /**
+     * Sets the position of the entity's center.
+     *
+     * @param x The new x position.
+     * @param y The new y position.
+     * @return The entity view, for method chaining.
+     */
+    public EntityView setPosition(float x, float y) {
+        entityStore.set(id, generation, EntityStore.X, x, EntityStore.Y, y);
+        return this;
+    }
+
+    /**
+     * Moves the entity by the given amount.
+     *
+     * @param translationX The amount to move the entity along the x axis.
+     * @param translationY The amount to move the entity along the y axis.
+     * @return The entity view, for method chaining.
+     */
+    public EntityView translate(float translationX, float translationY) {
+        entityStore.translate(id, generation, translationX, translationY);
+        return this;
+    }
+
+    /** {@return the rotation of the entity about its center} */
+    public float getRotation() {
+        return entityStore.get(id, generation, EntityStore.Rotation);
+    }
+
+    /**
+     * Sets the rotation of the entity about its center.
+     *
+     * @param rotation The new rotation.
+     * @return The entity view, for method chaining.
+     */
+    public EntityView setRotation(float rotation) {
+        entityStore.set(id, generation, EntityStore.Rotation, rotation);
+        return this;
+    }
+
+    /** {@return the scale of the entity along the x axis} */
+    public float getScaleX() {
+        return entityStore.get(id, generation, EntityStore.ScaleX);
+    }
+
+    /** {@return the scale of the entity along the y axis} */
+    public float getScaleY() {
+        return entityStore.get(id, generation, EntityStore.ScaleY);
+    }
+
+    /**
+     * Sets the scale of the entity about its center.
+     *
+     * @param scaleX The new scale along the x axis.
+     * @param scaleY The new scale along the y axis.
+     * @return The entity view, for method chaining.
+     */
+    public EntityView setScale(float scaleX, float scaleY) {
+        entityStore.set(id, generation, EntityStore.ScaleX, scaleX, EntityStore.ScaleY, scaleY);
+        return this;
+    }
+
+    /** {@return the velocity of the entity along the x axis, which it is moved by each {@link EntityStore#update(float) update}} */
+    public float getVelocityX() {
+        return entityStore.get(id, generation, EntityStore.VelocityX);
+    }
+
+    /** {@return the velocity of the entity along the y axis, which it is moved by each {@link EntityStore#update(float) update}} */
+    public float getVelocityY() {
+        return entityStore.get(id, generation, EntityStore.VelocityY);
+    }
+
+    /**
+     * Sets the velocity of the entity, which it is moved by each {@link EntityStore#update(float) update}.
+     *
+     * @param velocityX The new velocity along the x axis.
+     * @param velocityY The new velocity along the y axis.
+     * @return The entity view, for method chaining.
+     */
+    public EntityView setVelocity(float velocityX, float velocityY) {
+        entityStore.set(id, generation, EntityStore.VelocityX, velocityX, EntityStore.VelocityY, velocityY);
+        return this;
+    }
+
+    /** {@return the angular velocity of the entity, which it is rotated by each {@link EntityStore#update(float) update}} */
+    public float getAngularVelocity() {
+        return entityStore.get(id, generation, EntityStore.AngularVelocity);
+    }
+
+    /**
+     * Sets the angular velocity of the entity, which it is rotated by each {@link EntityStore#update(float) update}.
+     *
+     * @param angularVelocity The new angular velocity.
+     * @return The entity view, for method chaining.
+     */
+    public EntityView setAngularVelocity(float angularVelocity) {
+        entityStore.set(id, generation, EntityStore.AngularVelocity, angularVelocity);
+        return this;
+    }
+
+    /** {@return the texture region the entity draws} */
+    public TextureRegion getRegion() {
+        return entityStore.getRegion(id, generation);
+    }
+
+    /**
+     * Sets the texture region the entity draws.
+     *
+     * @param region The new texture region.
+     * @return The entity view, for method chaining.
+     */
+    public EntityView setRegion(TextureRegion region) {
+        entityStore.setRegion(id, generation, region);
+        return this;
+    }
+
+    /** {@return the smallest x value of the entity's axis-aligned bounds} */
+    public float getMinX() {
+        return entityStore.get(id, generation, EntityStore.MinX);
+    }
+
+    /** {@return the smallest y value of the entity's axis-aligned bounds} */
+    public float getMinY() {
+        return entityStore.get(id, generation, EntityStore.MinY);
+    }
+
+    /** {@return the largest x value of the entity's axis-aligned bounds} */
+    public float getMaxX() {
+        return entityStore.get(id, generation, EntityStore.MaxX);
+    }
+
+    /** {@return the largest y value of the entity's axis-aligned bounds} */
+    public float getMaxY() {
+        return entityStore.get(id, generation, EntityStore.MaxY);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (other == null || getClass() != other.getClass()) {
+            return false;
+        }
+        EntityView entityView = (EntityView) other;
+        return entityStore == entityView.entityStore && id == entityView.id && generation == entityView.generation;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 * System.identityHashCode(entityStore) + id) + generation;
+    }
+
+    @Override
+    public String toString() {
+        return "EntityView{" +
+            "id=" + id +
+            ", generation=" + generation +
+            '}';
+    }
+}
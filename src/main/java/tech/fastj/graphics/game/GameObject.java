@@ -1,6 +1,7 @@
 package tech.fastj.graphics.game;
 
 import tech.fastj.graphics.Drawable;
+import tech.fastj.graphics.RenderBatch;
 import tech.fastj.systems.behaviors.Behavior;
 import tech.fastj.systems.behaviors.BehaviorHandler;
 import tech.fastj.systems.control.GameHandler;
@@ -122,6 +123,23 @@ public abstract class GameObject extends Drawable {
      */
     public abstract void render(Graphics2D g);
 
+    /**
+     * Renders the {@link GameObject game object} to the specified {@link Graphics2D} parameter, as part of the given
+     * {@link RenderBatch render batch}.
+     * <p>
+     * Game objects which support render batches should set their transform, paint, stroke, and font through the render batch, and
+     * should not restore them afterwards. By default, this restores the state the render batch began with, and then
+     * {@link #render(Graphics2D) renders the game object} as usual.
+     *
+     * @param g           The {@code Graphics2D} parameter to render the {@link GameObject game object} to.
+     * @param renderBatch The render batch tracking the state of the {@code Graphics2D} parameter.
+     * @since 1.7.0
+     */
+    public void render(Graphics2D g, RenderBatch renderBatch) {
+        renderBatch.restore();
+        render(g);
+    }
+
     /**
      * Destroys all references of the {@link GameObject game object}'s behaviors and removes its references from the {@link GameHandler}.
      *
@@ -0,0 +1,153 @@
+package tech.fastj.graphics.game;
+
+import tech.fastj.graphics.util.DrawUtil;
+import tech.fastj.graphics.util.PointsAndAlts;
+import tech.fastj.math.Point;
+import tech.fastj.math.Pointf;
+
+import java.awt.geom.Path2D;
+import java.awt.geom.Rectangle2D;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Immutable shape which can be shared by many {@link Polygon2D polygons}.
+ * <p>
+ * Each polygon made from points keeps its own path, and a transformed copy of that path which is rebuilt each time it is transformed.
+ * Polygons {@link Polygon2D#create(Mesh2D) made from a mesh} instead share the mesh's points and prebuilt path, and only carry their own
+ * transform and paint. They are rendered by drawing the shared path under their own transform, and their bounds are found by
+ * transforming the bounds of the mesh -- so spawning and moving thousands of identical polygons, like bullets or particles, does not
+ * copy or transform the shape of each one.
+ * <p>
+ * The points and alternate indexes given to a mesh are copied, so changing them afterwards does not change the mesh.
+ *
+ * @author Andrew Dey
+ * @since 1.7.0
+ */
+public final class Mesh2D {
+
+    private final Pointf[] points;
+    private final Point[] altIndexes;
+    private final Path2D.Float path;
+    private final Rectangle2D.Float bounds;
+
+    private Mesh2D(Pointf[] points, Point[] altIndexes) {
+        this.points = copyOf(Objects.requireNonNull(points, "The array of points must not be null."));
+        this.altIndexes = altIndexes == null ? null : copyOf(altIndexes);
+        path = DrawUtil.createPath(this.points, this.altIndexes);
+
+        Rectangle2D pathBounds = path.getBounds2D();
+        bounds = new Rectangle2D.Float(
+            (float) pathBounds.getX(),
+            (float) pathBounds.getY(),
+            (float) pathBounds.getWidth(),
+            (float) pathBounds.getHeight()
+        );
+    }
+
+    /**
+     * {@return a mesh of the given points}
+     *
+     * @param points {@code Pointf} array that defines the points of the mesh.
+     */
+    public static Mesh2D fromPoints(Pointf[] points) {
+        return new Mesh2D(points, null);
+    }
+
+    /**
+     * {@return a mesh of the given points and alternate indexes}
+     *
+     * @param points     {@code Pointf} array that defines the points of the mesh.
+     * @param altIndexes The {@code Point} array of alternate indexes defining where curves are in the array of points, as well as other
+     *                   {@code Path2D} options. See {@link Polygon2D} for more information.
+     */
+    public static Mesh2D fromPoints(Pointf[] points, Point[] altIndexes) {
+        return new Mesh2D(points, altIndexes);
+    }
+
+    /**
+     * {@return a mesh of the points of the given path}
+     *
+     * @param path {@code Path2D.Float} that defines the points of the mesh.
+     */
+    public static Mesh2D fromPath(Path2D.Float path) {
+        PointsAndAlts pathMesh = DrawUtil.pointsOfPathWithAlt(path);
+        return new Mesh2D(pathMesh.points(), pathMesh.altIndexes());
+    }
+
+    /** {@return a copy of the points of the mesh} */
+    public Pointf[] getPoints() {
+        return copyOf(points);
+    }
+
+    /** {@return a copy of the alternate indexes of the mesh, or {@code null} if it has none} */
+    public Point[] getAlternateIndexes() {
+        return altIndexes == null ? null : copyOf(altIndexes);
+    }
+
+    /** {@return a copy of the bounds of the mesh's path} */
+    public Rectangle2D.Float getBounds() {
+        return (Rectangle2D.Float) bounds.clone();
+    }
+
+    /** {@return the points of the mesh, which are shared and must not be modified} */
+    Pointf[] points() {
+        return points;
+    }
+
+    /** {@return the alternate indexes of the mesh, which are shared and must not be modified} */
+    Point[] altIndexes() {
+        return altIndexes;
+    }
+
+    /** {@return the prebuilt path of the mesh, which is shared and must not be modified} */
+    Path2D.Float path() {
+        return path;
+    }
+
+    /** {@return the bounds of the mesh's path, which are shared and must not be modified} */
+    Rectangle2D.Float bounds() {
+        return bounds;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (other == null || getClass() != other.getClass()) {
+            return false;
+        }
+        Mesh2D mesh2D = (Mesh2D) other;
+        return Arrays.equals(points, mesh2D.points) && Arrays.equals(altIndexes, mesh2D.altIndexes);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(points) + Arrays.hashCode(altIndexes);
+    }
+
+    @Override
+    public String toString() {
+        return "Mesh2D{" +
+            "points=" + Arrays.toString(points) +
+            ", altIndexes=" + Arrays.toString(altIndexes) +
+            '}';
+    }
+
+    private static Pointf[] copyOf(Pointf[] points) {
+        Pointf[] copy = new Pointf[points.length];
+        for (int i = 0; i < points.length; i++) {
+            copy[i] = points[i].copy();
+        }
+        return copy;
+    }
+
+    private static Point[] copyOf(Point[] altIndexes) {
+        Point[] copy = new Point[altIndexes.length];
+        for (int i = 0; i < altIndexes.length; i++) {
+            copy[i] = altIndexes[i].copy();
+        }
+        return copy;
+    }
+}
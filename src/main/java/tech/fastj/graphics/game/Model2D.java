@@ -1,11 +1,15 @@
 package tech.fastj.graphics.game;
 
 import tech.fastj.graphics.Drawable;
+import tech.fastj.graphics.RenderBatch;
 import tech.fastj.graphics.util.DrawUtil;
 import tech.fastj.systems.control.GameHandler;
 
 import java.awt.Graphics2D;
+import java.awt.Paint;
+import java.awt.Stroke;
 import java.awt.geom.AffineTransform;
+import java.awt.geom.Rectangle2D;
 import java.util.Arrays;
 
 /**
@@ -16,7 +20,10 @@ import java.util.Arrays;
  */
 public class Model2D extends GameObject {
 
+    private static final AffineTransform IdentityTransform = new AffineTransform();
+
     private final Polygon2D[] polygons;
+    private Rasterizer rasterizer;
 
     /**
      * Model2D constructor that takes in an array of {@link Polygon2D} objects.
@@ -70,20 +77,162 @@ public class Model2D extends GameObject {
         return polygons;
     }
 
+    /**
+     * {@return whether the model is rasterized, rendering through cached images rather than rendering each of its polygons each time}
+     *
+     * @since 1.7.0
+     */
+    public boolean isRasterized() {
+        return rasterizer != null;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * A model can be rendered by several threads at once unless it is {@link #isRasterized() rasterized}. Subclasses may render
+     * differently, so they are not assumed to be safe.
+     */
+    @Override
+    public boolean isConcurrentlyRenderable() {
+        return getClass() == Model2D.class && rasterizer == null;
+    }
+
+    /**
+     * Sets whether the model is rasterized.
+     * <p>
+     * A rasterized model renders all of its polygons into an image the first time it is rendered at a given rotation and scale, and
+     * afterwards only draws that image at its translation -- see {@link RasterCache} for how rotations and scales are rounded, and how
+     * much memory the images may take up. This makes a heavy model which is mostly translated cost about as much to render as a
+     * {@link Sprite2D sprite}.
+     * <p>
+     * Changing the points, paint, outline, or render style of the model's polygons replaces its images. Transforming the polygons within
+     * the model does not, and needs to be followed by a call to {@link #invalidateRaster()}.
+     *
+     * @param isRasterized Whether the model should be rasterized.
+     * @return The model instance, for method chaining.
+     * @since 1.7.0
+     */
+    public Model2D setRasterized(boolean isRasterized) {
+        if (isRasterized && rasterizer == null) {
+            rasterizer = new Rasterizer(this::getContentBounds, this::renderPolygons);
+        } else if (!isRasterized && rasterizer != null) {
+            rasterizer.release();
+            rasterizer = null;
+        }
+        return this;
+    }
+
+    /**
+     * Replaces the cached images of the model, if it is {@link #setRasterized(boolean) rasterized}.
+     *
+     * @since 1.7.0
+     */
+    public void invalidateRaster() {
+        contentChanged();
+    }
+
     @Override
     public void render(Graphics2D g) {
-        AffineTransform oldTransform = (AffineTransform) g.getTransform().clone();
-        g.transform(getTransformation());
+        Rasterizer currentRasterizer = rasterizer;
+        if (currentRasterizer != null && currentRasterizer.render(g, null, getRenderTransformation(), getContentVersion())) {
+            return;
+        }
 
-        for (Polygon2D polygon : polygons) {
-            polygon.render(g);
+        AffineTransform oldTransform = g.getTransform();
+        g.transform(getRenderTransformation());
+
+        if (getCapturedRenderState() instanceof Polygon2D.RenderState[] capturedStates) {
+            Paint oldPaint = g.getPaint();
+            Stroke oldStroke = g.getStroke();
+            AffineTransform modelTransform = g.getTransform();
+            for (Polygon2D.RenderState capturedState : capturedStates) {
+                g.transform(capturedState.transformation());
+                Polygon2D.renderState(g, null, capturedState);
+                g.setTransform(modelTransform);
+            }
+            g.setStroke(oldStroke);
+            g.setPaint(oldPaint);
+        } else {
+            for (Polygon2D polygon : polygons) {
+                polygon.render(g);
+            }
         }
 
         g.setTransform(oldTransform);
     }
 
+    @Override
+    public void render(Graphics2D g, RenderBatch renderBatch) {
+        Rasterizer currentRasterizer = rasterizer;
+        if (currentRasterizer != null && currentRasterizer.render(g, renderBatch, getRenderTransformation(), getContentVersion())) {
+            return;
+        }
+
+        renderPolygons(g, renderBatch, getRenderTransformation());
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * A model captures the path, paint, outline, render style, and transformation of each of its polygons.
+     */
+    @Override
+    protected Object captureRenderState() {
+        Polygon2D.RenderState[] states = new Polygon2D.RenderState[polygons.length];
+        for (int i = 0; i < polygons.length; i++) {
+            states[i] = polygons[i].captureState(polygons[i].getTransformation());
+        }
+        return states;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * A model's content version also changes when the content of any of its polygons changes.
+     */
+    @Override
+    public int getContentVersion() {
+        int version = super.getContentVersion();
+        for (Polygon2D polygon : polygons) {
+            version += polygon.getContentVersion();
+        }
+        return version;
+    }
+
+    private Rectangle2D getContentBounds() {
+        Rectangle2D contentBounds = null;
+        for (Polygon2D polygon : polygons) {
+            Rectangle2D polygonBounds = polygon.getTransformation().createTransformedShape(polygon.getContentBounds()).getBounds2D();
+            if (contentBounds == null) {
+                contentBounds = polygonBounds;
+            } else {
+                contentBounds.add(polygonBounds);
+            }
+        }
+        return contentBounds != null ? contentBounds : new Rectangle2D.Float();
+    }
+
+    private void renderPolygons(Graphics2D g, RenderBatch renderBatch) {
+        renderPolygons(g, renderBatch, IdentityTransform);
+    }
+
+    private void renderPolygons(Graphics2D g, RenderBatch renderBatch, AffineTransform modelTransformation) {
+        if (getCapturedRenderState() instanceof Polygon2D.RenderState[] capturedStates) {
+            for (Polygon2D.RenderState capturedState : capturedStates) {
+                renderBatch.setTransform(modelTransformation, capturedState.transformation());
+                Polygon2D.renderState(g, renderBatch, capturedState);
+            }
+            return;
+        }
+
+        for (Polygon2D polygon : polygons) {
+            polygon.render(g, renderBatch, modelTransformation);
+        }
+    }
+
     @Override
     public void destroy(GameHandler origin) {
+        setRasterized(false);
         for (Polygon2D polygon : polygons) {
             polygon.destroy(origin);
         }
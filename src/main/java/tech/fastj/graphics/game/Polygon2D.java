@@ -1,6 +1,7 @@
 package tech.fastj.graphics.game;
 
 import tech.fastj.graphics.Drawable;
+import tech.fastj.graphics.RenderBatch;
 import tech.fastj.graphics.util.DrawUtil;
 import tech.fastj.graphics.util.PointsAndAlts;
 import tech.fastj.math.Point;
@@ -14,6 +15,7 @@ import java.awt.Paint;
 import java.awt.Stroke;
 import java.awt.geom.AffineTransform;
 import java.awt.geom.Path2D;
+import java.awt.geom.Rectangle2D;
 import java.util.Arrays;
 import java.util.Objects;
 
@@ -91,12 +93,15 @@ public class Polygon2D extends GameObject {
 
     private Pointf[] originalPoints;
     private Point[] alternateIndexes;
+    private Mesh2D mesh;
 
     private RenderStyle renderStyle;
     private Paint fillPaint;
     private Color outlineColor;
     private BasicStroke outlineStroke;
 
+    private Rasterizer rasterizer;
+
     /**
      * {@code Polygon2D} constructor that takes in an array of points.
      * <p>
@@ -123,6 +128,28 @@ public class Polygon2D extends GameObject {
         setRenderStyle(DefaultRenderStyle);
     }
 
+    /**
+     * {@code Polygon2D} constructor that takes in a {@link Mesh2D mesh} to share the points and path of.
+     * <p>
+     * This constructor defaults the fill paint to {@link #DefaultFill}, the outline stroke to {@link #DefaultOutlineStroke}, the outline
+     * color to {@link #DefaultOutlineColor}, the render style to {@link #DefaultRenderStyle}, and the {@code shouldRender} boolean to
+     * {@link Drawable#DefaultShouldRender}.
+     *
+     * @param mesh The mesh defining the shape of the polygon.
+     * @since 1.7.0
+     */
+    protected Polygon2D(Mesh2D mesh) {
+        this.mesh = mesh;
+        originalPoints = mesh.points();
+        alternateIndexes = mesh.altIndexes();
+        setSharedCollisionPath(mesh.path(), mesh.bounds());
+
+        setFill(DefaultFill);
+        setOutlineStroke(DefaultOutlineStroke);
+        setOutlineColor(DefaultOutlineColor);
+        setRenderStyle(DefaultRenderStyle);
+    }
+
     /**
      * Gets a {@link Polygon2DBuilder} instance while setting the eventual {@link Polygon2D}'s {@code points} field.
      *
@@ -194,6 +221,42 @@ public class Polygon2D extends GameObject {
         return new Polygon2DBuilder(points, altIndexes, Drawable.DefaultShouldRender).build();
     }
 
+    /**
+     * Gets a {@link Polygon2DBuilder} instance for a {@code Polygon2D} which shares the points and path of the specified
+     * {@link Mesh2D mesh}.
+     *
+     * @param mesh {@code Mesh2D} that defines the shape of the {@code Polygon2D}.
+     * @return A {@code Polygon2DBuilder} instance for creating a {@code Polygon2D}.
+     * @since 1.7.0
+     */
+    public static Polygon2DBuilder create(Mesh2D mesh) {
+        return new Polygon2DBuilder(mesh, Drawable.DefaultShouldRender);
+    }
+
+    /**
+     * Gets a {@link Polygon2DBuilder} instance for a {@code Polygon2D} which shares the points and path of the specified
+     * {@link Mesh2D mesh}, while setting its {@code shouldRender} field.
+     *
+     * @param mesh         {@code Mesh2D} that defines the shape of the {@code Polygon2D}.
+     * @param shouldRender {@code boolean} that defines whether the {@code Polygon2D} would be rendered to the screen.
+     * @return A {@code Polygon2DBuilder} instance for creating a {@code Polygon2D}.
+     * @since 1.7.0
+     */
+    public static Polygon2DBuilder create(Mesh2D mesh, boolean shouldRender) {
+        return new Polygon2DBuilder(mesh, shouldRender);
+    }
+
+    /**
+     * Creates a {@code Polygon2D} which shares the points and path of the specified {@link Mesh2D mesh}.
+     *
+     * @param mesh {@code Mesh2D} that defines the shape of the {@code Polygon2D}.
+     * @return The resulting {@code Polygon2D}.
+     * @since 1.7.0
+     */
+    public static Polygon2D fromMesh(Mesh2D mesh) {
+        return new Polygon2DBuilder(mesh, Drawable.DefaultShouldRender).build();
+    }
+
     /**
      * Creates a {@code Polygon2D} from the specified {@link Path2D.Float}.
      *
@@ -205,14 +268,35 @@ public class Polygon2D extends GameObject {
         return new Polygon2DBuilder(pathMesh.points(), pathMesh.altIndexes(), Drawable.DefaultShouldRender).build();
     }
 
-    /** {@return The original set of points for this polygon} */
+    /**
+     * {@return the mesh the polygon shares its points and path with, or {@code null} if it has its own}
+     *
+     * @since 1.7.0
+     */
+    public Mesh2D getMesh() {
+        return mesh;
+    }
+
+    /**
+     * {@return The original set of points for this polygon}
+     * <p>
+     * If the polygon is made from a {@link #getMesh() mesh}, this is a copy of the mesh's points, so the shared mesh cannot be changed
+     * through it.
+     */
     public Pointf[] getOriginalPoints() {
-        return originalPoints;
+        Mesh2D currentMesh = mesh;
+        return currentMesh == null ? originalPoints : currentMesh.getPoints();
     }
 
-    /** {@return the polygon's alternate indexes} */
+    /**
+     * {@return the polygon's alternate indexes}
+     * <p>
+     * If the polygon is made from a {@link #getMesh() mesh}, this is a copy of the mesh's alternate indexes, so the shared mesh cannot be
+     * changed through it.
+     */
     public Point[] getAlternateIndexes() {
-        return alternateIndexes;
+        Mesh2D currentMesh = mesh;
+        return currentMesh == null ? alternateIndexes : currentMesh.getAlternateIndexes();
     }
 
     /** {@return the {@link Paint} set for this polygon} */
@@ -243,6 +327,7 @@ public class Polygon2D extends GameObject {
      */
     public Polygon2D setFill(Paint newPaint) {
         fillPaint = Objects.requireNonNull(newPaint);
+        contentChanged();
         return this;
     }
 
@@ -256,6 +341,7 @@ public class Polygon2D extends GameObject {
      */
     public Polygon2D setOutlineColor(Color newOutlineColor) {
         outlineColor = newOutlineColor;
+        contentChanged();
         return this;
     }
 
@@ -269,6 +355,7 @@ public class Polygon2D extends GameObject {
      */
     public Polygon2D setOutlineStroke(BasicStroke newOutlineStroke) {
         outlineStroke = newOutlineStroke;
+        contentChanged();
         return this;
     }
 
@@ -284,6 +371,7 @@ public class Polygon2D extends GameObject {
     public Polygon2D setOutline(BasicStroke newOutlineStroke, Color newOutlineColor) {
         outlineStroke = newOutlineStroke;
         outlineColor = newOutlineColor;
+        contentChanged();
         return this;
     }
 
@@ -299,6 +387,51 @@ public class Polygon2D extends GameObject {
      */
     public Polygon2D setRenderStyle(RenderStyle newRenderStyle) {
         renderStyle = newRenderStyle;
+        contentChanged();
+        return this;
+    }
+
+    /**
+     * {@return whether the polygon is rasterized, rendering through cached images rather than filling its path each time}
+     *
+     * @since 1.7.0
+     */
+    public boolean isRasterized() {
+        return rasterizer != null;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * A polygon can be rendered by several threads at once unless it is {@link #isRasterized() rasterized}. Subclasses may render
+     * differently, so they are not assumed to be safe.
+     */
+    @Override
+    public boolean isConcurrentlyRenderable() {
+        return getClass() == Polygon2D.class && rasterizer == null;
+    }
+
+    /**
+     * Sets whether the polygon is rasterized.
+     * <p>
+     * A rasterized polygon renders itself into an image the first time it is rendered at a given rotation and scale, and afterwards only
+     * draws that image at its translation -- see {@link RasterCache} for how rotations and scales are rounded, and how much memory the
+     * images may take up. This suits complex polygons -- with many points, curves, or thick outlines -- which are translated far more often
+     * than they are rotated or scaled. Changing the polygon's points, paint, outline, or render style replaces its images.
+     * <p>
+     * Rasterized polygons are only drawn at the rounded rotation and scale, and may look slightly blurrier than polygons which are not.
+     *
+     * @param isRasterized Whether the polygon should be rasterized.
+     * @return The polygon instance, for method chaining.
+     * @since 1.7.0
+     */
+    public Polygon2D setRasterized(boolean isRasterized) {
+        if (isRasterized && rasterizer == null) {
+            rasterizer = new Rasterizer(this::getContentBounds, this::renderShape);
+        } else if (!isRasterized && rasterizer != null) {
+            rasterizer.release();
+            rasterizer = null;
+        }
         return this;
     }
 
@@ -308,7 +441,7 @@ public class Polygon2D extends GameObject {
      * @return The {@code Pointf} array associated with the current state of the polygon.
      */
     public Pointf[] getPoints() {
-        return DrawUtil.pointsOfPath(transformedCollisionPath);
+        return DrawUtil.pointsOfPath(getCollisionPath());
     }
 
     /**
@@ -325,7 +458,9 @@ public class Polygon2D extends GameObject {
     public void modifyPoints(Pointf[] points, boolean resetTranslation, boolean resetRotation, boolean resetScale) {
         originalPoints = points;
         alternateIndexes = null;
+        mesh = null;
 
+        contentChanged();
         resetTransform(resetTranslation, resetRotation, resetScale);
         setCollisionPath(DrawUtil.createPath(originalPoints));
     }
@@ -344,7 +479,9 @@ public class Polygon2D extends GameObject {
     public void modifyPoints(Pointf[] points, Point[] altIndexes, boolean resetTranslation, boolean resetRotation, boolean resetScale) {
         originalPoints = points;
         alternateIndexes = altIndexes;
+        mesh = null;
 
+        contentChanged();
         resetTransform(resetTranslation, resetRotation, resetScale);
         setCollisionPath(DrawUtil.createPath(originalPoints, altIndexes));
     }
@@ -374,40 +511,151 @@ public class Polygon2D extends GameObject {
 
     @Override
     public void render(Graphics2D g) {
-        AffineTransform oldTransform = (AffineTransform) g.getTransform().clone();
+        Rasterizer currentRasterizer = rasterizer;
+        if (currentRasterizer != null && currentRasterizer.render(g, null, getRenderTransformation(), getContentVersion())) {
+            return;
+        }
+
+        AffineTransform oldTransform = g.getTransform();
         Paint oldPaint = g.getPaint();
         Stroke oldStroke = g.getStroke();
 
-        g.transform(getTransformation());
+        g.transform(getRenderTransformation());
+        renderShape(g, null);
+
+        g.setStroke(oldStroke);
+        g.setPaint(oldPaint);
+        g.setTransform(oldTransform);
+    }
+
+    @Override
+    public void render(Graphics2D g, RenderBatch renderBatch) {
+        Rasterizer currentRasterizer = rasterizer;
+        if (currentRasterizer != null && currentRasterizer.render(g, renderBatch, getRenderTransformation(), getContentVersion())) {
+            return;
+        }
+
+        renderBatch.setTransform(getRenderTransformation());
+        renderShape(g, renderBatch);
+    }
+
+    /**
+     * Renders the {@code Polygon2D} as part of a {@link Model2D model}, with its transform applied on top of the model's transform.
+     *
+     * @param g                   The {@code Graphics2D} object to render to.
+     * @param renderBatch         The render batch tracking the state of the {@code Graphics2D} object.
+     * @param modelTransformation The transform of the model the {@code Polygon2D} is part of.
+     */
+    void render(Graphics2D g, RenderBatch renderBatch, AffineTransform modelTransformation) {
+        renderBatch.setTransform(modelTransformation, getRenderTransformation());
+        renderShape(g, renderBatch);
+    }
+
+    /** {@return the bounds of the polygon's path before it is transformed, including its outline} */
+    Rectangle2D getContentBounds() {
+        Path2D.Float path = getRenderPath();
+        Rectangle2D contentBounds = path == null ? new Rectangle2D.Float() : path.getBounds2D();
+        if (renderStyle != RenderStyle.Fill) {
+            double outlineExtent = outlineStroke.getLineWidth() / 2d * Math.max(1d, outlineStroke.getMiterLimit());
+            contentBounds.setRect(
+                contentBounds.getX() - outlineExtent,
+                contentBounds.getY() - outlineExtent,
+                contentBounds.getWidth() + outlineExtent * 2d,
+                contentBounds.getHeight() + outlineExtent * 2d
+            );
+        }
+        return contentBounds;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * A polygon captures its path, paint, outline, and render style.
+     */
+    @Override
+    protected Object captureRenderState() {
+        return captureState(null);
+    }
+
+    /**
+     * {@return the path, paint, outline, and render style of the polygon, along with the given transformation}
+     *
+     * @param transformation The transformation to capture the polygon with, if it is rendered as part of a {@link Model2D model}.
+     */
+    RenderState captureState(AffineTransform transformation) {
+        return new RenderState(collisionPath, transformation, renderStyle, fillPaint, outlineColor, outlineStroke);
+    }
+
+    /**
+     * Renders the given captured state of a polygon, which the {@code Graphics2D} object should already be transformed for.
+     *
+     * @param g           The {@code Graphics2D} object to render to.
+     * @param renderBatch The render batch tracking the state of the {@code Graphics2D} object, or {@code null} to set its paint and
+     *                    stroke directly.
+     * @param state       The captured state to render.
+     */
+    static void renderState(Graphics2D g, RenderBatch renderBatch, RenderState state) {
+        renderShape(g, renderBatch, state.path(), state.renderStyle(), state.fillPaint(), state.outlineColor(), state.outlineStroke());
+    }
+
+    private void renderShape(Graphics2D g, RenderBatch renderBatch) {
+        if (getCapturedRenderState() instanceof RenderState capturedState) {
+            renderState(g, renderBatch, capturedState);
+            return;
+        }
+
+        renderShape(g, renderBatch, getRenderPath(), renderStyle, fillPaint, outlineColor, outlineStroke);
+    }
+
+    private static void renderShape(Graphics2D g, RenderBatch renderBatch, Path2D.Float path, RenderStyle renderStyle, Paint fillPaint,
+                                    Color outlineColor, BasicStroke outlineStroke) {
+        if (path == null) {
+            return;
+        }
 
         switch (renderStyle) {
             case Fill -> {
-                g.setPaint(fillPaint);
-                g.fill(collisionPath);
+                setPaint(g, renderBatch, fillPaint);
+                g.fill(path);
             }
             case Outline -> {
-                g.setStroke(outlineStroke);
-                g.setPaint(outlineColor);
-                g.draw(collisionPath);
+                setStroke(g, renderBatch, outlineStroke);
+                setPaint(g, renderBatch, outlineColor);
+                g.draw(path);
             }
             case FillAndOutline -> {
-                g.setPaint(fillPaint);
-                g.fill(collisionPath);
+                setPaint(g, renderBatch, fillPaint);
+                g.fill(path);
 
-                g.setStroke(outlineStroke);
-                g.setPaint(outlineColor);
-                g.draw(collisionPath);
+                setStroke(g, renderBatch, outlineStroke);
+                setPaint(g, renderBatch, outlineColor);
+                g.draw(path);
             }
         }
+    }
 
-        g.setStroke(oldStroke);
-        g.setPaint(oldPaint);
-        g.setTransform(oldTransform);
+    private static void setPaint(Graphics2D g, RenderBatch renderBatch, Paint paint) {
+        if (renderBatch != null) {
+            renderBatch.setPaint(paint);
+        } else {
+            g.setPaint(paint);
+        }
+    }
+
+    private static void setStroke(Graphics2D g, RenderBatch renderBatch, Stroke stroke) {
+        if (renderBatch != null) {
+            renderBatch.setStroke(stroke);
+        } else {
+            g.setStroke(stroke);
+        }
     }
 
     @Override
     public void destroy(GameHandler origin) {
         originalPoints = new Pointf[] { };
+        alternateIndexes = null;
+        mesh = null;
+        setRasterized(false);
 
         renderStyle = DefaultRenderStyle;
         fillPaint = DefaultFill;
@@ -456,4 +704,12 @@ public class Polygon2D extends GameObject {
             ", outlineStroke=" + outlineStroke +
             '}';
     }
+
+    /**
+     * The path, paint, outline, and render style of a polygon, captured for a {@link tech.fastj.graphics.RenderSnapshot render snapshot}.
+     * The transformation is only captured for polygons rendered as part of a {@link Model2D model}.
+     */
+    record RenderState(Path2D.Float path, AffineTransform transformation, RenderStyle renderStyle, Paint fillPaint, Color outlineColor,
+                       BasicStroke outlineStroke) {
+    }
 }
@@ -20,6 +20,7 @@ public class Polygon2DBuilder {
 
     private final Pointf[] points;
     private final Point[] altIndexes;
+    private final Mesh2D mesh;
     private final boolean shouldRender;
 
     private RenderStyle renderStyle = Polygon2D.DefaultRenderStyle;
@@ -43,6 +44,20 @@ public class Polygon2DBuilder {
     Polygon2DBuilder(Pointf[] points, Point[] altIndexes, boolean shouldRender) {
         this.points = Objects.requireNonNull(points, "The array of points must not be null.");
         this.altIndexes = altIndexes;
+        this.mesh = null;
+        this.shouldRender = shouldRender;
+    }
+
+    /**
+     * {@link Polygon2DBuilder} constructor, taking in a mesh to share the points of, and whether the polygon should be rendered.
+     *
+     * @param mesh         The {@link Mesh2D} whose points and path the resulting {@link Polygon2D} shares.
+     * @param shouldRender The "should render" {@link boolean} to use for the resulting {@link Polygon2D}.
+     */
+    Polygon2DBuilder(Mesh2D mesh, boolean shouldRender) {
+        this.mesh = Objects.requireNonNull(mesh, "The mesh must not be null.");
+        this.points = mesh.points();
+        this.altIndexes = mesh.altIndexes();
         this.shouldRender = shouldRender;
     }
 
@@ -101,7 +116,8 @@ public class Polygon2DBuilder {
 
     /** {@return a new {@link Polygon2D} object, using the data provided by earlier method calls} */
     public Polygon2D build() {
-        return (Polygon2D) new Polygon2D(points, altIndexes)
+        Polygon2D polygon2D = mesh != null ? new Polygon2D(mesh) : new Polygon2D(points, altIndexes);
+        return (Polygon2D) polygon2D
             .setOutlineStroke(outlineStroke)
             .setOutlineColor(outlineColor)
             .setRenderStyle(renderStyle)
@@ -0,0 +1,136 @@
+package tech.fastj.graphics.game;
+
+import java.awt.image.BufferedImage;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Global cache of the images {@link Polygon2D#setRasterized(boolean) rasterized} game objects are rendered through.
+ * <p>
+ * A rasterized game object renders its content once into an image for each rotation and scale it is drawn at -- rounded to steps of
+ * {@link #RotationStep} degrees and {@link #ScaleStepsPerDoubling} steps of scale each time the scale doubles -- and afterwards only draws
+ * that image at its translation. Those images are kept here, in least recently used order. Once the memory they take up passes the
+ * {@link #getMemoryBudget() memory budget}, the least recently used images are released.
+ * <p>
+ * The raster cache is thread-safe.
+ *
+ * @author Andrew Dey
+ * @since 1.7.0
+ */
+public final class RasterCache {
+
+    /** The default memory budget of the raster cache, of {@code 64} MiB. */
+    public static final long DefaultMemoryBudget = 64L * 1024L * 1024L;
+
+    /** The rotation, in degrees, which rasterized game objects' rotations are rounded to. */
+    public static final float RotationStep = 1f;
+
+    /** The amount of steps rasterized game objects' scales are rounded to, between each doubling of scale. */
+    public static final int ScaleStepsPerDoubling = 16;
+
+    private static final int BytesPerPixel = 4;
+    private static final Map<Object, Raster> Rasters = new LinkedHashMap<>(16, 0.75f, true);
+
+    private static long memoryBudget = DefaultMemoryBudget;
+    private static long memoryUsage;
+
+    private RasterCache() {
+        throw new IllegalStateException();
+    }
+
+    /** {@return the most memory, in bytes, the cached images can take up} */
+    public static synchronized long getMemoryBudget() {
+        return memoryBudget;
+    }
+
+    /**
+     * Sets the most memory, in bytes, the cached images can take up, releasing the least recently used images until they fit.
+     *
+     * @param memoryBudget The memory budget, in bytes.
+     */
+    public static synchronized void setMemoryBudget(long memoryBudget) {
+        if (memoryBudget < 0L) {
+            throw new IllegalArgumentException("Memory budget must be at least 0.");
+        }
+
+        RasterCache.memoryBudget = memoryBudget;
+        evict();
+    }
+
+    /** {@return the memory, in bytes, the cached images currently take up} */
+    public static synchronized long getMemoryUsage() {
+        return memoryUsage;
+    }
+
+    /** {@return the amount of cached images} */
+    public static synchronized int size() {
+        return Rasters.size();
+    }
+
+    /** Releases every cached image. */
+    public static synchronized void clear() {
+        for (Raster raster : Rasters.values()) {
+            raster.image().flush();
+        }
+
+        Rasters.clear();
+        memoryUsage = 0L;
+    }
+
+    static synchronized Raster get(Object key) {
+        return Rasters.get(key);
+    }
+
+    static synchronized void put(Object key, Raster raster) {
+        long rasterSize = sizeOf(raster);
+        if (rasterSize > memoryBudget) {
+            return;
+        }
+
+        Raster oldRaster = Rasters.put(key, raster);
+        if (oldRaster != null) {
+            memoryUsage -= sizeOf(oldRaster);
+        }
+        memoryUsage += rasterSize;
+        evict();
+    }
+
+    static synchronized void removeAll(Rasterizer rasterizer) {
+        Iterator<Map.Entry<Object, Raster>> entries = Rasters.entrySet().iterator();
+        while (entries.hasNext()) {
+            Map.Entry<Object, Raster> entry = entries.next();
+            if (entry.getValue().rasterizer() == rasterizer) {
+                memoryUsage -= sizeOf(entry.getValue());
+                entry.getValue().image().flush();
+                entries.remove();
+            }
+        }
+    }
+
+    private static void evict() {
+        Iterator<Raster> rasters = Rasters.values().iterator();
+        while (memoryUsage > memoryBudget && rasters.hasNext()) {
+            Raster raster = rasters.next();
+            memoryUsage -= sizeOf(raster);
+            raster.image().flush();
+            rasters.remove();
+        }
+    }
+
+    private static long sizeOf(Raster raster) {
+        return (long) raster.image().getWidth() * raster.image().getHeight() * BytesPerPixel;
+    }
+
+    /**
+     * Image a {@link Rasterizer rasterizer} rendered its content into, along with where the image's origin lies relative to the
+     * rasterized game object's translation.
+     *
+     * @param rasterizer The rasterizer which rendered the image.
+     * @param image      The rendered image.
+     * @param x          The x position of the image, relative to the game object's translation.
+     * @param y          The y position of the image, relative to the game object's translation.
+     */
+    record Raster(Rasterizer rasterizer, BufferedImage image, int x, int y) {
+    }
+}
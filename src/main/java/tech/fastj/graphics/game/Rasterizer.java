@@ -0,0 +1,147 @@
+package tech.fastj.graphics.game;
+
+import tech.fastj.graphics.RenderBatch;
+import tech.fastj.resources.images.ImageUtil;
+
+import java.awt.Graphics2D;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+/**
+ * Renders the content of a rasterized game object through images kept in the {@link RasterCache raster cache}.
+ * <p>
+ * The transform of the game object is split into its translation, and a rotation and scale which are rounded to the steps of the raster
+ * cache. The content is rendered once for each rounded rotation and scale, and the resulting image is then drawn at the translation.
+ *
+ * @author Andrew Dey
+ * @since 1.7.0
+ */
+final class Rasterizer {
+
+    /** The largest width or height, in pixels, of an image the content is rendered into. */
+    static final int MaxRasterSize = 2048;
+
+    private static final int StepsPerTurn = Math.round(360f / RasterCache.RotationStep);
+
+    private final Supplier<Rectangle2D> contentBounds;
+    private final BiConsumer<Graphics2D, RenderBatch> content;
+    private final RenderBatch rasterRenderBatch;
+    private final AffineTransform rasterTransform;
+    private final AffineTransform drawTransform;
+    private int lastContentVersion;
+
+    /**
+     * Constructs a rasterizer for the given content.
+     *
+     * @param contentBounds Supplies the bounds of the content, before it is transformed.
+     * @param content       Renders the content, before it is transformed, through the given render batch.
+     */
+    Rasterizer(Supplier<Rectangle2D> contentBounds, BiConsumer<Graphics2D, RenderBatch> content) {
+        this.contentBounds = contentBounds;
+        this.content = content;
+
+        rasterRenderBatch = new RenderBatch();
+        rasterTransform = new AffineTransform();
+        drawTransform = new AffineTransform();
+    }
+
+    /**
+     * Renders the content with the given transform, through its cached image.
+     *
+     * @param g              The {@code Graphics2D} object to render to.
+     * @param renderBatch    The render batch tracking the state of the {@code Graphics2D} object, or {@code null} if there is none.
+     * @param transformation The transform to render the content with.
+     * @param contentVersion A value which changes whenever the content changes, so images of the old content are not used.
+     * @return Whether the content was rendered. If not, the content cannot be rasterized with the given transform -- it is too large at
+     * that scale, or the transform is not invertible -- and should be rendered directly instead.
+     */
+    synchronized boolean render(Graphics2D g, RenderBatch renderBatch, AffineTransform transformation, int contentVersion) {
+        if (contentVersion != lastContentVersion) {
+            RasterCache.removeAll(this);
+            lastContentVersion = contentVersion;
+        }
+
+        double scaleX = Math.hypot(transformation.getScaleX(), transformation.getShearY());
+        double scaleY = transformation.getDeterminant() / scaleX;
+        if (!(scaleX > 0d) || scaleY == 0d || Double.isNaN(scaleY) || Double.isInfinite(scaleY)) {
+            return false;
+        }
+
+        double rotation = Math.toDegrees(Math.atan2(transformation.getShearY(), transformation.getScaleX()));
+        int rotationStep = Math.floorMod((int) Math.round(rotation / RasterCache.RotationStep), StepsPerTurn);
+        int scaleXStep = (int) Math.round(log2(scaleX) * RasterCache.ScaleStepsPerDoubling);
+        int scaleYStep = (int) Math.round(log2(Math.abs(scaleY)) * RasterCache.ScaleStepsPerDoubling);
+        RasterKey rasterKey = new RasterKey(this, contentVersion, rotationStep, scaleXStep, scaleYStep, scaleY < 0d);
+
+        RasterCache.Raster raster = RasterCache.get(rasterKey);
+        if (raster == null) {
+            raster = rasterize(g, rasterKey);
+            if (raster == null) {
+                return false;
+            }
+            RasterCache.put(rasterKey, raster);
+        }
+
+        drawTransform.setToTranslation(transformation.getTranslateX(), transformation.getTranslateY());
+        if (renderBatch != null) {
+            renderBatch.setTransform(drawTransform);
+            g.drawImage(raster.image(), raster.x(), raster.y(), null);
+        } else {
+            AffineTransform oldTransform = g.getTransform();
+            g.transform(drawTransform);
+            g.drawImage(raster.image(), raster.x(), raster.y(), null);
+            g.setTransform(oldTransform);
+        }
+
+        return true;
+    }
+
+    /** Releases the cached images of the content. */
+    synchronized void release() {
+        RasterCache.removeAll(this);
+    }
+
+    private RasterCache.Raster rasterize(Graphics2D g, RasterKey rasterKey) {
+        rasterTransform.setToRotation(Math.toRadians(rasterKey.rotationStep() * RasterCache.RotationStep));
+        rasterTransform.scale(
+            Math.pow(2d, (double) rasterKey.scaleXStep() / RasterCache.ScaleStepsPerDoubling),
+            Math.pow(2d, (double) rasterKey.scaleYStep() / RasterCache.ScaleStepsPerDoubling) * (rasterKey.isFlipped() ? -1d : 1d)
+        );
+
+        Rectangle2D rasterBounds = rasterTransform.createTransformedShape(contentBounds.get()).getBounds2D();
+        int x = (int) Math.floor(rasterBounds.getMinX()) - 1;
+        int y = (int) Math.floor(rasterBounds.getMinY()) - 1;
+        long width = (long) Math.ceil(rasterBounds.getMaxX()) + 1L - x;
+        long height = (long) Math.ceil(rasterBounds.getMaxY()) + 1L - y;
+        if (width > MaxRasterSize || height > MaxRasterSize) {
+            return null;
+        }
+
+        BufferedImage image = ImageUtil.createBufferedImage((int) width, (int) height);
+        Graphics2D rasterGraphics = image.createGraphics();
+        try {
+            rasterGraphics.setRenderingHints(g.getRenderingHints());
+            rasterGraphics.translate(-x, -y);
+            rasterGraphics.transform(rasterTransform);
+
+            rasterRenderBatch.begin(rasterGraphics);
+            content.accept(rasterGraphics, rasterRenderBatch);
+            rasterRenderBatch.end();
+        } finally {
+            rasterGraphics.dispose();
+        }
+
+        return new RasterCache.Raster(this, image, x, y);
+    }
+
+    private static double log2(double value) {
+        return Math.log(value) / Math.log(2d);
+    }
+
+    private record RasterKey(Rasterizer rasterizer, int contentVersion, int rotationStep, int scaleXStep, int scaleYStep,
+                             boolean isFlipped) {
+    }
+}
@@ -11,15 +11,17 @@ import tech.fastj.animation.sprite.SpriteAnimStyle;
 import tech.fastj.animation.sprite.event.SpriteFrameStepEvent;
 import tech.fastj.engine.FastJEngine;
 import tech.fastj.graphics.Drawable;
+import tech.fastj.graphics.RenderBatch;
 import tech.fastj.graphics.util.DrawUtil;
 import tech.fastj.logging.Log;
 import tech.fastj.resources.images.ImageResource;
 import tech.fastj.resources.images.ImageUtil;
+import tech.fastj.resources.images.TextureAtlas;
+import tech.fastj.resources.images.TextureRegion;
 import tech.fastj.systems.control.GameHandler;
 
 import java.awt.Graphics2D;
 import java.awt.geom.AffineTransform;
-import java.awt.image.BufferedImage;
 import java.nio.file.Path;
 import java.util.Map;
 
@@ -35,14 +37,15 @@ public class Sprite2D extends GameObject implements Animated<Sprite2D, SpriteAni
         NoAnimation, new SpriteAnimData(NoAnimation, SpriteAnimStyle.Static, 0, 0)
     );
 
-    private static final BufferedImage[] NoSpritesLoaded = {
-        ImageUtil.createBufferedImage(16, 16)
+    private static final TextureRegion[] NoSpritesLoaded = {
+        TextureRegion.of(ImageUtil.createBufferedImage(16, 16))
     };
 
     private final Map<String, SpriteAnimData> animationDataMap;
 
     private final ImageResource spritesResource;
-    private BufferedImage[] sprites;
+    private final String textureName;
+    private volatile TextureRegion[] sprites;
     private String currentAnimation;
     private volatile float currentFrame;
     private volatile int animationFPS;
@@ -50,6 +53,7 @@ public class Sprite2D extends GameObject implements Animated<Sprite2D, SpriteAni
 
     Sprite2D(ImageResource spritesResource, int horizontalImageCount, int verticalImageCount, Map<String, SpriteAnimData> animationDataMap) {
         this.spritesResource = spritesResource;
+        this.textureName = null;
         this.animationDataMap = animationDataMap;
         this.paused = true;
 
@@ -63,7 +67,22 @@ public class Sprite2D extends GameObject implements Animated<Sprite2D, SpriteAni
         }
 
         resetSpriteSheet(horizontalImageCount, verticalImageCount);
-        setCollisionPath(DrawUtil.createPath(DrawUtil.createBoxFromImage(sprites[0])));
+        setCollisionPath(DrawUtil.createPath(DrawUtil.createBox(0f, 0f, sprites[0].width(), sprites[0].height())));
+    }
+
+    Sprite2D(TextureRegion[] sprites, String textureName, Map<String, SpriteAnimData> animationDataMap) {
+        this.spritesResource = null;
+        this.textureName = textureName;
+        this.sprites = sprites;
+        this.animationDataMap = animationDataMap;
+        this.paused = true;
+
+        if (this.animationDataMap.isEmpty()) {
+            animationDataMap.putAll(NoAnimationsLoaded);
+            Log.warn(Sprite2D.class, "No animations were loaded from Sprite2D created from texture atlas texture \"{}\".", textureName);
+        }
+
+        setCollisionPath(DrawUtil.createPath(DrawUtil.createBox(0f, 0f, sprites[0].width(), sprites[0].height())));
     }
 
     public static Sprite2DBuilder create(Path spriteResourcePath) {
@@ -84,6 +103,18 @@ public class Sprite2D extends GameObject implements Animated<Sprite2D, SpriteAni
         return new Sprite2DBuilder(spritesResource, shouldRender);
     }
 
+    public static Sprite2DBuilder create(TextureAtlas textureAtlas, String textureName) {
+        return new Sprite2DBuilder(textureAtlas.getRegions(textureName), textureName, Drawable.DefaultShouldRender);
+    }
+
+    public static Sprite2DBuilder create(TextureAtlas textureAtlas, String textureName, boolean shouldRender) {
+        return new Sprite2DBuilder(textureAtlas.getRegions(textureName), textureName, shouldRender);
+    }
+
+    public static Sprite2D fromTextureAtlas(TextureAtlas textureAtlas, String textureName) {
+        return create(textureAtlas, textureName).build();
+    }
+
     public static Sprite2D fromImageResource(ImageResource spritesResource) {
         return new Sprite2DBuilder(spritesResource, Drawable.DefaultShouldRender).build();
     }
@@ -110,7 +141,7 @@ public class Sprite2D extends GameObject implements Animated<Sprite2D, SpriteAni
     }
 
     public Sprite2D setCurrentFrame(int currentFrame) {
-        this.currentFrame = currentFrame;
+        setFrame(currentFrame);
         return this;
     }
 
@@ -118,19 +149,39 @@ public class Sprite2D extends GameObject implements Animated<Sprite2D, SpriteAni
         if (currentAnimation == null || animationDataMap.get(currentAnimation) == null) {
             throw new IllegalArgumentException(
                 "Could not find an animation named " + currentAnimation
-                    + " in animation from \"" + spritesResource.getPath().toAbsolutePath() + "\"."
+                    + " in animation from \"" + getSpritesOrigin() + "\"."
             );
         } else {
             this.currentAnimation = currentAnimation;
-            this.currentFrame = animationDataMap.get(currentAnimation).getFirstFrame();
+            setFrame(animationDataMap.get(currentAnimation).getFirstFrame());
         }
         return this;
     }
 
     private void resetSpriteSheet(int horizontalImageCount, int verticalImageCount) {
+        if (spritesResource == null) {
+            throw new IllegalStateException(
+                "Sprites from texture atlas texture \"" + textureName + "\" cannot be reloaded from a sprite resource."
+            );
+        }
+
         spritesResource.unload();
         spritesResource.load();
-        sprites = ImageUtil.createSpriteSheet(spritesResource.get(), horizontalImageCount, verticalImageCount);
+        sprites = ImageUtil.createSpriteSheetRegions(spritesResource.get(), horizontalImageCount, verticalImageCount);
+        contentChanged();
+    }
+
+    /** Sets the current frame, changing the sprite's content version if the frame shown changes. */
+    private void setFrame(float frame) {
+        boolean isFrameShownChanged = (int) frame != (int) currentFrame;
+        currentFrame = frame;
+        if (isFrameShownChanged) {
+            contentChanged();
+        }
+    }
+
+    private String getSpritesOrigin() {
+        return spritesResource != null ? spritesResource.getPath().toAbsolutePath().toString() : textureName;
     }
 
     @Override
@@ -192,7 +243,7 @@ public class Sprite2D extends GameObject implements Animated<Sprite2D, SpriteAni
             for (var needsAnimationSwitch : currentAnimationData.getNextPossibleAnimations().entrySet()) {
                 if (needsAnimationSwitch.getKey().test(this)) {
                     SpriteAnimData nextAnimationData = needsAnimationSwitch.getValue();
-                    AnimChangeEvent<Sprite2D, SpriteAnimData> animChangeEvent = new AnimChangeEvent<>(
+                    AnimChangeEvent<Sprite2D, SpriteAnimData> animChangeEvent = AnimChangeEvent.obtain(
                         this,
                         currentAnimationData,
                         (int) currentFrame,
@@ -200,7 +251,7 @@ public class Sprite2D extends GameObject implements Animated<Sprite2D, SpriteAni
                         nextAnimationData.getFirstFrame()
                     );
                     currentAnimation = nextAnimationData.getAnimationName();
-                    currentFrame = nextAnimationData.getFirstFrame();
+                    setFrame(nextAnimationData.getFirstFrame());
                     FastJEngine.getGameLoop().fireEvent(animChangeEvent);
                     return;
                 }
@@ -211,7 +262,7 @@ public class Sprite2D extends GameObject implements Animated<Sprite2D, SpriteAni
                 case ContinuousLoop -> {
                     if ((int) nextFrame > currentAnimationData.getLastFrame()) {
                         nextFrame = currentAnimationData.getFirstFrame();
-                        AnimLoopEvent<Sprite2D, SpriteAnimData> animLoopEvent = new AnimLoopEvent<>(
+                        AnimLoopEvent<Sprite2D, SpriteAnimData> animLoopEvent = AnimLoopEvent.obtain(
                             this,
                             currentAnimationData
                         );
@@ -231,7 +282,7 @@ public class Sprite2D extends GameObject implements Animated<Sprite2D, SpriteAni
             SpriteFrameStepEvent<Sprite2D, SpriteAnimData> animationFlipEvent = null;
 
             if ((int) nextFrame > (int) currentFrame) {
-                animationFlipEvent = new SpriteFrameStepEvent<>(
+                animationFlipEvent = SpriteFrameStepEvent.obtain(
                     this,
                     currentAnimationData,
                     (int) currentFrame,
@@ -239,7 +290,7 @@ public class Sprite2D extends GameObject implements Animated<Sprite2D, SpriteAni
                 );
             }
 
-            currentFrame = nextFrame;
+            setFrame(nextFrame);
 
             if (animationFlipEvent != null) {
                 FastJEngine.getGameLoop().fireEvent(animationFlipEvent);
@@ -254,20 +305,61 @@ public class Sprite2D extends GameObject implements Animated<Sprite2D, SpriteAni
         animationDataMap.clear();
         animationDataMap.putAll(NoAnimationsLoaded);
         currentAnimation = NoAnimation;
-        sprites = NoSpritesLoaded;
         currentFrame = DefaultStartingFrame;
+        sprites = NoSpritesLoaded;
+        contentChanged();
         animationFPS = DefaultAnimationFPS;
 
         super.destroyTheRest(origin);
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * A sprite only draws its current frame while rendering, so it can be rendered by several threads at once.
+     */
+    @Override
+    public boolean isConcurrentlyRenderable() {
+        return true;
+    }
+
     @Override
     public void render(Graphics2D g) {
-        AffineTransform oldTransform = (AffineTransform) g.getTransform().clone();
-        g.transform(getTransformation());
+        AffineTransform oldTransform = g.getTransform();
+        g.transform(getRenderTransformation());
 
-        g.drawImage(sprites[(int) currentFrame], null, null);
+        getRenderSprite().draw(g);
 
         g.setTransform(oldTransform);
     }
+
+    @Override
+    public void render(Graphics2D g, RenderBatch renderBatch) {
+        renderBatch.setTransform(getRenderTransformation());
+        getRenderSprite().draw(g);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * A sprite captures the texture region of its current frame.
+     */
+    @Override
+    protected Object captureRenderState() {
+        return getCurrentSprite();
+    }
+
+    private TextureRegion getRenderSprite() {
+        if (getCapturedRenderState() instanceof TextureRegion capturedSprite) {
+            return capturedSprite;
+        }
+        return getCurrentSprite();
+    }
+
+    /** The sprites and the current frame may be replaced separately, so the frame is kept within the sprites read. */
+    private TextureRegion getCurrentSprite() {
+        TextureRegion[] currentSprites = sprites;
+        int frame = Math.max(0, Math.min((int) currentFrame, currentSprites.length - 1));
+        return currentSprites[frame];
+    }
 }
@@ -6,6 +6,7 @@ import tech.fastj.gameloop.CoreLoopState;
 import tech.fastj.math.Pointf;
 import tech.fastj.math.Transform2D;
 import tech.fastj.resources.images.ImageResource;
+import tech.fastj.resources.images.TextureRegion;
 
 import java.util.LinkedHashMap;
 import java.util.Map;
@@ -14,6 +15,8 @@ import java.util.Objects;
 public class Sprite2DBuilder {
 
     private final ImageResource spriteResource;
+    private final TextureRegion[] atlasSprites;
+    private final String textureName;
     private final Map<String, SpriteAnimData> animationDataMap;
     private final boolean shouldRender;
 
@@ -30,11 +33,24 @@ public class Sprite2DBuilder {
 
     Sprite2DBuilder(ImageResource spriteResource, boolean shouldRender) {
         this.spriteResource = Objects.requireNonNull(spriteResource, "The sprite resource instance must not be null.");
+        this.atlasSprites = null;
+        this.textureName = null;
+        this.shouldRender = shouldRender;
+        this.animationDataMap = new LinkedHashMap<>();
+    }
+
+    Sprite2DBuilder(TextureRegion[] atlasSprites, String textureName, boolean shouldRender) {
+        this.spriteResource = null;
+        this.atlasSprites = atlasSprites;
+        this.textureName = textureName;
         this.shouldRender = shouldRender;
         this.animationDataMap = new LinkedHashMap<>();
     }
 
     public Sprite2DBuilder withImageCount(int horizontalImageCount, int verticalImageCount) {
+        if (atlasSprites != null) {
+            throw new IllegalStateException("The image count of sprites from a texture atlas is set by the texture atlas.");
+        }
         if (horizontalImageCount < 1) {
             throw new IllegalArgumentException("The given horizontal image count must be at least 1.");
         }
@@ -52,7 +68,8 @@ public class Sprite2DBuilder {
         if (startingFrame < 0) {
             throw new IllegalArgumentException("The starting frame value must be at least 0.");
         }
-        if (startingFrame >= (horizontalImageCount * verticalImageCount)) {
+        int imageCount = atlasSprites != null ? atlasSprites.length : horizontalImageCount * verticalImageCount;
+        if (startingFrame >= imageCount) {
             throw new IllegalArgumentException("The starting frame value must not be more than the amount of sprite images.");
         }
 
@@ -106,7 +123,10 @@ public class Sprite2DBuilder {
     }
 
     public Sprite2D build() {
-        Sprite2D sprite2D = (Sprite2D) new Sprite2D(spriteResource, horizontalImageCount, verticalImageCount, animationDataMap)
+        Sprite2D newSprite2D = atlasSprites != null
+            ? new Sprite2D(atlasSprites, textureName, animationDataMap)
+            : new Sprite2D(spriteResource, horizontalImageCount, verticalImageCount, animationDataMap);
+        Sprite2D sprite2D = (Sprite2D) newSprite2D
             .setCurrentFrame(startingFrame)
             .setAnimationFPS(animationFPS)
             .setCurrentAnimation(startingAnimation)
@@ -1,6 +1,7 @@
 package tech.fastj.graphics.game;
 
 import tech.fastj.graphics.Drawable;
+import tech.fastj.graphics.RenderBatch;
 import tech.fastj.math.Pointf;
 import tech.fastj.math.Transform2D;
 import tech.fastj.systems.control.GameHandler;
@@ -152,6 +153,7 @@ public class Text2D extends GameObject {
         Graphics2D graphics = GraphicsHelper.createGraphics();
         setMetrics(graphics);
         graphics.dispose();
+        contentChanged();
 
         return this;
     }
@@ -164,6 +166,7 @@ public class Text2D extends GameObject {
      */
     public Text2D setFill(Paint newPaint) {
         fillPaint = newPaint;
+        contentChanged();
         return this;
     }
 
@@ -178,37 +181,73 @@ public class Text2D extends GameObject {
         Graphics2D graphics = GraphicsHelper.createGraphics();
         setMetrics(graphics);
         graphics.dispose();
+        contentChanged();
 
         return this;
     }
 
     @Override
     public void render(Graphics2D g) {
-        if (!hasMetrics) {
-            setMetrics(g);
-        }
+        TextState state = getRenderState(g);
 
-        AffineTransform oldTransform = (AffineTransform) g.getTransform().clone();
+        AffineTransform oldTransform = g.getTransform();
         Font oldFont = g.getFont();
         Paint oldPaint = g.getPaint();
 
-        g.transform(getTransformation());
-        g.setFont(font);
-        g.setPaint(fillPaint);
+        g.transform(getRenderTransformation());
+        g.setFont(state.font());
+        g.setPaint(state.fillPaint());
 
-        g.drawString(text, OriginInstance.x, font.getSize2D());
+        g.drawString(state.text(), OriginInstance.x, state.font().getSize2D());
 
         g.setTransform(oldTransform);
         g.setFont(oldFont);
         g.setPaint(oldPaint);
     }
 
+    @Override
+    public void render(Graphics2D g, RenderBatch renderBatch) {
+        TextState state = getRenderState(g);
+
+        renderBatch.setTransform(getRenderTransformation());
+        renderBatch.setFont(state.font());
+        renderBatch.setPaint(state.fillPaint());
+
+        g.drawString(state.text(), OriginInstance.x, state.font().getSize2D());
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Text captures its text, font, and paint.
+     */
+    @Override
+    protected Object captureRenderState() {
+        return new TextState(text, font, fillPaint);
+    }
+
+    /**
+     * Gets the text, font, and paint to render, which are those captured by a render snapshot if the text is rendered from one. Otherwise,
+     * the metrics of the text are first set up if they are not yet.
+     */
+    private TextState getRenderState(Graphics2D g) {
+        if (getCapturedRenderState() instanceof TextState capturedState) {
+            return capturedState;
+        }
+
+        if (!hasMetrics) {
+            setMetrics(g);
+        }
+        return new TextState(text, font, fillPaint);
+    }
+
     @Override
     public void destroy(GameHandler origin) {
         text = DefaultText;
         fillPaint = DefaultFill;
         font = DefaultFont;
         hasMetrics = false;
+        contentChanged();
 
         super.destroyTheRest(origin);
     }
@@ -279,4 +318,8 @@ public class Text2D extends GameObject {
     public int hashCode() {
         return Objects.hash(super.hashCode(), text, fillPaint, font, hasMetrics);
     }
+
+    /** The text, font, and paint of a {@code Text2D}, captured for a {@link tech.fastj.graphics.RenderSnapshot render snapshot}. */
+    private record TextState(String text, Font font, Paint fillPaint) {
+    }
 }
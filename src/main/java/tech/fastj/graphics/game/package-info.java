@@ -4,9 +4,11 @@
  * <ul>
  *     <li>{@link tech.fastj.graphics.game.GameObject} - the abstract class base for all game objects.</li>
  *     <li>{@link tech.fastj.graphics.game.Polygon2D} renders single polygons.</li>
+ *     <li>{@link tech.fastj.graphics.game.Mesh2D} defines a shape shared by many polygons.</li>
  *     <li>{@link tech.fastj.graphics.game.Model2D} renders 2D models (multiple polygons in tandem).</li>
  *     <li>{@link tech.fastj.graphics.game.Text2D} renders text.</li>
  *     <li>{@link tech.fastj.graphics.game.Sprite2D} renders sprites and simple sprite animations.</li>
+ *     <li>{@link tech.fastj.graphics.game.EntityStore} renders many lightweight sprite entities, stored in primitive arrays.</li>
  * </ul>
  * <p>
  * Controlling {@link tech.fastj.graphics.game.GameObject GameObjects} can be simplified with the use of
@@ -18,6 +18,7 @@ import java.awt.FontMetrics;
 import java.awt.Graphics2D;
 import java.awt.Paint;
 import java.awt.geom.AffineTransform;
+import java.awt.geom.Path2D;
 import java.awt.geom.Rectangle2D;
 import java.awt.image.BufferedImage;
 import java.util.function.Consumer;
@@ -186,12 +187,17 @@ public class Button extends UIElement<MouseButtonEvent> implements MouseActionLi
 
     @Override
     public void render(Graphics2D g) {
+        Path2D.Float path = getRenderPath();
+        if (path == null) {
+            return;
+        }
+
         AffineTransform oldTransform = (AffineTransform) g.getTransform().clone();
         Paint oldPaint = g.getPaint();
         Font oldFont = g.getFont();
-        Rectangle2D.Float renderCopy = (Rectangle2D.Float) collisionPath.getBounds2D();
+        Rectangle2D.Float renderCopy = (Rectangle2D.Float) path.getBounds2D();
 
-        g.transform(getTransformation());
+        g.transform(getRenderTransformation());
 
         g.setPaint(paint);
         g.fill(renderCopy);
@@ -1,6 +1,6 @@
 package tech.fastj.input;
 
-import tech.fastj.gameloop.event.Event;
+import tech.fastj.gameloop.event.RecyclableEvent;
 
 import java.awt.event.InputEvent;
 
@@ -10,7 +10,7 @@ import java.awt.event.InputEvent;
  * @author Andrew Dey
  * @since 1.7.0
  */
-public abstract class InputActionEvent extends Event {
+public abstract class InputActionEvent extends RecyclableEvent {
 
     /** Empty default constructor. */
     protected InputActionEvent() {
@@ -1,10 +1,12 @@
 package tech.fastj.input;
 
 import tech.fastj.engine.FastJEngine;
+import tech.fastj.gameloop.event.Event;
 import tech.fastj.gameloop.event.EventObserverCombo;
 import tech.fastj.graphics.display.FastJCanvas;
 import tech.fastj.input.keyboard.Keyboard;
 import tech.fastj.input.keyboard.KeyboardActionListener;
+import tech.fastj.input.keyboard.Keys;
 import tech.fastj.input.keyboard.events.KeyboardActionEvent;
 import tech.fastj.input.mouse.MouseActionListener;
 import tech.fastj.input.mouse.events.MouseActionEvent;
@@ -13,6 +15,7 @@ import tech.fastj.systems.control.SimpleManager;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -87,8 +90,11 @@ public class InputManager {
     /** Fires a {@code keys down} event to all listening {@link KeyboardActionListener keyboard action listeners}. */
     public void fireKeysDown() {
         if (Keyboard.areKeysDown()) {
-            for (KeyboardActionListener listener : getKeyboardActionListeners()) {
-                listener.onKeyDown(Keyboard.getKeysDown());
+            Set<Keys> keysDown = Keyboard.getKeysDown();
+            for (EventObserverCombo<? extends Event> observerCombo : FastJEngine.getGameLoop().getEventObservers(KeyboardActionEvent.class)) {
+                if (observerCombo.eventObserver() instanceof KeyboardActionListener listener) {
+                    listener.onKeyDown(keysDown);
+                }
             }
         }
     }
@@ -1,5 +1,7 @@
 package tech.fastj.input.keyboard.events;
 
+import tech.fastj.gameloop.event.EventPool;
+import tech.fastj.gameloop.event.EventPools;
 import tech.fastj.input.keyboard.Keys;
 
 import java.awt.event.KeyEvent;
@@ -8,24 +10,22 @@ import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Key event referring to a key being pressed or released.
+ * <p>
+ * When {@link EventPools#isPoolingEnabled() event pooling is enabled}, keyboard state events are reused through an
+ * {@link EventPool event pool}.
  *
  * @author Andrew Dey
  * @since 1.7.0
  */
 public class KeyboardStateEvent extends KeyboardActionEvent {
 
-    private static final Map<int[], Keys> KeyboardMap = new ConcurrentHashMap<>();
-    private final KeyEvent keyEvent;
-    private final Keys key;
-
-    private KeyboardStateEvent(KeyEvent keyEvent) {
-        this.keyEvent = keyEvent;
-        if (KeyboardMap.containsKey(new int[] {keyEvent.getKeyCode(), keyEvent.getKeyLocation()})) {
-            key = KeyboardMap.get(new int[] {keyEvent.getKeyCode(), keyEvent.getKeyLocation()});
-        } else {
-            key = Keys.get(keyEvent);
-            KeyboardMap.put(new int[] {keyEvent.getKeyCode(), keyEvent.getKeyLocation()}, key);
-        }
+    private static final Map<Long, Keys> KeyboardMap = new ConcurrentHashMap<>();
+    private static final EventPool<KeyboardStateEvent> Pool = EventPools.register(KeyboardStateEvent.class, KeyboardStateEvent::new);
+
+    private KeyEvent keyEvent;
+    private Keys key;
+
+    private KeyboardStateEvent() {
     }
 
     /** {@return the key interacted with} */
@@ -43,12 +43,23 @@ public class KeyboardStateEvent extends KeyboardActionEvent {
         return String.valueOf(keyEvent.getKeyChar());
     }
 
+    @Override
+    protected void reset() {
+        keyEvent = null;
+        key = null;
+    }
+
     /**
      * {@return a keyboard state event instance from a {@link KeyEvent raw AWT event}}
      *
      * @param keyEvent {@link KeyEvent raw AWT keyboard event}}
      */
     public static KeyboardStateEvent fromKeyEvent(KeyEvent keyEvent) {
-        return new KeyboardStateEvent(keyEvent);
+        KeyboardStateEvent keyboardStateEvent = Pool.obtain();
+        long keyboardMapKey = ((long) keyEvent.getKeyCode() << 32) | keyEvent.getKeyLocation();
+
+        keyboardStateEvent.keyEvent = keyEvent;
+        keyboardStateEvent.key = KeyboardMap.computeIfAbsent(keyboardMapKey, mapKey -> Keys.get(keyEvent));
+        return keyboardStateEvent;
     }
 }
@@ -1,5 +1,8 @@
 package tech.fastj.input.mouse.events;
 
+import tech.fastj.gameloop.event.CoalescableEvent;
+import tech.fastj.gameloop.event.EventPool;
+import tech.fastj.gameloop.event.EventPools;
 import tech.fastj.input.mouse.MouseAction;
 import tech.fastj.math.Pointf;
 
@@ -8,20 +11,26 @@ import java.util.Objects;
 
 /**
  * Mouse event referring to a mouse {@link MouseAction#Move movement} or {@link MouseAction#Drag drag}.
+ * <p>
+ * When {@link EventPools#isPoolingEnabled() event pooling is enabled}, mouse motion events are reused through an
+ * {@link EventPool event pool}.
+ * <p>
+ * Mouse motion events are {@link CoalescableEvent coalescable} by their {@link #getEventType() event type}: when several of them wait
+ * in the same event queue, only the latest movement and the latest drag are fired.
  *
  * @author Andrew Dey
  * @since 1.7.0
  */
-public class MouseMotionEvent extends MouseActionEvent {
+public class MouseMotionEvent extends MouseActionEvent implements CoalescableEvent<MouseMotionEvent> {
+
+    private static final EventPool<MouseMotionEvent> Pool = EventPools.register(MouseMotionEvent.class, MouseMotionEvent::new);
 
-    private final MouseEvent mouseEvent;
     private final Pointf mouseLocation;
-    private final MouseAction eventType;
+    private MouseEvent mouseEvent;
+    private MouseAction eventType;
 
-    private MouseMotionEvent(MouseEvent mouseEvent, MouseAction eventType) {
-        this.mouseEvent = mouseEvent;
-        this.mouseLocation = new Pointf(mouseEvent.getX(), mouseEvent.getY());
-        this.eventType = eventType;
+    private MouseMotionEvent() {
+        mouseLocation = new Pointf();
     }
 
     @Override
@@ -34,6 +43,11 @@ public class MouseMotionEvent extends MouseActionEvent {
         return eventType;
     }
 
+    @Override
+    public Object getCoalescingKey() {
+        return eventType;
+    }
+
     /** {@return the location the mouse moved to, in this event} */
     public Pointf getMouseLocation() {
         return mouseLocation;
@@ -46,7 +60,17 @@ public class MouseMotionEvent extends MouseActionEvent {
      * @param eventType  The type of {@link MouseAction mouse action} performed to create this event.
      */
     public static MouseMotionEvent fromMouseEvent(MouseEvent mouseEvent, MouseAction eventType) {
-        return new MouseMotionEvent(mouseEvent, eventType);
+        MouseMotionEvent mouseMotionEvent = Pool.obtain();
+        mouseMotionEvent.mouseEvent = mouseEvent;
+        mouseMotionEvent.mouseLocation.set(mouseEvent.getX(), mouseEvent.getY());
+        mouseMotionEvent.eventType = eventType;
+        return mouseMotionEvent;
+    }
+
+    @Override
+    protected void reset() {
+        mouseEvent = null;
+        eventType = null;
     }
 
     @Override
@@ -1,5 +1,6 @@
 package tech.fastj.input.mouse.events;
 
+import tech.fastj.gameloop.event.CoalescableEvent;
 import tech.fastj.input.mouse.MouseAction;
 import tech.fastj.input.mouse.MouseScrollType;
 
@@ -9,16 +10,20 @@ import java.util.Objects;
 
 /**
  * Mouse event referring to a mouse {@link MouseAction#WheelScroll wheel scroll}.
+ * <p>
+ * Mouse scroll events are {@link CoalescableEvent coalescable} by their {@link #getMouseScrollType() scroll type}: when several of
+ * them wait in the same event queue, they are fired as a single event whose {@link #getWheelRotation() wheel rotation} and
+ * {@link #getScrollAmount() scroll amount} are the sums of theirs. Its {@link #getRawEvent() raw event} is the latest one.
  *
  * @author Andrew Dey
  * @since 1.7.0
  */
-public class MouseScrollEvent extends MouseActionEvent {
+public class MouseScrollEvent extends MouseActionEvent implements CoalescableEvent<MouseScrollEvent> {
 
     private final MouseWheelEvent mouseWheelEvent;
     private final MouseScrollType mouseScrollType;
-    private final double wheelRotation;
-    private final double scrollAmount;
+    private double wheelRotation;
+    private double scrollAmount;
     private final int scrollAmountPerWheelRotation;
     private final MouseAction eventType;
 
@@ -50,6 +55,17 @@ public class MouseScrollEvent extends MouseActionEvent {
         return eventType;
     }
 
+    @Override
+    public Object getCoalescingKey() {
+        return mouseScrollType;
+    }
+
+    @Override
+    public void coalesce(MouseScrollEvent olderEvent) {
+        wheelRotation += olderEvent.wheelRotation;
+        scrollAmount += olderEvent.scrollAmount;
+    }
+
     /**
      * {@return the type of mouse wheel scroll}
      *
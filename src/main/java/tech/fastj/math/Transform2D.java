@@ -1,12 +1,13 @@
 package tech.fastj.math;
 
-import tech.fastj.logging.Log;
-
 import java.awt.geom.AffineTransform;
 import java.util.Objects;
 
 /**
  * Convenience class for storing/performing 2D transformations using {@link AffineTransform}.
+ * <p>
+ * The combined transform is only recomputed after the translation, rotation, or scale has changed, and the primitive getters
+ * ({@link #getTranslationX()}, {@link #getScaleX()}, and so on) read the transform without allocating.
  *
  * @author Andrew Dey
  * @since 1.5.0
@@ -28,64 +29,104 @@ public class Transform2D {
     private final AffineTransform translationTransform = new AffineTransform();
     private final AffineTransform rotationTransform = new AffineTransform();
     private final AffineTransform scaleTransform = new AffineTransform();
-    private Pointf lastRotationPoint = Pointf.origin();
-    private Pointf lastScalePoint = Pointf.origin();
+    private final AffineTransform affineTransform = new AffineTransform();
+    private boolean isAffineTransformChanged;
+    private float lastRotationX;
+    private float lastRotationY;
+    private float lastScaleX;
+    private float lastScaleY;
     private float rotation = DefaultRotation;
 
-    /** {@return the translation, rotation, and scale transforms, combined using {@link AffineTransform#preConcatenate(AffineTransform)}} */
+    /**
+     * {@return the translation, rotation, and scale transforms, combined using {@link AffineTransform#preConcatenate(AffineTransform)}}
+     * <p>
+     * The combined transform is cached until the transform next changes -- each call returns a new copy of it.
+     */
     public AffineTransform getAffineTransform() {
-        AffineTransform result = new AffineTransform();
-        result.preConcatenate(rotationTransform);
-        result.preConcatenate(translationTransform);
-        result.preConcatenate(scaleTransform);
-        return result;
+        return getAffineTransform(new AffineTransform());
+    }
+
+    /**
+     * Sets the given {@link AffineTransform} to the translation, rotation, and scale transforms, combined using
+     * {@link AffineTransform#preConcatenate(AffineTransform)}.
+     * <p>
+     * Unlike {@link #getAffineTransform()}, this does not allocate.
+     *
+     * @param destination The {@code AffineTransform} to set to the combined transform.
+     * @return The given {@code AffineTransform}, for method chaining.
+     * @since 1.7.0
+     */
+    public synchronized AffineTransform getAffineTransform(AffineTransform destination) {
+        if (isAffineTransformChanged) {
+            affineTransform.setTransform(rotationTransform);
+            affineTransform.preConcatenate(translationTransform);
+            affineTransform.preConcatenate(scaleTransform);
+            isAffineTransformChanged = false;
+        }
+
+        destination.setTransform(affineTransform);
+        return destination;
     }
 
     /** {@return the transform's current translation} */
     public Pointf getTranslation() {
-        return new Pointf((float) translationTransform.getTranslateX(), (float) translationTransform.getTranslateY());
+        return new Pointf(getTranslationX(), getTranslationY());
+    }
+
+    /**
+     * {@return the x value of the transform's current translation}
+     *
+     * @since 1.7.0
+     */
+    public float getTranslationX() {
+        return (float) translationTransform.getTranslateX();
+    }
+
+    /**
+     * {@return the y value of the transform's current translation}
+     *
+     * @since 1.7.0
+     */
+    public float getTranslationY() {
+        return (float) translationTransform.getTranslateY();
     }
 
     /** {@return the transform's current scale} */
     public Pointf getScale() {
-        return new Pointf((float) scaleTransform.getScaleX(), (float) scaleTransform.getScaleY());
+        return new Pointf(getScaleX(), getScaleY());
+    }
+
+    /**
+     * {@return the x value of the transform's current scale}
+     *
+     * @since 1.7.0
+     */
+    public float getScaleX() {
+        return (float) scaleTransform.getScaleX();
+    }
+
+    /**
+     * {@return the y value of the transform's current scale}
+     *
+     * @since 1.7.0
+     */
+    public float getScaleY() {
+        return (float) scaleTransform.getScaleY();
     }
 
     /**
      * {@return the transform's current rotation}
      * <p>
-     * If the calculated rotation cannot be verified as correct, a warning is logged in FastJ.
+     * The rotation is the sum of every rotation made since the transform was last {@link #reset() reset}, rather than being read back out
+     * of the rotation transform.
      */
     public float getRotation() {
-        float approximatedRotation = (float) Math.toDegrees(Math.atan2(rotationTransform.getShearY(), rotationTransform.getScaleY()));
-        float normalizedRotation = rotation % 360f;
-
-        if (Float.compare(normalizedRotation, approximatedRotation) < RotationPrecision) {
-            return rotation;
-        }
-
-        float rotationCheck = Math.abs(normalizedRotation) + Math.abs(approximatedRotation);
-        if (Float.compare(rotationCheck, 360f) < RotationPrecision || Float.compare(rotationCheck, 0f) < RotationPrecision) {
-            return rotation;
-        }
-
-        float rotationCheck2 = (rotation - approximatedRotation) % 360;
-        if (Float.compare(rotationCheck2, 0.0f) < RotationPrecision || Float.compare(rotationCheck2, 360.0f) < RotationPrecision) {
-            return rotation;
-        }
-
-        float rotationCheck3 = (rotation + approximatedRotation) % 360;
-        if (Float.compare(rotationCheck3, 0.0f) < RotationPrecision || Float.compare(rotationCheck3, 360.0f) < RotationPrecision) {
-            return rotation;
-        }
-
-        Log.warn("Something may have went wrong approximating the rotation.... we expected " + rotation + ", but we got " + approximatedRotation + " instead.");
         return rotation;
     }
 
     /** {@return the transform's current rotation, within the range of {@code -360f} to {@code 360f}} */
     public float getRotationWithin360() {
-        return getRotation() % 360f;
+        return rotation % 360f;
     }
 
     /**
@@ -94,8 +135,7 @@ public class Transform2D {
      * @param translation the translation to set the translation transform to.
      */
     public void setTranslation(Pointf translation) {
-        Pointf oldTranslation = getTranslation();
-        translate(new Pointf(-oldTranslation.x + translation.x, -oldTranslation.y + translation.y));
+        translate(-getTranslationX() + translation.x, -getTranslationY() + translation.y);
     }
 
     /**
@@ -104,8 +144,7 @@ public class Transform2D {
      * @param scale The scale to set the scale transform to.
      */
     public void setScale(Pointf scale) {
-        Pointf oldScale = getScale();
-        scale(new Pointf(-oldScale.x + scale.x, -oldScale.y + scale.y), lastScalePoint);
+        scale(-getScaleX() + scale.x, -getScaleY() + scale.y, lastScaleX, lastScaleY);
     }
 
     /**
@@ -114,7 +153,7 @@ public class Transform2D {
      * @param rotation The rotation to set the rotation transform to.
      */
     public void setRotation(float rotation) {
-        rotate(-getRotation() + rotation, lastRotationPoint);
+        rotate(-this.rotation + rotation, lastRotationX, lastRotationY);
     }
 
     /**
@@ -123,7 +162,7 @@ public class Transform2D {
      * @param translation The amount to translate by.
      */
     public void translate(Pointf translation) {
-        translationTransform.translate(translation.x, translation.y);
+        translate(translation.x, translation.y);
     }
 
     /**
@@ -133,18 +172,7 @@ public class Transform2D {
      * @param centerpoint The point to scale relative to.
      */
     public void scale(Pointf scale, Pointf centerpoint) {
-        lastScalePoint = centerpoint.copy();
-
-        Pointf newScale = Pointf.add(scale, getScale());
-        Pointf scaleDifference = Pointf.subtract(getScale(), scale);
-        Pointf moveBack = Pointf.multiply(scaleDifference, centerpoint);
-
-        scaleTransform.translate(-centerpoint.x, -centerpoint.y);
-
-        scaleTransform.scale(1f / scaleTransform.getScaleX(), 1f / scaleTransform.getScaleY());
-
-        scaleTransform.translate(moveBack.x, moveBack.y);
-        scaleTransform.scale(newScale.x, newScale.y);
+        scale(scale.x, scale.y, centerpoint.x, centerpoint.y);
     }
 
     /**
@@ -154,9 +182,38 @@ public class Transform2D {
      * @param centerpoint The point to rotate about.
      */
     public void rotate(float rotation, Pointf centerpoint) {
+        rotate(rotation, centerpoint.x, centerpoint.y);
+    }
+
+    private synchronized void translate(float translationX, float translationY) {
+        translationTransform.translate(translationX, translationY);
+        isAffineTransformChanged = true;
+    }
+
+    private synchronized void scale(float scaleX, float scaleY, float centerX, float centerY) {
+        lastScaleX = centerX;
+        lastScaleY = centerY;
+
+        float oldScaleX = getScaleX();
+        float oldScaleY = getScaleY();
+        float moveBackX = (oldScaleX - scaleX) * centerX;
+        float moveBackY = (oldScaleY - scaleY) * centerY;
+
+        scaleTransform.translate(-centerX, -centerY);
+
+        scaleTransform.scale(1f / scaleTransform.getScaleX(), 1f / scaleTransform.getScaleY());
+
+        scaleTransform.translate(moveBackX, moveBackY);
+        scaleTransform.scale(scaleX + oldScaleX, scaleY + oldScaleY);
+        isAffineTransformChanged = true;
+    }
+
+    private synchronized void rotate(float rotation, float centerX, float centerY) {
         this.rotation += rotation;
-        lastRotationPoint = centerpoint.copy();
-        rotationTransform.rotate(Math.toRadians(rotation), centerpoint.x, centerpoint.y);
+        lastRotationX = centerX;
+        lastRotationY = centerY;
+        rotationTransform.rotate(Math.toRadians(rotation), centerX, centerY);
+        isAffineTransformChanged = true;
     }
 
     /**
@@ -173,18 +230,21 @@ public class Transform2D {
     }
 
     /** Resets the translation. */
-    public void resetTranslation() {
+    public synchronized void resetTranslation() {
         translationTransform.setToIdentity();
+        isAffineTransformChanged = true;
     }
 
     /** Resets the rotation, without changing the last rotation point. */
-    public void resetRotation() {
+    public synchronized void resetRotation() {
         rotationTransform.setToIdentity();
+        isAffineTransformChanged = true;
     }
 
     /** Resets the scale, without changing the last scale point. */
-    public void resetScale() {
+    public synchronized void resetScale() {
         scaleTransform.setToIdentity();
+        isAffineTransformChanged = true;
     }
 
     @Override
@@ -197,13 +257,15 @@ public class Transform2D {
         }
         Transform2D transform2D = (Transform2D) other;
         return Maths.floatEquals(rotation, transform2D.rotation)
-            && getTranslation().equals(transform2D.getTranslation())
-            && getScale().equals(transform2D.getScale());
+            && Maths.floatEquals(getTranslationX(), transform2D.getTranslationX())
+            && Maths.floatEquals(getTranslationY(), transform2D.getTranslationY())
+            && Maths.floatEquals(getScaleX(), transform2D.getScaleX())
+            && Maths.floatEquals(getScaleY(), transform2D.getScaleY());
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(translationTransform, rotationTransform, scaleTransform, lastRotationPoint, lastScalePoint, rotation);
+        return Objects.hash(translationTransform, rotationTransform, scaleTransform, lastRotationX, lastRotationY, lastScaleX, lastScaleY, rotation);
     }
 
     @Override
@@ -44,6 +44,10 @@ public class ImageUtil {
     }
 
     public static BufferedImage createBufferedImage(int width, int height) {
+        if (GraphicsEnvironment.isHeadless()) {
+            return new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        }
+
         return GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice().getDefaultConfiguration().createCompatibleImage(
             width,
             height,
@@ -84,6 +88,26 @@ public class ImageUtil {
     }
 
     public static BufferedImage[] createSpriteSheet(BufferedImage bufferedImage, int horizontalImageCount, int verticalImageCount) {
+        TextureRegion[] regions = createSpriteSheetRegions(bufferedImage, horizontalImageCount, verticalImageCount);
+        BufferedImage[] spriteSheet = new BufferedImage[regions.length];
+        for (int i = 0; i < regions.length; i++) {
+            spriteSheet[i] = bufferedImage.getSubimage(regions[i].x(), regions[i].y(), regions[i].width(), regions[i].height());
+        }
+
+        return spriteSheet;
+    }
+
+    /**
+     * {@return the {@link TextureRegion regions} of each frame of the given sprite sheet, row by row}
+     * <p>
+     * Unlike {@link #createSpriteSheet(BufferedImage, int, int)}, the frames are drawn straight from the sprite sheet image.
+     *
+     * @param bufferedImage        The sprite sheet image.
+     * @param horizontalImageCount The amount of frames along each row of the sprite sheet.
+     * @param verticalImageCount   The amount of frames along each column of the sprite sheet.
+     * @since 1.7.0
+     */
+    public static TextureRegion[] createSpriteSheetRegions(BufferedImage bufferedImage, int horizontalImageCount, int verticalImageCount) {
         int bufferedImageWidth = bufferedImage.getWidth();
         int expectedHorizontalImagePixels = bufferedImageWidth / horizontalImageCount;
         float actualHorizontalImagePixels = bufferedImageWidth / (float) horizontalImageCount;
@@ -112,11 +136,12 @@ public class ImageUtil {
             );
         }
 
-        BufferedImage[] spriteSheet = new BufferedImage[verticalImageCount * horizontalImageCount];
+        TextureRegion[] spriteSheet = new TextureRegion[verticalImageCount * horizontalImageCount];
         int spriteSheetIndex = 0;
         for (int i = 0; i < verticalImageCount; i++) {
             for (int j = 0; j < horizontalImageCount; j++) {
-                spriteSheet[spriteSheetIndex] = bufferedImage.getSubimage(
+                spriteSheet[spriteSheetIndex] = new TextureRegion(
+                    bufferedImage,
                     j * expectedHorizontalImagePixels,
                     i * expectedVerticalImagePixels,
                     expectedHorizontalImagePixels,
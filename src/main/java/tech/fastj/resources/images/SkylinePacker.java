@@ -0,0 +1,145 @@
+package tech.fastj.resources.images;
+
+import java.awt.Point;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Packs rectangles into a fixed-size area, using the skyline bottom-left heuristic.
+ * <p>
+ * The packer keeps the top edge -- the skyline -- of everything packed so far, as a list of horizontal segments. Each rectangle is placed
+ * on the segment where its top would end up lowest, and the skyline is raised over it.
+ *
+ * @author Andrew Dey
+ * @since 1.7.0
+ */
+final class SkylinePacker {
+
+    private final int width;
+    private final int height;
+    private final List<Segment> skyline;
+    private int usedWidth;
+    private int usedHeight;
+
+    SkylinePacker(int width, int height) {
+        this.width = width;
+        this.height = height;
+
+        skyline = new ArrayList<>();
+        skyline.add(new Segment(0, 0, width));
+    }
+
+    /** {@return the width of the area covered by packed rectangles} */
+    int getUsedWidth() {
+        return usedWidth;
+    }
+
+    /** {@return the height of the area covered by packed rectangles} */
+    int getUsedHeight() {
+        return usedHeight;
+    }
+
+    /**
+     * Packs a rectangle of the given size.
+     *
+     * @param rectangleWidth  The width of the rectangle.
+     * @param rectangleHeight The height of the rectangle.
+     * @return The position of the top left corner of the packed rectangle, or {@code null} if there was no room for it.
+     */
+    Point pack(int rectangleWidth, int rectangleHeight) {
+        int bestIndex = -1;
+        int bestTop = Integer.MAX_VALUE;
+        int bestSegmentWidth = Integer.MAX_VALUE;
+        int bestY = 0;
+
+        for (int i = 0; i < skyline.size(); i++) {
+            int y = fitAt(i, rectangleWidth, rectangleHeight);
+            if (y < 0) {
+                continue;
+            }
+
+            int top = y + rectangleHeight;
+            Segment segment = skyline.get(i);
+            if (top < bestTop || (top == bestTop && segment.width < bestSegmentWidth)) {
+                bestIndex = i;
+                bestTop = top;
+                bestSegmentWidth = segment.width;
+                bestY = y;
+            }
+        }
+
+        if (bestIndex < 0) {
+            return null;
+        }
+
+        int x = skyline.get(bestIndex).x;
+        raise(bestIndex, x, bestTop, rectangleWidth);
+        usedWidth = Math.max(usedWidth, x + rectangleWidth);
+        usedHeight = Math.max(usedHeight, bestTop);
+        return new Point(x, bestY);
+    }
+
+    private int fitAt(int index, int rectangleWidth, int rectangleHeight) {
+        int x = skyline.get(index).x;
+        if (x + rectangleWidth > width) {
+            return -1;
+        }
+
+        int y = 0;
+        int remainingWidth = rectangleWidth;
+        for (int i = index; remainingWidth > 0; i++) {
+            Segment segment = skyline.get(i);
+            y = Math.max(y, segment.y);
+            if (y + rectangleHeight > height) {
+                return -1;
+            }
+            remainingWidth -= segment.width;
+        }
+
+        return y;
+    }
+
+    private void raise(int index, int x, int y, int rectangleWidth) {
+        skyline.add(index, new Segment(x, y, rectangleWidth));
+
+        int right = x + rectangleWidth;
+        while (index + 1 < skyline.size()) {
+            Segment next = skyline.get(index + 1);
+            if (next.x >= right) {
+                break;
+            }
+
+            int overlap = right - next.x;
+            if (next.width <= overlap) {
+                skyline.remove(index + 1);
+            } else {
+                next.x += overlap;
+                next.width -= overlap;
+                break;
+            }
+        }
+
+        for (int i = 0; i + 1 < skyline.size(); ) {
+            Segment segment = skyline.get(i);
+            Segment next = skyline.get(i + 1);
+            if (segment.y == next.y) {
+                segment.width += next.width;
+                skyline.remove(i + 1);
+            } else {
+                i++;
+            }
+        }
+    }
+
+    private static class Segment {
+        private int x;
+        private final int y;
+        private int width;
+
+        private Segment(int x, int y, int width) {
+            this.x = x;
+            this.y = y;
+            this.width = width;
+        }
+    }
+}
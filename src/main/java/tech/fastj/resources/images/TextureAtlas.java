@@ -0,0 +1,105 @@
+package tech.fastj.resources.images;
+
+import java.awt.image.BufferedImage;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A set of textures packed into a few large images, called pages.
+ * <p>
+ * Each image and sprite sheet added to a texture atlas is copied into one of its pages, and is afterwards referred to by name as one or
+ * more {@link TextureRegion texture regions} of that page. Drawing from a handful of large, compatible images -- rather than from many
+ * small ones -- keeps the images Java2D has to manage and switch between to a minimum.
+ * <p>
+ * Texture atlases are created through a {@link TextureAtlasBuilder}:
+ * <pre>{@code
+ * TextureAtlas textureAtlas = TextureAtlas.create()
+ *     .withImage("tree", treeImage)
+ *     .withSpriteSheet("player", playerImage, 4, 2)
+ *     .build();
+ *
+ * Sprite2D player = Sprite2D.create(textureAtlas, "player").build();
+ * }</pre>
+ *
+ * @author Andrew Dey
+ * @since 1.7.0
+ */
+public final class TextureAtlas {
+
+    /** The default largest width and height, in pixels, of a texture atlas page, of {@code 2048}. */
+    public static final int DefaultPageSize = 2048;
+
+    /** The default space, in pixels, left between the textures of a page, of {@code 1}. */
+    public static final int DefaultPadding = 1;
+
+    private final List<BufferedImage> pages;
+    private final Map<String, TextureRegion[]> textures;
+
+    TextureAtlas(List<BufferedImage> pages, Map<String, TextureRegion[]> textures) {
+        this.pages = List.copyOf(pages);
+        this.textures = Map.copyOf(textures);
+    }
+
+    /** {@return a builder for a texture atlas, with pages of at most the {@link #DefaultPageSize default page size}} */
+    public static TextureAtlasBuilder create() {
+        return new TextureAtlasBuilder(DefaultPageSize);
+    }
+
+    /**
+     * {@return a builder for a texture atlas, with pages of at most the given size}
+     *
+     * @param pageSize The largest width and height, in pixels, of a page.
+     */
+    public static TextureAtlasBuilder create(int pageSize) {
+        return new TextureAtlasBuilder(pageSize);
+    }
+
+    /** {@return the pages of the texture atlas} */
+    public List<BufferedImage> getPages() {
+        return pages;
+    }
+
+    /**
+     * {@return whether the texture atlas has a texture with the given name}
+     *
+     * @param name The name of the texture.
+     */
+    public boolean contains(String name) {
+        return textures.containsKey(name);
+    }
+
+    /**
+     * {@return the region of the texture with the given name, or of its first frame if it is a sprite sheet}
+     *
+     * @param name The name of the texture.
+     */
+    public TextureRegion getRegion(String name) {
+        return getTexture(name)[0];
+    }
+
+    /**
+     * {@return the regions of each frame of the texture with the given name}
+     * <p>
+     * A texture added as a single image has one region.
+     *
+     * @param name The name of the texture.
+     */
+    public TextureRegion[] getRegions(String name) {
+        return getTexture(name).clone();
+    }
+
+    /** Releases the resources of the texture atlas' pages. */
+    public void flush() {
+        for (BufferedImage page : pages) {
+            page.flush();
+        }
+    }
+
+    private TextureRegion[] getTexture(String name) {
+        TextureRegion[] regions = textures.get(name);
+        if (regions == null) {
+            throw new IllegalArgumentException("Could not find a texture named \"" + name + "\" in the texture atlas.");
+        }
+        return regions;
+    }
+}
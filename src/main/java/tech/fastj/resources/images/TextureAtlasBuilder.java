@@ -0,0 +1,201 @@
+package tech.fastj.resources.images;
+
+import java.awt.AlphaComposite;
+import java.awt.Graphics2D;
+import java.awt.Point;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Builder for {@link TextureAtlas texture atlases}.
+ * <p>
+ * Textures are packed tallest first, with a {@link SkylinePacker skyline packer}, into as few pages as they fit in. Each page is then
+ * trimmed to the area its textures cover.
+ *
+ * @author Andrew Dey
+ * @since 1.7.0
+ */
+public class TextureAtlasBuilder {
+
+    private final int pageSize;
+    private final Map<String, TextureRegion[]> textures;
+    private int padding = TextureAtlas.DefaultPadding;
+
+    TextureAtlasBuilder(int pageSize) {
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("The page size must be at least 1.");
+        }
+
+        this.pageSize = pageSize;
+        this.textures = new LinkedHashMap<>();
+    }
+
+    /**
+     * Sets the space, in pixels, left between the textures of a page.
+     * <p>
+     * Padding keeps neighbouring textures from bleeding into each other when drawn scaled or rotated. By default, this is
+     * {@link TextureAtlas#DefaultPadding}.
+     *
+     * @param padding The padding, in pixels.
+     * @return The {@code TextureAtlasBuilder}, for method chaining.
+     */
+    public TextureAtlasBuilder withPadding(int padding) {
+        if (padding < 0) {
+            throw new IllegalArgumentException("The padding must be at least 0.");
+        }
+
+        this.padding = padding;
+        return this;
+    }
+
+    /**
+     * Adds an image to the texture atlas.
+     *
+     * @param name  The name of the texture.
+     * @param image The image to add.
+     * @return The {@code TextureAtlasBuilder}, for method chaining.
+     */
+    public TextureAtlasBuilder withImage(String name, BufferedImage image) {
+        return withTexture(name, new TextureRegion[] {TextureRegion.of(image)});
+    }
+
+    /**
+     * Adds each frame of a sprite sheet to the texture atlas, in the same order as
+     * {@link ImageUtil#createSpriteSheet(BufferedImage, int, int)}.
+     *
+     * @param name                 The name of the texture.
+     * @param spriteSheet          The sprite sheet image to add.
+     * @param horizontalImageCount The amount of frames along each row of the sprite sheet.
+     * @param verticalImageCount   The amount of frames along each column of the sprite sheet.
+     * @return The {@code TextureAtlasBuilder}, for method chaining.
+     */
+    public TextureAtlasBuilder withSpriteSheet(String name, BufferedImage spriteSheet, int horizontalImageCount, int verticalImageCount) {
+        return withTexture(name, ImageUtil.createSpriteSheetRegions(spriteSheet, horizontalImageCount, verticalImageCount));
+    }
+
+    /**
+     * Adds each frame of a sprite sheet, loaded from the given image resource, to the texture atlas.
+     * <p>
+     * The texture is named after the resource's path.
+     *
+     * @param imageResource        The image resource of the sprite sheet.
+     * @param horizontalImageCount The amount of frames along each row of the sprite sheet.
+     * @param verticalImageCount   The amount of frames along each column of the sprite sheet.
+     * @return The {@code TextureAtlasBuilder}, for method chaining.
+     */
+    public TextureAtlasBuilder withImageResource(ImageResource imageResource, int horizontalImageCount, int verticalImageCount) {
+        BufferedImage image = imageResource.get() != null ? imageResource.get() : imageResource.load().get();
+        return withSpriteSheet(imageResource.getPath().toString(), image, horizontalImageCount, verticalImageCount);
+    }
+
+    private TextureAtlasBuilder withTexture(String name, TextureRegion[] regions) {
+        Objects.requireNonNull(name, "The texture name must not be null.");
+        if (textures.containsKey(name)) {
+            throw new IllegalArgumentException("A texture named \"" + name + "\" was already added to the texture atlas.");
+        }
+
+        for (TextureRegion region : regions) {
+            if (region.width() > pageSize || region.height() > pageSize) {
+                throw new IllegalArgumentException(
+                    "The texture \"" + name + "\" is larger than the texture atlas page size of " + pageSize + "."
+                );
+            }
+        }
+
+        textures.put(name, regions);
+        return this;
+    }
+
+    /**
+     * Packs the added textures into a new texture atlas.
+     *
+     * @return The texture atlas.
+     */
+    public TextureAtlas build() {
+        Map<String, PackedRegion[]> packedTextures = new LinkedHashMap<>();
+        List<PackedRegion> packedRegions = new ArrayList<>();
+        for (Map.Entry<String, TextureRegion[]> texture : textures.entrySet()) {
+            PackedRegion[] textureRegions = new PackedRegion[texture.getValue().length];
+            for (int i = 0; i < textureRegions.length; i++) {
+                textureRegions[i] = new PackedRegion(texture.getValue()[i]);
+                packedRegions.add(textureRegions[i]);
+            }
+            packedTextures.put(texture.getKey(), textureRegions);
+        }
+        packedRegions.sort(
+            Comparator.comparingInt((PackedRegion packedRegion) -> packedRegion.source.height())
+                .thenComparingInt(packedRegion -> packedRegion.source.width())
+                .reversed()
+        );
+
+        List<SkylinePacker> packers = new ArrayList<>();
+        for (PackedRegion packedRegion : packedRegions) {
+            int width = Math.min(packedRegion.source.width() + padding, pageSize);
+            int height = Math.min(packedRegion.source.height() + padding, pageSize);
+
+            for (int i = 0; packedRegion.position == null; i++) {
+                if (i == packers.size()) {
+                    packers.add(new SkylinePacker(pageSize, pageSize));
+                }
+                packedRegion.position = packers.get(i).pack(width, height);
+                packedRegion.page = i;
+            }
+        }
+
+        List<BufferedImage> pages = new ArrayList<>(packers.size());
+        List<Graphics2D> pageGraphics = new ArrayList<>(packers.size());
+        for (SkylinePacker packer : packers) {
+            BufferedImage page = ImageUtil.createBufferedImage(Math.max(packer.getUsedWidth(), 1), Math.max(packer.getUsedHeight(), 1));
+            Graphics2D graphics = page.createGraphics();
+            graphics.setComposite(AlphaComposite.Src);
+            pages.add(page);
+            pageGraphics.add(graphics);
+        }
+
+        try {
+            for (PackedRegion packedRegion : packedRegions) {
+                TextureRegion source = packedRegion.source;
+                Point position = packedRegion.position;
+                source.draw(pageGraphics.get(packedRegion.page), position.x, position.y);
+                packedRegion.result = new TextureRegion(
+                    pages.get(packedRegion.page),
+                    position.x,
+                    position.y,
+                    source.width(),
+                    source.height()
+                );
+            }
+        } finally {
+            for (Graphics2D graphics : pageGraphics) {
+                graphics.dispose();
+            }
+        }
+
+        Map<String, TextureRegion[]> atlasTextures = new LinkedHashMap<>();
+        for (Map.Entry<String, PackedRegion[]> texture : packedTextures.entrySet()) {
+            TextureRegion[] regions = new TextureRegion[texture.getValue().length];
+            for (int i = 0; i < regions.length; i++) {
+                regions[i] = texture.getValue()[i].result;
+            }
+            atlasTextures.put(texture.getKey(), regions);
+        }
+
+        return new TextureAtlas(pages, atlasTextures);
+    }
+
+    private static class PackedRegion {
+        private final TextureRegion source;
+        private Point position;
+        private int page;
+        private TextureRegion result;
+
+        private PackedRegion(TextureRegion source) {
+            this.source = source;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package tech.fastj.resources.images;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+
+/**
+ * A rectangular region of an image, such as a single frame of a sprite sheet or a texture packed into a {@link TextureAtlas texture
+ * atlas}.
+ * <p>
+ * Drawing a region draws straight from its source image, rather than from a separate copy or {@link BufferedImage#getSubimage(int, int,
+ * int, int) subimage} of it. This lets many regions share one accelerated image.
+ *
+ * @param image  The source image the region lies in.
+ * @param x      The x position of the region in its source image.
+ * @param y      The y position of the region in its source image.
+ * @param width  The width of the region.
+ * @param height The height of the region.
+ * @author Andrew Dey
+ * @since 1.7.0
+ */
+public record TextureRegion(BufferedImage image, int x, int y, int width, int height) {
+
+    /**
+     * Constructs a region of the given image.
+     *
+     * @param image  The source image the region lies in.
+     * @param x      The x position of the region in its source image.
+     * @param y      The y position of the region in its source image.
+     * @param width  The width of the region.
+     * @param height The height of the region.
+     */
+    public TextureRegion {
+        if (x < 0 || y < 0 || width < 0 || height < 0 || x + width > image.getWidth() || y + height > image.getHeight()) {
+            throw new IllegalArgumentException("The texture region must lie within its source image.");
+        }
+    }
+
+    /**
+     * {@return a region covering the whole of the given image}
+     *
+     * @param image The source image.
+     */
+    public static TextureRegion of(BufferedImage image) {
+        return new TextureRegion(image, 0, 0, image.getWidth(), image.getHeight());
+    }
+
+    /**
+     * Draws the region with its top left corner at the origin of the given {@code Graphics2D} object.
+     *
+     * @param g The {@code Graphics2D} object to draw to.
+     */
+    public void draw(Graphics2D g) {
+        draw(g, 0, 0);
+    }
+
+    /**
+     * Draws the region with its top left corner at the given position.
+     *
+     * @param g  The {@code Graphics2D} object to draw to.
+     * @param dx The x position to draw the region at.
+     * @param dy The y position to draw the region at.
+     */
+    public void draw(Graphics2D g, int dx, int dy) {
+        g.drawImage(image, dx, dy, dx + width, dy + height, x, y, x + width, y + height, null);
+    }
+}
@@ -1,5 +1,6 @@
 /**
- * {@link tech.fastj.resources.images.ImageUtil Image loading} and utility for
- * {@link tech.fastj.resources.images.ImageUtil#createSpriteSheet(java.awt.image.BufferedImage, int, int) creating spritesheets}.
+ * {@link tech.fastj.resources.images.ImageUtil Image loading}, utility for
+ * {@link tech.fastj.resources.images.ImageUtil#createSpriteSheet(java.awt.image.BufferedImage, int, int) creating spritesheets}, and
+ * {@link tech.fastj.resources.images.TextureAtlas texture atlases}.
  */
 package tech.fastj.resources.images;
\ No newline at end of file
@@ -475,12 +475,13 @@ public class PsdfUtil {
     }
 
     private static void writeAltIndexes(StringBuilder fileContents, Polygon2D polygon) {
-        if (polygon.getAlternateIndexes() == null) {
+        Point[] altIndexes = polygon.getAlternateIndexes();
+        if (altIndexes == null) {
             return;
         }
 
-        for (int j = 0; j < polygon.getAlternateIndexes().length; j++) {
-            Point pt = polygon.getAlternateIndexes()[j];
+        for (int j = 0; j < altIndexes.length; j++) {
+            Point pt = altIndexes[j];
             fileContents.append(ParsingKeys.AlternateIndex)
                 .append(' ')
                 .append(pt.x)
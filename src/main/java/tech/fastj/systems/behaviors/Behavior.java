@@ -129,6 +129,20 @@ public interface Behavior {
     default void update(GameObject gameObject) {
     }
 
+    /**
+     * {@return whether the behavior may be run at the same time as other thread-safe behaviors}
+     * <p>
+     * A thread-safe behavior only reads and modifies its own state and the {@link GameObject game object} passed to it. Any change which
+     * affects other game objects or the scene itself -- such as destroying a game object, or adding a new one -- must go through
+     * {@link BehaviorManager#deferMutation(Runnable)}.
+     * <p>
+     * When {@link BehaviorManager#setParallelExecution(boolean) parallel execution} is enabled, game objects whose behaviors are all
+     * thread-safe are updated in parallel. By default, behaviors are not thread-safe.
+     */
+    default boolean isThreadSafe() {
+        return false;
+    }
+
     /** Deletes/resets the {@link Behavior behavior}'s state as necessary. */
     default void destroy() {
     }
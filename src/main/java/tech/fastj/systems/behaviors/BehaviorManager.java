@@ -2,25 +2,125 @@ package tech.fastj.systems.behaviors;
 
 import tech.fastj.graphics.game.GameObject;
 
+import java.io.Serial;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Consumer;
 
 /**
  * Class to manage behavior listeners and {@link Behavior behaviors} for all {@link BehaviorHandler behavior handler}s.
+ * <p>
+ * Behavior listeners are updated one at a time by default. With {@link #setParallelExecution(boolean) parallel execution} enabled, the
+ * listeners whose behaviors are all {@link Behavior#isThreadSafe() thread-safe} are split into chunks of
+ * {@link #getParallelChunkSize() chunk size} listeners, and updated on the {@link #getParallelPool() parallel pool}. Any remaining
+ * listeners are then updated one at a time, as usual.
+ * <p>
+ * While listeners are being updated in parallel, changes to the scene -- such as destroying or adding game objects -- must be
+ * {@link #deferMutation(Runnable) deferred}. Deferred changes are made one at a time, once every listener has been updated.
  *
  * @author Andrew Dey
  * @since 1.0.0
  */
 public class BehaviorManager {
 
+    /** The default amount of behavior listeners each parallel task updates. */
+    public static final int DefaultParallelChunkSize = 256;
+
     private static final Map<BehaviorHandler, Map<String, GameObject>> BehaviorListenerLists = new ConcurrentHashMap<>();
+    private static final Queue<Runnable> DeferredMutations = new ConcurrentLinkedQueue<>();
+    private static final Object ParallelExecutionLock = new Object();
+    private static final Consumer<GameObject> FixedUpdateAction = GameObject::fixedUpdateBehaviors;
+    private static final Consumer<GameObject> UpdateAction = GameObject::updateBehaviors;
+
+    private static volatile boolean isParallelExecution;
+    private static volatile int parallelChunkSize = DefaultParallelChunkSize;
+    private static volatile ForkJoinPool parallelPool = ForkJoinPool.commonPool();
+    private static volatile boolean isUpdatingInParallel;
 
     private BehaviorManager() {
         throw new java.lang.IllegalStateException();
     }
 
+    /** {@return whether behavior listeners with only thread-safe behaviors are updated in parallel} */
+    public static boolean isParallelExecution() {
+        return isParallelExecution;
+    }
+
+    /**
+     * Sets whether behavior listeners whose behaviors are all {@link Behavior#isThreadSafe() thread-safe} are updated in parallel.
+     *
+     * @param parallelExecution Whether to update behavior listeners in parallel.
+     */
+    public static void setParallelExecution(boolean parallelExecution) {
+        isParallelExecution = parallelExecution;
+    }
+
+    /** {@return the amount of behavior listeners each parallel task updates} */
+    public static int getParallelChunkSize() {
+        return parallelChunkSize;
+    }
+
+    /**
+     * Sets the amount of behavior listeners each parallel task updates.
+     * <p>
+     * If there are no more thread-safe listeners than this, they are updated on the calling thread.
+     *
+     * @param chunkSize The new chunk size.
+     */
+    public static void setParallelChunkSize(int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Parallel chunk size must be at least 1.");
+        }
+        parallelChunkSize = chunkSize;
+    }
+
+    /**
+     * {@return the pool behavior listeners are updated on in parallel}
+     * <p>
+     * By default, this is the {@link ForkJoinPool#commonPool() common pool}.
+     */
+    public static ForkJoinPool getParallelPool() {
+        return parallelPool;
+    }
+
+    /**
+     * Sets the pool behavior listeners are updated on in parallel.
+     *
+     * @param pool The new parallel pool.
+     */
+    public static void setParallelPool(ForkJoinPool pool) {
+        parallelPool = Objects.requireNonNull(pool);
+    }
+
+    /**
+     * Runs the given change to the scene once it is safe to do so.
+     * <p>
+     * If behavior listeners are being {@link #setParallelExecution(boolean) updated in parallel}, the change is made after every listener
+     * has been updated, on the thread which started the update. Deferred changes are made in the order they were deferred. Otherwise, the
+     * change is made right away.
+     * <p>
+     * Thread-safe behaviors should use this for anything which affects more than their own game object, such as destroying a game object
+     * or adding one to the scene.
+     *
+     * @param mutation The change to make.
+     */
+    public static void deferMutation(Runnable mutation) {
+        Objects.requireNonNull(mutation);
+
+        if (isUpdatingInParallel) {
+            DeferredMutations.add(mutation);
+        } else {
+            mutation.run();
+        }
+    }
+
     /**
      * Gets the specified list of behavior listeners aliased to the specified {@link BehaviorHandler}.
      *
@@ -110,6 +210,11 @@ public class BehaviorManager {
      * @param behaviorHandler The {@code BehaviorHandler} used as the alias to update the behavior listeners for.
      */
     public static void fixedUpdateBehaviorListeners(BehaviorHandler behaviorHandler) {
+        if (isParallelExecution) {
+            updateInParallel(BehaviorListenerLists.get(behaviorHandler), FixedUpdateAction);
+            return;
+        }
+
         for (GameObject listener : BehaviorListenerLists.get(behaviorHandler).values()) {
             listener.fixedUpdateBehaviors();
         }
@@ -121,6 +226,11 @@ public class BehaviorManager {
      * @param behaviorHandler The {@code BehaviorHandler} used as the alias to update the behavior listeners for.
      */
     public static void updateBehaviorListeners(BehaviorHandler behaviorHandler) {
+        if (isParallelExecution) {
+            updateInParallel(BehaviorListenerLists.get(behaviorHandler), UpdateAction);
+            return;
+        }
+
         for (GameObject listener : BehaviorListenerLists.get(behaviorHandler).values()) {
             listener.updateBehaviors();
         }
@@ -133,5 +243,93 @@ public class BehaviorManager {
             map.clear();
         }
         BehaviorListenerLists.clear();
+        DeferredMutations.clear();
+        isParallelExecution = false;
+        parallelChunkSize = DefaultParallelChunkSize;
+        parallelPool = ForkJoinPool.commonPool();
+    }
+
+    private static void updateInParallel(Map<String, GameObject> listeners, Consumer<GameObject> behaviorAction) {
+        synchronized (ParallelExecutionLock) {
+            List<GameObject> threadSafeListeners = new ArrayList<>(listeners.size());
+            List<GameObject> otherListeners = new ArrayList<>();
+            for (GameObject listener : listeners.values()) {
+                if (hasOnlyThreadSafeBehaviors(listener)) {
+                    threadSafeListeners.add(listener);
+                } else {
+                    otherListeners.add(listener);
+                }
+            }
+
+            boolean hasUpdated = false;
+            isUpdatingInParallel = true;
+            try {
+                int chunkSize = parallelChunkSize;
+                if (threadSafeListeners.size() <= chunkSize) {
+                    threadSafeListeners.forEach(behaviorAction);
+                } else {
+                    parallelPool.invoke(new UpdateTask(threadSafeListeners, 0, threadSafeListeners.size(), chunkSize, behaviorAction));
+                }
+
+                otherListeners.forEach(behaviorAction);
+                hasUpdated = true;
+            } finally {
+                isUpdatingInParallel = false;
+                if (!hasUpdated) {
+                    DeferredMutations.clear();
+                }
+            }
+
+            Runnable mutation;
+            while ((mutation = DeferredMutations.poll()) != null) {
+                mutation.run();
+            }
+        }
+    }
+
+    private static boolean hasOnlyThreadSafeBehaviors(GameObject listener) {
+        for (Behavior behavior : listener.getBehaviors()) {
+            if (!behavior.isThreadSafe()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** Task which updates a range of behavior listeners, splitting itself in half until the range fits in a single chunk. */
+    private static class UpdateTask extends RecursiveAction {
+
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        private final transient List<GameObject> listeners;
+        private final int start;
+        private final int end;
+        private final int chunkSize;
+        private final transient Consumer<GameObject> behaviorAction;
+
+        UpdateTask(List<GameObject> listeners, int start, int end, int chunkSize, Consumer<GameObject> behaviorAction) {
+            this.listeners = listeners;
+            this.start = start;
+            this.end = end;
+            this.chunkSize = chunkSize;
+            this.behaviorAction = behaviorAction;
+        }
+
+        @Override
+        protected void compute() {
+            if (end - start <= chunkSize) {
+                for (int i = start; i < end; i++) {
+                    behaviorAction.accept(listeners.get(i));
+                }
+                return;
+            }
+
+            int middle = (start + end) >>> 1;
+            invokeAll(
+                new UpdateTask(listeners, start, middle, chunkSize, behaviorAction),
+                new UpdateTask(listeners, middle, end, chunkSize, behaviorAction)
+            );
+        }
     }
 }
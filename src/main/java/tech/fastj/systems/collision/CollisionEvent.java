@@ -0,0 +1,41 @@
+package tech.fastj.systems.collision;
+
+import tech.fastj.gameloop.GameLoop;
+import tech.fastj.gameloop.event.Event;
+import tech.fastj.graphics.Drawable;
+
+/**
+ * {@link Event} fired through a {@link GameLoop game loop} for each collision found by a {@link CollisionSystem collision system}.
+ *
+ * @author Andrew Dey
+ * @since 1.7.0
+ * @see CollisionSystem#fireCollisionEvents(java.util.Collection, GameLoop)
+ */
+public class CollisionEvent extends Event {
+
+    private final CollisionPair collisionPair;
+
+    /**
+     * Constructs a collision event for the given collision pair.
+     *
+     * @param collisionPair The drawables which collided.
+     */
+    public CollisionEvent(CollisionPair collisionPair) {
+        this.collisionPair = collisionPair;
+    }
+
+    /** {@return the drawables which collided} */
+    public CollisionPair getCollisionPair() {
+        return collisionPair;
+    }
+
+    /** {@return one of the drawables which collided} */
+    public Drawable getFirst() {
+        return collisionPair.first();
+    }
+
+    /** {@return the other drawable which collided} */
+    public Drawable getSecond() {
+        return collisionPair.second();
+    }
+}
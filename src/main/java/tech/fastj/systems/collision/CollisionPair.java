@@ -0,0 +1,42 @@
+package tech.fastj.systems.collision;
+
+import tech.fastj.graphics.Drawable;
+
+/**
+ * Two {@link Drawable drawables} which collide with each other.
+ * <p>
+ * The order of the two drawables has no meaning -- a collision pair of {@code (a, b)} describes the same collision as {@code (b, a)}.
+ *
+ * @param first  One of the colliding drawables.
+ * @param second The other colliding drawable.
+ * @author Andrew Dey
+ * @since 1.7.0
+ */
+public record CollisionPair(Drawable first, Drawable second) {
+
+    /**
+     * {@return whether the given drawable is part of the collision pair}
+     *
+     * @param drawable The drawable to check for.
+     */
+    public boolean contains(Drawable drawable) {
+        return first == drawable || second == drawable;
+    }
+
+    /**
+     * {@return the drawable the given drawable collides with}
+     *
+     * @param drawable One of the drawables of the collision pair.
+     * @throws IllegalArgumentException if the given drawable is not part of the collision pair.
+     */
+    public Drawable getOther(Drawable drawable) {
+        if (first == drawable) {
+            return second;
+        }
+        if (second == drawable) {
+            return first;
+        }
+
+        throw new IllegalArgumentException("The drawable " + drawable.getID() + " is not part of the collision pair.");
+    }
+}
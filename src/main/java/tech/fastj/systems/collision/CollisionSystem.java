@@ -0,0 +1,154 @@
+package tech.fastj.systems.collision;
+
+import tech.fastj.gameloop.GameLoop;
+import tech.fastj.graphics.Drawable;
+
+import java.awt.geom.Area;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Finds collisions between {@link Drawable drawables}, in two phases.
+ * <ul>
+ *     <li>
+ *         The broad phase sweeps over the drawables sorted by their {@link Drawable#getMinX() axis-aligned bounds}, and only pairs up
+ *         drawables whose bounds overlap. The sorted order is kept between calls to {@link #findAllCollisions(Collection)}, so when
+ *         drawables move only a little each update, re-sorting them is close to free.
+ *     </li>
+ *     <li>
+ *         The narrow phase checks each remaining pair exactly. Drawables whose collision paths are convex polygons are checked with the
+ *         separating axis theorem, directly on their points. Any other shapes -- concave polygons, curves, or paths made of several
+ *         shapes -- are checked by intersecting their areas instead.
+ *     </li>
+ * </ul>
+ * Drawables which only touch along an edge or at a corner do not collide. A collision system is not thread-safe.
+ *
+ * @author Andrew Dey
+ * @since 1.7.0
+ */
+public class CollisionSystem {
+
+    private static final Comparator<Drawable> ByMinX = Comparator.comparingDouble(Drawable::getMinX);
+
+    private final List<Drawable> sortedDrawables;
+
+    /** Constructs a collision system. */
+    public CollisionSystem() {
+        sortedDrawables = new ArrayList<>();
+    }
+
+    /**
+     * {@return whether the two given drawables collide}
+     * <p>
+     * This is the narrow phase of the collision system on its own, with a quick check of the drawables' axis-aligned bounds first.
+     *
+     * @param first  One of the drawables to check.
+     * @param second The other drawable to check.
+     */
+    public static boolean collides(Drawable first, Drawable second) {
+        if (!boundsOverlap(first, second)) {
+            return false;
+        }
+
+        return collides(first, ConvexPolygon.of(first.getCollisionPath()), second, ConvexPolygon.of(second.getCollisionPath()));
+    }
+
+    /**
+     * {@return every pair of the given drawables which collide}
+     *
+     * @param drawables The drawables to check for collisions.
+     */
+    public List<CollisionPair> findAllCollisions(Collection<? extends Drawable> drawables) {
+        updateSortedDrawables(drawables);
+
+        int drawableCount = sortedDrawables.size();
+        ConvexPolygon[] convexPolygons = new ConvexPolygon[drawableCount];
+        boolean[] hasReadPolygon = new boolean[drawableCount];
+        List<CollisionPair> collisions = new ArrayList<>();
+
+        for (int i = 0; i < drawableCount; i++) {
+            Drawable first = sortedDrawables.get(i);
+            float firstMaxX = first.getMaxX();
+
+            for (int j = i + 1; j < drawableCount; j++) {
+                Drawable second = sortedDrawables.get(j);
+                if (second.getMinX() >= firstMaxX) {
+                    break;
+                }
+                if (second.getMaxY() <= first.getMinY() || second.getMinY() >= first.getMaxY()) {
+                    continue;
+                }
+
+                if (!hasReadPolygon[i]) {
+                    convexPolygons[i] = ConvexPolygon.of(first.getCollisionPath());
+                    hasReadPolygon[i] = true;
+                }
+                if (!hasReadPolygon[j]) {
+                    convexPolygons[j] = ConvexPolygon.of(second.getCollisionPath());
+                    hasReadPolygon[j] = true;
+                }
+
+                if (collides(first, convexPolygons[i], second, convexPolygons[j])) {
+                    collisions.add(new CollisionPair(first, second));
+                }
+            }
+        }
+
+        return collisions;
+    }
+
+    /**
+     * {@link #findAllCollisions(Collection) Finds every collision} between the given drawables, and fires a {@link CollisionEvent} for
+     * each one through the given game loop.
+     * <p>
+     * The events are fired immediately, on the calling thread.
+     *
+     * @param drawables The drawables to check for collisions.
+     * @param gameLoop  The game loop to fire collision events through.
+     * @return The collisions which were found.
+     */
+    public List<CollisionPair> fireCollisionEvents(Collection<? extends Drawable> drawables, GameLoop gameLoop) {
+        List<CollisionPair> collisions = findAllCollisions(drawables);
+        for (CollisionPair collision : collisions) {
+            gameLoop.fireEvent(new CollisionEvent(collision));
+        }
+        return collisions;
+    }
+
+    /** Forgets the sorted order of the drawables from the last call to {@link #findAllCollisions(Collection)}. */
+    public void reset() {
+        sortedDrawables.clear();
+    }
+
+    private void updateSortedDrawables(Collection<? extends Drawable> drawables) {
+        Set<Drawable> remainingDrawables = Collections.newSetFromMap(new IdentityHashMap<>(drawables.size()));
+        remainingDrawables.addAll(drawables);
+
+        sortedDrawables.removeIf(drawable -> !remainingDrawables.remove(drawable));
+        sortedDrawables.addAll(remainingDrawables);
+
+        // drawables are usually still close to sorted from the last call, which the list's merge sort handles in close to linear time
+        sortedDrawables.sort(ByMinX);
+    }
+
+    private static boolean boundsOverlap(Drawable first, Drawable second) {
+        return first.getMaxX() > second.getMinX() && second.getMaxX() > first.getMinX()
+            && first.getMaxY() > second.getMinY() && second.getMaxY() > first.getMinY();
+    }
+
+    private static boolean collides(Drawable first, ConvexPolygon firstPolygon, Drawable second, ConvexPolygon secondPolygon) {
+        if (firstPolygon != null && secondPolygon != null) {
+            return firstPolygon.intersects(secondPolygon);
+        }
+
+        Area firstArea = new Area(first.getCollisionPath());
+        Area secondArea = new Area(second.getCollisionPath());
+        secondArea.intersect(firstArea);
+        return !secondArea.isEmpty();
+    }
+}
@@ -0,0 +1,163 @@
+package tech.fastj.systems.collision;
+
+import java.awt.geom.Path2D;
+import java.awt.geom.PathIterator;
+import java.util.Arrays;
+
+/**
+ * Convex polygon read from a collision path, which can be checked for intersections with the separating axis theorem.
+ * <p>
+ * Two convex polygons intersect unless there is an axis -- perpendicular to one of their edges -- along which their projections do not
+ * overlap. Polygons which only touch along an edge or at a corner do not intersect.
+ *
+ * @author Andrew Dey
+ * @since 1.7.0
+ */
+final class ConvexPolygon {
+
+    private final float[] vertices;
+    private final int vertexCount;
+
+    private ConvexPolygon(float[] vertices, int vertexCount) {
+        this.vertices = vertices;
+        this.vertexCount = vertexCount;
+    }
+
+    /**
+     * {@return the convex polygon the given path describes, or {@code null} if the path is not a single convex polygon}
+     *
+     * @param path The path to read.
+     */
+    static ConvexPolygon of(Path2D path) {
+        float[] vertices = new float[16];
+        int vertexCount = 0;
+        float[] segment = new float[6];
+
+        PathIterator pathIterator = path.getPathIterator(null);
+        boolean isClosed = false;
+        while (!pathIterator.isDone()) {
+            int segmentType = pathIterator.currentSegment(segment);
+            pathIterator.next();
+
+            if (isClosed) {
+                return null;
+            }
+
+            switch (segmentType) {
+                case PathIterator.SEG_MOVETO -> {
+                    if (vertexCount > 0) {
+                        return null;
+                    }
+                }
+                case PathIterator.SEG_LINETO -> {
+                    if (vertexCount == 0) {
+                        return null;
+                    }
+                }
+                case PathIterator.SEG_CLOSE -> {
+                    isClosed = true;
+                    continue;
+                }
+                default -> {
+                    return null;
+                }
+            }
+
+            if (vertexCount > 0 && vertices[vertexCount * 2 - 2] == segment[0] && vertices[vertexCount * 2 - 1] == segment[1]) {
+                continue;
+            }
+            if (vertexCount * 2 == vertices.length) {
+                vertices = Arrays.copyOf(vertices, vertices.length * 2);
+            }
+            vertices[vertexCount * 2] = segment[0];
+            vertices[vertexCount * 2 + 1] = segment[1];
+            vertexCount++;
+        }
+
+        if (vertexCount > 1 && vertices[0] == vertices[vertexCount * 2 - 2] && vertices[1] == vertices[vertexCount * 2 - 1]) {
+            vertexCount--;
+        }
+
+        if (vertexCount < 3 || !isConvex(vertices, vertexCount)) {
+            return null;
+        }
+
+        return new ConvexPolygon(vertices, vertexCount);
+    }
+
+    /**
+     * {@return whether this polygon and the given polygon overlap}
+     *
+     * @param other The polygon to check against.
+     */
+    boolean intersects(ConvexPolygon other) {
+        return !hasSeparatingAxis(this, other) && !hasSeparatingAxis(other, this);
+    }
+
+    private static boolean hasSeparatingAxis(ConvexPolygon edges, ConvexPolygon other) {
+        float[] vertices = edges.vertices;
+        int vertexCount = edges.vertexCount;
+
+        for (int i = 0; i < vertexCount; i++) {
+            int next = (i + 1) % vertexCount;
+            float axisX = vertices[i * 2 + 1] - vertices[next * 2 + 1];
+            float axisY = vertices[next * 2] - vertices[i * 2];
+
+            float minProjection = Float.POSITIVE_INFINITY;
+            float maxProjection = Float.NEGATIVE_INFINITY;
+            for (int j = 0; j < vertexCount; j++) {
+                float projection = vertices[j * 2] * axisX + vertices[j * 2 + 1] * axisY;
+                minProjection = Math.min(minProjection, projection);
+                maxProjection = Math.max(maxProjection, projection);
+            }
+
+            float otherMinProjection = Float.POSITIVE_INFINITY;
+            float otherMaxProjection = Float.NEGATIVE_INFINITY;
+            for (int j = 0; j < other.vertexCount; j++) {
+                float projection = other.vertices[j * 2] * axisX + other.vertices[j * 2 + 1] * axisY;
+                otherMinProjection = Math.min(otherMinProjection, projection);
+                otherMaxProjection = Math.max(otherMaxProjection, projection);
+            }
+
+            if (maxProjection <= otherMinProjection || otherMaxProjection <= minProjection) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static boolean isConvex(float[] vertices, int vertexCount) {
+        int turnDirection = 0;
+        int xDirectionChanges = 0;
+        int lastXDirection = 0;
+
+        for (int i = 0; i < vertexCount; i++) {
+            int next = (i + 1) % vertexCount;
+            int afterNext = (i + 2) % vertexCount;
+
+            float edgeX = vertices[next * 2] - vertices[i * 2];
+            float edgeY = vertices[next * 2 + 1] - vertices[i * 2 + 1];
+            float nextEdgeX = vertices[afterNext * 2] - vertices[next * 2];
+            float nextEdgeY = vertices[afterNext * 2 + 1] - vertices[next * 2 + 1];
+
+            int cross = (int) Math.signum(edgeX * nextEdgeY - edgeY * nextEdgeX);
+            if (cross != 0) {
+                if (turnDirection != 0 && cross != turnDirection) {
+                    return false;
+                }
+                turnDirection = cross;
+            }
+
+            int xDirection = (int) Math.signum(edgeX);
+            if (xDirection != 0) {
+                if (lastXDirection != 0 && xDirection != lastXDirection) {
+                    xDirectionChanges++;
+                }
+                lastXDirection = xDirection;
+            }
+        }
+
+        return turnDirection != 0 && xDirectionChanges <= 2;
+    }
+}
@@ -0,0 +1,7 @@
+/**
+ * FastJ's collision system.
+ * <p>
+ * Refer to {@link tech.fastj.systems.collision.CollisionSystem} for finding every collision between a set of
+ * {@link tech.fastj.graphics.Drawable drawables} at once.
+ */
+package tech.fastj.systems.collision;
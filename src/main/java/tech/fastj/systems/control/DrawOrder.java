@@ -0,0 +1,157 @@
+package tech.fastj.systems.control;
+
+import tech.fastj.graphics.DrawOrderListener;
+import tech.fastj.graphics.Drawable;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * Sorted collection of {@link Drawable drawables}, in the order they are drawn.
+ * <p>
+ * Drawables are ordered by their {@link Drawable#getDrawLayer() draw layer}, then their {@link Drawable#getZIndex() z-index}, and then
+ * the order they were added to the draw order -- so drawables with the same layer and z-index keep a stable order, frame to frame. The
+ * draw order {@link Drawable#addDrawOrderListener(DrawOrderListener) listens} to the drawables added to it, and moves a drawable whose
+ * layer or z-index changed in {@code O(log n)} time, rather than rebuilding the whole order.
+ * <p>
+ * Drawables are kept in a skip list, so iterating over the draw order does not lock or copy it. Like other concurrent collections,
+ * iteration is weakly consistent -- a drawable reordered while the draw order is iterated over may be visited before or after the move.
+ *
+ * @param <T> The type of drawable the draw order holds.
+ * @author Andrew Dey
+ * @since 1.7.0
+ */
+public class DrawOrder<T extends Drawable> implements Iterable<T> {
+
+    private static final Comparator<Entry<?>> EntryOrder = Comparator.<Entry<?>>comparingInt(entry -> entry.drawLayer)
+        .thenComparingInt(entry -> entry.zIndex)
+        .thenComparingLong(entry -> entry.insertionOrder);
+
+    private final Map<Drawable, Entry<T>> entries;
+    private final ConcurrentSkipListSet<Entry<T>> sortedEntries;
+    private final DrawOrderListener drawOrderListener;
+
+    private long nextInsertionOrder;
+
+    /** Constructs an empty draw order. */
+    public DrawOrder() {
+        entries = new IdentityHashMap<>();
+        sortedEntries = new ConcurrentSkipListSet<>(EntryOrder);
+        drawOrderListener = this::update;
+    }
+
+    /** {@return the amount of drawables in the draw order} */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * {@return whether the draw order holds the given drawable}
+     *
+     * @param drawable The drawable to check for.
+     */
+    public synchronized boolean contains(Drawable drawable) {
+        return entries.containsKey(drawable);
+    }
+
+    /**
+     * Adds the given drawable to the draw order, if it has not been added already.
+     * <p>
+     * The drawable is placed after any drawables already in the draw order with the same draw layer and z-index.
+     *
+     * @param drawable The drawable to add.
+     */
+    public synchronized void add(T drawable) {
+        if (entries.containsKey(drawable)) {
+            return;
+        }
+
+        Entry<T> entry = new Entry<>(drawable, nextInsertionOrder++);
+        entries.put(drawable, entry);
+        sortedEntries.add(entry);
+        drawable.addDrawOrderListener(drawOrderListener);
+    }
+
+    /**
+     * Removes the given drawable from the draw order.
+     *
+     * @param drawable The drawable to remove.
+     */
+    public synchronized void remove(Drawable drawable) {
+        Entry<T> entry = entries.remove(drawable);
+        if (entry == null) {
+            return;
+        }
+
+        sortedEntries.remove(entry);
+        drawable.removeDrawOrderListener(drawOrderListener);
+    }
+
+    /** Removes every drawable from the draw order. */
+    public synchronized void clear() {
+        for (Entry<T> entry : entries.values()) {
+            entry.drawable.removeDrawOrderListener(drawOrderListener);
+        }
+
+        entries.clear();
+        sortedEntries.clear();
+    }
+
+    /** {@return the drawables of the draw order, in the order they are drawn} */
+    public List<T> toList() {
+        List<T> drawables = new ArrayList<>(sortedEntries.size());
+        for (Entry<T> entry : sortedEntries) {
+            drawables.add(entry.drawable);
+        }
+        return drawables;
+    }
+
+    /** {@return an iterator over the drawables of the draw order, in the order they are drawn} */
+    @Override
+    public Iterator<T> iterator() {
+        Iterator<Entry<T>> entryIterator = sortedEntries.iterator();
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return entryIterator.hasNext();
+            }
+
+            @Override
+            public T next() {
+                return entryIterator.next().drawable;
+            }
+        };
+    }
+
+    private synchronized void update(Drawable drawable) {
+        Entry<T> entry = entries.get(drawable);
+        if (entry == null || (entry.drawLayer == drawable.getDrawLayer() && entry.zIndex == drawable.getZIndex())) {
+            return;
+        }
+
+        sortedEntries.remove(entry);
+        entry.drawLayer = drawable.getDrawLayer();
+        entry.zIndex = drawable.getZIndex();
+        sortedEntries.add(entry);
+    }
+
+    private static class Entry<T extends Drawable> {
+
+        private final T drawable;
+        private final long insertionOrder;
+        private int drawLayer;
+        private int zIndex;
+
+        private Entry(T drawable, long insertionOrder) {
+            this.drawable = drawable;
+            this.insertionOrder = insertionOrder;
+            this.drawLayer = drawable.getDrawLayer();
+            this.zIndex = drawable.getZIndex();
+        }
+    }
+}
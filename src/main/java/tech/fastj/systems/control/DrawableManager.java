@@ -2,11 +2,13 @@ package tech.fastj.systems.control;
 
 import tech.fastj.graphics.Drawable;
 import tech.fastj.graphics.display.FastJCanvas;
+import tech.fastj.graphics.display.RenderLayer;
 import tech.fastj.graphics.game.GameObject;
 import tech.fastj.graphics.ui.UIElement;
 import tech.fastj.input.InputActionEvent;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -15,6 +17,17 @@ import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Class to manage {@link Drawable} objects.
+ * <p>
+ * Game objects added to the manager are also kept in a {@link #getSpatialIndex() spatial index}, so they can be found by where they
+ * are. The spatial index only follows game objects added and removed through the manager's methods, rather than through the
+ * {@link #getGameObjects() game object map} directly.
+ * <p>
+ * The same goes for the manager's {@link #getDrawOrder() draw order}, which keeps its game objects sorted by their
+ * {@link Drawable#getDrawLayer() draw layer} and {@link Drawable#getZIndex() z-index} -- the order they are rendered in.
+ * <p>
+ * Game objects can also be grouped into {@link RenderLayer render layers}, which are rendered in front of or behind the rest of the game
+ * objects, and which can cache their contents when they rarely change. Game objects in a render layer are kept by the layer rather than
+ * by the manager's game object map.
  *
  * @author Andrew Dey
  * @since 1.0.0
@@ -22,17 +35,60 @@ import java.util.concurrent.ConcurrentHashMap;
 public class DrawableManager {
 
     private final Map<String, GameObject> gameObjects;
+    private final Map<String, GameObject> gameObjectsView;
     private final Map<String, UIElement<? extends InputActionEvent>> uiElements;
+    private final SpatialIndex<GameObject> spatialIndex;
+    private final DrawOrder<GameObject> drawOrder;
+    private final List<RenderLayer> renderLayers;
+    private final List<RenderLayer> renderLayersView;
 
     /** Initializes a {@link DrawableManager}'s internals. */
     public DrawableManager() {
         gameObjects = new LinkedHashMap<>();
+        gameObjectsView = Collections.unmodifiableMap(gameObjects);
         uiElements = new LinkedHashMap<>();
+        spatialIndex = new SpatialIndex<>();
+        drawOrder = new DrawOrder<>();
+        renderLayers = new ArrayList<>();
+        renderLayersView = Collections.unmodifiableList(renderLayers);
     }
 
-    /** {@return the game objects assigned to the manager, as a map} */
+    /**
+     * {@return the game objects assigned to the manager, as an unmodifiable map}
+     * <p>
+     * Game objects are rendered through the manager's {@link #getSpatialIndex() spatial index} and {@link #getDrawOrder() draw order},
+     * so they can only be added and removed through the manager itself, such as with {@link #addGameObject(GameObject)} and
+     * {@link #removeGameObject(String)}.
+     */
     public Map<String, GameObject> getGameObjects() {
-        return gameObjects;
+        return gameObjectsView;
+    }
+
+    /**
+     * {@return the spatial index of the game objects assigned to the manager}
+     *
+     * @since 1.7.0
+     */
+    public SpatialIndex<GameObject> getSpatialIndex() {
+        return spatialIndex;
+    }
+
+    /**
+     * {@return the game objects assigned to the manager, in the order they are rendered}
+     *
+     * @since 1.7.0
+     */
+    public DrawOrder<GameObject> getDrawOrder() {
+        return drawOrder;
+    }
+
+    /**
+     * {@return the render layers assigned to the manager, in the order of their indexes}
+     *
+     * @since 1.7.0
+     */
+    public List<RenderLayer> getRenderLayers() {
+        return renderLayersView;
     }
 
     /** {@return the game objects assigned to the manager, wrapped as a list} */
@@ -84,6 +140,8 @@ public class DrawableManager {
      */
     public void addGameObject(GameObject gameObject) {
         gameObjects.put(gameObject.getID(), gameObject);
+        spatialIndex.add(gameObject);
+        drawOrder.add(gameObject);
     }
 
     /**
@@ -92,7 +150,11 @@ public class DrawableManager {
      * @param gameObjectID The id of the game object to remove.
      */
     public void removeGameObject(String gameObjectID) {
-        gameObjects.remove(gameObjectID);
+        GameObject gameObject = gameObjects.remove(gameObjectID);
+        if (gameObject != null) {
+            spatialIndex.remove(gameObject);
+            drawOrder.remove(gameObject);
+        }
     }
 
     /**
@@ -105,7 +167,7 @@ public class DrawableManager {
     }
 
     /**
-     * Destroys the game objects using the given {@link GameHandler}.
+     * Destroys the game objects, including the game objects of every render layer, using the given {@link GameHandler}.
      *
      * @param gameHandler The game handler to destroy the game objects from.
      */
@@ -113,6 +175,12 @@ public class DrawableManager {
         for (GameObject gameObject : getGameObjectsList()) {
             gameObject.destroy(gameHandler);
         }
+
+        for (RenderLayer renderLayer : renderLayers) {
+            for (GameObject gameObject : new ArrayList<>(renderLayer.getGameObjects())) {
+                gameObject.destroy(gameHandler);
+            }
+        }
     }
 
     /** Removes any null values from the list of game objects for the manager. */
@@ -123,6 +191,52 @@ public class DrawableManager {
     /** Removes all game objects from the manager. */
     public void clearGameObjects() {
         gameObjects.clear();
+        spatialIndex.clear();
+        drawOrder.clear();
+    }
+
+    /* render layers */
+
+    /**
+     * Adds the specified {@link RenderLayer render layer}, after any render layers with the same index.
+     *
+     * @param renderLayer The render layer to add.
+     * @since 1.7.0
+     */
+    public void addRenderLayer(RenderLayer renderLayer) {
+        if (renderLayers.contains(renderLayer)) {
+            return;
+        }
+
+        int insertionIndex = renderLayers.size();
+        while (insertionIndex > 0 && renderLayers.get(insertionIndex - 1).getIndex() > renderLayer.getIndex()) {
+            insertionIndex--;
+        }
+        renderLayers.add(insertionIndex, renderLayer);
+    }
+
+    /**
+     * Removes the specified render layer, releasing its cached image.
+     *
+     * @param renderLayer The render layer to remove.
+     * @since 1.7.0
+     */
+    public void removeRenderLayer(RenderLayer renderLayer) {
+        if (renderLayers.remove(renderLayer)) {
+            renderLayer.flush();
+        }
+    }
+
+    /**
+     * Removes all render layers from the manager, releasing their cached images.
+     *
+     * @since 1.7.0
+     */
+    public void clearRenderLayers() {
+        for (RenderLayer renderLayer : renderLayers) {
+            renderLayer.flush();
+        }
+        renderLayers.clear();
     }
 
     /* ui elements */
@@ -197,9 +311,10 @@ public class DrawableManager {
         clearAllLists();
     }
 
-    /** Removes all game objects and ui elements from the manager, without destroying them. */
+    /** Removes all game objects, ui elements, and render layers from the manager, without destroying them. */
     public void clearAllLists() {
         clearGameObjects();
         clearUIElements();
+        clearRenderLayers();
     }
 }
@@ -450,11 +450,7 @@ public abstract class SceneManager implements LogicManager {
             nullSceneCheck();
             initSceneCheck();
 
-            canvas.render(
-                currentScene.drawableManager().getGameObjects(),
-                currentScene.drawableManager().getUIElements(),
-                currentScene.getCamera()
-            );
+            canvas.render(currentScene.drawableManager(), currentScene.getCamera());
 
         } catch (NullPointerException e) {
             snapshotCheck(snapshot, e);
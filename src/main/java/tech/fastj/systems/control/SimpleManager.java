@@ -190,7 +190,7 @@ public abstract class SimpleManager implements LogicManager, GameHandler {
      */
     @Override
     public void render(FastJCanvas canvas) {
-        canvas.render(drawableManager.getGameObjects(), drawableManager.getUIElements(), camera);
+        canvas.render(drawableManager, camera);
     }
 
     /** Resets the simple manager's state entirely. */
@@ -0,0 +1,470 @@
+package tech.fastj.systems.control;
+
+import tech.fastj.graphics.BoundsListener;
+import tech.fastj.graphics.Drawable;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Uniform grid of {@link Drawable drawables}, for finding drawables by where they are without checking every one of them.
+ * <p>
+ * Each drawable is placed in every grid cell its {@link Drawable#getMinX() axis-aligned bounds} overlap. The spatial index
+ * {@link Drawable#addBoundsListener(BoundsListener) listens} to the bounds of the drawables added to it, and moves drawables which were
+ * transformed between cells at the start of the next query -- there is no need to rebuild it each frame, and a drawable transformed many
+ * times between queries is only moved once. Drawables which would span a very large amount of cells are kept
+ * aside and checked by every query instead.
+ * <p>
+ * The spatial index supports three kinds of queries:
+ * <ul>
+ *     <li>{@link #queryRange(float, float, float, float) Range queries}, for drawables whose bounds overlap a rectangle.</li>
+ *     <li>{@link #queryPoint(float, float) Point queries}, for drawables whose collision path contains a point.</li>
+ *     <li>{@link #queryNearest(float, float, int) Nearest queries}, for the drawables whose bounds are closest to a point.</li>
+ * </ul>
+ * Range and point queries return drawables in the order they are drawn: by {@link Drawable#getDrawLayer() draw layer}, then
+ * {@link Drawable#getZIndex() z-index}, and then the order they were added to the spatial index -- the same order as a
+ * {@link DrawOrder draw order}. The spatial index is thread-safe.
+ *
+ * @param <T> The type of drawable the spatial index holds.
+ * @author Andrew Dey
+ * @since 1.7.0
+ */
+public class SpatialIndex<T extends Drawable> {
+
+    /** The default width and height of each cell of a spatial index, of {@code 128}. */
+    public static final float DefaultCellSize = 128f;
+
+    /** The most cells a drawable can span before it is kept aside, rather than placed in each cell. */
+    static final int MaxCellsPerDrawable = 1024;
+
+    private static final Comparator<Entry<?>> DrawingOrder = Comparator.<Entry<?>>comparingInt(entry -> entry.drawLayer)
+        .thenComparingInt(entry -> entry.zIndex)
+        .thenComparingLong(entry -> entry.insertionOrder);
+
+    private final float cellSize;
+    private final Map<Drawable, Entry<T>> entries;
+    private final Map<Long, List<Entry<T>>> cells;
+    private final List<Entry<T>> oversizedEntries;
+    private final List<Entry<T>> changedEntries;
+    private final BoundsListener boundsListener;
+
+    private long nextInsertionOrder;
+    private int queryMark;
+    private int minOccupiedCellX = Integer.MAX_VALUE;
+    private int minOccupiedCellY = Integer.MAX_VALUE;
+    private int maxOccupiedCellX = Integer.MIN_VALUE;
+    private int maxOccupiedCellY = Integer.MIN_VALUE;
+
+    /** Constructs an empty spatial index with the {@link #DefaultCellSize default cell size}. */
+    public SpatialIndex() {
+        this(DefaultCellSize);
+    }
+
+    /**
+     * Constructs an empty spatial index with the given cell size.
+     * <p>
+     * Cells around the size of a typical drawable work best -- smaller cells put each drawable in more cells, while larger cells put
+     * more drawables in each cell.
+     *
+     * @param cellSize The width and height of each cell.
+     */
+    public SpatialIndex(float cellSize) {
+        if (!(cellSize > 0f) || Float.isInfinite(cellSize)) {
+            throw new IllegalArgumentException("Cell size must be greater than 0.");
+        }
+
+        this.cellSize = cellSize;
+        entries = new IdentityHashMap<>();
+        cells = new HashMap<>();
+        oversizedEntries = new ArrayList<>();
+        changedEntries = new ArrayList<>();
+        boundsListener = this::update;
+    }
+
+    /** {@return the width and height of each cell of the spatial index} */
+    public float getCellSize() {
+        return cellSize;
+    }
+
+    /** {@return the amount of drawables in the spatial index} */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * {@return whether the spatial index holds the given drawable}
+     *
+     * @param drawable The drawable to check for.
+     */
+    public synchronized boolean contains(Drawable drawable) {
+        return entries.containsKey(drawable);
+    }
+
+    /**
+     * Adds the given drawable to the spatial index, if it has not been added already.
+     *
+     * @param drawable The drawable to add.
+     */
+    public synchronized void add(T drawable) {
+        if (entries.containsKey(drawable)) {
+            return;
+        }
+
+        Entry<T> entry = new Entry<>(drawable, nextInsertionOrder++);
+        entries.put(drawable, entry);
+        place(entry);
+        drawable.addBoundsListener(boundsListener);
+    }
+
+    /**
+     * Removes the given drawable from the spatial index.
+     *
+     * @param drawable The drawable to remove.
+     */
+    public synchronized void remove(Drawable drawable) {
+        Entry<T> entry = entries.remove(drawable);
+        if (entry == null) {
+            return;
+        }
+
+        unplace(entry);
+        drawable.removeBoundsListener(boundsListener);
+    }
+
+    /** Removes every drawable from the spatial index. */
+    public synchronized void clear() {
+        for (Entry<T> entry : entries.values()) {
+            entry.drawable.removeBoundsListener(boundsListener);
+        }
+
+        entries.clear();
+        cells.clear();
+        oversizedEntries.clear();
+        changedEntries.clear();
+        minOccupiedCellX = Integer.MAX_VALUE;
+        minOccupiedCellY = Integer.MAX_VALUE;
+        maxOccupiedCellX = Integer.MIN_VALUE;
+        maxOccupiedCellY = Integer.MIN_VALUE;
+    }
+
+    /**
+     * {@return the drawables whose axis-aligned bounds overlap the given rectangle, in the order they are drawn}
+     * <p>
+     * Drawables whose bounds only touch the edge of the rectangle are included.
+     *
+     * @param minX The smallest x value of the rectangle.
+     * @param minY The smallest y value of the rectangle.
+     * @param maxX The largest x value of the rectangle.
+     * @param maxY The largest y value of the rectangle.
+     */
+    public synchronized List<T> queryRange(float minX, float minY, float maxX, float maxY) {
+        updateChangedEntries();
+        List<Entry<T>> found = new ArrayList<>();
+        int mark = nextQueryMark();
+
+        for (Entry<T> entry : oversizedEntries) {
+            if (entry.overlaps(minX, minY, maxX, maxY)) {
+                found.add(entry);
+            }
+        }
+
+        int startX = Math.max(cellOf(minX), minOccupiedCellX);
+        int startY = Math.max(cellOf(minY), minOccupiedCellY);
+        int endX = Math.min(cellOf(maxX), maxOccupiedCellX);
+        int endY = Math.min(cellOf(maxY), maxOccupiedCellY);
+
+        if (endX < startX || endY < startY) {
+            return toDrawables(found);
+        }
+
+        if (((long) endX - startX + 1) * ((long) endY - startY + 1) > entries.size()) {
+            for (Entry<T> entry : entries.values()) {
+                if (!entry.isOversized() && entry.overlaps(minX, minY, maxX, maxY)) {
+                    found.add(entry);
+                }
+            }
+        } else {
+            for (int cellX = startX; cellX <= endX; cellX++) {
+                for (int cellY = startY; cellY <= endY; cellY++) {
+                    List<Entry<T>> cell = cells.get(cellKey(cellX, cellY));
+                    if (cell == null) {
+                        continue;
+                    }
+
+                    for (Entry<T> entry : cell) {
+                        if (entry.queryMark != mark && entry.overlaps(minX, minY, maxX, maxY)) {
+                            entry.queryMark = mark;
+                            found.add(entry);
+                        }
+                    }
+                }
+            }
+        }
+
+        return toDrawables(found);
+    }
+
+    /**
+     * {@return the drawables whose collision paths contain the given point, in the order they are drawn}
+     *
+     * @param x The x value of the point.
+     * @param y The y value of the point.
+     */
+    public synchronized List<T> queryPoint(float x, float y) {
+        updateChangedEntries();
+        List<Entry<T>> found = new ArrayList<>();
+
+        for (Entry<T> entry : oversizedEntries) {
+            if (entry.contains(x, y)) {
+                found.add(entry);
+            }
+        }
+
+        List<Entry<T>> cell = cells.get(cellKey(cellOf(x), cellOf(y)));
+        if (cell != null) {
+            for (Entry<T> entry : cell) {
+                if (entry.contains(x, y)) {
+                    found.add(entry);
+                }
+            }
+        }
+
+        return toDrawables(found);
+    }
+
+    /**
+     * {@return up to the given amount of drawables whose axis-aligned bounds are closest to the given point, closest first}
+     * <p>
+     * Drawables whose bounds contain the point are at a distance of {@code 0}.
+     *
+     * @param x     The x value of the point.
+     * @param y     The y value of the point.
+     * @param count The most drawables to find.
+     */
+    public synchronized List<T> queryNearest(float x, float y, int count) {
+        if (count < 1) {
+            throw new IllegalArgumentException("Drawable count must be at least 1.");
+        }
+        updateChangedEntries();
+
+        List<Entry<T>> found = new ArrayList<>(oversizedEntries);
+        if (entries.isEmpty()) {
+            return toDrawables(found);
+        }
+
+        int centerX = cellOf(x);
+        int centerY = cellOf(y);
+        int maxRing = Math.max(
+            Math.max(Math.abs(centerX - minOccupiedCellX), Math.abs(centerX - maxOccupiedCellX)),
+            Math.max(Math.abs(centerY - minOccupiedCellY), Math.abs(centerY - maxOccupiedCellY))
+        );
+
+        Comparator<Entry<T>> byDistance = Comparator.comparingDouble(entry -> entry.squareDistanceTo(x, y));
+        long ringCellCount = (2L * maxRing + 1) * (2L * maxRing + 1);
+        if (ringCellCount > 4L * entries.size()) {
+            found.clear();
+            found.addAll(entries.values());
+            return toNearest(found, byDistance, count);
+        }
+
+        int mark = nextQueryMark();
+        for (int ring = 0; ring <= maxRing; ring++) {
+            for (int cellX = centerX - ring; cellX <= centerX + ring; cellX++) {
+                boolean isEdgeColumn = cellX == centerX - ring || cellX == centerX + ring;
+                int step = isEdgeColumn ? 1 : Math.max(ring * 2, 1);
+
+                for (int cellY = centerY - ring; cellY <= centerY + ring; cellY += step) {
+                    List<Entry<T>> cell = cells.get(cellKey(cellX, cellY));
+                    if (cell == null) {
+                        continue;
+                    }
+
+                    for (Entry<T> entry : cell) {
+                        if (entry.queryMark != mark) {
+                            entry.queryMark = mark;
+                            found.add(entry);
+                        }
+                    }
+                }
+            }
+
+            if (found.size() >= count) {
+                found.sort(byDistance);
+                float searchedDistance = ring * cellSize;
+                if (found.get(count - 1).squareDistanceTo(x, y) <= searchedDistance * searchedDistance) {
+                    break;
+                }
+            }
+        }
+
+        return toNearest(found, byDistance, count);
+    }
+
+    private synchronized void update(Drawable drawable) {
+        Entry<T> entry = entries.get(drawable);
+        if (entry == null || entry.isChanged) {
+            return;
+        }
+
+        entry.isChanged = true;
+        changedEntries.add(entry);
+    }
+
+    private void updateChangedEntries() {
+        for (Entry<T> entry : changedEntries) {
+            if (!entry.isChanged || entries.get(entry.drawable) != entry) {
+                continue;
+            }
+            entry.isChanged = false;
+
+            Drawable drawable = entry.drawable;
+            if (!entry.isOversized()
+                && entry.minCellX == cellOf(drawable.getMinX())
+                && entry.minCellY == cellOf(drawable.getMinY())
+                && entry.maxCellX == cellOf(drawable.getMaxX())
+                && entry.maxCellY == cellOf(drawable.getMaxY())) {
+                continue;
+            }
+
+            unplace(entry);
+            place(entry);
+        }
+
+        changedEntries.clear();
+    }
+
+    private void place(Entry<T> entry) {
+        Drawable drawable = entry.drawable;
+        entry.minCellX = cellOf(drawable.getMinX());
+        entry.minCellY = cellOf(drawable.getMinY());
+        entry.maxCellX = cellOf(drawable.getMaxX());
+        entry.maxCellY = cellOf(drawable.getMaxY());
+
+        long cellCount = ((long) entry.maxCellX - entry.minCellX + 1) * ((long) entry.maxCellY - entry.minCellY + 1);
+        if (cellCount > MaxCellsPerDrawable) {
+            entry.minCellX = Integer.MAX_VALUE;
+            oversizedEntries.add(entry);
+            return;
+        }
+
+        for (int cellX = entry.minCellX; cellX <= entry.maxCellX; cellX++) {
+            for (int cellY = entry.minCellY; cellY <= entry.maxCellY; cellY++) {
+                cells.computeIfAbsent(cellKey(cellX, cellY), key -> new ArrayList<>()).add(entry);
+            }
+        }
+
+        minOccupiedCellX = Math.min(minOccupiedCellX, entry.minCellX);
+        minOccupiedCellY = Math.min(minOccupiedCellY, entry.minCellY);
+        maxOccupiedCellX = Math.max(maxOccupiedCellX, entry.maxCellX);
+        maxOccupiedCellY = Math.max(maxOccupiedCellY, entry.maxCellY);
+    }
+
+    private void unplace(Entry<T> entry) {
+        if (entry.isOversized()) {
+            oversizedEntries.remove(entry);
+            return;
+        }
+
+        for (int cellX = entry.minCellX; cellX <= entry.maxCellX; cellX++) {
+            for (int cellY = entry.minCellY; cellY <= entry.maxCellY; cellY++) {
+                long key = cellKey(cellX, cellY);
+                List<Entry<T>> cell = cells.get(key);
+                if (cell == null) {
+                    continue;
+                }
+
+                cell.remove(entry);
+                if (cell.isEmpty()) {
+                    cells.remove(key);
+                }
+            }
+        }
+    }
+
+    private int nextQueryMark() {
+        queryMark++;
+        if (queryMark == 0) {
+            for (Entry<T> entry : entries.values()) {
+                entry.queryMark = 0;
+            }
+            queryMark = 1;
+        }
+        return queryMark;
+    }
+
+    private int cellOf(float position) {
+        double cell = Math.floor(position / cellSize);
+        return (int) Math.max(Integer.MIN_VALUE + 1, Math.min(Integer.MAX_VALUE - 1, cell));
+    }
+
+    private static long cellKey(int cellX, int cellY) {
+        return ((long) cellX << 32) | (cellY & 0xFFFFFFFFL);
+    }
+
+    private List<T> toDrawables(List<Entry<T>> found) {
+        // draw orders can change on other threads, so they are copied once to keep the sort consistent
+        for (Entry<T> entry : found) {
+            entry.drawLayer = entry.drawable.getDrawLayer();
+            entry.zIndex = entry.drawable.getZIndex();
+        }
+        found.sort(DrawingOrder);
+
+        List<T> drawables = new ArrayList<>(found.size());
+        for (Entry<T> entry : found) {
+            drawables.add(entry.drawable);
+        }
+        return drawables;
+    }
+
+    private List<T> toNearest(List<Entry<T>> found, Comparator<Entry<T>> byDistance, int count) {
+        found.sort(byDistance);
+
+        List<T> nearest = new ArrayList<>(Math.min(count, found.size()));
+        for (int i = 0; i < found.size() && i < count; i++) {
+            nearest.add(found.get(i).drawable);
+        }
+        return nearest;
+    }
+
+    private static class Entry<T extends Drawable> {
+
+        private final T drawable;
+        private final long insertionOrder;
+        private int minCellX;
+        private int minCellY;
+        private int maxCellX;
+        private int maxCellY;
+        private int queryMark;
+        private int drawLayer;
+        private int zIndex;
+        private boolean isChanged;
+
+        private Entry(T drawable, long insertionOrder) {
+            this.drawable = drawable;
+            this.insertionOrder = insertionOrder;
+        }
+
+        private boolean isOversized() {
+            return minCellX == Integer.MAX_VALUE;
+        }
+
+        private boolean overlaps(float minX, float minY, float maxX, float maxY) {
+            return drawable.getMaxX() >= minX && drawable.getMinX() <= maxX && drawable.getMaxY() >= minY && drawable.getMinY() <= maxY;
+        }
+
+        private boolean contains(float x, float y) {
+            return x >= drawable.getMinX() && x <= drawable.getMaxX() && y >= drawable.getMinY() && y <= drawable.getMaxY()
+                && drawable.getCollisionPath().contains(x, y);
+        }
+
+        private float squareDistanceTo(float x, float y) {
+            float distanceX = Math.max(Math.max(drawable.getMinX() - x, 0f), x - drawable.getMaxX());
+            float distanceY = Math.max(Math.max(drawable.getMinY() - y, 0f), y - drawable.getMaxY());
+            return distanceX * distanceX + distanceY * distanceY;
+        }
+    }
+}
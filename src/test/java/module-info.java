@@ -6,6 +6,7 @@ module fastj.library.test {
     opens unittest.testcases.engine.config to org.junit.platform.commons;
 
     opens unittest.testcases.gameloop to org.junit.platform.commons;
+    opens unittest.testcases.gameloop.event to org.junit.platform.commons;
 
     opens unittest.testcases.graphics to org.junit.platform.commons;
     opens unittest.testcases.graphics.display to org.junit.platform.commons;
@@ -16,11 +17,14 @@ module fastj.library.test {
 
     opens unittest.testcases.input.keyboard to org.junit.platform.commons;
 
+    opens unittest.testcases.resources.images to org.junit.platform.commons;
     opens unittest.testcases.resources.models to org.junit.platform.commons;
 
     opens unittest.testcases.math to org.junit.platform.commons;
 
     opens unittest.testcases.systems.audio to org.junit.platform.commons;
+    opens unittest.testcases.systems.behaviors to org.junit.platform.commons;
+    opens unittest.testcases.systems.collision to org.junit.platform.commons;
     opens unittest.testcases.systems.control to org.junit.platform.commons;
     opens unittest.testcases.systems.tags to org.junit.platform.commons;
 
@@ -0,0 +1,32 @@
+package unittest.mock.gameloop;
+
+import tech.fastj.gameloop.FramePacer;
+import tech.fastj.gameloop.LoopClock;
+
+/** Simulated loop clock, which only moves forward when told to. */
+public class MockLoopClock implements LoopClock {
+
+    private long time;
+
+    public MockLoopClock(long startTime) {
+        this.time = startTime;
+    }
+
+    @Override
+    public long nanoTime() {
+        return time;
+    }
+
+    public void advance(long nanos) {
+        time += nanos;
+    }
+
+    /** {@return a frame pacer which waits by moving this clock forward to the deadline, taking no real time} */
+    public FramePacer framePacer() {
+        return (deadlineNanos, clock) -> {
+            if (deadlineNanos - time > 0L) {
+                time = deadlineNanos;
+            }
+        };
+    }
+}
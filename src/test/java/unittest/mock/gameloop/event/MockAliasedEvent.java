@@ -0,0 +1,4 @@
+package unittest.mock.gameloop.event;
+
+public class MockAliasedEvent extends MockEvent {
+}
@@ -0,0 +1,29 @@
+package unittest.mock.gameloop.event;
+
+import tech.fastj.gameloop.event.CoalescableEvent;
+import tech.fastj.gameloop.event.Event;
+
+public class MockCoalescableEvent extends Event implements CoalescableEvent<MockCoalescableEvent> {
+
+    private final Object coalescingKey;
+    private int value;
+
+    public MockCoalescableEvent(Object coalescingKey, int value) {
+        this.coalescingKey = coalescingKey;
+        this.value = value;
+    }
+
+    public int getValue() {
+        return value;
+    }
+
+    @Override
+    public Object getCoalescingKey() {
+        return coalescingKey;
+    }
+
+    @Override
+    public void coalesce(MockCoalescableEvent olderEvent) {
+        value += olderEvent.value;
+    }
+}
@@ -0,0 +1,21 @@
+package unittest.mock.gameloop.event;
+
+import tech.fastj.gameloop.event.RecyclableEvent;
+
+public class MockRecyclableEvent extends RecyclableEvent {
+
+    private Object data;
+
+    public Object getData() {
+        return data;
+    }
+
+    public void setData(Object data) {
+        this.data = data;
+    }
+
+    @Override
+    protected void reset() {
+        data = null;
+    }
+}
@@ -0,0 +1,36 @@
+package unittest.mock.systems.behaviors;
+
+import tech.fastj.graphics.game.GameObject;
+import tech.fastj.systems.behaviors.Behavior;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class MockThreadSafeBehavior implements Behavior {
+
+    private final AtomicInteger totalUpdateCount;
+    private int updateCount;
+
+    public MockThreadSafeBehavior(AtomicInteger totalUpdateCount) {
+        this.totalUpdateCount = totalUpdateCount;
+    }
+
+    @Override
+    public void fixedUpdate(GameObject gameObject) {
+        updateCount++;
+        totalUpdateCount.incrementAndGet();
+    }
+
+    @Override
+    public void update(GameObject gameObject) {
+        fixedUpdate(gameObject);
+    }
+
+    @Override
+    public boolean isThreadSafe() {
+        return true;
+    }
+
+    public int getUpdateCount() {
+        return updateCount;
+    }
+}
@@ -5,11 +5,18 @@ import tech.fastj.engine.config.EngineConfig;
 import tech.fastj.engine.config.ExceptionAction;
 import tech.fastj.gameloop.CoreLoopState;
 import tech.fastj.graphics.display.FastJCanvas;
+import tech.fastj.graphics.display.HeadlessDisplay;
+import tech.fastj.graphics.display.OffscreenRenderTarget;
+import tech.fastj.graphics.game.Polygon2D;
+import tech.fastj.graphics.util.DrawUtil;
+import tech.fastj.math.Point;
 import tech.fastj.systems.control.SimpleManager;
 
+import java.awt.Color;
 import java.time.Duration;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.MethodOrderer;
 import org.junit.jupiter.api.Order;
@@ -91,4 +98,36 @@ class FastJEngineTests {
         assertEquals(EngineConfig.Default.exceptionAction(), FastJEngine.getExceptionAction(), "The engine config exception action should match the default exception action.");
         assertEquals(EngineConfig.Default.logLevel(), FastJEngine.getLogLevel(), "The engine config log level should match the default log level.");
     }
+
+    @Test
+    @Order(3)
+    void checkRun_withHeadlessDisplay_shouldRenderOffscreen() {
+        AtomicInteger renderedColor = new AtomicInteger();
+        AtomicInteger renderedFrames = new AtomicInteger();
+
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            FastJEngine.init("yeet", new SimpleManager() {
+                @Override
+                public void init(FastJCanvas canvas) {
+                    drawableManager.addGameObject(
+                        Polygon2D.create(DrawUtil.createBox(0f, 0f, 1280f, 720f)).withFill(Color.blue).build()
+                    );
+
+                    FastJEngine.runLater(() -> {
+                        OffscreenRenderTarget renderTarget = (OffscreenRenderTarget) canvas.getRenderTarget();
+                        renderedColor.set(renderTarget.getImage().getRGB(32, 32));
+                        renderedFrames.set((int) renderTarget.getFrameCount());
+                        FastJEngine.forceCloseGame();
+                    }, CoreLoopState.LateUpdate);
+                }
+            });
+            FastJEngine.setCustomDisplay(new HeadlessDisplay(new Point(64, 64)));
+
+            FastJEngine.configureExceptionAction(ExceptionAction.Nothing);
+            FastJEngine.run();
+        });
+
+        assertEquals(1, renderedFrames.get(), "One frame should have been rendered onto the offscreen render target.");
+        assertEquals(Color.blue.getRGB(), renderedColor.get(), "The game object should have been rendered onto the offscreen render target.");
+    }
 }
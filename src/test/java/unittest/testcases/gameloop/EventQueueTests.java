@@ -0,0 +1,303 @@
+package unittest.testcases.gameloop;
+
+import tech.fastj.gameloop.CoreLoopState;
+import tech.fastj.gameloop.EventOverflowPolicy;
+import tech.fastj.gameloop.EventQueue;
+import tech.fastj.gameloop.GameLoop;
+import tech.fastj.gameloop.GameLoopState;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import unittest.mock.gameloop.event.MockCoalescableEvent;
+import unittest.mock.gameloop.event.MockEvent;
+import unittest.mock.gameloop.event.MockRecyclableEvent;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EventQueueTests {
+
+    @Test
+    void checkEventQueueCapacity_shouldRoundUpToPowerOfTwo() {
+        GameLoop gameLoop = new GameLoop((gl) -> false, (gl) -> false);
+        gameLoop.setEventQueueCapacity(5);
+
+        assertEquals(5, gameLoop.getEventQueueCapacity(), "The game loop's event queue capacity should match the expected value.");
+        for (CoreLoopState coreLoopState : CoreLoopState.values()) {
+            assertEquals(8, gameLoop.getEventQueue(coreLoopState).getCapacity(), "The event queue capacity should be rounded up to the next power of two.");
+        }
+    }
+
+    @Test
+    void checkEventQueueCapacity_shouldBeAtLeastTwo() {
+        GameLoop gameLoop = new GameLoop((gl) -> false, (gl) -> false);
+        gameLoop.setEventQueueCapacity(1);
+
+        assertEquals(2, gameLoop.getEventQueue(CoreLoopState.Update).getCapacity(), "The event queue capacity should be at least 2.");
+    }
+
+    @Test
+    void tryEventQueueCapacity_withCapacityLessThanOne() {
+        GameLoop gameLoop = new GameLoop((gl) -> false, (gl) -> false);
+        Throwable exception = assertThrows(IllegalArgumentException.class, () -> gameLoop.setEventQueueCapacity(0));
+        assertEquals("Event queue capacity must be at least 1.", exception.getMessage(), "The exception message should match the expected value.");
+    }
+
+    @Test
+    void checkEventQueueCapacityChange_shouldKeepQueuedEvents() {
+        GameLoop gameLoop = new GameLoop((gl) -> false, (gl) -> false);
+        gameLoop.fireEvent(new MockEvent(), CoreLoopState.Update);
+        gameLoop.fireEvent(new MockEvent(), CoreLoopState.Update);
+
+        gameLoop.setEventQueueCapacity(16);
+
+        EventQueue eventQueue = gameLoop.getEventQueue(CoreLoopState.Update);
+        assertEquals(16, eventQueue.getCapacity(), "The event queue capacity should match the expected value.");
+        assertEquals(2, eventQueue.size(), "The queued events should have been kept.");
+    }
+
+    @Test
+    void checkEventQueueDropOldest_shouldKeepNewestEvents() {
+        AtomicInteger iterations = new AtomicInteger();
+        GameLoop gameLoop = new GameLoop((gl) -> iterations.getAndIncrement() < 1, (gl) -> false);
+        gameLoop.setEventQueueCapacity(4);
+        gameLoop.setEventOverflowPolicy(EventOverflowPolicy.DropOldest);
+
+        List<Object> receivedData = new ArrayList<>();
+        gameLoop.addEventObserver(MockRecyclableEvent.class, (event) -> receivedData.add(event.getData()));
+
+        for (int i = 0; i < 6; i++) {
+            MockRecyclableEvent event = new MockRecyclableEvent();
+            event.setData(i);
+            gameLoop.fireEvent(event, CoreLoopState.Update);
+        }
+
+        EventQueue eventQueue = gameLoop.getEventQueue(CoreLoopState.Update);
+        assertEquals(4, eventQueue.size(), "The event queue should be full.");
+        assertEquals(4, eventQueue.getPeakSize(), "The event queue's peak size should match its capacity.");
+        assertEquals(2, eventQueue.getDroppedCount(), "The two oldest events should have been dropped.");
+
+        gameLoop.run();
+
+        assertEquals(List.of(2, 3, 4, 5), receivedData, "The newest events should have been fired, in order.");
+        assertTrue(eventQueue.isEmpty(), "The event queue should be empty after being drained.");
+    }
+
+    @Test
+    void checkEventQueueCoalesce_shouldKeepLatestOverflowingEventOfEachClass() {
+        AtomicInteger iterations = new AtomicInteger();
+        GameLoop gameLoop = new GameLoop((gl) -> iterations.getAndIncrement() < 1, (gl) -> false);
+        gameLoop.setEventQueueCapacity(2);
+        gameLoop.setEventOverflowPolicy(EventOverflowPolicy.Coalesce);
+
+        List<Object> receivedEvents = new ArrayList<>();
+        gameLoop.addEventObserver(MockEvent.class, receivedEvents::add);
+        gameLoop.addEventObserver(MockRecyclableEvent.class, (event) -> receivedEvents.add(event.getData()));
+
+        gameLoop.fireEvent(new MockEvent(), CoreLoopState.Update);
+        gameLoop.fireEvent(new MockEvent(), CoreLoopState.Update);
+        for (int i = 0; i < 3; i++) {
+            MockRecyclableEvent event = new MockRecyclableEvent();
+            event.setData(i);
+            gameLoop.fireEvent(event, CoreLoopState.Update);
+        }
+
+        EventQueue eventQueue = gameLoop.getEventQueue(CoreLoopState.Update);
+        assertEquals(3, eventQueue.size(), "The event queue should hold its capacity, plus one coalesced event.");
+        assertEquals(2, eventQueue.getCoalescedCount(), "Two overflowing events should have been replaced.");
+        assertEquals(0, eventQueue.getDroppedCount(), "No events should have been dropped.");
+
+        gameLoop.run();
+
+        assertEquals(3, receivedEvents.size(), "Three events should have been fired.");
+        assertEquals(2, receivedEvents.get(2), "The coalesced event should be the latest one, fired after the rest of the queue.");
+    }
+
+    @Test
+    void checkEventQueueBlock_shouldWaitForRoom() throws InterruptedException {
+        AtomicInteger iterations = new AtomicInteger();
+        GameLoop gameLoop = new GameLoop((gl) -> iterations.getAndIncrement() < 1, (gl) -> false);
+        gameLoop.setEventQueueCapacity(2);
+        gameLoop.setEventOverflowPolicy(EventOverflowPolicy.Block);
+
+        AtomicInteger receivedEvents = new AtomicInteger();
+        gameLoop.addEventObserver(MockEvent.class, (event) -> receivedEvents.incrementAndGet());
+        gameLoop.fireEvent(new MockEvent(), CoreLoopState.Update);
+        gameLoop.fireEvent(new MockEvent(), CoreLoopState.Update);
+
+        Thread producer = new Thread(() -> gameLoop.fireEvent(new MockEvent(), CoreLoopState.Update));
+        producer.start();
+
+        EventQueue eventQueue = gameLoop.getEventQueue(CoreLoopState.Update);
+        long waitEnd = System.nanoTime() + TimeUnit.SECONDS.toNanos(5L);
+        while (eventQueue.getBlockedCount() == 0L && System.nanoTime() < waitEnd) {
+            Thread.onSpinWait();
+        }
+        assertEquals(1, eventQueue.getBlockedCount(), "The producer should be waiting for room in the event queue.");
+        assertTrue(producer.isAlive(), "The producer should still be waiting.");
+
+        gameLoop.run();
+        producer.join(TimeUnit.SECONDS.toMillis(5L));
+
+        assertFalse(producer.isAlive(), "The producer should have finished once there was room.");
+        assertEquals(2, receivedEvents.get(), "The events queued before the producer should have been fired.");
+        assertEquals(1, eventQueue.size(), "The blocked event should be waiting in the event queue.");
+        assertEquals(0, eventQueue.getDroppedCount(), "No events should have been dropped.");
+    }
+
+    @Test
+    void checkEventQueueBlock_withStalledGameLoop_shouldStopWaitingAndDropOldest() throws InterruptedException {
+        GameLoop gameLoop = new GameLoop((gl) -> false, (gl) -> false);
+        gameLoop.setEventQueueCapacity(2);
+        gameLoop.setEventOverflowPolicy(EventOverflowPolicy.Block);
+        gameLoop.fireEvent(new MockEvent(), CoreLoopState.Update);
+        gameLoop.fireEvent(new MockEvent(), CoreLoopState.Update);
+
+        Thread producer = new Thread(() -> gameLoop.fireEvent(new MockEvent(), CoreLoopState.Update));
+        producer.start();
+        producer.join(TimeUnit.SECONDS.toMillis(5L));
+
+        EventQueue eventQueue = gameLoop.getEventQueue(CoreLoopState.Update);
+        assertFalse(producer.isAlive(), "The producer should stop waiting for a game loop which never drains its queue.");
+        assertEquals(1, eventQueue.getBlockedCount(), "The producer should have waited for room first.");
+        assertEquals(1, eventQueue.getDroppedCount(), "The oldest event should have been dropped once the producer stopped waiting.");
+        assertEquals(2, eventQueue.size(), "The new event should have taken the place of the dropped event.");
+    }
+
+    @Test
+    void checkDefaultEventOverflowPolicy_shouldNotBlock() {
+        GameLoop gameLoop = new GameLoop((gl) -> false, (gl) -> false);
+
+        assertEquals(EventOverflowPolicy.DropOldest, gameLoop.getEventOverflowPolicy(), "The default overflow policy should never block the firing thread.");
+    }
+
+    @Test
+    void checkEventQueueBlock_onGameLoopThread_shouldDropOldest() {
+        AtomicInteger iterations = new AtomicInteger();
+        GameLoop gameLoop = new GameLoop((gl) -> iterations.getAndIncrement() < 1, (gl) -> false);
+        gameLoop.setEventQueueCapacity(2);
+        gameLoop.setEventOverflowPolicy(EventOverflowPolicy.Block);
+
+        List<Object> receivedData = new ArrayList<>();
+        gameLoop.addEventObserver(MockRecyclableEvent.class, (event) -> receivedData.add(event.getData()));
+        gameLoop.addGameLoopState(new GameLoopState(CoreLoopState.Update, 1, (gl, deltaTime) -> {
+            for (int i = 0; i < 3; i++) {
+                MockRecyclableEvent event = new MockRecyclableEvent();
+                event.setData(i);
+                gameLoop.fireEvent(event, CoreLoopState.LateUpdate);
+            }
+        }));
+
+        gameLoop.run();
+
+        EventQueue eventQueue = gameLoop.getEventQueue(CoreLoopState.LateUpdate);
+        assertEquals(List.of(1, 2), receivedData, "Only the newest events should have been fired.");
+        assertEquals(1, eventQueue.getDroppedCount(), "The oldest event should have been dropped instead of blocking.");
+        assertEquals(0, eventQueue.getBlockedCount(), "The game loop thread should never block.");
+    }
+
+    @Test
+    void checkEventQueueDrain_shouldLeaveEventsFiredDuringDrainForNextDrain() {
+        AtomicInteger iterations = new AtomicInteger();
+        GameLoop gameLoop = new GameLoop((gl) -> iterations.getAndIncrement() < 1, (gl) -> false);
+
+        AtomicInteger receivedEvents = new AtomicInteger();
+        gameLoop.addEventObserver(MockEvent.class, (event) -> {
+            receivedEvents.incrementAndGet();
+            gameLoop.fireEvent(new MockEvent(), CoreLoopState.Update);
+        });
+        gameLoop.fireEvent(new MockEvent(), CoreLoopState.Update);
+
+        gameLoop.run();
+
+        assertEquals(1, receivedEvents.get(), "Only the event queued before draining should have been fired.");
+        assertEquals(1, gameLoop.getEventQueue(CoreLoopState.Update).size(), "The event fired during draining should wait for the next drain.");
+    }
+
+    @Test
+    void checkEventCoalescing_shouldMergeEventsWithSameKey() {
+        AtomicInteger iterations = new AtomicInteger();
+        GameLoop gameLoop = new GameLoop((gl) -> iterations.getAndIncrement() < 1, (gl) -> false);
+
+        List<Object> receivedEvents = new ArrayList<>();
+        gameLoop.addEventObserver(MockEvent.class, receivedEvents::add);
+        gameLoop.addEventObserver(MockCoalescableEvent.class, (event) -> receivedEvents.add(event.getValue()));
+
+        gameLoop.fireEvent(new MockCoalescableEvent("scroll", 1), CoreLoopState.Update);
+        gameLoop.fireEvent(new MockEvent(), CoreLoopState.Update);
+        for (int i = 2; i <= 5; i++) {
+            gameLoop.fireEvent(new MockCoalescableEvent("scroll", i), CoreLoopState.Update);
+        }
+
+        EventQueue eventQueue = gameLoop.getEventQueue(CoreLoopState.Update);
+        assertEquals(2, eventQueue.size(), "The coalesced events should only take up a single place in the event queue.");
+        assertEquals(4, eventQueue.getCoalescedCount(), "Four events should have been merged into a newer event.");
+
+        gameLoop.run();
+
+        assertEquals(2, receivedEvents.size(), "Only two events should have been fired.");
+        assertEquals(15, receivedEvents.get(0), "The coalesced event should hold the merged values, in the place of the first event.");
+        assertTrue(receivedEvents.get(1) instanceof MockEvent, "The other event should be fired after the coalesced event.");
+    }
+
+    @Test
+    void checkEventCoalescing_shouldKeepDifferentKeysApart() {
+        AtomicInteger iterations = new AtomicInteger();
+        GameLoop gameLoop = new GameLoop((gl) -> iterations.getAndIncrement() < 1, (gl) -> false);
+
+        List<Integer> receivedValues = new ArrayList<>();
+        gameLoop.addEventObserver(MockCoalescableEvent.class, (event) -> receivedValues.add(event.getValue()));
+
+        gameLoop.fireEvent(new MockCoalescableEvent("move", 1), CoreLoopState.Update);
+        gameLoop.fireEvent(new MockCoalescableEvent("drag", 10), CoreLoopState.Update);
+        gameLoop.fireEvent(new MockCoalescableEvent("move", 2), CoreLoopState.Update);
+        gameLoop.fireEvent(new MockCoalescableEvent(null, 100), CoreLoopState.Update);
+        gameLoop.fireEvent(new MockCoalescableEvent(null, 200), CoreLoopState.Update);
+
+        gameLoop.run();
+
+        assertEquals(List.of(3, 10, 100, 200), receivedValues, "Only events with the same non-null key should have been merged.");
+    }
+
+    @Test
+    void checkEventCoalescing_whenDisabled_shouldFireEveryEvent() {
+        AtomicInteger iterations = new AtomicInteger();
+        GameLoop gameLoop = new GameLoop((gl) -> iterations.getAndIncrement() < 1, (gl) -> false);
+        gameLoop.setEventCoalescingEnabled(false);
+
+        List<Integer> receivedValues = new ArrayList<>();
+        gameLoop.addEventObserver(MockCoalescableEvent.class, (event) -> receivedValues.add(event.getValue()));
+
+        for (int i = 1; i <= 3; i++) {
+            gameLoop.fireEvent(new MockCoalescableEvent("scroll", i), CoreLoopState.Update);
+        }
+
+        gameLoop.run();
+
+        assertFalse(gameLoop.isEventCoalescingEnabled(), "Event coalescing should be disabled.");
+        assertEquals(List.of(1, 2, 3), receivedValues, "Every event should have been fired on its own.");
+    }
+
+    @Test
+    void checkEventCoalescing_afterDrain_shouldStartNewEvent() {
+        AtomicInteger iterations = new AtomicInteger();
+        GameLoop gameLoop = new GameLoop((gl) -> iterations.getAndIncrement() < 2, (gl) -> false);
+
+        List<Integer> receivedValues = new ArrayList<>();
+        gameLoop.addEventObserver(MockCoalescableEvent.class, (event) -> receivedValues.add(event.getValue()));
+        gameLoop.addGameLoopState(new GameLoopState(CoreLoopState.EarlyUpdate, 1, (gl, deltaTime) -> {
+            gameLoop.fireEvent(new MockCoalescableEvent("scroll", 1), CoreLoopState.Update);
+            gameLoop.fireEvent(new MockCoalescableEvent("scroll", 1), CoreLoopState.Update);
+        }));
+
+        gameLoop.run();
+
+        assertEquals(List.of(2, 2), receivedValues, "Each drain should fire its own coalesced event.");
+    }
+}
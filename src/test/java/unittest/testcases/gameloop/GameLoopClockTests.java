@@ -0,0 +1,126 @@
+package unittest.testcases.gameloop;
+
+import tech.fastj.gameloop.CoreLoopState;
+import tech.fastj.gameloop.GameLoop;
+import tech.fastj.gameloop.GameLoopState;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+import unittest.mock.gameloop.MockLoopClock;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/** Long-duration game loop runs against a simulated clock, measuring how far fixed updates drift from their target rate. */
+class GameLoopClockTests {
+
+    private static final long ClockStart = TimeUnit.DAYS.toNanos(30L);
+
+    @Test
+    void checkFixedUpdateRate_overOneDay_shouldNotDrift() {
+        int fps = 60;
+        int ups = 30;
+        long duration = TimeUnit.DAYS.toNanos(1L);
+
+        MockLoopClock clock = new MockLoopClock(ClockStart);
+        RunResult result = runSimulated(clock, fps, ups, duration, 0L);
+
+        long expectedFixedUpdates = result.elapsedTime() * ups / TimeUnit.SECONDS.toNanos(1L);
+        assertEquals(expectedFixedUpdates, result.fixedUpdates(), "Over a simulated day, no fixed updates should be gained or lost.");
+    }
+
+    @Test
+    void checkFixedUpdateRate_withIrregularFrameTimes_shouldNotDrift() {
+        int fps = 144;
+        int ups = 50;
+        long duration = TimeUnit.HOURS.toNanos(6L);
+
+        MockLoopClock clock = new MockLoopClock(ClockStart);
+        RunResult result = runSimulated(clock, fps, ups, duration, TimeUnit.MILLISECONDS.toNanos(9L));
+
+        long expectedFixedUpdates = result.elapsedTime() * ups / TimeUnit.SECONDS.toNanos(1L);
+        assertEquals(expectedFixedUpdates, result.fixedUpdates(), "Irregular frame times should not cause fixed updates to drift.");
+    }
+
+    @Test
+    void checkInterpolationAlpha_shouldStayWithinOneFixedUpdate() {
+        MockLoopClock clock = new MockLoopClock(ClockStart);
+        long end = ClockStart + TimeUnit.MINUTES.toNanos(10L);
+        float[] alphaRange = {Float.MAX_VALUE, -Float.MAX_VALUE};
+
+        GameLoop gameLoop = new GameLoop((gl) -> clock.nanoTime() < end, (gl) -> true, clock);
+        gameLoop.setTargetFPS(144);
+        gameLoop.setTargetUPS(60);
+        gameLoop.setFramePacer(clock.framePacer());
+        gameLoop.addGameLoopState(new GameLoopState(CoreLoopState.LateUpdate, 0, (gl, deltaTime) -> {
+            alphaRange[0] = Math.min(alphaRange[0], gameLoop.getInterpolationAlpha());
+            alphaRange[1] = Math.max(alphaRange[1], gameLoop.getInterpolationAlpha());
+        }));
+
+        gameLoop.run();
+
+        assertTrue(alphaRange[0] >= 0f, "The interpolation alpha should never be negative.");
+        assertTrue(alphaRange[1] < 1f, "The interpolation alpha should always be less than one.");
+    }
+
+    @Test
+    void checkFixedUpdateDeltaTime_shouldBeFixedUpdateInterval() {
+        MockLoopClock clock = new MockLoopClock(ClockStart);
+        long end = ClockStart + TimeUnit.SECONDS.toNanos(10L);
+        AtomicLong unexpectedDeltaTimes = new AtomicLong();
+        float expectedDeltaTime = 1f / 30;
+
+        GameLoop gameLoop = new GameLoop((gl) -> clock.nanoTime() < end, (gl) -> true, clock);
+        gameLoop.setTargetFPS(60);
+        gameLoop.setTargetUPS(30);
+        gameLoop.setFramePacer(clock.framePacer());
+        gameLoop.addGameLoopState(new GameLoopState(CoreLoopState.FixedUpdate, 0, (gl, deltaTime) -> {
+            if (deltaTime != expectedDeltaTime) {
+                unexpectedDeltaTimes.incrementAndGet();
+            }
+        }));
+
+        gameLoop.run();
+
+        assertEquals(0L, unexpectedDeltaTimes.get(), "Every fixed update should be given the fixed update interval.");
+    }
+
+    private static RunResult runSimulated(MockLoopClock clock, int fps, int ups, long duration, long maxFrameWork) {
+        long start = clock.nanoTime();
+        long end = start + duration;
+        AtomicLong fixedUpdates = new AtomicLong();
+        AtomicLong firstUpdateTime = new AtomicLong(Long.MIN_VALUE);
+        AtomicLong lastUpdateTime = new AtomicLong();
+        SplittableRandom random = new SplittableRandom(fps * 31L + ups);
+
+        GameLoop gameLoop = new GameLoop((gl) -> clock.nanoTime() < end, (gl) -> true, clock);
+        gameLoop.setTargetFPS(fps);
+        gameLoop.setTargetUPS(ups);
+        gameLoop.setFramePacer(clock.framePacer());
+        gameLoop.addGameLoopStates(
+            new GameLoopState(CoreLoopState.EarlyUpdate, 0, (gl, deltaTime) -> {
+                if (firstUpdateTime.get() == Long.MIN_VALUE) {
+                    firstUpdateTime.set(clock.nanoTime());
+                }
+                lastUpdateTime.set(clock.nanoTime());
+            }),
+            new GameLoopState(CoreLoopState.FixedUpdate, 0, (gl, deltaTime) -> fixedUpdates.incrementAndGet()),
+            new GameLoopState(CoreLoopState.Update, 0, (gl, deltaTime) -> {
+                if (maxFrameWork > 0L) {
+                    clock.advance(random.nextLong(maxFrameWork));
+                }
+            })
+        );
+
+        gameLoop.run();
+
+        // fixed updates only use the time measured up to the start of the last iteration
+        return new RunResult(lastUpdateTime.get() - firstUpdateTime.get(), fixedUpdates.get());
+    }
+
+    private record RunResult(long elapsedTime, long fixedUpdates) {
+    }
+}
@@ -2,6 +2,7 @@ package unittest.testcases.gameloop;
 
 import tech.fastj.gameloop.CoreLoopState;
 import tech.fastj.gameloop.GameLoopState;
+import tech.fastj.gameloop.LoopStateAccess;
 
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.function.BiConsumer;
@@ -10,6 +11,8 @@ import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class GameLoopStateTests {
 
@@ -53,4 +56,36 @@ class GameLoopStateTests {
         assertEquals(stateAction, gameLoopState.getLoopStateAction(), "The game loop state action should match the expected action.");
         assertFalse(gameLoopState.isActive(), "The game loop state should not begin active.");
     }
+
+    @Test
+    void checkCreateGameLoopState_withoutAccess_shouldHaveDefaultAccess() {
+        GameLoopState gameLoopState = new GameLoopState(randomCoreLoopState(), randomInt(Integer.MIN_VALUE, Integer.MAX_VALUE), (gameLoopState1, deltaTime) -> {});
+        assertEquals(GameLoopState.DefaultAccess, gameLoopState.getAccess(), "The game loop state's access should match the default.");
+    }
+
+    @Test
+    void checkGameLoopStates_withSamePriority_shouldBeOrderedByCreation() {
+        CoreLoopState randomCoreLoopState = randomCoreLoopState();
+        int randomPriority = randomInt(Integer.MIN_VALUE, Integer.MAX_VALUE);
+
+        GameLoopState gameLoopState1 = new GameLoopState(randomCoreLoopState, randomPriority, (gameLoopState, deltaTime) -> {});
+        GameLoopState gameLoopState2 = new GameLoopState(randomCoreLoopState, randomPriority, (gameLoopState, deltaTime) -> {});
+
+        assertNotEquals(gameLoopState1, gameLoopState2, "Separately created game loop states should not be equal.");
+        assertTrue(gameLoopState1.compareTo(gameLoopState2) < 0, "The game loop state created first should be ordered first.");
+    }
+
+    @Test
+    void checkGameLoopStatesRunConcurrently_shouldDependOnPriorityAndAccess() {
+        GameLoopState aiState = new GameLoopState(CoreLoopState.Update, 1, LoopStateAccess.writing("ai"), (gameLoopState, deltaTime) -> {});
+        GameLoopState particleState = new GameLoopState(CoreLoopState.Update, 1, LoopStateAccess.writing("particles"), (gameLoopState, deltaTime) -> {});
+        GameLoopState aiReadingState = new GameLoopState(CoreLoopState.Update, 1, LoopStateAccess.reading("ai"), (gameLoopState, deltaTime) -> {});
+        GameLoopState laterState = new GameLoopState(CoreLoopState.Update, 2, LoopStateAccess.Independent, (gameLoopState, deltaTime) -> {});
+        GameLoopState exclusiveState = new GameLoopState(CoreLoopState.Update, 1, (gameLoopState, deltaTime) -> {});
+
+        assertTrue(aiState.canRunConcurrentlyWith(particleState), "States with the same priority and non-conflicting access should run concurrently.");
+        assertFalse(aiState.canRunConcurrentlyWith(aiReadingState), "States with conflicting access should not run concurrently.");
+        assertFalse(particleState.canRunConcurrentlyWith(laterState), "States with different priorities should not run concurrently.");
+        assertFalse(particleState.canRunConcurrentlyWith(exclusiveState), "States with exclusive access should not run concurrently.");
+    }
 }
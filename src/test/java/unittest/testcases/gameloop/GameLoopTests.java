@@ -1,17 +1,29 @@
 package unittest.testcases.gameloop;
 
 import tech.fastj.gameloop.CoreLoopState;
+import tech.fastj.gameloop.FramePacer;
 import tech.fastj.gameloop.GameLoop;
 import tech.fastj.gameloop.GameLoopState;
+import tech.fastj.gameloop.LoopStateAccess;
 import tech.fastj.gameloop.event.EventHandler;
 import tech.fastj.gameloop.event.EventObserver;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.junit.jupiter.api.Test;
+import unittest.mock.gameloop.event.MockAliasedEvent;
 import unittest.mock.gameloop.event.MockEvent;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -223,6 +235,100 @@ class GameLoopTests {
         assertTrue(firedEvent.get(), "The event should have been fired and received.");
     }
 
+    @Test
+    void checkGameLoopFiresEventsToClassAlias_shouldNotFail() {
+        GameLoop gameLoop = new GameLoop((gl) -> false, (gl) -> false);
+        AtomicInteger aliasedEventsReceived = new AtomicInteger();
+        AtomicInteger originalEventsReceived = new AtomicInteger();
+
+        gameLoop.addEventObserver(MockAliasedEvent.class, (event) -> originalEventsReceived.incrementAndGet());
+        gameLoop.addEventObserver(MockEvent.class, (event) -> aliasedEventsReceived.incrementAndGet());
+        gameLoop.fireEvent(new MockAliasedEvent());
+
+        assertEquals(1, originalEventsReceived.get(), "The event should have been received by its own observer.");
+        assertEquals(0, aliasedEventsReceived.get(), "Without a class alias, the event should not reach the other observer.");
+
+        gameLoop.addClassAlias(MockAliasedEvent.class, MockEvent.class);
+        gameLoop.fireEvent(new MockAliasedEvent());
+
+        assertEquals(2, originalEventsReceived.get(), "The event should have been received by its own observer.");
+        assertEquals(1, aliasedEventsReceived.get(), "With a class alias, the event should also reach the aliased class's observer.");
+
+        gameLoop.removeClassAlias(MockAliasedEvent.class);
+        gameLoop.fireEvent(new MockAliasedEvent());
+
+        assertEquals(3, originalEventsReceived.get(), "The event should have been received by its own observer.");
+        assertEquals(1, aliasedEventsReceived.get(), "After removing the class alias, the event should no longer reach the other observer.");
+    }
+
+    @Test
+    void checkGameLoopAddsEventObserversDuringEventFiring_shouldNotFail() {
+        GameLoop gameLoop = new GameLoop((gl) -> false, (gl) -> false);
+        AtomicInteger addedObserverEventsReceived = new AtomicInteger();
+
+        gameLoop.addEventObserver(MockEvent.class, (event) -> gameLoop.addEventObserver(
+            MockEvent.class,
+            (nextEvent) -> addedObserverEventsReceived.incrementAndGet()
+        ));
+
+        gameLoop.fireEvent(new MockEvent());
+        assertEquals(0, addedObserverEventsReceived.get(), "An observer added while firing should not receive the event being fired.");
+
+        gameLoop.fireEvent(new MockEvent());
+        assertEquals(1, addedObserverEventsReceived.get(), "An observer added while firing should receive later events.");
+        assertEquals(3, gameLoop.getEventObservers(MockEvent.class).size(), "Each fired event should have added another observer.");
+    }
+
+    @Test
+    void tryGameLoopFramePacer_withNullFramePacer() {
+        GameLoop gameLoop = new GameLoop((gl) -> false, (gl) -> false);
+        assertThrows(NullPointerException.class, () -> gameLoop.setFramePacer(null));
+    }
+
+    @Test
+    void tryFramePacerCreation_withNegativeSpinWindow() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> FramePacer.parkSpin(-1L));
+        String expectedExceptionMessage = "Spin window must be at least 0 nanoseconds.";
+        assertEquals(expectedExceptionMessage, exception.getMessage(), "The exception message should match the expected exception message.");
+    }
+
+    @Test
+    void checkGameLoopFramePacing_shouldSpaceDeadlinesByFrameInterval() {
+        AtomicInteger iterations = new AtomicInteger();
+        GameLoop gameLoop = new GameLoop((gl) -> iterations.getAndIncrement() < 10, (gl) -> true);
+        gameLoop.setTargetFPS(FPS);
+
+        List<Long> deadlines = new ArrayList<>();
+        gameLoop.setFramePacer((deadline, clock) -> deadlines.add(deadline));
+
+        gameLoop.run();
+
+        long expectedFrameInterval = TimeUnit.SECONDS.toNanos(1L) / FPS;
+        for (int i = 1; i < deadlines.size(); i++) {
+            assertEquals(expectedFrameInterval, deadlines.get(i) - deadlines.get(i - 1), "Frame deadlines should be exactly one frame interval apart.");
+        }
+        assertTrue(gameLoop.getFrameTimeError() < 0L, "Iterations which did not wait should end before their deadline.");
+    }
+
+    @Test
+    void checkGameLoopFramePacing_shouldReachTargetFrameTime() {
+        int frameCount = 10;
+        int targetFPS = 200;
+        AtomicInteger iterations = new AtomicInteger();
+        GameLoop gameLoop = new GameLoop((gl) -> iterations.getAndIncrement() < frameCount, (gl) -> true);
+        gameLoop.setTargetFPS(targetFPS);
+        gameLoop.setFramePacer(FramePacer.YieldSpin);
+
+        long startTime = System.nanoTime();
+        gameLoop.run();
+        long elapsedTime = System.nanoTime() - startTime;
+
+        long expectedMinimumTime = frameCount * (TimeUnit.SECONDS.toNanos(1L) / targetFPS);
+        assertTrue(elapsedTime >= expectedMinimumTime, "The game loop should have waited until each frame's deadline.");
+        assertTrue(gameLoop.getFrameTimeError() >= 0L, "Waiting until the deadline should never end before it.");
+        assertTrue(gameLoop.getMaxFrameTimeError() >= gameLoop.getAverageFrameTimeError(), "The maximum frame time error should be at least the average.");
+    }
+
     @Test
     void checkGameLoopResetsAllValues() {
         AtomicBoolean shouldRemainOpen = new AtomicBoolean(true);
@@ -264,6 +370,7 @@ class GameLoopTests {
         assertEquals(GameLoop.DefaultFPS, gameLoop.getTargetFPS(), "After resetting, the target fps should match the expected FPS.");
         assertEquals(GameLoop.DefaultUPS, gameLoop.getTargetUPS(), "After resetting, the target ups should match the expected UPS.");
         assertEquals(GameLoop.NoState, gameLoop.getCurrentGameLoopState(), "After resetting, the current game loop state should match the default NoState.");
+        assertEquals(GameLoop.DefaultFramePacer, gameLoop.getFramePacer(), "After resetting, the frame pacer should match the default frame pacer.");
     }
 
     @Test
@@ -279,4 +386,70 @@ class GameLoopTests {
         assertEquals(0, gameLoop.getEventObservers(MockEvent.class).size(), "After clearing, there should be no event observers.");
         assertNull(gameLoop.getEventHandler(MockEvent.class), "After clearing, there should be no event handler.");
     }
+
+    @Test
+    void checkGameLoopRunsIndependentStates_concurrently() {
+        AtomicBoolean shouldRemainOpen = new AtomicBoolean(true);
+        AtomicInteger meetingCount = new AtomicInteger();
+        CyclicBarrier meetingBarrier = new CyclicBarrier(3);
+        GameLoop gameLoop = new GameLoop((gl) -> shouldRemainOpen.get(), (gl) -> false);
+        ForkJoinPool statePool = new ForkJoinPool(2);
+        gameLoop.setStatePool(statePool);
+
+        for (String resource : List.of("ai", "pathfinding", "particles")) {
+            gameLoop.addGameLoopState(new GameLoopState(CoreLoopState.Update, 1, LoopStateAccess.writing(resource), (gl, deltaTime) -> {
+                try {
+                    meetingBarrier.await(5L, TimeUnit.SECONDS);
+                    meetingCount.incrementAndGet();
+                } catch (InterruptedException | BrokenBarrierException | TimeoutException exception) {
+                    throw new IllegalStateException("The independent states did not run concurrently.", exception);
+                }
+            }));
+        }
+        gameLoop.addGameLoopState(new GameLoopState(CoreLoopState.LateUpdate, 1, (gl, deltaTime) -> shouldRemainOpen.set(false)));
+
+        try {
+            gameLoop.run();
+        } finally {
+            statePool.shutdownNow();
+        }
+
+        assertEquals(3, meetingCount.get(), "All three independent states should have run at the same time.");
+        assertEquals(statePool, gameLoop.getStatePool(), "The game loop's state pool should match the expected pool.");
+    }
+
+    @Test
+    void checkGameLoopRunsConflictingStates_inCreationOrder() {
+        AtomicBoolean shouldRemainOpen = new AtomicBoolean(true);
+        List<String> runOrder = new CopyOnWriteArrayList<>();
+        GameLoop gameLoop = new GameLoop((gl) -> shouldRemainOpen.get(), (gl) -> false);
+
+        gameLoop.addGameLoopStates(
+            new GameLoopState(CoreLoopState.Update, 1, LoopStateAccess.writing("ai"), (gl, deltaTime) -> runOrder.add("ai writer")),
+            new GameLoopState(CoreLoopState.Update, 1, LoopStateAccess.reading("ai"), (gl, deltaTime) -> runOrder.add("ai reader")),
+            new GameLoopState(CoreLoopState.Update, 1, (gl, deltaTime) -> runOrder.add("exclusive")),
+            new GameLoopState(CoreLoopState.LateUpdate, 1, (gl, deltaTime) -> shouldRemainOpen.set(false))
+        );
+
+        gameLoop.run();
+
+        assertEquals(List.of("ai writer", "ai reader", "exclusive"), runOrder, "Conflicting states with the same priority should all run, in the order they were created.");
+    }
+
+    @Test
+    void tryGameLoopRunsConcurrentStates_withFailingState() {
+        AtomicBoolean otherStateFinished = new AtomicBoolean();
+        GameLoop gameLoop = new GameLoop((gl) -> true, (gl) -> false);
+
+        gameLoop.addGameLoopStates(
+            new GameLoopState(CoreLoopState.Update, 1, LoopStateAccess.Independent, (gl, deltaTime) -> otherStateFinished.set(true)),
+            new GameLoopState(CoreLoopState.Update, 1, LoopStateAccess.Independent, (gl, deltaTime) -> {
+                throw new IllegalStateException("state failed");
+            })
+        );
+
+        Throwable exception = assertThrows(IllegalStateException.class, gameLoop::run);
+        assertEquals("state failed", exception.getMessage(), "The exception thrown by the failing state should be rethrown by the game loop.");
+        assertTrue(otherStateFinished.get(), "The other state should have finished before the exception was rethrown.");
+    }
 }
@@ -0,0 +1,75 @@
+package unittest.testcases.gameloop;
+
+import tech.fastj.gameloop.LoopStateAccess;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LoopStateAccessTests {
+
+    @Test
+    void checkCreateLoopStateAccess_shouldMatchExpectedValues() {
+        LoopStateAccess access = LoopStateAccess.of(List.of("particles", "pathfinding"), List.of("ai"));
+
+        assertEquals(Set.of("particles", "pathfinding"), access.getReads(), "The access' reads should match the expected reads.");
+        assertEquals(Set.of("ai"), access.getWrites(), "The access' writes should match the expected writes.");
+        assertFalse(access.isExclusive(), "The access should not be exclusive.");
+    }
+
+    @Test
+    void checkCombineLoopStateAccess_shouldKeepAllResources() {
+        LoopStateAccess access = LoopStateAccess.reading("pathfinding").andWriting("ai").andReading("particles");
+
+        assertEquals(Set.of("particles", "pathfinding"), access.getReads(), "The access' reads should match the combined reads.");
+        assertEquals(Set.of("ai"), access.getWrites(), "The access' writes should match the combined writes.");
+    }
+
+    @Test
+    void tryCombineLoopStateAccess_withExclusiveAccess() {
+        Throwable exception = assertThrows(IllegalStateException.class, () -> LoopStateAccess.Exclusive.andReading("ai"));
+        assertEquals("Exclusive access cannot be combined with other resources.", exception.getMessage(), "The exception message should match.");
+    }
+
+    @Test
+    void checkLoopStateAccessConflicts_withSharedReads_shouldNotConflict() {
+        LoopStateAccess access1 = LoopStateAccess.reading("pathfinding").andWriting("ai");
+        LoopStateAccess access2 = LoopStateAccess.reading("pathfinding").andWriting("particles");
+
+        assertFalse(access1.conflictsWith(access2), "Accesses which only share reads should not conflict.");
+        assertFalse(access2.conflictsWith(access1), "Conflicts should be symmetric.");
+    }
+
+    @Test
+    void checkLoopStateAccessConflicts_withWriteToReadResource_shouldConflict() {
+        LoopStateAccess access1 = LoopStateAccess.writing("pathfinding");
+        LoopStateAccess access2 = LoopStateAccess.reading("pathfinding");
+
+        assertTrue(access1.conflictsWith(access2), "Writing to a resource another access reads should conflict.");
+        assertTrue(access2.conflictsWith(access1), "Conflicts should be symmetric.");
+    }
+
+    @Test
+    void checkLoopStateAccessConflicts_withSharedWrites_shouldConflict() {
+        LoopStateAccess access1 = LoopStateAccess.writing("ai");
+        LoopStateAccess access2 = LoopStateAccess.writing("ai", "particles");
+
+        assertTrue(access1.conflictsWith(access2), "Writing to the same resource should conflict.");
+    }
+
+    @Test
+    void checkLoopStateAccessConflicts_withSpecialAccesses() {
+        LoopStateAccess access = LoopStateAccess.writing("ai");
+
+        assertTrue(LoopStateAccess.Exclusive.conflictsWith(LoopStateAccess.Independent), "Exclusive access should conflict with independent access.");
+        assertTrue(access.conflictsWith(LoopStateAccess.Exclusive), "Any access should conflict with exclusive access.");
+        assertFalse(access.conflictsWith(LoopStateAccess.Independent), "Independent access should not conflict with other accesses.");
+        assertFalse(LoopStateAccess.Independent.conflictsWith(LoopStateAccess.Independent), "Independent accesses should not conflict with each other.");
+    }
+}
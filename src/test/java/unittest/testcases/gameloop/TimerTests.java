@@ -0,0 +1,58 @@
+package unittest.testcases.gameloop;
+
+import tech.fastj.gameloop.Timer;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import unittest.mock.gameloop.MockLoopClock;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TimerTests {
+
+    @Test
+    void tryTimerCreation_withNullClock() {
+        assertThrows(NullPointerException.class, () -> new Timer(null));
+    }
+
+    @Test
+    void checkTimerFirstEvaluation_shouldReturnZero() {
+        MockLoopClock clock = new MockLoopClock(0L);
+        Timer timer = new Timer(clock);
+        timer.init();
+
+        assertEquals(0L, timer.evalDeltaTimeNanos(), "The first evaluation should not measure any elapsed time, even at a clock time of 0.");
+
+        clock.advance(5L);
+        assertEquals(5L, timer.evalDeltaTimeNanos(), "The second evaluation should measure the time since the first.");
+    }
+
+    @Test
+    void checkTimerDeltaTime_shouldKeepNanosecondPrecisionAfterDays() {
+        long tenDays = TimeUnit.DAYS.toNanos(10L);
+        MockLoopClock clock = new MockLoopClock(tenDays);
+        Timer timer = new Timer(clock);
+        timer.init();
+        timer.evalDeltaTimeNanos();
+
+        clock.advance(1L);
+        assertEquals(1L, timer.evalDeltaTimeNanos(), "A single nanosecond should still be measured after ten days.");
+        assertEquals(1L, timer.getDeltaTimeNanos(), "The stored delta time should match the evaluated delta time.");
+        assertEquals(tenDays + 1L, timer.getLastTimestampNanos(), "The last timestamp should match the clock's time.");
+    }
+
+    @Test
+    void checkTimerSecondsConversions_shouldMatchNanoseconds() {
+        MockLoopClock clock = new MockLoopClock(0L);
+        Timer timer = new Timer(clock);
+        timer.init();
+        timer.evalDeltaTime();
+
+        clock.advance(TimeUnit.MILLISECONDS.toNanos(250L));
+        assertEquals(0.25f, timer.evalDeltaTime(), "The delta time in seconds should match the expected value.");
+        assertEquals(0.25f, timer.getDeltaTime(), "The stored delta time in seconds should match the expected value.");
+        assertEquals(0.25d, timer.getLastTimestamp(), "The last timestamp in seconds should match the expected value.");
+    }
+}
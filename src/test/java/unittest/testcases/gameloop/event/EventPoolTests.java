@@ -0,0 +1,111 @@
+package unittest.testcases.gameloop.event;
+
+import tech.fastj.gameloop.GameLoop;
+import tech.fastj.gameloop.event.EventPool;
+import tech.fastj.gameloop.event.EventPools;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import unittest.mock.gameloop.event.MockRecyclableEvent;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EventPoolTests {
+
+    @AfterAll
+    static void disableEventPooling() {
+        EventPools.setPoolingEnabled(false);
+    }
+
+    @Test
+    void checkObtainEvent_withPoolingDisabled_shouldNotPoolEvent() {
+        EventPools.setPoolingEnabled(false);
+        EventPool<MockRecyclableEvent> eventPool = new EventPool<>(MockRecyclableEvent::new, 4);
+
+        MockRecyclableEvent event = eventPool.obtain();
+        event.release();
+
+        assertFalse(event.isPooled(), "With event pooling disabled, obtained events should not be pooled.");
+        assertEquals(0, eventPool.getSize(), "With event pooling disabled, released events should not return to the pool.");
+        assertEquals(0L, eventPool.getMissCount(), "With event pooling disabled, the pool should not record misses.");
+    }
+
+    @Test
+    void checkObtainEvent_afterRelease_shouldReuseEvent() {
+        EventPools.setPoolingEnabled(true);
+        EventPool<MockRecyclableEvent> eventPool = new EventPool<>(MockRecyclableEvent::new, 4);
+
+        MockRecyclableEvent firstEvent = eventPool.obtain();
+        firstEvent.setData("data");
+        firstEvent.consume();
+        firstEvent.release();
+
+        assertTrue(firstEvent.isReleased(), "The released event should be marked as released.");
+        assertNull(firstEvent.getData(), "The released event should have been reset.");
+        assertEquals(1, eventPool.getSize(), "The released event should have returned to the pool.");
+
+        MockRecyclableEvent secondEvent = eventPool.obtain();
+        assertSame(firstEvent, secondEvent, "The pool should hand out the released event again.");
+        assertFalse(secondEvent.isReleased(), "The reused event should no longer be marked as released.");
+        assertFalse(secondEvent.isConsumed(), "The reused event should no longer be consumed.");
+        assertEquals(1L, eventPool.getHitCount(), "Reusing the released event should count as a hit.");
+        assertEquals(1L, eventPool.getMissCount(), "Creating the first event should count as a miss.");
+    }
+
+    @Test
+    void checkReleaseEvent_twice_shouldOnlyPoolEventOnce() {
+        EventPools.setPoolingEnabled(true);
+        EventPool<MockRecyclableEvent> eventPool = new EventPool<>(MockRecyclableEvent::new, 4);
+
+        MockRecyclableEvent event = eventPool.obtain();
+        event.release();
+        event.release();
+
+        assertEquals(1, eventPool.getSize(), "Releasing an event twice should only return it to the pool once.");
+    }
+
+    @Test
+    void checkReleaseEvent_withFullPool_shouldDiscardEvent() {
+        EventPools.setPoolingEnabled(true);
+        EventPool<MockRecyclableEvent> eventPool = new EventPool<>(MockRecyclableEvent::new, 1);
+
+        MockRecyclableEvent firstEvent = eventPool.obtain();
+        MockRecyclableEvent secondEvent = eventPool.obtain();
+        firstEvent.release();
+        secondEvent.release();
+
+        assertEquals(1, eventPool.getSize(), "The pool should not grow past its capacity.");
+        assertEquals(1L, eventPool.getDiscardCount(), "The event released into the full pool should have been discarded.");
+    }
+
+    @Test
+    void checkFireEvent_withPooledEvent_shouldReleaseEventAfterFiring() {
+        EventPools.setPoolingEnabled(true);
+        EventPool<MockRecyclableEvent> eventPool = new EventPool<>(MockRecyclableEvent::new, 4);
+        GameLoop gameLoop = new GameLoop((gl) -> false, (gl) -> false);
+
+        gameLoop.addEventObserver(MockRecyclableEvent.class, (event) -> {
+            assertFalse(event.isReleased(), "The event should not be released while it is being fired.");
+            assertEquals("data", event.getData(), "The event's data should be intact while it is being fired.");
+        });
+
+        MockRecyclableEvent event = eventPool.obtain();
+        event.setData("data");
+        gameLoop.fireEvent(event);
+
+        assertTrue(event.isReleased(), "The event should be released once it has been fired.");
+        assertEquals(1, eventPool.getSize(), "The fired event should have returned to the pool.");
+    }
+
+    @Test
+    void tryCreateEventPool_withNegativeCapacity() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> new EventPool<>(MockRecyclableEvent::new, -1));
+        String expectedExceptionMessage = "Event pool capacity must be at least 0.";
+        assertEquals(expectedExceptionMessage, exception.getMessage(), "The exception message should match the expected exception message.");
+    }
+}
@@ -7,14 +7,21 @@ import tech.fastj.graphics.game.Text2D;
 import tech.fastj.graphics.util.DrawUtil;
 import tech.fastj.math.Pointf;
 
+import java.awt.geom.AffineTransform;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.Test;
 import unittest.mock.graphics.MockDrawable;
+import unittest.mock.systems.control.MockEmptySimpleManager;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class DrawableTests {
@@ -73,4 +80,83 @@ class DrawableTests {
 
         assertTrue(text2D.collidesWith(model2D) && model2D.collidesWith(text2D), "The Model2D and Text2D should be intersecting.");
     }
+
+    @Test
+    void checkAxisAlignedBounds_shouldFollowTransformations() {
+        Polygon2D polygon2D = Polygon2D.fromPoints(DrawUtil.createBox(0f, 0f, 50f));
+        polygon2D.translate(new Pointf(10f, 20f));
+        polygon2D.scale(new Pointf(2f, 2f), new Pointf(10f, 20f));
+
+        assertEquals(10f, polygon2D.getMinX(), 0.0001f, "The minimum x of the axis-aligned bounds should match the transformed polygon.");
+        assertEquals(20f, polygon2D.getMinY(), 0.0001f, "The minimum y of the axis-aligned bounds should match the transformed polygon.");
+        assertEquals(160f, polygon2D.getMaxX(), 0.0001f, "The maximum x of the axis-aligned bounds should match the transformed polygon.");
+        assertEquals(170f, polygon2D.getMaxY(), 0.0001f, "The maximum y of the axis-aligned bounds should match the transformed polygon.");
+    }
+
+    @Test
+    void checkBoundsListeners_shouldOnlyBeNotifiedOnce_untilBoundsAreRead() {
+        Polygon2D polygon2D = Polygon2D.fromPoints(DrawUtil.createBox(0f, 0f, 50f));
+        List<Drawable> notifiedDrawables = new ArrayList<>();
+        polygon2D.addBoundsListener(notifiedDrawables::add);
+
+        polygon2D.translate(new Pointf(10f, 0f));
+        polygon2D.translate(new Pointf(10f, 0f));
+        polygon2D.rotate(90f);
+        assertEquals(1, notifiedDrawables.size(), "Transforming the drawable again before reading its bounds should not notify the listener again.");
+
+        assertEquals(20f, polygon2D.getMinX(), 0.0001f, "The bounds should include every transformation made before reading them.");
+        polygon2D.translate(new Pointf(0f, 10f));
+        assertEquals(2, notifiedDrawables.size(), "Transforming the drawable after reading its bounds should notify the listener again.");
+    }
+
+    @Test
+    void checkCachedTransformation_shouldBeCopiedAndFollowTransformations() {
+        Polygon2D polygon2D = Polygon2D.fromPoints(DrawUtil.createBox(0f, 0f, 50f));
+        AffineTransform transformation = polygon2D.getTransformation();
+        transformation.translate(1000f, 1000f);
+
+        assertNotSame(transformation, polygon2D.getTransformation(), "Each call should return a separate copy of the transformation.");
+        assertEquals(new AffineTransform(), polygon2D.getTransformation(), "Modifying a returned transformation should not change the drawable.");
+
+        polygon2D.translate(new Pointf(30f, 40f));
+        assertEquals(AffineTransform.getTranslateInstance(30d, 40d), polygon2D.getTransformation(), "The transformation should follow the drawable's translation.");
+        assertEquals(55f, polygon2D.getCenterX(), 0.0001f, "The center x should follow the drawable's translation.");
+        assertEquals(65f, polygon2D.getCenterY(), 0.0001f, "The center y should follow the drawable's translation.");
+    }
+
+    @Test
+    void checkGetTransformation_afterDestroy_shouldFallBackToTransform() {
+        Polygon2D polygon2D = Polygon2D.fromPoints(DrawUtil.createBox(0f, 0f, 50f));
+        polygon2D.translate(new Pointf(30f, 40f));
+        polygon2D.destroy(new MockEmptySimpleManager());
+
+        assertEquals(new AffineTransform(), polygon2D.getTransformation(), "A destroyed drawable should fall back to its reset transform.");
+
+        polygon2D.translate(new Pointf(5f, 10f));
+        assertEquals(
+            AffineTransform.getTranslateInstance(5d, 10d),
+            polygon2D.getTransformation(),
+            "Transforming a destroyed drawable should still be reflected by its transformation."
+        );
+    }
+
+    @Test
+    void checkAxisAlignedBounds_whileTransformedOnAnotherThread_shouldNeverBeHalfUpdated() throws InterruptedException {
+        Polygon2D polygon2D = Polygon2D.fromPoints(DrawUtil.createBox(0f, 0f, 10f));
+        int translationCount = 20_000;
+
+        Thread transformer = new Thread(() -> {
+            for (int i = 0; i < translationCount; i++) {
+                polygon2D.translate(new Pointf(i % 2 == 0 ? 1000f : -1000f, 0f));
+                polygon2D.getMinX();
+            }
+        });
+        transformer.start();
+
+        while (transformer.isAlive()) {
+            assertEquals(10f, polygon2D.width(), 0.0001f, "The bounds should never mix values from before and after a transformation.");
+        }
+        transformer.join(TimeUnit.SECONDS.toMillis(5L));
+        assertFalse(transformer.isAlive(), "The transforming thread should have finished.");
+    }
 }
@@ -0,0 +1,94 @@
+package unittest.testcases.graphics;
+
+import tech.fastj.graphics.RenderBatch;
+import tech.fastj.graphics.game.GameObject;
+import tech.fastj.graphics.game.Model2D;
+import tech.fastj.graphics.game.Polygon2D;
+import tech.fastj.graphics.game.RenderStyle;
+import tech.fastj.graphics.util.DrawUtil;
+import tech.fastj.math.Pointf;
+
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.Stroke;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import unittest.ImageHelper;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class RenderBatchTests {
+
+    private static final int ImageSize = 64;
+
+    @Test
+    void checkRenderBatch_shouldRenderSameAsUnbatchedRendering() {
+        Polygon2D filled = Polygon2D.create(DrawUtil.createBox(4f, 4f, 20f))
+            .withFill(Color.red)
+            .build();
+        Polygon2D outlined = Polygon2D.create(DrawUtil.createBox(16f, 16f, 20f))
+            .withRenderStyle(RenderStyle.Outline)
+            .withOutline(new BasicStroke(3f), Color.blue)
+            .build();
+        Model2D model2D = Model2D.fromPolygons(new Polygon2D[] {
+            Polygon2D.create(DrawUtil.createBox(0f, 0f, 10f)).withFill(Color.green).build(),
+            Polygon2D.create(DrawUtil.createBox(10f, 10f, 10f)).withFill(Color.red).build()
+        });
+        model2D.translate(new Pointf(30f, 30f));
+        List<GameObject> gameObjects = List.of(filled, outlined, model2D);
+
+        BufferedImage unbatchedImage = new BufferedImage(ImageSize, ImageSize, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D unbatchedGraphics = unbatchedImage.createGraphics();
+        unbatchedGraphics.translate(5d, 3d);
+        for (GameObject gameObject : gameObjects) {
+            gameObject.render(unbatchedGraphics);
+        }
+        unbatchedGraphics.dispose();
+
+        BufferedImage batchedImage = new BufferedImage(ImageSize, ImageSize, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D batchedGraphics = batchedImage.createGraphics();
+        batchedGraphics.translate(5d, 3d);
+        RenderBatch renderBatch = new RenderBatch();
+        renderBatch.begin(batchedGraphics);
+        for (GameObject gameObject : gameObjects) {
+            gameObject.render(batchedGraphics, renderBatch);
+        }
+        renderBatch.end();
+        batchedGraphics.dispose();
+
+        assertArrayEquals(ImageHelper.pixelsOf(unbatchedImage), ImageHelper.pixelsOf(batchedImage), "Rendering through a render batch should produce the same image.");
+    }
+
+    @Test
+    void checkEnd_shouldRestoreGraphicsState() {
+        BufferedImage image = new BufferedImage(ImageSize, ImageSize, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D graphics = image.createGraphics();
+        graphics.translate(5d, 3d);
+        AffineTransform originalTransform = graphics.getTransform();
+        Stroke originalStroke = graphics.getStroke();
+        Color originalColor = Color.magenta;
+        graphics.setPaint(originalColor);
+
+        Polygon2D polygon2D = Polygon2D.create(DrawUtil.createBox(4f, 4f, 20f))
+            .withRenderStyle(RenderStyle.FillAndOutline)
+            .withFill(Color.red)
+            .withOutline(new BasicStroke(3f), Color.blue)
+            .build();
+        polygon2D.rotate(45f);
+
+        RenderBatch renderBatch = new RenderBatch();
+        renderBatch.begin(graphics);
+        polygon2D.render(graphics, renderBatch);
+        renderBatch.end();
+
+        assertEquals(originalTransform, graphics.getTransform(), "The transform should be restored when the render batch ends.");
+        assertEquals(originalColor, graphics.getPaint(), "The paint should be restored when the render batch ends.");
+        assertEquals(originalStroke, graphics.getStroke(), "The stroke should be restored when the render batch ends.");
+        graphics.dispose();
+    }
+}
@@ -0,0 +1,193 @@
+package unittest.testcases.graphics;
+
+import tech.fastj.graphics.RenderBatch;
+import tech.fastj.graphics.RenderSnapshot;
+import tech.fastj.graphics.TransformHistory;
+import tech.fastj.graphics.display.Camera;
+import tech.fastj.graphics.game.GameObject;
+import tech.fastj.graphics.game.Polygon2D;
+import tech.fastj.graphics.game.Sprite2D;
+import tech.fastj.graphics.util.DrawUtil;
+import tech.fastj.math.Pointf;
+import tech.fastj.resources.images.TextureAtlas;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import unittest.mock.systems.control.MockEmptySimpleManager;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class RenderSnapshotTests {
+
+    @Test
+    void checkCapture_withoutHistory_shouldKeepCurrentTransforms() {
+        Polygon2D polygon2D = Polygon2D.fromPoints(DrawUtil.createBox(0f, 0f, 10f));
+        polygon2D.translate(new Pointf(15f, 30f));
+        Camera camera = new Camera();
+        camera.translate(new Pointf(-5f, 0f));
+
+        RenderSnapshot snapshot = RenderSnapshot.capture(List.of(polygon2D), List.of(), camera);
+
+        assertEquals(1, snapshot.getGameObjectCount(), "The snapshot should hold the captured game object.");
+        assertSame(polygon2D, snapshot.getGameObject(0), "The snapshot should hold the captured game object.");
+        assertEquals(polygon2D.getTransformation(), snapshot.getGameObjectTransformation(0), "The game object's captured transform should match its current transform.");
+        assertEquals(camera.getTransformation(), snapshot.getCameraTransformation(), "The camera's captured transform should match its current transform.");
+    }
+
+    @Test
+    void checkCapture_withHistory_shouldInterpolateBetweenFixedUpdates() {
+        Polygon2D polygon2D = Polygon2D.fromPoints(DrawUtil.createBox(0f, 0f, 10f));
+        Camera camera = new Camera();
+        List<GameObject> gameObjects = List.of(polygon2D);
+        TransformHistory transformHistory = new TransformHistory();
+
+        transformHistory.beginFixedUpdate(gameObjects, List.of(), camera);
+        polygon2D.translate(new Pointf(10f, -20f));
+        camera.translate(new Pointf(4f, 0f));
+        transformHistory.endFixedUpdate(gameObjects, List.of(), camera);
+
+        RenderSnapshot snapshot = RenderSnapshot.capture(gameObjects, List.of(), camera, transformHistory, 0.25f);
+        AffineTransform gameObjectTransformation = snapshot.getGameObjectTransformation(0);
+        AffineTransform cameraTransformation = snapshot.getCameraTransformation();
+
+        assertEquals(2, transformHistory.size(), "Both the game object and the camera should have been recorded as changed.");
+        assertEquals(0.25f, snapshot.getInterpolationAlpha(), "The snapshot should keep its interpolation alpha.");
+        assertEquals(2.5, gameObjectTransformation.getTranslateX(), 1e-6, "The game object's x translation should be a quarter of the way along the fixed update.");
+        assertEquals(-5.0, gameObjectTransformation.getTranslateY(), 1e-6, "The game object's y translation should be a quarter of the way along the fixed update.");
+        assertEquals(1.0, cameraTransformation.getTranslateX(), 1e-6, "The camera's x translation should be a quarter of the way along the fixed update.");
+    }
+
+    @Test
+    void checkCapture_withUnchangedHistory_shouldKeepCurrentTransforms() {
+        Polygon2D polygon2D = Polygon2D.fromPoints(DrawUtil.createBox(0f, 0f, 10f));
+        polygon2D.translate(new Pointf(8f, 8f));
+        Camera camera = new Camera();
+        List<GameObject> gameObjects = List.of(polygon2D);
+        TransformHistory transformHistory = new TransformHistory();
+
+        transformHistory.beginFixedUpdate(gameObjects, List.of(), camera);
+        transformHistory.endFixedUpdate(gameObjects, List.of(), camera);
+
+        RenderSnapshot snapshot = RenderSnapshot.capture(gameObjects, List.of(), camera, transformHistory, 0f);
+
+        assertEquals(0, transformHistory.size(), "Nothing should have been recorded as changed.");
+        assertEquals(polygon2D.getTransformation(), snapshot.getGameObjectTransformation(0), "An unchanged game object should not be interpolated.");
+    }
+
+    @Test
+    void checkCapture_shouldSkipDrawablesWhichShouldNotRender() {
+        Polygon2D rendered = Polygon2D.fromPoints(DrawUtil.createBox(0f, 0f, 10f));
+        Polygon2D hidden = Polygon2D.fromPoints(DrawUtil.createBox(0f, 0f, 10f));
+        hidden.setShouldRender(false);
+
+        RenderSnapshot snapshot = RenderSnapshot.capture(List.of(rendered, hidden), List.of(), new Camera());
+
+        assertEquals(1, snapshot.getGameObjectCount(), "Only game objects which should render should be captured.");
+        assertSame(rendered, snapshot.getGameObject(0), "Only game objects which should render should be captured.");
+    }
+
+    @Test
+    void tryCapture_withInvalidInterpolationAlpha() {
+        Throwable exception = assertThrows(
+            IllegalArgumentException.class,
+            () -> RenderSnapshot.capture(List.of(), List.of(), new Camera(), new TransformHistory(), 1.5f)
+        );
+        assertEquals("Interpolation alpha must be between 0 and 1.", exception.getMessage(), "The exception message should match.");
+    }
+
+    @Test
+    void checkRenderGameObject_shouldRenderAtCapturedTransform() {
+        Polygon2D polygon2D = Polygon2D.fromPoints(DrawUtil.createBox(0f, 0f, 10f));
+        List<GameObject> gameObjects = List.of(polygon2D);
+        TransformHistory transformHistory = new TransformHistory();
+
+        transformHistory.beginFixedUpdate(gameObjects, List.of(), Camera.Default);
+        polygon2D.translate(new Pointf(40f, 0f));
+        transformHistory.endFixedUpdate(gameObjects, List.of(), Camera.Default);
+
+        RenderSnapshot snapshot = RenderSnapshot.capture(gameObjects, List.of(), Camera.Default, transformHistory, 0f);
+
+        BufferedImage image = new BufferedImage(64, 16, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = image.createGraphics();
+        snapshot.renderGameObject(0, g);
+        g.dispose();
+
+        assertEquals(Color.black.getRGB(), image.getRGB(5, 5), "The game object should be rendered at its transform from before the fixed update.");
+        assertNotEquals(Color.black.getRGB(), image.getRGB(45, 5), "The game object should not be rendered at its current transform.");
+        assertEquals(40.0, polygon2D.getTransformation().getTranslateX(), 1e-6, "Rendering the snapshot should not change the game object's transform.");
+    }
+
+    @Test
+    void checkRenderGameObject_afterDestroy_shouldRenderCapturedPath() {
+        Polygon2D polygon2D = Polygon2D.create(DrawUtil.createBox(0f, 0f, 10f)).withFill(Color.red).build();
+        RenderSnapshot snapshot = RenderSnapshot.capture(List.of(polygon2D), List.of(), Camera.Default);
+
+        polygon2D.destroy(new MockEmptySimpleManager());
+
+        BufferedImage image = new BufferedImage(16, 16, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = image.createGraphics();
+        RenderBatch renderBatch = new RenderBatch();
+        renderBatch.begin(g);
+        try {
+            assertDoesNotThrow(() -> snapshot.renderGameObject(0, g, renderBatch), "A destroyed game object should render from its captured path.");
+            renderBatch.end();
+        } finally {
+            g.dispose();
+        }
+
+        assertNotEquals(0, image.getRGB(5, 5) >>> 24, "The game object should be rendered with the path it had when it was captured.");
+        assertEquals(0, image.getRGB(12, 12) >>> 24, "Nothing should be rendered outside of the captured path.");
+    }
+
+    @Test
+    void checkRenderGameObject_afterSpriteDestroy_shouldRenderCapturedFrame() {
+        BufferedImage spriteSheet = new BufferedImage(20, 10, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D sheetGraphics = spriteSheet.createGraphics();
+        sheetGraphics.setColor(Color.red);
+        sheetGraphics.fillRect(0, 0, 10, 10);
+        sheetGraphics.setColor(Color.blue);
+        sheetGraphics.fillRect(10, 0, 10, 10);
+        sheetGraphics.dispose();
+
+        TextureAtlas textureAtlas = TextureAtlas.create().withSpriteSheet("sheet", spriteSheet, 2, 1).build();
+        Sprite2D sprite2D = Sprite2D.create(textureAtlas, "sheet").withStartingAnimation(Sprite2D.NoAnimation).build();
+        sprite2D.setCurrentFrame(1);
+        RenderSnapshot snapshot = RenderSnapshot.capture(List.of(sprite2D), List.of(), Camera.Default);
+
+        sprite2D.destroy(new MockEmptySimpleManager());
+
+        BufferedImage image = new BufferedImage(16, 16, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = image.createGraphics();
+        try {
+            assertDoesNotThrow(() -> snapshot.renderGameObject(0, g), "A destroyed sprite should render from its captured frame.");
+        } finally {
+            g.dispose();
+        }
+
+        assertEquals(Color.blue.getRGB(), image.getRGB(5, 5), "The sprite should be rendered with the frame it had when it was captured.");
+    }
+
+    @Test
+    void checkRenderGameObject_afterFillChange_shouldRenderCapturedFill() {
+        Polygon2D polygon2D = Polygon2D.create(DrawUtil.createBox(0f, 0f, 10f)).withFill(Color.red).build();
+        RenderSnapshot snapshot = RenderSnapshot.capture(List.of(polygon2D), List.of(), Camera.Default);
+
+        polygon2D.setFill(Color.blue);
+
+        BufferedImage image = new BufferedImage(16, 16, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = image.createGraphics();
+        snapshot.renderGameObject(0, g);
+        g.dispose();
+
+        assertEquals(Color.red.getRGB(), image.getRGB(5, 5), "The game object should be rendered with the fill it had when it was captured.");
+    }
+}
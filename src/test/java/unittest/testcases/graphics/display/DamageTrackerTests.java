@@ -0,0 +1,254 @@
+package unittest.testcases.graphics.display;
+
+import tech.fastj.animation.sprite.SpriteAnimData;
+import tech.fastj.animation.sprite.SpriteAnimStyle;
+import tech.fastj.graphics.display.Camera;
+import tech.fastj.graphics.display.FastJCanvas;
+import tech.fastj.graphics.display.HeadlessDisplay;
+import tech.fastj.graphics.display.OffscreenRenderTarget;
+import tech.fastj.graphics.game.Polygon2D;
+import tech.fastj.graphics.game.Sprite2D;
+import tech.fastj.graphics.util.DrawUtil;
+import tech.fastj.input.keyboard.Keyboard;
+import tech.fastj.input.mouse.Mouse;
+import tech.fastj.math.Point;
+import tech.fastj.math.Pointf;
+import tech.fastj.resources.images.TextureAtlas;
+import tech.fastj.systems.control.DrawableManager;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.Paint;
+import java.awt.PaintContext;
+import java.awt.Rectangle;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.awt.image.ColorModel;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * The damage tracker is internal to the canvas, so these tests observe it through dirty region rendering: a "witness" polygon has the
+ * color of its fill paint changed without the polygon knowing, so its new color only shows once the damaged area covers it, or the whole
+ * canvas is redrawn.
+ */
+class DamageTrackerTests {
+
+    private static final Point CanvasSize = new Point(128, 128);
+    private static final int Background = Color.black.getRGB();
+    private static final int Red = Color.red.getRGB();
+    private static final int Green = Color.green.getRGB();
+    private static final int Blue = Color.blue.getRGB();
+
+    private FastJCanvas canvas;
+    private OffscreenRenderTarget renderTarget;
+    private DrawableManager drawableManager;
+    private Polygon2D witness;
+    private WitnessPaint witnessFill;
+
+    @BeforeEach
+    void createCanvas() {
+        HeadlessDisplay display = new HeadlessDisplay(CanvasSize);
+        canvas = new FastJCanvas(display, CanvasSize);
+        canvas.init();
+        display.open();
+        canvas.setDirtyRegionRendering(true);
+        renderTarget = (OffscreenRenderTarget) canvas.getRenderTarget();
+
+        drawableManager = new DrawableManager();
+        witnessFill = new WitnessPaint(Color.green);
+        witness = Polygon2D.create(DrawUtil.createBox(100f, 100f, 10f)).withFill(witnessFill).build();
+        drawableManager.addGameObject(witness);
+    }
+
+    @AfterEach
+    void stopInput() {
+        Keyboard.stop();
+        Mouse.stop();
+    }
+
+    @Test
+    void checkMovedObject_shouldDamageOldAndNewBounds() {
+        Polygon2D mover = Polygon2D.create(DrawUtil.createBox(4f, 4f, 10f)).withFill(Color.red).build();
+        drawableManager.addGameObject(mover);
+        render(Camera.Default);
+
+        witnessFill.setColor(Color.blue);
+        mover.translate(new Pointf(30f, 0f));
+        render(Camera.Default);
+
+        assertEquals(Background, pixel(8, 8), "The old bounds of the moved object should have been cleared.");
+        assertEquals(Red, pixel(38, 8), "The new bounds of the moved object should have been drawn.");
+        assertEquals(Green, pixel(104, 104), "Objects outside the damaged area should not have been redrawn.");
+    }
+
+    @Test
+    void checkAddedAndRemovedObjects_shouldDamageTheirBounds() {
+        render(Camera.Default);
+
+        witnessFill.setColor(Color.blue);
+        Polygon2D added = Polygon2D.create(DrawUtil.createBox(10f, 10f, 10f)).withFill(Color.red).build();
+        drawableManager.addGameObject(added);
+        render(Camera.Default);
+
+        assertEquals(Red, pixel(14, 14), "The added object should have been drawn.");
+        assertEquals(Green, pixel(104, 104), "Objects outside the damaged area should not have been redrawn.");
+
+        drawableManager.removeGameObject(added);
+        render(Camera.Default);
+
+        assertEquals(Background, pixel(14, 14), "The bounds of the removed object should have been cleared.");
+        assertEquals(Green, pixel(104, 104), "Objects outside the damaged area should not have been redrawn.");
+    }
+
+    @Test
+    void checkMarkDirty_shouldRedrawUnmovedObject() {
+        render(Camera.Default);
+
+        witnessFill.setColor(Color.blue);
+        render(Camera.Default);
+        assertEquals(Green, pixel(104, 104), "Changing the paint without the object knowing should not damage the object.");
+
+        canvas.markDirty(witness);
+        render(Camera.Default);
+        assertEquals(Blue, pixel(104, 104), "Marking the object dirty should redraw it.");
+
+        witnessFill.setColor(Color.red);
+        render(Camera.Default);
+        assertEquals(Blue, pixel(104, 104), "Marking the object dirty should only last for one frame.");
+    }
+
+    @Test
+    void checkContentChange_shouldRedrawUnmovedObject() {
+        Polygon2D changed = Polygon2D.create(DrawUtil.createBox(4f, 4f, 10f)).withFill(Color.red).build();
+        drawableManager.addGameObject(changed);
+        render(Camera.Default);
+
+        witnessFill.setColor(Color.blue);
+        changed.setFill(Color.blue);
+        render(Camera.Default);
+
+        assertEquals(Blue, pixel(8, 8), "Changing the fill of an object should redraw it.");
+        assertEquals(Green, pixel(104, 104), "Objects outside the damaged area should not have been redrawn.");
+    }
+
+    @Test
+    void checkAnimatingSprite_shouldRedrawEachFrameStep() {
+        BufferedImage spriteSheet = new BufferedImage(20, 10, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D graphics = spriteSheet.createGraphics();
+        graphics.setColor(Color.red);
+        graphics.fillRect(0, 0, 10, 10);
+        graphics.setColor(Color.blue);
+        graphics.fillRect(10, 0, 10, 10);
+        graphics.dispose();
+
+        TextureAtlas textureAtlas = TextureAtlas.create().withSpriteSheet("sheet", spriteSheet, 2, 1).build();
+        Sprite2D sprite = Sprite2D.create(textureAtlas, "sheet")
+            .withAnimationData(new SpriteAnimData("loop", SpriteAnimStyle.ContinuousLoop, 0, 1))
+            .withStartingAnimation("loop")
+            .withTransform(new Pointf(4f, 4f), 0f, Pointf.unit())
+            .startPaused(true)
+            .build();
+        drawableManager.addGameObject(sprite);
+        render(Camera.Default);
+        assertEquals(Red, pixel(8, 8), "The sprite should start on its first frame.");
+
+        witnessFill.setColor(Color.blue);
+        sprite.setPaused(false);
+        sprite.stepAnimation(1f / sprite.getAnimationFPS());
+        render(Camera.Default);
+
+        assertEquals(Blue, pixel(8, 8), "Stepping the sprite to its next frame should redraw it.");
+        assertEquals(Green, pixel(104, 104), "Objects outside the damaged area should not have been redrawn.");
+    }
+
+    @Test
+    void checkDamagePastThreshold_shouldRedrawWholeCanvas() {
+        Polygon2D mover = Polygon2D.create(DrawUtil.createBox(4f, 4f, 10f)).withFill(Color.red).build();
+        drawableManager.addGameObject(mover);
+        canvas.setDirtyAreaThreshold(0f);
+        render(Camera.Default);
+
+        witnessFill.setColor(Color.blue);
+        mover.translate(new Pointf(30f, 0f));
+        render(Camera.Default);
+
+        assertEquals(Blue, pixel(104, 104), "Damage past the threshold should redraw the whole canvas.");
+        assertEquals(Background, pixel(8, 8), "The old bounds of the moved object should have been cleared.");
+    }
+
+    @Test
+    void checkCameraChange_shouldRedrawWholeCanvas() {
+        Camera camera = new Camera();
+        render(camera);
+
+        witnessFill.setColor(Color.blue);
+        render(camera);
+        assertEquals(Green, pixel(104, 104), "An unchanged frame should not redraw anything.");
+
+        camera.translate(new Pointf(2f, 0f));
+        render(camera);
+        assertEquals(Blue, pixel(106, 104), "Moving the camera should redraw the whole canvas.");
+        assertEquals(Background, pixel(101, 104), "Moving the camera should clear the whole canvas.");
+    }
+
+    @Test
+    void checkSeparateDamage_shouldMergeIntoOneRegion() {
+        Polygon2D left = Polygon2D.create(DrawUtil.createBox(4f, 4f, 10f)).withFill(Color.red).build();
+        Polygon2D right = Polygon2D.create(DrawUtil.createBox(100f, 4f, 10f)).withFill(Color.red).build();
+        WitnessPaint betweenFill = new WitnessPaint(Color.green);
+        Polygon2D between = Polygon2D.create(DrawUtil.createBox(50f, 4f, 10f)).withFill(betweenFill).build();
+        drawableManager.addGameObject(left);
+        drawableManager.addGameObject(right);
+        drawableManager.addGameObject(between);
+        render(Camera.Default);
+
+        witnessFill.setColor(Color.blue);
+        betweenFill.setColor(Color.blue);
+        left.translate(new Pointf(2f, 0f));
+        right.translate(new Pointf(-2f, 0f));
+        render(Camera.Default);
+
+        assertEquals(Blue, pixel(54, 8), "Objects between two damaged areas should be redrawn, as the areas are merged.");
+        assertEquals(Green, pixel(104, 104), "Objects outside the merged damaged area should not have been redrawn.");
+    }
+
+    private void render(Camera camera) {
+        canvas.render(drawableManager, camera);
+    }
+
+    private int pixel(int x, int y) {
+        return renderTarget.getImage().getRGB(x, y);
+    }
+
+    /** A paint whose color can be changed without the polygon it fills knowing, so the change alone does not damage the polygon. */
+    private static class WitnessPaint implements Paint {
+
+        private Color color;
+
+        WitnessPaint(Color color) {
+            this.color = color;
+        }
+
+        void setColor(Color color) {
+            this.color = color;
+        }
+
+        @Override
+        public PaintContext createContext(ColorModel colorModel, Rectangle deviceBounds, Rectangle2D userBounds,
+                                          AffineTransform transformation, RenderingHints hints) {
+            return color.createContext(colorModel, deviceBounds, userBounds, transformation, hints);
+        }
+
+        @Override
+        public int getTransparency() {
+            return color.getTransparency();
+        }
+    }
+}
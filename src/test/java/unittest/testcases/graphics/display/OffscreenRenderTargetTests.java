@@ -0,0 +1,143 @@
+package unittest.testcases.graphics.display;
+
+import tech.fastj.graphics.RenderBatch;
+import tech.fastj.graphics.display.Camera;
+import tech.fastj.graphics.display.FastJCanvas;
+import tech.fastj.graphics.display.HeadlessDisplay;
+import tech.fastj.graphics.display.OffscreenRenderTarget;
+import tech.fastj.graphics.display.RenderLayer;
+import tech.fastj.graphics.game.Polygon2D;
+import tech.fastj.graphics.util.DrawUtil;
+import tech.fastj.input.keyboard.Keyboard;
+import tech.fastj.input.mouse.Mouse;
+import tech.fastj.math.Point;
+import tech.fastj.math.Pointf;
+import tech.fastj.systems.control.DrawableManager;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import unittest.ImageHelper;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class OffscreenRenderTargetTests {
+
+    private static final Point CanvasSize = new Point(64, 64);
+
+    @AfterEach
+    void stopInput() {
+        Keyboard.stop();
+        Mouse.stop();
+    }
+
+    @Test
+    void checkRender_withTiles_shouldMatchRenderWithoutTiles() {
+        DrawableManager drawableManager = new DrawableManager();
+        drawableManager.addGameObject(Polygon2D.create(DrawUtil.createBox(4f, 4f, 40f)).withFill(Color.red).build());
+        drawableManager.addGameObject(Polygon2D.create(DrawUtil.createBox(20f, 10f, 30f, 50f)).withFill(Color.blue).build());
+        drawableManager.addGameObject(Polygon2D.create(DrawUtil.createBox(0f, 30f, 64f, 3f)).withFill(Color.green).build());
+
+        RenderLayer background = new RenderLayer(-1, true);
+        background.addGameObject(Polygon2D.create(DrawUtil.createBox(0f, 0f, 64f)).withFill(Color.gray).build());
+        drawableManager.addRenderLayer(background);
+
+        BufferedImage untiledFrame = render(drawableManager, 1);
+        BufferedImage tiledFrame = render(drawableManager, 5);
+
+        assertEquals(Color.red.getRGB(), tiledFrame.getRGB(10, 10), "The game objects should have been rendered.");
+        assertArrayEquals(ImageHelper.pixelsOf(untiledFrame), ImageHelper.pixelsOf(tiledFrame), "Rendering in tiles should render the same frame as rendering without tiles.");
+    }
+
+    @Test
+    void checkRender_withTilesAndMutableGameObjects_shouldRenderThemOnTheCurrentThread() {
+        RecordingPolygon gameObject = new RecordingPolygon(DrawUtil.createBox(0f, 0f, 64f, 20f), false);
+        RecordingPolygon layerObject = new RecordingPolygon(DrawUtil.createBox(0f, 30f, 64f, 30f), false);
+
+        DrawableManager drawableManager = new DrawableManager();
+        drawableManager.addGameObject(gameObject);
+        RenderLayer foreground = new RenderLayer(1);
+        foreground.addGameObject(layerObject);
+        drawableManager.addRenderLayer(foreground);
+
+        BufferedImage untiledFrame = render(drawableManager, 1);
+        gameObject.renderThreads.clear();
+        layerObject.renderThreads.clear();
+        gameObject.renderCount.set(0);
+        layerObject.renderCount.set(0);
+        BufferedImage tiledFrame = render(drawableManager, 5);
+
+        Set<Thread> currentThread = Set.of(Thread.currentThread());
+        assertEquals(1, gameObject.renderCount.get(), "A game object which cannot be rendered concurrently should be rendered once.");
+        assertEquals(1, layerObject.renderCount.get(), "A layer's game object which cannot render concurrently should be rendered once.");
+        assertEquals(currentThread, gameObject.renderThreads, "The game object should be rendered on the current thread.");
+        assertEquals(currentThread, layerObject.renderThreads, "The layer's game object should be rendered on the current thread.");
+        assertArrayEquals(ImageHelper.pixelsOf(untiledFrame), ImageHelper.pixelsOf(tiledFrame), "Falling back from tiles should render the same frame.");
+    }
+
+    @Test
+    void checkRender_withTilesAndConcurrentlyRenderableGameObject_shouldRenderEachTile() {
+        RecordingPolygon gameObject = new RecordingPolygon(DrawUtil.createBox(0f, 0f, 64f), true);
+        DrawableManager drawableManager = new DrawableManager();
+        drawableManager.addGameObject(gameObject);
+
+        render(drawableManager, 4);
+
+        assertEquals(4, gameObject.renderCount.get(), "A game object covering every tile should be rendered once for each tile.");
+    }
+
+    @Test
+    void trySetTileCount_withZero() {
+        OffscreenRenderTarget renderTarget = new OffscreenRenderTarget(CanvasSize.x, CanvasSize.y);
+
+        Throwable exception = assertThrows(IllegalArgumentException.class, () -> renderTarget.setTileCount(0));
+        assertEquals("The tile count must be at least 1.", exception.getMessage(), "The exception message should match.");
+    }
+
+    private static BufferedImage render(DrawableManager drawableManager, int tileCount) {
+        HeadlessDisplay display = new HeadlessDisplay(CanvasSize);
+        FastJCanvas canvas = new FastJCanvas(display, CanvasSize);
+        canvas.init();
+        display.open();
+
+        OffscreenRenderTarget renderTarget = (OffscreenRenderTarget) canvas.getRenderTarget();
+        renderTarget.setTileCount(tileCount);
+        canvas.render(drawableManager, Camera.Default);
+
+        assertEquals(1L, renderTarget.getFrameCount(), "One frame should have been rendered.");
+        return renderTarget.getImage();
+    }
+
+    /** Polygon which records how it is rendered, which is only safe from several threads at once if it says it can be. */
+    private static class RecordingPolygon extends Polygon2D {
+
+        private final boolean isConcurrentlyRenderable;
+        private final Set<Thread> renderThreads = ConcurrentHashMap.newKeySet();
+        private final AtomicInteger renderCount = new AtomicInteger();
+
+        RecordingPolygon(Pointf[] points, boolean isConcurrentlyRenderable) {
+            super(points, null);
+            this.isConcurrentlyRenderable = isConcurrentlyRenderable;
+        }
+
+        @Override
+        public boolean isConcurrentlyRenderable() {
+            return isConcurrentlyRenderable;
+        }
+
+        @Override
+        public void render(Graphics2D g, RenderBatch renderBatch) {
+            renderCount.incrementAndGet();
+            renderThreads.add(Thread.currentThread());
+            super.render(g, renderBatch);
+        }
+    }
+}
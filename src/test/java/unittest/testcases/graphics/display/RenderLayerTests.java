@@ -0,0 +1,97 @@
+package unittest.testcases.graphics.display;
+
+import tech.fastj.graphics.RenderBatch;
+import tech.fastj.graphics.display.RenderLayer;
+import tech.fastj.graphics.game.Polygon2D;
+import tech.fastj.graphics.util.DrawUtil;
+import tech.fastj.math.Pointf;
+import tech.fastj.systems.control.DrawableManager;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import unittest.ImageHelper;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RenderLayerTests {
+
+    private static final int ImageSize = 64;
+
+    @Test
+    void checkStaticLayer_shouldRenderSameAsDynamicLayer() {
+        Polygon2D first = Polygon2D.create(DrawUtil.createBox(4f, 4f, 20f)).withFill(Color.red).build();
+        Polygon2D second = Polygon2D.create(DrawUtil.createBox(16f, 16f, 20f)).withFill(Color.blue).build();
+
+        RenderLayer dynamicLayer = new RenderLayer(0);
+        dynamicLayer.addGameObject(first);
+        dynamicLayer.addGameObject(second);
+        RenderLayer staticLayer = new RenderLayer(0, true);
+        staticLayer.addGameObject(first);
+        staticLayer.addGameObject(second);
+
+        assertArrayEquals(ImageHelper.pixelsOf(render(dynamicLayer)), ImageHelper.pixelsOf(render(staticLayer)), "A static layer should render the same as a dynamic layer.");
+        assertFalse(staticLayer.isDirty(), "The static layer should not be dirty after rendering its cache.");
+    }
+
+    @Test
+    void checkStaticLayer_afterTransformingGameObject_shouldRenderAgain() {
+        Polygon2D polygon2D = Polygon2D.create(DrawUtil.createBox(4f, 4f, 10f)).withFill(Color.red).build();
+        RenderLayer staticLayer = new RenderLayer(0, true);
+        staticLayer.addGameObject(polygon2D);
+        render(staticLayer);
+
+        polygon2D.translate(new Pointf(30f, 30f));
+        assertTrue(staticLayer.isDirty(), "Transforming a game object of the layer should mark the layer as dirty.");
+
+        BufferedImage image = render(staticLayer);
+        assertEquals(0, image.getRGB(8, 8), "The game object should no longer be drawn where it was.");
+        assertEquals(Color.red.getRGB(), image.getRGB(38, 38), "The game object should be drawn where it moved to.");
+    }
+
+    @Test
+    void checkMarkDirty_shouldMarkStaticLayerDirty() {
+        RenderLayer staticLayer = new RenderLayer(0, true);
+        staticLayer.addGameObject(Polygon2D.fromPoints(DrawUtil.createBox(4f, 4f, 10f)));
+        render(staticLayer);
+
+        staticLayer.markDirty();
+        assertTrue(staticLayer.isDirty(), "Marking the layer as dirty should mark it as dirty.");
+    }
+
+    @Test
+    void checkDrawableManager_shouldOrderRenderLayersByIndex() {
+        DrawableManager drawableManager = new DrawableManager();
+        RenderLayer front = new RenderLayer(2);
+        RenderLayer background = new RenderLayer(-1, true);
+        RenderLayer secondFront = new RenderLayer(2);
+        RenderLayer middle = new RenderLayer(0);
+
+        drawableManager.addRenderLayer(front);
+        drawableManager.addRenderLayer(background);
+        drawableManager.addRenderLayer(secondFront);
+        drawableManager.addRenderLayer(middle);
+
+        assertEquals(List.of(background, middle, front, secondFront), drawableManager.getRenderLayers(), "Render layers should be ordered by index, then by the order they were added.");
+
+        drawableManager.clearAllLists();
+        assertTrue(drawableManager.getRenderLayers().isEmpty(), "Clearing the manager should remove its render layers.");
+    }
+
+    private static BufferedImage render(RenderLayer renderLayer) {
+        BufferedImage image = new BufferedImage(ImageSize, ImageSize, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D graphics = image.createGraphics();
+        RenderBatch renderBatch = new RenderBatch();
+        renderBatch.begin(graphics);
+        renderLayer.render(graphics, renderBatch, null);
+        renderBatch.end();
+        graphics.dispose();
+        return image;
+    }
+}
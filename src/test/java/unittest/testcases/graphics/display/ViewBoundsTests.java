@@ -0,0 +1,75 @@
+package unittest.testcases.graphics.display;
+
+import tech.fastj.graphics.display.Camera;
+import tech.fastj.graphics.display.ViewBounds;
+import tech.fastj.graphics.game.Polygon2D;
+import tech.fastj.graphics.util.DrawUtil;
+import tech.fastj.math.Pointf;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ViewBoundsTests {
+
+    @Test
+    void checkUpdate_withTranslatedCamera_shouldOffsetView() {
+        Camera camera = new Camera();
+        camera.translate(new Pointf(-100f, -50f));
+        ViewBounds viewBounds = new ViewBounds();
+
+        viewBounds.update(camera.getTransformation(), 0f, 0f, 800f, 600f);
+
+        assertTrue(viewBounds.isAxisAligned(), "A camera without rotation should have an axis-aligned view.");
+        assertEquals(100f, viewBounds.getMinX(), 0.0001f, "The view's minimum x should be offset by the camera's translation.");
+        assertEquals(50f, viewBounds.getMinY(), 0.0001f, "The view's minimum y should be offset by the camera's translation.");
+        assertEquals(900f, viewBounds.getMaxX(), 0.0001f, "The view's maximum x should be offset by the camera's translation.");
+        assertEquals(650f, viewBounds.getMaxY(), 0.0001f, "The view's maximum y should be offset by the camera's translation.");
+    }
+
+    @Test
+    void checkIntersects_withAxisAlignedView() {
+        ViewBounds viewBounds = new ViewBounds();
+        viewBounds.update(Camera.Default.getTransformation(), 0f, 0f, 800f, 600f);
+
+        Polygon2D inside = Polygon2D.fromPoints(DrawUtil.createBox(100f, 100f, 50f));
+        Polygon2D onEdge = Polygon2D.fromPoints(DrawUtil.createBox(780f, 100f, 50f));
+        Polygon2D outside = Polygon2D.fromPoints(DrawUtil.createBox(900f, 100f, 50f));
+
+        assertTrue(viewBounds.intersects(inside), "A drawable inside the view should intersect it.");
+        assertTrue(viewBounds.intersects(onEdge), "A drawable partly inside the view should intersect it.");
+        assertFalse(viewBounds.intersects(outside), "A drawable outside the view should not intersect it.");
+    }
+
+    @Test
+    void checkIntersects_withRotatedView_shouldUseExactShape() {
+        Camera camera = new Camera();
+        camera.rotate(45f);
+        ViewBounds viewBounds = new ViewBounds();
+        viewBounds.update(camera.getTransformation(), 0f, 0f, 100f, 100f);
+
+        float viewMaxX = viewBounds.getMaxX();
+        float viewMaxY = viewBounds.getMaxY();
+        Polygon2D inBoundsCorner = Polygon2D.fromPoints(DrawUtil.createBox(viewMaxX - 5f, viewMaxY - 5f, 4f));
+
+        assertFalse(viewBounds.isAxisAligned(), "A rotated camera should not have an axis-aligned view.");
+        assertFalse(viewBounds.intersects(inBoundsCorner), "A drawable inside the view's bounds, but outside the rotated view, should not intersect it.");
+    }
+
+    @Test
+    void checkUpdate_afterCameraMoves_shouldFollowCamera() {
+        Camera camera = new Camera();
+        ViewBounds viewBounds = new ViewBounds();
+        viewBounds.update(camera.getTransformation(), 0f, 0f, 800f, 600f);
+        viewBounds.update(camera.getTransformation(), 0f, 0f, 800f, 600f);
+
+        camera.translate(new Pointf(-100f, 0f));
+        viewBounds.update(camera.getTransformation(), 0f, 0f, 800f, 600f);
+        assertEquals(100f, viewBounds.getMinX(), 0.0001f, "The view should follow the camera after it moves.");
+
+        viewBounds.update(camera.getTransformation(), 0f, 0f, 400f, 600f);
+        assertEquals(500f, viewBounds.getMaxX(), 0.0001f, "The view should follow the screen area after it changes.");
+    }
+}
@@ -0,0 +1,120 @@
+package unittest.testcases.graphics.game;
+
+import tech.fastj.graphics.game.EntityStore;
+import tech.fastj.graphics.game.EntityView;
+import tech.fastj.math.Pointf;
+import tech.fastj.resources.images.TextureRegion;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+
+import org.junit.jupiter.api.Test;
+import unittest.ImageHelper;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EntityStoreTests {
+
+    private static final TextureRegion RedSquare = TextureRegion.of(ImageHelper.createImage(10, 10, Color.red));
+
+    @Test
+    void checkUpdate_shouldMoveEntitiesByTheirVelocity() {
+        EntityStore entityStore = new EntityStore(1);
+        EntityView moving = entityStore.add(RedSquare, 0f, 0f).setVelocity(10f, -5f).setAngularVelocity(90f);
+        EntityView still = entityStore.add(RedSquare, 100f, 100f);
+
+        entityStore.update(0.5f);
+
+        assertEquals(5f, moving.getX(), "The entity should have moved along the x axis by its velocity.");
+        assertEquals(-2.5f, moving.getY(), "The entity should have moved along the y axis by its velocity.");
+        assertEquals(45f, moving.getRotation(), "The entity should have rotated by its angular velocity.");
+        assertEquals(100f, still.getX(), "An entity without velocity should not have moved.");
+        assertEquals(2, entityStore.size(), "The entity store should have grown to fit both entities.");
+    }
+
+    @Test
+    void checkEntityBounds_shouldFollowRotationAndScale() {
+        EntityStore entityStore = new EntityStore();
+        EntityView entity = entityStore.add(RedSquare, 50f, 50f);
+        assertEquals(45f, entity.getMinX(), "The entity's bounds should be centered on its position.");
+        assertEquals(55f, entity.getMaxY(), "The entity's bounds should be centered on its position.");
+
+        entity.setScale(2f, 1f).setRotation(90f);
+
+        assertEquals(45f, entity.getMinX(), 0.001f, "Rotating the entity should swap the width and height of its bounds.");
+        assertEquals(40f, entity.getMinY(), 0.001f, "Rotating the entity should swap the width and height of its bounds.");
+    }
+
+    @Test
+    void checkCull_shouldOnlyFindOverlappingEntities() {
+        EntityStore entityStore = new EntityStore();
+        EntityView first = entityStore.add(RedSquare, 10f, 10f);
+        entityStore.add(RedSquare, 500f, 500f);
+        EntityView third = entityStore.add(RedSquare, 90f, 10f);
+
+        int[] visibleIds = new int[3];
+        int visibleCount = entityStore.cull(0f, 0f, 100f, 100f, visibleIds);
+
+        assertEquals(2, visibleCount, "Only the overlapping entities should be found.");
+        assertArrayEquals(new int[] {first.getID(), third.getID()}, new int[] {visibleIds[0], visibleIds[1]}, "The IDs of the overlapping entities should be found.");
+    }
+
+    @Test
+    void checkRemove_shouldKeepOtherEntitiesAndInvalidateView() {
+        EntityStore entityStore = new EntityStore();
+        EntityView first = entityStore.add(RedSquare, 10f, 10f);
+        EntityView second = entityStore.add(RedSquare, 20f, 20f);
+
+        first.remove();
+        EntityView reused = entityStore.add(RedSquare, 30f, 30f);
+
+        assertFalse(first.isAlive(), "A removed entity's view should no longer be alive.");
+        assertTrue(reused.isAlive(), "The new entity's view should be alive.");
+        assertEquals(20f, second.getX(), "Removing an entity should not change the other entities.");
+        assertEquals(30f, entityStore.getEntity(reused.getID()).getX(), "The new entity should be found by its ID.");
+
+        Throwable exception = assertThrows(IllegalStateException.class, first::getX);
+        assertEquals("The entity has been removed from its entity store.", exception.getMessage(), "The exception message should match.");
+    }
+
+    @Test
+    void checkBounds_shouldCoverAllEntities() {
+        EntityStore entityStore = new EntityStore();
+        EntityView first = entityStore.add(RedSquare, 10f, 10f);
+        entityStore.add(RedSquare, 100f, 50f);
+        assertEquals(5f, entityStore.getMinX(), "The store's bounds should cover its first entity.");
+        assertEquals(105f, entityStore.getMaxX(), "The store's bounds should cover its last entity.");
+
+        first.setPosition(200f, 10f);
+        assertEquals(205f, entityStore.getMaxX(), "Moving an entity outside the store's bounds should grow them.");
+
+        entityStore.updateBounds();
+        assertEquals(95f, entityStore.getMinX(), "Updating the store's bounds should shrink them to fit its entities.");
+    }
+
+    @Test
+    void checkRender_shouldDrawEntitiesRelativeToStore() {
+        EntityStore entityStore = new EntityStore();
+        entityStore.add(RedSquare, 10f, 10f);
+        entityStore.translate(new Pointf(20f, 0f));
+
+        BufferedImage image = new BufferedImage(64, 64, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = image.createGraphics();
+        entityStore.render(g);
+        g.dispose();
+
+        assertEquals(Color.red.getRGB(), image.getRGB(30, 10), "The entity should be drawn at its position, moved by the store.");
+        assertEquals(0, image.getRGB(10, 10), "The entity should not be drawn without the store's transformation.");
+    }
+
+    @Test
+    void tryCreateEntityStore_withZeroCapacity() {
+        Throwable exception = assertThrows(IllegalArgumentException.class, () -> new EntityStore(0));
+        assertEquals("Initial capacity must be at least 1.", exception.getMessage(), "The exception message should match.");
+    }
+}
@@ -0,0 +1,116 @@
+package unittest.testcases.graphics.game;
+
+import tech.fastj.graphics.game.Mesh2D;
+import tech.fastj.graphics.game.Polygon2D;
+import tech.fastj.graphics.util.DrawUtil;
+import tech.fastj.math.Pointf;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class Mesh2DTests {
+
+    @Test
+    void checkCreateMesh_shouldCopyPoints() {
+        Pointf[] points = DrawUtil.createBox(0f, 0f, 10f);
+        Mesh2D mesh = Mesh2D.fromPoints(points);
+
+        points[0].x = 100f;
+
+        assertEquals(0f, mesh.getPoints()[0].x, "Changing the points given to a mesh should not change the mesh.");
+        assertEquals(10f, mesh.getBounds().width, "The bounds of the mesh should match its points.");
+    }
+
+    @Test
+    void checkPolygonsFromMesh_shouldShareMeshPoints() {
+        Mesh2D mesh = Mesh2D.fromPoints(DrawUtil.createBox(0f, 0f, 10f));
+
+        Polygon2D first = Polygon2D.fromMesh(mesh);
+        Polygon2D second = Polygon2D.create(mesh).withFill(Color.red).build();
+
+        assertSame(mesh, first.getMesh(), "The polygon should keep the mesh it was made from.");
+        assertArrayEquals(mesh.getPoints(), second.getOriginalPoints(), "Polygons made from the same mesh should have its points.");
+        assertEquals(Color.red, second.getFill(), "Polygons made from a mesh should still carry their own paint.");
+    }
+
+    @Test
+    void checkPolygonFromMesh_pointsShouldBeCopied() {
+        Mesh2D mesh = Mesh2D.fromPoints(DrawUtil.createBox(0f, 0f, 10f));
+        Polygon2D first = Polygon2D.fromMesh(mesh);
+        Polygon2D second = Polygon2D.fromMesh(mesh);
+
+        first.getOriginalPoints()[0].x = 100f;
+
+        assertNotSame(first.getOriginalPoints(), first.getOriginalPoints(), "Each call should return a separate copy of the mesh's points.");
+        assertEquals(0f, mesh.getPoints()[0].x, "Changing a polygon's returned points should not change its mesh.");
+        assertEquals(0f, second.getOriginalPoints()[0].x, "Changing a polygon's returned points should not change other polygons.");
+        assertNull(first.getAlternateIndexes(), "A mesh without alternate indexes should give its polygons none.");
+    }
+
+    @Test
+    void checkPolygonFromMesh_boundsShouldFollowTransform() {
+        Polygon2D polygon2D = Polygon2D.fromMesh(Mesh2D.fromPoints(DrawUtil.createBox(0f, 0f, 20f, 10f)));
+
+        polygon2D.translate(new Pointf(100f, 50f));
+        assertEquals(100f, polygon2D.getMinX(), "The bounds should be translated with the polygon.");
+        assertEquals(60f, polygon2D.getMaxY(), "The bounds should be translated with the polygon.");
+
+        polygon2D.rotate(90f);
+        assertEquals(10f, polygon2D.width(), 0.001f, "Rotating the polygon should swap the width and height of its bounds.");
+        assertEquals(20f, polygon2D.height(), 0.001f, "Rotating the polygon should swap the width and height of its bounds.");
+        assertEquals(110f, polygon2D.getCenterX(), 0.001f, "Rotating the polygon about its center should keep its center.");
+    }
+
+    @Test
+    void checkPolygonsFromMesh_shouldCollideThroughTransformedPaths() {
+        Mesh2D mesh = Mesh2D.fromPoints(DrawUtil.createBox(0f, 0f, 10f));
+        Polygon2D first = Polygon2D.fromMesh(mesh);
+        Polygon2D second = Polygon2D.fromMesh(mesh);
+
+        second.translate(new Pointf(5f, 5f));
+        assertTrue(first.collidesWith(second), "Overlapping polygons made from the same mesh should collide.");
+        assertTrue(second.getCollisionPath().contains(14f, 14f), "The collision path should be transformed with the polygon.");
+
+        second.translate(new Pointf(100f, 0f));
+        assertFalse(first.collidesWith(second), "Separate polygons made from the same mesh should not collide.");
+    }
+
+    @Test
+    void checkRenderPolygonFromMesh_shouldDrawSharedPathUnderOwnTransform() {
+        Mesh2D mesh = Mesh2D.fromPoints(DrawUtil.createBox(0f, 0f, 10f));
+        Polygon2D red = Polygon2D.create(mesh).withFill(Color.red).build();
+        Polygon2D blue = Polygon2D.create(mesh).withFill(Color.blue).withTransform(new Pointf(30f, 30f), 0f, Pointf.unit()).build();
+
+        BufferedImage image = new BufferedImage(64, 64, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = image.createGraphics();
+        red.render(g);
+        blue.render(g);
+        g.dispose();
+
+        assertEquals(Color.red.getRGB(), image.getRGB(5, 5), "The first polygon should be drawn at its own position.");
+        assertEquals(Color.blue.getRGB(), image.getRGB(35, 35), "The second polygon should be drawn at its own position.");
+    }
+
+    @Test
+    void checkModifyPoints_shouldDetachPolygonFromMesh() {
+        Mesh2D mesh = Mesh2D.fromPoints(DrawUtil.createBox(0f, 0f, 10f));
+        Polygon2D polygon2D = Polygon2D.fromMesh(mesh);
+
+        polygon2D.modifyPoints(DrawUtil.createBox(0f, 0f, 40f), false, false, false);
+
+        assertNull(polygon2D.getMesh(), "The polygon should no longer share the mesh after its points are replaced.");
+        assertEquals(40f, polygon2D.width(), "The polygon should use its new points.");
+        assertEquals(10f, mesh.getBounds().width, "Replacing the points of the polygon should not change the mesh.");
+    }
+}
@@ -0,0 +1,106 @@
+package unittest.testcases.graphics.game;
+
+import tech.fastj.graphics.game.Model2D;
+import tech.fastj.graphics.game.Polygon2D;
+import tech.fastj.graphics.game.RasterCache;
+import tech.fastj.graphics.util.DrawUtil;
+import tech.fastj.math.Pointf;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RasterCacheTests {
+
+    private static final int ImageSize = 64;
+
+    @AfterEach
+    void resetRasterCache() {
+        RasterCache.setMemoryBudget(RasterCache.DefaultMemoryBudget);
+        RasterCache.clear();
+    }
+
+    @Test
+    void checkRasterizedPolygon_shouldRenderThroughCachedImage() {
+        Polygon2D polygon2D = Polygon2D.create(DrawUtil.createBox(0f, 0f, 20f)).withFill(Color.red).build().setRasterized(true);
+
+        BufferedImage image = render(polygon2D);
+        assertEquals(Color.red.getRGB(), image.getRGB(10, 10), "The rasterized polygon should be drawn.");
+        assertEquals(1, RasterCache.size(), "Rendering the rasterized polygon should cache one image.");
+
+        polygon2D.translate(new Pointf(30f, 30f));
+        image = render(polygon2D);
+        assertEquals(0, image.getRGB(10, 10), "The rasterized polygon should no longer be drawn where it was.");
+        assertEquals(Color.red.getRGB(), image.getRGB(40, 40), "The rasterized polygon should be drawn where it moved to.");
+        assertEquals(1, RasterCache.size(), "Translating the rasterized polygon should reuse its cached image.");
+    }
+
+    @Test
+    void checkRasterizedPolygon_afterChangingFill_shouldReplaceCachedImage() {
+        Polygon2D polygon2D = Polygon2D.create(DrawUtil.createBox(0f, 0f, 20f)).withFill(Color.red).build().setRasterized(true);
+        render(polygon2D);
+
+        polygon2D.setFill(Color.blue);
+        BufferedImage image = render(polygon2D);
+
+        assertEquals(Color.blue.getRGB(), image.getRGB(10, 10), "The rasterized polygon should be drawn with its new fill.");
+        assertEquals(1, RasterCache.size(), "The image of the old fill should have been released.");
+    }
+
+    @Test
+    void checkRasterizedModel_shouldRenderEachPolygon() {
+        Model2D model2D = Model2D.fromPolygons(new Polygon2D[] {
+            Polygon2D.create(DrawUtil.createBox(0f, 0f, 10f)).withFill(Color.red).build(),
+            Polygon2D.create(DrawUtil.createBox(20f, 20f, 10f)).withFill(Color.blue).build()
+        }).setRasterized(true);
+        model2D.translate(new Pointf(10f, 10f));
+
+        BufferedImage image = render(model2D);
+
+        assertEquals(Color.red.getRGB(), image.getRGB(15, 15), "The first polygon of the rasterized model should be drawn.");
+        assertEquals(Color.blue.getRGB(), image.getRGB(35, 35), "The second polygon of the rasterized model should be drawn.");
+        assertEquals(1, RasterCache.size(), "The rasterized model should be cached as one image.");
+    }
+
+    @Test
+    void checkSetMemoryBudget_shouldReleaseImagesOverBudget() {
+        Polygon2D polygon2D = Polygon2D.create(DrawUtil.createBox(0f, 0f, 20f)).withFill(Color.red).build().setRasterized(true);
+        render(polygon2D);
+        assertTrue(RasterCache.getMemoryUsage() > 0L, "The cached image should take up memory.");
+
+        RasterCache.setMemoryBudget(0L);
+
+        assertEquals(0, RasterCache.size(), "Images over the memory budget should be released.");
+        assertEquals(0L, RasterCache.getMemoryUsage(), "Released images should no longer take up memory.");
+        assertEquals(Color.red.getRGB(), render(polygon2D).getRGB(10, 10), "A rasterized polygon should still render when its image cannot be cached.");
+    }
+
+    @Test
+    void trySetMemoryBudget_withNegativeBudget() {
+        Throwable exception = assertThrows(IllegalArgumentException.class, () -> RasterCache.setMemoryBudget(-1L));
+        assertEquals("Memory budget must be at least 0.", exception.getMessage(), "The exception message should match.");
+    }
+
+    private static BufferedImage render(Polygon2D polygon2D) {
+        BufferedImage image = new BufferedImage(ImageSize, ImageSize, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D graphics = image.createGraphics();
+        polygon2D.render(graphics);
+        graphics.dispose();
+        return image;
+    }
+
+    private static BufferedImage render(Model2D model2D) {
+        BufferedImage image = new BufferedImage(ImageSize, ImageSize, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D graphics = image.createGraphics();
+        model2D.render(graphics);
+        graphics.dispose();
+        return image;
+    }
+}
@@ -0,0 +1,52 @@
+package unittest.testcases.math;
+
+import tech.fastj.math.Pointf;
+import tech.fastj.math.Transform2D;
+
+import java.awt.geom.AffineTransform;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class Transform2DTests {
+
+    @Test
+    void checkPrimitiveGetters_shouldMatchPointGetters() {
+        Transform2D transform2D = new Transform2D();
+        transform2D.translate(new Pointf(5f, 10f));
+        transform2D.scale(new Pointf(1f, 2f), Pointf.origin());
+
+        assertEquals(transform2D.getTranslation(), new Pointf(transform2D.getTranslationX(), transform2D.getTranslationY()), "The primitive translation getters should match the translation.");
+        assertEquals(transform2D.getScale(), new Pointf(transform2D.getScaleX(), transform2D.getScaleY()), "The primitive scale getters should match the scale.");
+        assertEquals(new Pointf(2f, 3f), transform2D.getScale(), "The scale should have been increased by the scale amount.");
+    }
+
+    @Test
+    void checkGetAffineTransform_shouldFollowChanges() {
+        Transform2D transform2D = new Transform2D();
+        assertEquals(new AffineTransform(), transform2D.getAffineTransform(), "A new transform should be the identity transform.");
+
+        transform2D.translate(new Pointf(30f, 40f));
+        assertEquals(AffineTransform.getTranslateInstance(30d, 40d), transform2D.getAffineTransform(), "The combined transform should include the translation.");
+
+        transform2D.setTranslation(Pointf.origin());
+        transform2D.rotate(90f, Pointf.origin());
+        AffineTransform expectedRotation = AffineTransform.getRotateInstance(Math.toRadians(90d));
+        assertEquals(expectedRotation, transform2D.getAffineTransform(), "The combined transform should include the rotation, without the reset translation.");
+        assertEquals(90f, transform2D.getRotation(), "The rotation should match the rotation amount.");
+    }
+
+    @Test
+    void checkGetAffineTransform_withDestination_shouldSetDestination() {
+        Transform2D transform2D = new Transform2D();
+        transform2D.translate(new Pointf(30f, 40f));
+        AffineTransform destination = AffineTransform.getScaleInstance(5d, 5d);
+
+        assertSame(destination, transform2D.getAffineTransform(destination), "The destination transform should be returned.");
+        assertEquals(transform2D.getAffineTransform(), destination, "The destination transform should be set to the combined transform.");
+        assertNotSame(transform2D.getAffineTransform(), transform2D.getAffineTransform(), "Each call without a destination should return a new copy.");
+    }
+}
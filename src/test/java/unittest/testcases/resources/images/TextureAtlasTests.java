@@ -0,0 +1,121 @@
+package unittest.testcases.resources.images;
+
+import tech.fastj.resources.images.TextureAtlas;
+import tech.fastj.resources.images.TextureRegion;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import unittest.ImageHelper;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TextureAtlasTests {
+
+    @Test
+    void checkBuild_shouldPackTexturesWithoutOverlap() {
+        TextureAtlas textureAtlas = TextureAtlas.create(64)
+            .withImage("red", ImageHelper.createImage(20, 30, Color.red))
+            .withImage("green", ImageHelper.createImage(40, 10, Color.green))
+            .withImage("blue", ImageHelper.createImage(16, 16, Color.blue))
+            .withImage("yellow", ImageHelper.createImage(30, 25, Color.yellow))
+            .build();
+
+        assertEquals(1, textureAtlas.getPages().size(), "The textures should fit on one page.");
+
+        List<Rectangle> packedAreas = new ArrayList<>();
+        for (String name : List.of("red", "green", "blue", "yellow")) {
+            TextureRegion region = textureAtlas.getRegion(name);
+            Rectangle packedArea = new Rectangle(region.x(), region.y(), region.width(), region.height());
+            for (Rectangle otherArea : packedAreas) {
+                assertFalse(packedArea.intersects(otherArea), "Texture \"" + name + "\" should not overlap any other texture.");
+            }
+            packedAreas.add(packedArea);
+        }
+
+        assertRegionFilled(textureAtlas.getRegion("red"), Color.red);
+        assertRegionFilled(textureAtlas.getRegion("green"), Color.green);
+        assertRegionFilled(textureAtlas.getRegion("blue"), Color.blue);
+        assertRegionFilled(textureAtlas.getRegion("yellow"), Color.yellow);
+    }
+
+    @Test
+    void checkBuild_withSpriteSheet_shouldKeepFrameOrder() {
+        BufferedImage spriteSheet = new BufferedImage(20, 10, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D graphics = spriteSheet.createGraphics();
+        graphics.setColor(Color.red);
+        graphics.fillRect(0, 0, 10, 10);
+        graphics.setColor(Color.blue);
+        graphics.fillRect(10, 0, 10, 10);
+        graphics.dispose();
+
+        TextureAtlas textureAtlas = TextureAtlas.create().withSpriteSheet("sheet", spriteSheet, 2, 1).build();
+        TextureRegion[] frames = textureAtlas.getRegions("sheet");
+
+        assertEquals(2, frames.length, "The sprite sheet should be split into two frames.");
+        assertRegionFilled(frames[0], Color.red);
+        assertRegionFilled(frames[1], Color.blue);
+    }
+
+    @Test
+    void checkBuild_whenTexturesOverflowPage_shouldAddPages() {
+        TextureAtlas textureAtlas = TextureAtlas.create(32)
+            .withPadding(0)
+            .withImage("first", ImageHelper.createImage(32, 32, Color.red))
+            .withImage("second", ImageHelper.createImage(32, 32, Color.blue))
+            .build();
+
+        assertEquals(2, textureAtlas.getPages().size(), "Each full-page texture should be given its own page.");
+        assertTrue(textureAtlas.getRegion("first").image() != textureAtlas.getRegion("second").image(), "The textures should be on different pages.");
+    }
+
+    @Test
+    void checkDraw_shouldDrawOnlyTheRegion() {
+        TextureAtlas textureAtlas = TextureAtlas.create()
+            .withImage("red", ImageHelper.createImage(8, 8, Color.red))
+            .withImage("blue", ImageHelper.createImage(8, 8, Color.blue))
+            .build();
+
+        BufferedImage image = new BufferedImage(16, 16, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D graphics = image.createGraphics();
+        textureAtlas.getRegion("red").draw(graphics, 4, 4);
+        graphics.dispose();
+
+        assertEquals(Color.red.getRGB(), image.getRGB(4, 4), "The region should be drawn at the given position.");
+        assertEquals(Color.red.getRGB(), image.getRGB(11, 11), "The whole region should be drawn.");
+        assertEquals(0, image.getRGB(12, 12), "Nothing outside the region should be drawn.");
+    }
+
+    @Test
+    void tryAddTexture_withDuplicateName() {
+        Throwable exception = assertThrows(IllegalArgumentException.class, () -> TextureAtlas.create()
+            .withImage("texture", ImageHelper.createImage(4, 4, Color.red))
+            .withImage("texture", ImageHelper.createImage(4, 4, Color.blue))
+        );
+        assertEquals("A texture named \"texture\" was already added to the texture atlas.", exception.getMessage(), "The exception message should match.");
+    }
+
+    @Test
+    void tryAddTexture_largerThanPageSize() {
+        Throwable exception = assertThrows(IllegalArgumentException.class, () -> TextureAtlas.create(16)
+            .withImage("texture", ImageHelper.createImage(17, 4, Color.red))
+        );
+        assertEquals("The texture \"texture\" is larger than the texture atlas page size of 16.", exception.getMessage(), "The exception message should match.");
+    }
+
+    private static void assertRegionFilled(TextureRegion region, Color color) {
+        for (int y = region.y(); y < region.y() + region.height(); y++) {
+            for (int x = region.x(); x < region.x() + region.width(); x++) {
+                assertEquals(color.getRGB(), region.image().getRGB(x, y), "Every pixel of the region should be copied from its texture.");
+            }
+        }
+    }
+}
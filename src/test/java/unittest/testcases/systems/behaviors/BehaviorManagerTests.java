@@ -0,0 +1,142 @@
+package unittest.testcases.systems.behaviors;
+
+import tech.fastj.graphics.game.GameObject;
+import tech.fastj.systems.behaviors.Behavior;
+import tech.fastj.systems.behaviors.BehaviorHandler;
+import tech.fastj.systems.behaviors.BehaviorManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import unittest.mock.graphics.MockGameObject;
+import unittest.mock.systems.behaviors.MockThreadSafeBehavior;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BehaviorManagerTests {
+
+    private static final int ListenerCount = 2000;
+
+    @AfterEach
+    void resetBehaviorManager() {
+        BehaviorManager.reset();
+    }
+
+    private BehaviorHandler createBehaviorHandler() {
+        BehaviorHandler behaviorHandler = new BehaviorHandler() {};
+        BehaviorManager.addListenerList(behaviorHandler);
+        return behaviorHandler;
+    }
+
+    @Test
+    void checkParallelExecution_shouldUpdateEachListenerOnce() {
+        BehaviorHandler behaviorHandler = createBehaviorHandler();
+        AtomicInteger totalUpdateCount = new AtomicInteger();
+        List<MockThreadSafeBehavior> behaviors = new ArrayList<>();
+        for (int i = 0; i < ListenerCount; i++) {
+            MockThreadSafeBehavior behavior = new MockThreadSafeBehavior(totalUpdateCount);
+            behaviors.add(behavior);
+            new MockGameObject().addBehavior(behavior, behaviorHandler);
+        }
+
+        ForkJoinPool parallelPool = new ForkJoinPool(4);
+        BehaviorManager.setParallelPool(parallelPool);
+        BehaviorManager.setParallelChunkSize(16);
+        BehaviorManager.setParallelExecution(true);
+        try {
+            behaviorHandler.fixedUpdateBehaviorListeners();
+            behaviorHandler.updateBehaviorListeners();
+        } finally {
+            parallelPool.shutdownNow();
+        }
+
+        assertEquals(ListenerCount * 2, totalUpdateCount.get(), "Each listener should have been updated once per update.");
+        for (MockThreadSafeBehavior behavior : behaviors) {
+            assertEquals(2, behavior.getUpdateCount(), "Each behavior should have been updated once per update.");
+        }
+    }
+
+    @Test
+    void checkParallelExecution_withOtherBehaviors_shouldStillUpdateThem() {
+        BehaviorHandler behaviorHandler = createBehaviorHandler();
+        AtomicInteger totalUpdateCount = new AtomicInteger();
+        AtomicInteger otherUpdateCount = new AtomicInteger();
+        for (int i = 0; i < ListenerCount; i++) {
+            new MockGameObject().addBehavior(new MockThreadSafeBehavior(totalUpdateCount), behaviorHandler);
+        }
+        GameObject otherGameObject = new MockGameObject()
+            .addBehavior(new MockThreadSafeBehavior(totalUpdateCount), behaviorHandler)
+            .addBehavior(new Behavior() {
+                @Override
+                public void fixedUpdate(GameObject gameObject) {
+                    otherUpdateCount.incrementAndGet();
+                }
+            }, behaviorHandler);
+
+        BehaviorManager.setParallelChunkSize(64);
+        BehaviorManager.setParallelExecution(true);
+        behaviorHandler.fixedUpdateBehaviorListeners();
+
+        assertEquals(ListenerCount + 1, totalUpdateCount.get(), "Each thread-safe behavior should have been updated once.");
+        assertEquals(1, otherUpdateCount.get(), "The behavior which is not thread-safe should have been updated once.");
+        assertEquals(2, otherGameObject.getBehaviors().size(), "The game object with both kinds of behaviors should keep both behaviors.");
+    }
+
+    @Test
+    void checkDeferredMutations_duringParallelExecution_shouldRunAfterAllListeners() {
+        BehaviorHandler behaviorHandler = createBehaviorHandler();
+        AtomicInteger totalUpdateCount = new AtomicInteger();
+        List<Integer> updateCountsAtMutation = new ArrayList<>();
+        for (int i = 0; i < ListenerCount; i++) {
+            new MockGameObject().addBehavior(new MockThreadSafeBehavior(totalUpdateCount) {
+                @Override
+                public void fixedUpdate(GameObject gameObject) {
+                    super.fixedUpdate(gameObject);
+                    BehaviorManager.deferMutation(() -> updateCountsAtMutation.add(totalUpdateCount.get()));
+                }
+            }, behaviorHandler);
+        }
+
+        BehaviorManager.setParallelChunkSize(32);
+        BehaviorManager.setParallelExecution(true);
+        behaviorHandler.fixedUpdateBehaviorListeners();
+
+        assertEquals(ListenerCount, updateCountsAtMutation.size(), "Each deferred mutation should have run once.");
+        for (int updateCountAtMutation : updateCountsAtMutation) {
+            assertEquals(ListenerCount, updateCountAtMutation, "Deferred mutations should only run once every listener was updated.");
+        }
+    }
+
+    @Test
+    void checkDeferredMutation_outsideParallelExecution_shouldRunImmediately() {
+        AtomicInteger mutationCount = new AtomicInteger();
+        BehaviorManager.deferMutation(mutationCount::incrementAndGet);
+        assertEquals(1, mutationCount.get(), "The mutation should have run right away.");
+    }
+
+    @Test
+    void checkParallelExecutionSettings_shouldResetToDefaults() {
+        BehaviorManager.setParallelExecution(true);
+        BehaviorManager.setParallelChunkSize(8);
+        assertTrue(BehaviorManager.isParallelExecution(), "Parallel execution should be enabled.");
+
+        BehaviorManager.reset();
+
+        assertFalse(BehaviorManager.isParallelExecution(), "After resetting, parallel execution should be disabled.");
+        assertEquals(BehaviorManager.DefaultParallelChunkSize, BehaviorManager.getParallelChunkSize(), "After resetting, the chunk size should match the default.");
+        assertEquals(ForkJoinPool.commonPool(), BehaviorManager.getParallelPool(), "After resetting, the parallel pool should be the common pool.");
+    }
+
+    @Test
+    void trySetParallelChunkSize_toLessThanOne() {
+        Throwable exception = assertThrows(IllegalArgumentException.class, () -> BehaviorManager.setParallelChunkSize(0));
+        assertEquals("Parallel chunk size must be at least 1.", exception.getMessage(), "The exception message should match.");
+    }
+}
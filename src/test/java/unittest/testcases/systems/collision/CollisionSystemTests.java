@@ -0,0 +1,112 @@
+package unittest.testcases.systems.collision;
+
+import tech.fastj.gameloop.GameLoop;
+import tech.fastj.graphics.game.Polygon2D;
+import tech.fastj.graphics.util.DrawUtil;
+import tech.fastj.math.Pointf;
+import tech.fastj.systems.collision.CollisionEvent;
+import tech.fastj.systems.collision.CollisionPair;
+import tech.fastj.systems.collision.CollisionSystem;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CollisionSystemTests {
+
+    @Test
+    void checkCollides_withConvexPolygons() {
+        Polygon2D square = Polygon2D.fromPoints(DrawUtil.createBox(0f, 0f, 50f));
+        Polygon2D overlapping = Polygon2D.fromPoints(DrawUtil.createBox(40f, 40f, 50f));
+        Polygon2D touching = Polygon2D.fromPoints(DrawUtil.createBox(50f, 0f, 50f));
+        Polygon2D diamond = Polygon2D.fromPoints(new Pointf[] {
+            new Pointf(80f, 40f),
+            new Pointf(100f, 60f),
+            new Pointf(80f, 80f),
+            new Pointf(60f, 60f)
+        });
+
+        assertTrue(CollisionSystem.collides(square, overlapping), "Overlapping squares should collide.");
+        assertFalse(CollisionSystem.collides(square, touching), "Squares which only touch along an edge should not collide.");
+        assertFalse(CollisionSystem.collides(square, diamond), "A diamond whose bounds overlap the square, but whose shape does not, should not collide.");
+    }
+
+    @Test
+    void checkCollides_withConcavePolygon_shouldUseExactShape() {
+        Polygon2D lShape = Polygon2D.fromPoints(new Pointf[] {
+            new Pointf(0f, 0f),
+            new Pointf(20f, 0f),
+            new Pointf(20f, 80f),
+            new Pointf(100f, 80f),
+            new Pointf(100f, 100f),
+            new Pointf(0f, 100f)
+        });
+        Polygon2D insideNotch = Polygon2D.fromPoints(DrawUtil.createBox(50f, 20f, 20f));
+        Polygon2D overlappingArm = Polygon2D.fromPoints(DrawUtil.createBox(50f, 70f, 20f));
+
+        assertFalse(CollisionSystem.collides(lShape, insideNotch), "A square inside the notch of the L shape should not collide with it.");
+        assertTrue(CollisionSystem.collides(lShape, overlappingArm), "A square overlapping the arm of the L shape should collide with it.");
+    }
+
+    @Test
+    void checkFindAllCollisions_shouldOnlyFindCollidingPairs() {
+        Polygon2D first = Polygon2D.fromPoints(DrawUtil.createBox(0f, 0f, 50f));
+        Polygon2D second = Polygon2D.fromPoints(DrawUtil.createBox(25f, 25f, 50f));
+        Polygon2D third = Polygon2D.fromPoints(DrawUtil.createBox(60f, 60f, 50f));
+        Polygon2D separate = Polygon2D.fromPoints(DrawUtil.createBox(500f, 0f, 50f));
+        CollisionSystem collisionSystem = new CollisionSystem();
+
+        List<CollisionPair> collisions = collisionSystem.findAllCollisions(List.of(third, separate, second, first));
+
+        assertEquals(2, collisions.size(), "Only the two overlapping pairs should be found.");
+        assertTrue(collisions.stream().anyMatch(pair -> pair.contains(first) && pair.contains(second)), "The first and second squares should collide.");
+        assertTrue(collisions.stream().anyMatch(pair -> pair.contains(second) && pair.contains(third)), "The second and third squares should collide.");
+        assertTrue(collisions.stream().noneMatch(pair -> pair.contains(separate)), "The separate square should not collide with anything.");
+    }
+
+    @Test
+    void checkFindAllCollisions_afterMoving_shouldFollowDrawables() {
+        Polygon2D first = Polygon2D.fromPoints(DrawUtil.createBox(0f, 0f, 50f));
+        Polygon2D second = Polygon2D.fromPoints(DrawUtil.createBox(200f, 0f, 50f));
+        List<Polygon2D> drawables = List.of(first, second);
+        CollisionSystem collisionSystem = new CollisionSystem();
+
+        assertTrue(collisionSystem.findAllCollisions(drawables).isEmpty(), "The squares should not collide before moving.");
+
+        second.translate(new Pointf(-180f, 0f));
+        assertEquals(1, collisionSystem.findAllCollisions(drawables).size(), "The squares should collide after moving.");
+    }
+
+    @Test
+    void checkFireCollisionEvents_shouldFireEventForEachCollision() {
+        GameLoop gameLoop = new GameLoop((gl) -> false, (gl) -> false);
+        List<CollisionEvent> receivedEvents = new ArrayList<>();
+        gameLoop.addEventObserver(CollisionEvent.class, receivedEvents::add);
+
+        Polygon2D first = Polygon2D.fromPoints(DrawUtil.createBox(0f, 0f, 50f));
+        Polygon2D second = Polygon2D.fromPoints(DrawUtil.createBox(25f, 25f, 50f));
+        List<CollisionPair> collisions = new CollisionSystem().fireCollisionEvents(List.of(first, second), gameLoop);
+
+        assertEquals(1, receivedEvents.size(), "A collision event should have been fired for the collision.");
+        assertSame(collisions.get(0), receivedEvents.get(0).getCollisionPair(), "The collision event should hold the collision pair found.");
+    }
+
+    @Test
+    void tryGetOther_withDrawableNotInPair() {
+        Polygon2D first = Polygon2D.fromPoints(DrawUtil.createBox(0f, 0f, 50f));
+        Polygon2D second = Polygon2D.fromPoints(DrawUtil.createBox(25f, 25f, 50f));
+        Polygon2D third = Polygon2D.fromPoints(DrawUtil.createBox(25f, 25f, 50f));
+        CollisionPair collisionPair = new CollisionPair(first, second);
+
+        assertSame(second, collisionPair.getOther(first), "The other drawable of the pair should be returned.");
+        Throwable exception = assertThrows(IllegalArgumentException.class, () -> collisionPair.getOther(third));
+        assertEquals("The drawable " + third.getID() + " is not part of the collision pair.", exception.getMessage(), "The exception message should match.");
+    }
+}
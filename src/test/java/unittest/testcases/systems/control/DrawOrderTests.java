@@ -0,0 +1,107 @@
+package unittest.testcases.systems.control;
+
+import tech.fastj.graphics.game.GameObject;
+import tech.fastj.graphics.game.Polygon2D;
+import tech.fastj.graphics.util.DrawUtil;
+import tech.fastj.systems.control.DrawOrder;
+import tech.fastj.systems.control.DrawableManager;
+import tech.fastj.systems.control.SpatialIndex;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DrawOrderTests {
+
+    @Test
+    void checkDrawOrder_shouldSortByDrawLayerThenZIndexThenInsertionOrder() {
+        DrawOrder<Polygon2D> drawOrder = new DrawOrder<>();
+        Polygon2D foreground = createBox();
+        Polygon2D background = createBox();
+        Polygon2D first = createBox();
+        Polygon2D second = createBox();
+        Polygon2D raised = createBox();
+        foreground.setDrawLayer(1);
+        background.setDrawLayer(-1);
+        raised.setZIndex(5);
+        drawOrder.add(foreground);
+        drawOrder.add(raised);
+        drawOrder.add(first);
+        drawOrder.add(background);
+        drawOrder.add(second);
+
+        assertEquals(List.of(background, first, second, raised, foreground), drawOrder.toList(), "Drawables should be sorted by draw layer, then z-index, then the order they were added.");
+    }
+
+    @Test
+    void checkDrawOrder_afterChangingZIndex_shouldMoveDrawable() {
+        DrawOrder<Polygon2D> drawOrder = new DrawOrder<>();
+        Polygon2D first = createBox();
+        Polygon2D second = createBox();
+        Polygon2D third = createBox();
+        drawOrder.add(first);
+        drawOrder.add(second);
+        drawOrder.add(third);
+
+        first.setZIndex(1);
+        assertEquals(List.of(second, third, first), drawOrder.toList(), "A drawable with a higher z-index should be moved to the end.");
+
+        first.setZIndex(0);
+        assertEquals(List.of(first, second, third), drawOrder.toList(), "Drawables with the same z-index should keep the order they were added in.");
+    }
+
+    @Test
+    void checkDrawOrder_afterRemovingDrawable_shouldStopFollowingIt() {
+        DrawOrder<Polygon2D> drawOrder = new DrawOrder<>();
+        Polygon2D first = createBox();
+        Polygon2D second = createBox();
+        drawOrder.add(first);
+        drawOrder.add(second);
+
+        drawOrder.remove(first);
+        first.setDrawLayer(3);
+
+        assertFalse(drawOrder.contains(first), "The drawable should have been removed.");
+        assertEquals(List.of(second), drawOrder.toList(), "A removed drawable should not be reordered back into the draw order.");
+    }
+
+    @Test
+    void checkSpatialIndexQueries_shouldFollowDrawOrder() {
+        SpatialIndex<Polygon2D> spatialIndex = new SpatialIndex<>(50f);
+        Polygon2D first = createBox();
+        Polygon2D second = createBox();
+        spatialIndex.add(first);
+        spatialIndex.add(second);
+
+        first.setDrawOrder(0, 1);
+
+        assertEquals(List.of(second, first), spatialIndex.queryRange(0f, 0f, 100f, 100f), "Range queries should return drawables in the order they are drawn.");
+        assertEquals(List.of(second, first), spatialIndex.queryPoint(20f, 20f), "Point queries should return drawables in the order they are drawn.");
+    }
+
+    @Test
+    void checkDrawableManager_shouldKeepDrawOrderUpToDate() {
+        DrawableManager drawableManager = new DrawableManager();
+        Polygon2D first = createBox();
+        Polygon2D second = createBox();
+        drawableManager.addGameObject(first);
+        drawableManager.addGameObject(second);
+
+        first.setDrawLayer(2);
+        assertEquals(List.<GameObject>of(second, first), drawableManager.getDrawOrder().toList(), "The draw order should follow draw layer changes.");
+
+        drawableManager.removeGameObject(second);
+        assertEquals(List.<GameObject>of(first), drawableManager.getDrawOrder().toList(), "Removed game objects should be removed from the draw order.");
+
+        drawableManager.clearGameObjects();
+        assertTrue(drawableManager.getDrawOrder().toList().isEmpty(), "Clearing the game objects should clear the draw order.");
+    }
+
+    private static Polygon2D createBox() {
+        return Polygon2D.fromPoints(DrawUtil.createBox(10f, 10f, 20f));
+    }
+}
@@ -0,0 +1,124 @@
+package unittest.testcases.systems.control;
+
+import tech.fastj.graphics.game.GameObject;
+import tech.fastj.graphics.game.Polygon2D;
+import tech.fastj.graphics.util.DrawUtil;
+import tech.fastj.math.Pointf;
+import tech.fastj.systems.control.DrawableManager;
+import tech.fastj.systems.control.SpatialIndex;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SpatialIndexTests {
+
+    @Test
+    void checkQueryRange_shouldOnlyFindOverlappingDrawables_inInsertionOrder() {
+        SpatialIndex<Polygon2D> spatialIndex = new SpatialIndex<>(50f);
+        Polygon2D second = Polygon2D.fromPoints(DrawUtil.createBox(120f, 120f, 20f));
+        Polygon2D first = Polygon2D.fromPoints(DrawUtil.createBox(10f, 10f, 20f));
+        Polygon2D faraway = Polygon2D.fromPoints(DrawUtil.createBox(1000f, 1000f, 20f));
+        spatialIndex.add(second);
+        spatialIndex.add(first);
+        spatialIndex.add(faraway);
+
+        List<Polygon2D> found = spatialIndex.queryRange(0f, 0f, 200f, 200f);
+
+        assertEquals(List.of(second, first), found, "Only the overlapping drawables should be found, in the order they were added.");
+    }
+
+    @Test
+    void checkQueryRange_afterTransforming_shouldFollowDrawable() {
+        SpatialIndex<Polygon2D> spatialIndex = new SpatialIndex<>(50f);
+        Polygon2D polygon2D = Polygon2D.fromPoints(DrawUtil.createBox(10f, 10f, 20f));
+        spatialIndex.add(polygon2D);
+
+        polygon2D.translate(new Pointf(500f, 0f));
+
+        assertTrue(spatialIndex.queryRange(0f, 0f, 100f, 100f).isEmpty(), "The drawable should no longer be found where it was.");
+        assertEquals(List.of(polygon2D), spatialIndex.queryRange(500f, 0f, 600f, 100f), "The drawable should be found where it moved to.");
+    }
+
+    @Test
+    void checkQueryRange_withDrawableSpanningManyCells() {
+        SpatialIndex<Polygon2D> spatialIndex = new SpatialIndex<>(1f);
+        Polygon2D huge = Polygon2D.fromPoints(DrawUtil.createBox(0f, 0f, 5000f));
+        spatialIndex.add(huge);
+
+        assertEquals(List.of(huge), spatialIndex.queryRange(2000f, 2000f, 2001f, 2001f), "A drawable spanning many cells should still be found.");
+
+        spatialIndex.remove(huge);
+        assertEquals(0, spatialIndex.size(), "The drawable should have been removed.");
+        assertTrue(spatialIndex.queryRange(2000f, 2000f, 2001f, 2001f).isEmpty(), "A removed drawable should not be found.");
+    }
+
+    @Test
+    void checkQueryPoint_shouldUseCollisionPath() {
+        SpatialIndex<Polygon2D> spatialIndex = new SpatialIndex<>();
+        Polygon2D triangle = Polygon2D.fromPoints(new Pointf[] {
+            new Pointf(0f, 0f),
+            new Pointf(100f, 0f),
+            new Pointf(0f, 100f)
+        });
+        spatialIndex.add(triangle);
+
+        assertEquals(List.of(triangle), spatialIndex.queryPoint(10f, 10f), "A point inside the triangle should find it.");
+        assertTrue(spatialIndex.queryPoint(90f, 90f).isEmpty(), "A point inside the triangle's bounds, but outside the triangle, should not find it.");
+    }
+
+    @Test
+    void checkQueryNearest_shouldSortByDistance() {
+        SpatialIndex<Polygon2D> spatialIndex = new SpatialIndex<>(50f);
+        Polygon2D near = Polygon2D.fromPoints(DrawUtil.createBox(100f, 0f, 10f));
+        Polygon2D nearest = Polygon2D.fromPoints(DrawUtil.createBox(20f, 0f, 10f));
+        Polygon2D far = Polygon2D.fromPoints(DrawUtil.createBox(900f, 0f, 10f));
+        spatialIndex.add(far);
+        spatialIndex.add(near);
+        spatialIndex.add(nearest);
+
+        assertEquals(List.of(nearest, near), spatialIndex.queryNearest(0f, 0f, 2), "The two nearest drawables should be found, nearest first.");
+        assertEquals(List.of(nearest, near, far), spatialIndex.queryNearest(0f, 0f, 5), "Every drawable should be found when asking for more than there are.");
+    }
+
+    @Test
+    void tryCreateSpatialIndex_withInvalidCellSize() {
+        Throwable exception = assertThrows(IllegalArgumentException.class, () -> new SpatialIndex<>(0f));
+        assertEquals("Cell size must be greater than 0.", exception.getMessage(), "The exception message should match.");
+    }
+
+    @Test
+    void checkDrawableManager_shouldKeepSpatialIndexUpToDate() {
+        DrawableManager drawableManager = new DrawableManager();
+        Polygon2D polygon2D = Polygon2D.fromPoints(DrawUtil.createBox(10f, 10f, 20f));
+        SpatialIndex<GameObject> spatialIndex = drawableManager.getSpatialIndex();
+
+        drawableManager.addGameObject(polygon2D);
+        assertTrue(spatialIndex.contains(polygon2D), "An added game object should be in the spatial index.");
+
+        drawableManager.removeGameObject(polygon2D.getID());
+        assertFalse(spatialIndex.contains(polygon2D), "A removed game object should no longer be in the spatial index.");
+
+        drawableManager.addGameObject(polygon2D);
+        drawableManager.clearGameObjects();
+        assertEquals(0, spatialIndex.size(), "Clearing the game objects should also clear the spatial index.");
+    }
+
+    @Test
+    void tryModifyDrawableManagerGameObjects_outsideOfManager() {
+        DrawableManager drawableManager = new DrawableManager();
+        Polygon2D polygon2D = Polygon2D.fromPoints(DrawUtil.createBox(10f, 10f, 20f));
+
+        assertThrows(
+            UnsupportedOperationException.class,
+            () -> drawableManager.getGameObjects().put(polygon2D.getID(), polygon2D),
+            "Game objects should not be added around the spatial index."
+        );
+        assertFalse(drawableManager.getSpatialIndex().contains(polygon2D), "The spatial index should not have the game object.");
+    }
+}